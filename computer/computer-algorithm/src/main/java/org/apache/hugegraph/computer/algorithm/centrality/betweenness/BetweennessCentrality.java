@@ -65,6 +65,11 @@ public class BetweennessCentrality implements Computation<BetweennessMessage> {
         return "centrality";
     }
 
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
     @Override
     public void init(Config config) {
         this.sampleRate = config.getDouble(OPTION_SAMPLE_RATE, 1.0D);
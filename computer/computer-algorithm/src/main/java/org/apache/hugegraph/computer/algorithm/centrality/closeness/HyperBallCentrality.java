@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.algorithm.centrality.closeness;
+
+import java.util.Iterator;
+
+import org.apache.hugegraph.computer.core.aggregator.Aggregator;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
+import org.apache.hugegraph.computer.core.worker.Computation;
+import org.apache.hugegraph.computer.core.worker.ComputationContext;
+import org.apache.hugegraph.computer.core.worker.WorkerContext;
+
+/**
+ * HyperBall is an approximate harmonic centrality algorithm, each vertex
+ * keeps a fixed size HyperLogLog counter of the ball of the vertices can
+ * reach it, instead of the distances from every reached vertex as
+ * {@link ClosenessCentrality}. At superstep t, the counter is merged with
+ * the counters of the in-neighbors at superstep t - 1, so it counts the
+ * ball of radius t, and the vertices new in the ball are at distance t.
+ *
+ * The messages are the counters, combined by the max of registers. A
+ * vertex sends its counter only if the counter is changed, so the memory
+ * and the message size of a vertex are bounded by the register count.
+ * The distances are the hops, the edge weights are not supported.
+ */
+public class HyperBallCentrality implements Computation<HyperLogLogValue> {
+
+    public static final String OPTION_REGISTER_BITS =
+                               "hyperball_centrality.register_bits";
+    public static final int DEFAULT_REGISTER_BITS = 7;
+
+    private int registerBits;
+
+    private Aggregator<LongValue> changedAggr;
+    private Aggregator<DoubleValue> deltaAggr;
+
+    @Override
+    public String name() {
+        return "hyperball_centrality";
+    }
+
+    @Override
+    public String category() {
+        return "centrality";
+    }
+
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
+    @Override
+    public void init(Config config) {
+        this.registerBits = config.getInt(OPTION_REGISTER_BITS,
+                                          DEFAULT_REGISTER_BITS);
+        if (this.registerBits < HyperLogLogValue.MIN_REGISTER_BITS ||
+            this.registerBits > HyperLogLogValue.MAX_REGISTER_BITS) {
+            throw new ComputerException("The param %s must be in [%s, %s], " +
+                                        "actual got '%s'",
+                                        OPTION_REGISTER_BITS,
+                                        HyperLogLogValue.MIN_REGISTER_BITS,
+                                        HyperLogLogValue.MAX_REGISTER_BITS,
+                                        this.registerBits);
+        }
+    }
+
+    @Override
+    public void compute0(ComputationContext context, Vertex vertex) {
+        // The ball of radius 0 is the vertex itself
+        HyperBallValue value = new HyperBallValue(this.registerBits);
+        value.counter().add(vertex.id());
+        value.count(value.counter().count(), 0);
+        vertex.value(value);
+        context.sendMessageToAllEdges(vertex, value.counter());
+        vertex.inactivate();
+    }
+
+    @Override
+    public void compute(ComputationContext context, Vertex vertex,
+                        Iterator<HyperLogLogValue> messages) {
+        HyperBallValue value = vertex.value();
+        HyperLogLogValue counter = value.counter();
+        boolean changed = false;
+        while (messages.hasNext()) {
+            if (counter.union(messages.next())) {
+                changed = true;
+            }
+        }
+        if (changed) {
+            double count = value.count();
+            value.count(counter.count(), context.superstep());
+            this.changedAggr.aggregateValue(1L);
+            this.deltaAggr.aggregateValue(value.count() - count);
+            context.sendMessageToAllEdges(vertex, counter);
+        }
+        vertex.inactivate();
+    }
+
+    @Override
+    public void beforeSuperstep(WorkerContext context) {
+        this.changedAggr = context.createAggregator(
+                           HyperBallMaster.AGGR_CHANGED_VERTICES);
+        this.deltaAggr = context.createAggregator(
+                         HyperBallMaster.AGGR_COUNT_DELTA);
+    }
+
+    @Override
+    public void afterSuperstep(WorkerContext context) {
+        context.aggregateValue(HyperBallMaster.AGGR_CHANGED_VERTICES,
+                               this.changedAggr.aggregatedValue());
+        context.aggregateValue(HyperBallMaster.AGGR_COUNT_DELTA,
+                               this.deltaAggr.aggregatedValue());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.algorithm.centrality.closeness;
+
+import org.apache.hugegraph.computer.core.combiner.DoubleValueSumCombiner;
+import org.apache.hugegraph.computer.core.combiner.LongValueSumCombiner;
+import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.value.ValueType;
+import org.apache.hugegraph.computer.core.master.MasterComputation;
+import org.apache.hugegraph.computer.core.master.MasterComputationContext;
+import org.apache.hugegraph.computer.core.master.MasterContext;
+import org.apache.hugegraph.util.Log;
+import org.slf4j.Logger;
+
+/**
+ * Stop {@link HyperBallCentrality} if no counter is changed in a
+ * superstep, or the average growth of the balls of a superstep is not
+ * larger than the threshold, the later supersteps contribute little to
+ * the centrality because the new reached vertices are far away.
+ */
+public class HyperBallMaster implements MasterComputation {
+
+    private static final Logger LOG = Log.logger(HyperBallMaster.class);
+
+    public static final String OPTION_DELTA_THRESHOLD =
+                               "hyperball_centrality.delta_threshold";
+    public static final double DEFAULT_DELTA_THRESHOLD = 0.0D;
+
+    public static final String AGGR_CHANGED_VERTICES =
+                               "hyperball_centrality.changed_vertices";
+    public static final String AGGR_COUNT_DELTA =
+                               "hyperball_centrality.count_delta";
+
+    private double deltaThreshold;
+
+    @Override
+    public void init(MasterContext context) {
+        this.deltaThreshold = context.config().getDouble(
+                              OPTION_DELTA_THRESHOLD,
+                              DEFAULT_DELTA_THRESHOLD);
+        context.registerAggregator(AGGR_CHANGED_VERTICES, ValueType.LONG,
+                                   LongValueSumCombiner.class);
+        context.registerAggregator(AGGR_COUNT_DELTA, ValueType.DOUBLE,
+                                   DoubleValueSumCombiner.class);
+    }
+
+    @Override
+    public void close(MasterContext context) {
+        // pass
+    }
+
+    @Override
+    public boolean compute(MasterComputationContext context) {
+        if (context.superstep() == 0) {
+            return true;
+        }
+        LongValue changed = context.aggregatedValue(AGGR_CHANGED_VERTICES);
+        DoubleValue delta = context.aggregatedValue(AGGR_COUNT_DELTA);
+        double averageDelta = delta.value() /
+                              Math.max(context.totalVertexCount(), 1L);
+        LOG.info("HyperBall superstep {} changed {} counters, the average " +
+                 "growth of balls is {}", context.superstep(),
+                 changed.value(), averageDelta);
+        if (changed.value() == 0L) {
+            return false;
+        }
+        return this.deltaThreshold <= 0.0D ||
+               averageDelta > this.deltaThreshold;
+    }
+}
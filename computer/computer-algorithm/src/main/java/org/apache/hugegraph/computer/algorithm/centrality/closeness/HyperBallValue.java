@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.algorithm.centrality.closeness;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
+
+/**
+ * The ball counter of a vertex, the estimated count of the ball at last
+ * superstep, and the harmonic centrality accumulated from the growth of
+ * the ball.
+ */
+public class HyperBallValue implements Value.CustomizeValue<Double> {
+
+    private final HyperLogLogValue counter;
+    private double count;
+    private double centrality;
+
+    public HyperBallValue() {
+        this.counter = new HyperLogLogValue();
+    }
+
+    public HyperBallValue(int registerBits) {
+        this.counter = new HyperLogLogValue(registerBits);
+    }
+
+    public HyperLogLogValue counter() {
+        return this.counter;
+    }
+
+    public double count() {
+        return this.count;
+    }
+
+    /**
+     * Update the count of the ball with the distance, the new reached
+     * vertices contribute 1 / distance to the centrality.
+     */
+    public void count(double count, int distance) {
+        // The estimate may fluctuate a little, the ball never shrinks
+        if (count > this.count) {
+            if (distance > 0) {
+                this.centrality += (count - this.count) / distance;
+            }
+            this.count = count;
+        }
+    }
+
+    @Override
+    public Double value() {
+        return this.centrality;
+    }
+
+    @Override
+    public void read(RandomAccessInput in) throws IOException {
+        this.counter.read(in);
+        this.count = in.readDouble();
+        this.centrality = in.readDouble();
+    }
+
+    @Override
+    public void write(RandomAccessOutput out) throws IOException {
+        this.counter.write(out);
+        out.writeDouble(this.count);
+        out.writeDouble(this.centrality);
+    }
+
+    @Override
+    public String string() {
+        return this.value().toString();
+    }
+}
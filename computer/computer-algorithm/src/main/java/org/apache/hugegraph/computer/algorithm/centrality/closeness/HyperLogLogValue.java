@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.algorithm.centrality.closeness;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
+import org.apache.hugegraph.util.E;
+
+/**
+ * A HyperLogLog counter of vertex ids, the registers are kept as a fixed
+ * size byte array, so the size doesn't grow with the count. The union of
+ * two counters is the max of their registers.
+ */
+public class HyperLogLogValue implements Value.CustomizeValue<Double> {
+
+    public static final int MIN_REGISTER_BITS = 4;
+    public static final int MAX_REGISTER_BITS = 16;
+
+    private static final byte[] EMPTY_REGISTERS = new byte[0];
+
+    private byte[] registers;
+
+    public HyperLogLogValue() {
+        this.registers = EMPTY_REGISTERS;
+    }
+
+    public HyperLogLogValue(int registerBits) {
+        E.checkArgument(registerBits >= MIN_REGISTER_BITS &&
+                        registerBits <= MAX_REGISTER_BITS,
+                        "The register bits must be in [%s, %s], but got %s",
+                        MIN_REGISTER_BITS, MAX_REGISTER_BITS, registerBits);
+        this.registers = new byte[1 << registerBits];
+    }
+
+    private HyperLogLogValue(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public int size() {
+        return this.registers.length;
+    }
+
+    public void add(Id id) {
+        int bits = Integer.numberOfTrailingZeros(this.registers.length);
+        long hash = hash(id);
+        int index = (int) (hash >>> (Long.SIZE - bits));
+        // The rank of the first 1-bit of the remaining bits
+        long remaining = (hash << bits) | (1L << (bits - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > this.registers[index]) {
+            this.registers[index] = rank;
+        }
+    }
+
+    /**
+     * Merge the other counter into this one.
+     * @return true if any register of this counter is changed
+     */
+    public boolean union(HyperLogLogValue other) {
+        this.checkSameSize(other);
+        byte[] registers = this.registers;
+        byte[] others = other.registers;
+        boolean changed = false;
+        for (int i = 0; i < registers.length; i++) {
+            if (others[i] > registers[i]) {
+                registers[i] = others[i];
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Set the registers to the max of the two counters, the counters can
+     * be this counter itself.
+     */
+    public void max(HyperLogLogValue v1, HyperLogLogValue v2) {
+        v1.checkSameSize(v2);
+        if (this.registers.length != v1.registers.length) {
+            this.registers = new byte[v1.registers.length];
+        }
+        for (int i = 0; i < this.registers.length; i++) {
+            this.registers[i] = (byte) Math.max(v1.registers[i],
+                                                v2.registers[i]);
+        }
+    }
+
+    /**
+     * The estimated count of the distinct ids added, the small count is
+     * estimated by linear counting of the empty registers.
+     */
+    public double count() {
+        int size = this.registers.length;
+        double sum = 0.0D;
+        int zeros = 0;
+        for (byte register : this.registers) {
+            sum += 1.0D / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(size) * size * size / sum;
+        if (estimate <= 2.5D * size && zeros > 0) {
+            estimate = size * Math.log((double) size / zeros);
+        }
+        return estimate;
+    }
+
+    @Override
+    public Double value() {
+        return this.count();
+    }
+
+    @Override
+    public HyperLogLogValue copy() {
+        return new HyperLogLogValue(this.registers.clone());
+    }
+
+    @Override
+    public void read(RandomAccessInput in) throws IOException {
+        int size = in.readInt();
+        if (this.registers.length != size) {
+            this.registers = new byte[size];
+        }
+        in.readFully(this.registers);
+    }
+
+    @Override
+    public void write(RandomAccessOutput out) throws IOException {
+        out.writeInt(this.registers.length);
+        out.write(this.registers);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof HyperLogLogValue)) {
+            return false;
+        }
+        return Arrays.equals(this.registers,
+                             ((HyperLogLogValue) obj).registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.registers);
+    }
+
+    @Override
+    public String string() {
+        return this.value().toString();
+    }
+
+    private void checkSameSize(HyperLogLogValue other) {
+        E.checkArgument(this.registers.length == other.registers.length,
+                        "Can't merge the counters with %s and %s registers",
+                        this.registers.length, other.registers.length);
+    }
+
+    private static double alpha(int size) {
+        switch (size) {
+            case 16:
+                return 0.673D;
+            case 32:
+                return 0.697D;
+            case 64:
+                return 0.709D;
+            default:
+                return 0.7213D / (1.0D + 1.079D / size);
+        }
+    }
+
+    private static long hash(Id id) {
+        Object object = id.asObject();
+        long hash;
+        switch (id.idType()) {
+            case LONG:
+                hash = (Long) object;
+                break;
+            case UUID:
+                UUID uuid = (UUID) object;
+                hash = uuid.getMostSignificantBits() ^
+                       mix(uuid.getLeastSignificantBits());
+                break;
+            default:
+                // FNV-1a of the chars
+                hash = 0xcbf29ce484222325L;
+                String string = object.toString();
+                for (int i = 0; i < string.length(); i++) {
+                    hash ^= string.charAt(i);
+                    hash *= 0x100000001b3L;
+                }
+                break;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        // The finalizer of murmur3 to spread the bits
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
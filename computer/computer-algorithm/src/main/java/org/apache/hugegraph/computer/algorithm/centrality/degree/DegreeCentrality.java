@@ -49,6 +49,11 @@ public class DegreeCentrality implements Computation<NullValue> {
         return "centrality";
     }
 
+    @Override
+    public boolean needEdgeProperties() {
+        return this.calculateByWeightProperty;
+    }
+
     @Override
     public void compute0(ComputationContext context, Vertex vertex) {
         if (!this.calculateByWeightProperty) {
@@ -59,6 +59,11 @@ public class PageRank implements Computation<DoubleValue> {
         return "centrality";
     }
 
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
     @Override
     public void compute0(ComputationContext context, Vertex vertex) {
         vertex.value(this.initialValue);
@@ -47,6 +47,11 @@ public class Kcore implements Computation<Id> {
         return "community";
     }
 
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
     @Override
     public void init(Config config) {
         this.k = config.getInt(OPTION_K, K_DEFAULT_VALUE);
@@ -44,6 +44,11 @@ public class Lpa implements Computation<Id> {
         return "community";
     }
 
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
     @Override
     public void compute0(ComputationContext context, Vertex vertex) {
         Id value = vertex.id();
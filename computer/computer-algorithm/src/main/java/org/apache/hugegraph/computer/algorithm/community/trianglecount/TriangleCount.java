@@ -42,6 +42,11 @@ public class TriangleCount implements Computation<IdList> {
         return "community";
     }
 
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
     @Override
     public void compute0(ComputationContext context, Vertex vertex) {
         IdSet selfId = new IdSet();
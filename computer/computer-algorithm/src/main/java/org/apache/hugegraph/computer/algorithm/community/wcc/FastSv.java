@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.algorithm.community.wcc;
+
+import java.util.Iterator;
+
+import org.apache.hugegraph.computer.core.aggregator.Aggregator;
+import org.apache.hugegraph.computer.core.graph.edge.Edge;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
+import org.apache.hugegraph.computer.core.worker.Computation;
+import org.apache.hugegraph.computer.core.worker.ComputationContext;
+import org.apache.hugegraph.computer.core.worker.WorkerContext;
+
+/**
+ * FastSV is a Shiloach-Vishkin style weak connected component algorithm,
+ * the value of a vertex is the parent in a forest and only decreases. The
+ * parents are hooked to the smaller grandparents of the neighbors and
+ * shortcut to the grandparents by pointer jumping, so it converges in
+ * O(log n) iterations instead of diameter-many supersteps of {@link Wcc}.
+ * The value of a vertex is the min id of its component at the end, the
+ * same as {@link Wcc}.
+ *
+ * An iteration takes four supersteps, the phase is decided by superstep,
+ * and each superstep has only one kind of message:
+ * 1. REQUEST: send the id of the vertex to its parent.
+ * 2. RESPOND: send the parent to each requester as its grandparent.
+ * 3. SHORTCUT: take the grandparent as parent if it's smaller, and send
+ *    the grandparent to all neighbors.
+ * 4. HOOK: take the min grandparent of the neighbors as parent if it's
+ *    smaller, and send it to the old parent to hook the old parent.
+ * The hooked parents are updated at the first superstep of next iteration
+ * before sending requests. The master stops the job if no parent changed
+ * in an iteration, so the vertices are never inactivated.
+ */
+public class FastSv implements Computation<Id> {
+
+    public static final int ITERATION_SUPERSTEPS = 4;
+
+    private static final int PHASE_REQUEST = 0;
+    private static final int PHASE_RESPOND = 1;
+    private static final int PHASE_SHORTCUT = 2;
+    private static final int PHASE_HOOK = 3;
+
+    private Aggregator<LongValue> changedAggr;
+
+    @Override
+    public String name() {
+        return "fast_sv";
+    }
+
+    @Override
+    public String category() {
+        return "community";
+    }
+
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
+    @Override
+    public void compute0(ComputationContext context, Vertex vertex) {
+        Id parent = vertex.id();
+        for (Edge edge : vertex.edges()) {
+            if (edge.targetId().compareTo(parent) < 0) {
+                parent = edge.targetId();
+            }
+        }
+        vertex.value(parent);
+        context.sendMessage(parent, vertex.id());
+    }
+
+    @Override
+    public void compute(ComputationContext context, Vertex vertex,
+                        Iterator<Id> messages) {
+        Id parent = vertex.value();
+        switch (context.superstep() % ITERATION_SUPERSTEPS) {
+            case PHASE_REQUEST:
+                // The messages are the ids hooked to this vertex
+                Id hooked = min(messages);
+                if (hooked != null && hooked.compareTo(parent) < 0) {
+                    parent = hooked;
+                    this.updateParent(vertex, parent);
+                }
+                context.sendMessage(parent, vertex.id());
+                break;
+            case PHASE_RESPOND:
+                // The messages are the ids of the children
+                while (messages.hasNext()) {
+                    context.sendMessage(messages.next(), parent);
+                }
+                break;
+            case PHASE_SHORTCUT:
+                // The message is the grandparent, missed if parent not exist
+                Id grandparent = messages.hasNext() ? messages.next() : parent;
+                if (grandparent.compareTo(parent) < 0) {
+                    this.updateParent(vertex, grandparent);
+                }
+                context.sendMessageToAllEdges(vertex, grandparent);
+                break;
+            case PHASE_HOOK:
+                // The messages are the grandparents of the neighbors
+                Id min = min(messages);
+                if (min != null && min.compareTo(parent) < 0) {
+                    this.updateParent(vertex, min);
+                    context.sendMessage(parent, min);
+                }
+                break;
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    @Override
+    public void beforeSuperstep(WorkerContext context) {
+        this.changedAggr = context.createAggregator(
+                           FastSvMaster.AGGR_CHANGED_VERTICES);
+    }
+
+    @Override
+    public void afterSuperstep(WorkerContext context) {
+        context.aggregateValue(FastSvMaster.AGGR_CHANGED_VERTICES,
+                               this.changedAggr.aggregatedValue());
+    }
+
+    private void updateParent(Vertex vertex, Id parent) {
+        vertex.value(parent);
+        this.changedAggr.aggregateValue(1L);
+    }
+
+    private static Id min(Iterator<Id> messages) {
+        Id min = null;
+        while (messages.hasNext()) {
+            Id message = messages.next();
+            if (min == null || message.compareTo(min) < 0) {
+                // The message may be reused by the iterator
+                min = (Id) message.copy();
+            }
+        }
+        return min;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.algorithm.community.wcc;
+
+import org.apache.hugegraph.computer.core.combiner.LongValueSumCombiner;
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.value.ValueType;
+import org.apache.hugegraph.computer.core.master.MasterComputation;
+import org.apache.hugegraph.computer.core.master.MasterComputationContext;
+import org.apache.hugegraph.computer.core.master.MasterContext;
+import org.apache.hugegraph.util.Log;
+import org.slf4j.Logger;
+
+/**
+ * Stop {@link FastSv} if no parent changed in an iteration, the parents
+ * of all vertices in a component are the min id of the component then.
+ */
+public class FastSvMaster implements MasterComputation {
+
+    private static final Logger LOG = Log.logger(FastSvMaster.class);
+
+    public static final String AGGR_CHANGED_VERTICES =
+                               "fast_sv.changed_vertices";
+
+    private long changedInIteration;
+
+    @Override
+    public void init(MasterContext context) {
+        context.registerAggregator(AGGR_CHANGED_VERTICES, ValueType.LONG,
+                                   LongValueSumCombiner.class);
+        this.changedInIteration = 0L;
+    }
+
+    @Override
+    public void close(MasterContext context) {
+        // pass
+    }
+
+    @Override
+    public boolean compute(MasterComputationContext context) {
+        LongValue changed = context.aggregatedValue(AGGR_CHANGED_VERTICES);
+        this.changedInIteration += changed.value();
+
+        int superstep = context.superstep();
+        if (superstep == 0 ||
+            superstep % FastSv.ITERATION_SUPERSTEPS != 0) {
+            return true;
+        }
+        // The hooked parents are updated at the end of an iteration
+        LOG.info("FastSV changed {} parents in iteration {}",
+                 this.changedInIteration,
+                 superstep / FastSv.ITERATION_SUPERSTEPS);
+        boolean continued = this.changedInIteration > 0L;
+        this.changedInIteration = 0L;
+        return continued;
+    }
+}
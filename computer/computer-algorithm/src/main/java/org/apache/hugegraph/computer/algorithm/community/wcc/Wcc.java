@@ -41,6 +41,17 @@ public class Wcc implements Computation<Id> {
         return "community";
     }
 
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
+    @Override
+    public boolean allowAsyncMessages() {
+        // The min id only decreases, it's safe to receive it earlier
+        return true;
+    }
+
     @Override
     public void compute0(ComputationContext context, Vertex vertex) {
         Id min = vertex.id();
@@ -39,6 +39,11 @@ public class RingsDetection implements Computation<IdList> {
         return "path";
     }
 
+    @Override
+    public boolean needEdgeProperties() {
+        return false;
+    }
+
     @Override
     public void compute0(ComputationContext context, Vertex vertex) {
         vertex.value(new IdListList());
@@ -93,6 +93,12 @@ public class SingleSourceShortestPath implements Computation<SingleSourceShortes
         return "single_source_shortest_path";
     }
 
+    @Override
+    public boolean allowAsyncMessages() {
+        // The shortest distance only decreases, it's safe to receive it earlier
+        return true;
+    }
+
     @Override
     public void init(Config config) {
         String sourceIdStr = config.getString(OPTION_SOURCE_ID, "");
@@ -23,6 +23,8 @@ import static org.apache.hugegraph.config.OptionChecker.allowValues;
 import static org.apache.hugegraph.config.OptionChecker.disallowEmpty;
 import static org.apache.hugegraph.config.OptionChecker.nonNegativeInt;
 import static org.apache.hugegraph.config.OptionChecker.positiveInt;
+import static org.apache.hugegraph.config.OptionChecker.rangeDouble;
+import static org.apache.hugegraph.config.OptionChecker.rangeInt;
 
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -346,6 +348,17 @@ public class ComputerOptions extends OptionHolder {
                     1
             );
 
+    public static final ConfigOption<Integer> OUTPUT_PARTITION_THREADS =
+            new ConfigOption<>(
+                    "output.partition_threads",
+                    "The threads number used to output partitions in " +
+                    "parallel, each partition holds its own output and " +
+                    "the in-flight batches of it are limited by " +
+                    "output.batch_threads.",
+                    positiveInt(),
+                    1
+            );
+
     public static final ConfigOption<Integer>
             OUTPUT_THREAD_POOL_SHUTDOWN_TIMEOUT =
             new ConfigOption<>(
@@ -518,6 +531,71 @@ public class ComputerOptions extends OptionHolder {
                     4
             );
 
+    public static final ConfigConvOption<String, PartitionMode>
+            WORKER_PARTITION_MODE = new ConfigConvOption<>(
+                    "worker.partition_mode",
+                    "The way to store the vertices and edges of partitions " +
+                    "on worker, allowed values: [FILE, MEMORY]. FILE means " +
+                    "reading them from files at each superstep; MEMORY " +
+                    "means keeping them in heap as compressed sparse row " +
+                    "arrays, which is faster but only suitable for the " +
+                    "partitions that can fit in memory.",
+                    allowValues("FILE", "MEMORY"),
+                    PartitionMode::valueOf,
+                    "FILE"
+            );
+
+    public static final ConfigOption<Boolean> WORKER_PARTITION_FILE_MMAP =
+            new ConfigOption<>(
+                    "worker.partition_file_mmap",
+                    "Whether to read the vertex and edge files of partitions " +
+                    "through memory mapped buffers at each superstep in " +
+                    "FILE partition mode, the fixed width values of " +
+                    "vertices are also updated in place in a memory " +
+                    "mapped file if it's enabled.",
+                    allowValues(true, false),
+                    true
+            );
+
+    public static final ConfigOption<Double> WORKER_PARTITION_SPARSE_RATIO =
+            new ConfigOption<>(
+                    "worker.partition_sparse_ratio",
+                    "The superstep of a partition in FILE partition mode is " +
+                    "computed sparsely if its active vertices and received " +
+                    "messages are less than this ratio of its vertices, " +
+                    "only the active and messaged vertices are visited " +
+                    "and the values of others are carried forward as is. " +
+                    "It keeps the value position of each vertex in memory, " +
+                    "0 means always visiting all the vertices.",
+                    rangeDouble(0.0D, 1.0D),
+                    0.1D
+            );
+
+    public static final ConfigOption<Boolean> WORKER_COMBINED_MESSAGE_ARRAY =
+            new ConfigOption<>(
+                    "worker.combined_message_array",
+                    "Whether to combine the received messages into one slot " +
+                    "per target vertex by the combiner in MEMORY partition " +
+                    "mode, instead of sorting and merging them to files. " +
+                    "The messages of fixed width number class are combined " +
+                    "into a primitive array, it requires the combiner.",
+                    allowValues(true, false),
+                    false
+            );
+
+    public static final ConfigOption<Boolean> WORKER_ASYNC_LOCAL_MESSAGES =
+            new ConfigOption<>(
+                    "worker.async_local_messages",
+                    "Whether to deliver the messages to the vertices of the " +
+                    "same partition in the current superstep in MEMORY " +
+                    "partition mode, the vertices computed later in the " +
+                    "superstep see the newer values like Gauss-Seidel " +
+                    "iteration. It requires the combiner, and only takes " +
+                    "effect for the computation allows async messages.",
+                    allowValues(true, false),
+                    false
+            );
+
     public static final ConfigOption<Integer> BSP_MAX_SUPER_STEP =
             new ConfigOption<>(
                     "bsp.max_super_step",
@@ -627,6 +705,20 @@ public class ComputerOptions extends OptionHolder {
                     100 * Bytes.MB
             );
 
+    public static final ConfigOption<Long> WORKER_RECEIVED_BUFFERS_MEMORY_LIMIT =
+            new ConfigOption<>(
+                    "worker.received_buffers_memory_limit",
+                    "The limit bytes of received buffers of each type of " +
+                    "data that can be iterated in memory directly. If the " +
+                    "buffers of a partition are never merged into a file " +
+                    "and fit this limit, they are iterated without being " +
+                    "sorted into a file, the limit is shared by all " +
+                    "partitions of a worker. 0 means always sort the " +
+                    "buffers into files.",
+                    rangeInt(0L, Long.MAX_VALUE),
+                    0L
+            );
+
     public static final ConfigOption<Long> WORKER_WAIT_SORT_TIMEOUT =
             new ConfigOption<>(
                     "worker.wait_sort_timeout",
@@ -675,6 +767,40 @@ public class ComputerOptions extends OptionHolder {
                     (int) (50 * Bytes.MB)
             );
 
+    public static final ConfigOption<Boolean> WORKER_SORT_OUTPUT_OFF_HEAP =
+            new ConfigOption<>(
+                    "worker.sort_output_off_heap",
+                    "Whether to sort the write buffer into a pooled " +
+                    "off-heap buffer, which is written to the socket " +
+                    "without copy and released after it's sent. The " +
+                    "sorted buffer is allocated from heap if false.",
+                    allowValues(true, false),
+                    false
+            );
+
+    public static final ConfigOption<Integer> WORKER_SEND_COMBINE_ENTRIES =
+            new ConfigOption<>(
+                    "worker.send_combine_entries",
+                    "The max number of target vertices whose messages are " +
+                    "combined in memory by the combiner before written into " +
+                    "the write buffer, it's per partition and per sending " +
+                    "thread. The combined messages are written when the " +
+                    "number is reached, 0 means disable combining messages " +
+                    "before sending.",
+                    nonNegativeInt(),
+                    0
+            );
+
+    public static final ConfigOption<Integer> WORKER_SEND_THREAD_NUMS =
+            new ConfigOption<>(
+                    "worker.send_thread_nums",
+                    "The number of threads sending the sorted buffers to " +
+                    "the target workers, each target worker is assigned to " +
+                    "one of the threads.",
+                    positiveInt(),
+                    1
+            );
+
     public static final ConfigOption<Class<?>> MASTER_COMPUTATION_CLASS =
             new ConfigOption<>(
                     "master.computation_class",
@@ -742,6 +868,20 @@ public class ComputerOptions extends OptionHolder {
                     TRANSPORT_DEFAULT_THREADS
             );
 
+    public static final ConfigOption<Integer> TRANSPORT_RECV_HANDLER_THREADS =
+            new ConfigOption<>(
+                    "transport.recv_handler_threads",
+                    "The number of threads handling the received data " +
+                    "buffers instead of the transport threads of server, " +
+                    "the buffers of a partition are always handled by the " +
+                    "same thread. The ack of a buffer is delayed until it " +
+                    "is handled, so the senders are throttled by the " +
+                    "pending requests window. 0 means handling the buffers " +
+                    "in the transport threads.",
+                    nonNegativeInt(),
+                    0
+            );
+
     public static final ConfigOption<Integer> TRANSPORT_CLIENT_THREADS =
             new ConfigOption<>(
                     "transport.client_threads",
@@ -967,6 +1107,18 @@ public class ComputerOptions extends OptionHolder {
                     Bytes.KB * 64
             );
 
+    public static final ConfigConvOption<String, HgkvCompression>
+            HGKV_COMPRESSION = new ConfigConvOption<>(
+                    "hgkv.compression",
+                    "The codec to compress each data block of hgkv-file, " +
+                    "allowed values: [NONE, DEFLATE]. DEFLATE makes the " +
+                    "spilled files and the snapshots much smaller at the " +
+                    "cost of some CPU to compress and decompress blocks.",
+                    allowValues("NONE", "DEFLATE"),
+                    HgkvCompression::valueOf,
+                    "NONE"
+            );
+
     public static final ConfigOption<Integer> HGKV_MERGE_FILES_NUM =
             new ConfigOption<>(
                     "hgkv.max_merge_files",
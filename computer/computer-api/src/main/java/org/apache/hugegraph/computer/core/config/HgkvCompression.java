@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.config;
+
+import org.apache.hugegraph.computer.core.common.SerialEnum;
+
+/**
+ * The codec to compress each data block of hgkv-file
+ */
+public enum HgkvCompression implements SerialEnum {
+
+    /**
+     * Write the data blocks as they are.
+     */
+    NONE(0),
+
+    /**
+     * Compress the data blocks by the deflate algorithm of JDK with the
+     * fastest level, it saves much disk and network I/O for the spilled
+     * files at a small cost of CPU.
+     */
+    DEFLATE(1);
+
+    static {
+        SerialEnum.register(HgkvCompression.class);
+    }
+
+    private final byte code;
+
+    HgkvCompression(int code) {
+        assert code >= -128 && code <= 127;
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return this.code;
+    }
+}
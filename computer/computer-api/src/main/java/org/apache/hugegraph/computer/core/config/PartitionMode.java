@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.config;
+
+/**
+ * The way to store the vertices and edges of a partition on worker
+ */
+public enum PartitionMode {
+
+    /**
+     * Store the vertices, edges and the values of vertices in files, read
+     * them from files at each superstep.
+     */
+    FILE,
+
+    /**
+     * Store the vertices, edges and the values of vertices in heap as a
+     * compressed sparse row structure, it's only suitable for the
+     * partitions that can fit in memory.
+     */
+    MEMORY
+}
@@ -73,4 +73,12 @@ public interface GraphFactory {
     Value createValue(byte code);
 
     Value createValue(ValueType type);
+
+    /**
+     * The dictionary to encode the labels and property keys, it's shared by
+     * the whole job. The default one writes all the names inline.
+     */
+    default SchemaDictionary schemaDictionary() {
+        return SchemaDictionary.EMPTY;
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.graph;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
+import org.apache.hugegraph.computer.core.io.Readable;
+import org.apache.hugegraph.computer.core.io.Writable;
+
+/**
+ * The dictionary of vertex labels, edge labels and property keys of the
+ * job. A name in the dictionary is written as a small varint id instead of
+ * the string, a name not in the dictionary is written as id 0 followed by
+ * the string, so the dictionary may be incomplete or even empty.
+ * It's built by master from the schema of input source, and sent to
+ * workers before they read the input.
+ */
+public class SchemaDictionary implements Readable, Writable {
+
+    /**
+     * The dictionary always writes the names inline, the names loaded into
+     * it are ignored, so it can be shared.
+     */
+    public static final SchemaDictionary EMPTY = new EmptySchemaDictionary();
+
+    private static final int INLINE_NAME_ID = 0;
+
+    private List<String> names;
+    private Map<String, Integer> ids;
+
+    public SchemaDictionary() {
+        this(Collections.emptyList());
+    }
+
+    public SchemaDictionary(Collection<String> names) {
+        this.load(names);
+    }
+
+    public List<String> names() {
+        return Collections.unmodifiableList(this.names);
+    }
+
+    public int size() {
+        return this.names.size();
+    }
+
+    public void writeName(RandomAccessOutput out, String name)
+                          throws IOException {
+        Integer id = this.ids.get(name);
+        if (id == null) {
+            out.writeInt(INLINE_NAME_ID);
+            out.writeUTF(name);
+        } else {
+            out.writeInt(id);
+        }
+    }
+
+    public String readName(RandomAccessInput in) throws IOException {
+        int id = in.readInt();
+        if (id == INLINE_NAME_ID) {
+            return in.readUTF();
+        }
+        if (id < 0 || id > this.names.size()) {
+            throw new ComputerException("Invalid schema name id %s, the " +
+                                        "dictionary size is %s",
+                                        id, this.names.size());
+        }
+        return this.names.get(id - 1);
+    }
+
+    @Override
+    public void read(RandomAccessInput in) throws IOException {
+        int size = in.readInt();
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(in.readUTF());
+        }
+        this.load(names);
+    }
+
+    @Override
+    public void write(RandomAccessOutput out) throws IOException {
+        out.writeInt(this.names.size());
+        for (String name : this.names) {
+            out.writeUTF(name);
+        }
+    }
+
+    private void load(Collection<String> names) {
+        // Sort the names to assign the same ids for the same schema
+        TreeSet<String> nameSet = new TreeSet<>();
+        for (String name : names) {
+            if (name != null) {
+                nameSet.add(name);
+            }
+        }
+        List<String> sortedNames = new ArrayList<>(nameSet);
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < sortedNames.size(); i++) {
+            // The id 0 means the name is written inline
+            ids.put(sortedNames.get(i), i + 1);
+        }
+        this.names = sortedNames;
+        this.ids = ids;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SchemaDictionary{names=%s}", this.names);
+    }
+
+    private static class EmptySchemaDictionary extends SchemaDictionary {
+
+        @Override
+        public void read(RandomAccessInput in) throws IOException {
+            // Skip the names to keep it empty
+            new SchemaDictionary().read(in);
+        }
+    }
+}
@@ -29,8 +29,11 @@ import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 
 public final class IdFactory {
 
+    private static final String LONGID_CLASS_NAME =
+            "org.apache.hugegraph.computer.core.graph.id.LongId";
+
     private static final Constructor<?> BYTES_ID_CONSTRUCTOR;
-    private static final Method BYTES_ID_LONG_METHOD;
+    private static final Method LONG_ID_LONG_METHOD;
     private static final Method BYTES_ID_STRING_METHOD;
     private static final Method BYTES_ID_UUID_METHOD;
 
@@ -43,8 +46,9 @@ public final class IdFactory {
             BYTES_ID_CONSTRUCTOR = bytesIdClass.getDeclaredConstructor();
             BYTES_ID_CONSTRUCTOR.setAccessible(true);
 
-            BYTES_ID_LONG_METHOD = bytesIdClass.getMethod("of", long.class);
-            BYTES_ID_LONG_METHOD.setAccessible(false);
+            Class<?> longIdClass = Class.forName(LONGID_CLASS_NAME);
+            LONG_ID_LONG_METHOD = longIdClass.getMethod("of", long.class);
+            LONG_ID_LONG_METHOD.setAccessible(false);
 
             BYTES_ID_STRING_METHOD = bytesIdClass.getMethod("of", String.class);
             BYTES_ID_STRING_METHOD.setAccessible(false);
@@ -52,7 +56,7 @@ public final class IdFactory {
             BYTES_ID_UUID_METHOD = bytesIdClass.getMethod("of", UUID.class);
             BYTES_ID_UUID_METHOD.setAccessible(false);
         } catch (Throwable e) {
-            throw new ComputerException("Failed to reflection BytesId method", e);
+            throw new ComputerException("Failed to reflection Id method", e);
         }
     }
 
@@ -66,7 +70,7 @@ public final class IdFactory {
         try {
             switch (type) {
                 case LONG:
-                    return (Id) BYTES_ID_LONG_METHOD.invoke(null, 0L);
+                    return (Id) LONG_ID_LONG_METHOD.invoke(null, 0L);
                 case UTF8:
                     return (Id) BYTES_ID_STRING_METHOD.invoke(null, Constants.EMPTY_STR);
                 case UUID:
@@ -84,7 +88,7 @@ public final class IdFactory {
         try {
             switch (type) {
                 case LONG:
-                    return (Id) BYTES_ID_LONG_METHOD.invoke(null, value);
+                    return (Id) LONG_ID_LONG_METHOD.invoke(null, value);
                 case UTF8:
                     return (Id) BYTES_ID_STRING_METHOD.invoke(null, value);
                 case UUID:
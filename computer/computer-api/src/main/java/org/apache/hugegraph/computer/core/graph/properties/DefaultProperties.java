@@ -24,6 +24,7 @@ import java.util.Objects;
 
 import org.apache.hugegraph.computer.core.common.SerialEnum;
 import org.apache.hugegraph.computer.core.graph.GraphFactory;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.value.Value;
 import org.apache.hugegraph.computer.core.graph.value.ValueType;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
@@ -82,9 +83,10 @@ public class DefaultProperties implements Properties {
     @Override
     public void read(RandomAccessInput in) throws IOException {
         this.keyValues.clear();
+        SchemaDictionary dictionary = this.graphFactory.schemaDictionary();
         int size = in.readInt();
         for (int i = 0; i < size; i++) {
-            String key = in.readUTF();
+            String key = dictionary.readName(in);
             ValueType valueType = SerialEnum.fromCode(ValueType.class,
                                                       in.readByte());
             Value value = this.graphFactory.createValue(valueType);
@@ -95,9 +97,10 @@ public class DefaultProperties implements Properties {
 
     @Override
     public void write(RandomAccessOutput out) throws IOException {
+        SchemaDictionary dictionary = this.graphFactory.schemaDictionary();
         out.writeInt(this.keyValues.size());
         for (Map.Entry<String, Value> entry : this.keyValues.entrySet()) {
-            out.writeUTF(entry.getKey());
+            dictionary.writeName(out, entry.getKey());
             Value value = entry.getValue();
             out.writeByte(value.valueType().code());
             value.write(out);
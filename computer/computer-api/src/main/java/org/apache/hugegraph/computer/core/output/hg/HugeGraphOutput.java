@@ -49,7 +49,13 @@ public abstract class HugeGraphOutput<T> extends AbstractComputerOutput {
         this.writeType = WriteType.valueOf(
                          config.get(ComputerOptions.OUTPUT_RESULT_WRITE_TYPE));
 
-        this.prepareSchema();
+        /*
+         * The partitions may be output in parallel, prepare the schema one
+         * by one to avoid creating the same property key concurrently.
+         */
+        synchronized (HugeGraphOutput.class) {
+            this.prepareSchema();
+        }
     }
 
     public HugeClient client() {
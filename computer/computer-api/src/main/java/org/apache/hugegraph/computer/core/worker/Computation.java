@@ -63,6 +63,29 @@ public interface Computation<M extends Value> {
                  Vertex vertex,
                  Iterator<M> messages);
 
+    /**
+     * Whether the computation uses the properties of edges. If not, the
+     * properties will be skipped when reading edges, and the edges passed
+     * to the computation will have empty properties. Subclass can override
+     * this method to avoid decoding the edge properties at every superstep.
+     */
+    default boolean needEdgeProperties() {
+        return true;
+    }
+
+    /**
+     * Whether the messages sent to the vertices of the same partition can
+     * be delivered in the current superstep instead of the next one. It's
+     * only safe for the monotone computation whose result doesn't depend
+     * on when a message arrives, like the min label or the shortest
+     * distance, and the messages must be combined by a combiner. Subclass
+     * can override this method to converge in fewer supersteps if the
+     * option worker.async_local_messages is enabled.
+     */
+    default boolean allowAsyncMessages() {
+        return false;
+    }
+
     /**
      * This method is called only one time before all superstep start.
      * Subclass can override this method if want to init the resources the
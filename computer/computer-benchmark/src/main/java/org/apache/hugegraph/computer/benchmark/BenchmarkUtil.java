@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.hugegraph.computer.algorithm.AlgorithmParams;
+import org.apache.hugegraph.computer.core.common.ComputerContext;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.config.Null;
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.value.StringValue;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.store.entry.EntriesUtil;
+import org.apache.hugegraph.computer.core.store.entry.EntryOutput;
+import org.apache.hugegraph.computer.core.store.entry.EntryOutputImpl;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.util.ComputerContextUtil;
+import org.apache.hugegraph.config.OptionSpace;
+import org.apache.hugegraph.config.TypedOption;
+import org.apache.hugegraph.util.E;
+
+/**
+ * Helpers to build a local computer context and generate the entries used
+ * by the benchmarks, no etcd, HugeGraph or network is needed.
+ */
+public final class BenchmarkUtil {
+
+    private static final long SEED = 20210101L;
+
+    static {
+        // Don't forget to register options
+        OptionSpace.register("computer",
+                             "org.apache.hugegraph.computer.core.config." +
+                             "ComputerOptions");
+        OptionSpace.register("computer-rpc",
+                             "org.apache.hugegraph.config.RpcOptions");
+    }
+
+    private BenchmarkUtil() {
+    }
+
+    public static synchronized Config initContext(Object... options) {
+        E.checkArgument((options.length & 0x01) == 0,
+                        "The options length must be even");
+        Map<String, String> map = new HashMap<>();
+        map.put(ComputerOptions.ALGORITHM_PARAMS_CLASS.name(),
+                BenchmarkParams.class.getName());
+        for (int i = 0; i < options.length; i += 2) {
+            Object key = options[i];
+            E.checkArgument(key instanceof TypedOption,
+                            "The option key must be TypedOption class");
+            map.put(((TypedOption<?, ?>) key).name(),
+                    String.valueOf(options[i + 1]));
+        }
+        ComputerContextUtil.initContext(map);
+        return ComputerContext.instance().config();
+    }
+
+    public static Random random() {
+        return new Random(SEED);
+    }
+
+    /**
+     * Generate the keys of count entries with the specified distribution.
+     */
+    public static long[] keys(KeyDistribution distribution, int count) {
+        Random random = random();
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = distribution.key(i, count, random);
+        }
+        return keys;
+    }
+
+    /**
+     * Generate a value whose serialized length is about valueSize bytes.
+     */
+    public static StringValue value(int valueSize) {
+        char[] chars = new char[Math.max(valueSize - 1, 0)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + i % 26);
+        }
+        return new StringValue(new String(chars));
+    }
+
+    /**
+     * Write the entries in the format of a sort buffer: key length, key
+     * (the serialized id), value length and value.
+     */
+    public static byte[] entriesBuffer(long[] keys, int valueSize)
+                                       throws IOException {
+        StringValue value = value(valueSize);
+        BytesOutput output = IOFactory.createBytesOutput(
+                             keys.length * (valueSize + 24));
+        EntryOutput entryOutput = new EntryOutputImpl(output);
+        for (long key : keys) {
+            Id id = BytesId.of(key);
+            entryOutput.writeEntry(id::write, value);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Parse the entries buffer into the entries with inline pointers.
+     */
+    public static List<KvEntry> entries(byte[] buffer) {
+        RandomAccessInput input = IOFactory.createBytesInput(buffer);
+        List<KvEntry> entries = new ArrayList<>();
+        try {
+            while (input.available() > 0) {
+                entries.add(parseEntry(input, true));
+            }
+        } catch (IOException e) {
+            throw new ComputerException("Failed to parse entries", e);
+        }
+        return entries;
+    }
+
+    public static KvEntry parseEntry(RandomAccessInput input,
+                                     boolean useInlinePointer) {
+        return EntriesUtil.kvEntryFromInput(input, useInlinePointer, false);
+    }
+
+    public static class BenchmarkParams implements AlgorithmParams {
+
+        @Override
+        public void setAlgorithmParameters(Map<String, String> params) {
+            this.setIfAbsent(params, ComputerOptions.ALGORITHM_RESULT_CLASS,
+                             StringValue.class.getName());
+            this.setIfAbsent(params, ComputerOptions.ALGORITHM_MESSAGE_CLASS,
+                             StringValue.class.getName());
+            this.setIfAbsent(params, ComputerOptions.WORKER_COMBINER_CLASS,
+                             Null.class.getName());
+        }
+    }
+}
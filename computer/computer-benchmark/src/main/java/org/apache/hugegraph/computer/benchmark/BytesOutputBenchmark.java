@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.OptimizedBytesOutput;
+import org.apache.hugegraph.computer.core.io.UnsafeBytesOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark the primitive writes of UnsafeBytesOutput, which every
+ * serialization path of the worker goes through, and of the var-int
+ * encoding OptimizedBytesOutput on top of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BytesOutputBenchmark {
+
+    private static final int OPERATIONS = 1024;
+
+    @Param({"unsafe", "optimized"})
+    private String outputType;
+
+    @Param({"16", "128", "1024"})
+    private int entrySize;
+
+    private BytesOutput output;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        if ("unsafe".equals(this.outputType)) {
+            this.output = new UnsafeBytesOutput(Constants.BIG_BUF_SIZE);
+        } else {
+            this.output = new OptimizedBytesOutput(Constants.BIG_BUF_SIZE);
+        }
+        this.bytes = new byte[this.entrySize];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public BytesOutput writeLong() throws IOException {
+        this.output.seek(0L);
+        for (int i = 0; i < OPERATIONS; i++) {
+            this.output.writeLong(i);
+        }
+        return this.output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public BytesOutput writeInt() throws IOException {
+        this.output.seek(0L);
+        for (int i = 0; i < OPERATIONS; i++) {
+            this.output.writeInt(i * 31);
+        }
+        return this.output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public BytesOutput writeBytes() throws IOException {
+        this.output.seek(0L);
+        for (int i = 0; i < OPERATIONS; i++) {
+            this.output.write(this.bytes);
+        }
+        return this.output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public BytesOutput writeLengthPrefixedBytes() throws IOException {
+        this.output.seek(0L);
+        for (int i = 0; i < OPERATIONS; i++) {
+            long position = this.output.skip(Integer.BYTES);
+            this.output.write(this.bytes);
+            this.output.writeFixedInt(position, this.bytes.length);
+        }
+        return this.output;
+    }
+}
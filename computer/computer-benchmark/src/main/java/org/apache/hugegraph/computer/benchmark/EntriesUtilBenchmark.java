@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark parsing the entries of a buffer with the inline pointers and
+ * the cached pointers of EntriesUtil.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EntriesUtilBenchmark {
+
+    @Param({"10000"})
+    private int count;
+
+    @Param({"16", "256"})
+    private int entrySize;
+
+    @Param({"true", "false"})
+    private boolean useInlinePointer;
+
+    private byte[] buffer;
+
+    @Setup
+    public void setup() throws IOException {
+        long[] keys = BenchmarkUtil.keys(KeyDistribution.UNIFORM,
+                                         this.count);
+        this.buffer = BenchmarkUtil.entriesBuffer(keys, this.entrySize);
+    }
+
+    @Benchmark
+    public void kvEntryFromInput(Blackhole blackhole) throws IOException {
+        RandomAccessInput input = IOFactory.createBytesInput(this.buffer);
+        while (input.available() > 0) {
+            blackhole.consume(BenchmarkUtil.parseEntry(
+                              input, this.useInlinePointer));
+        }
+    }
+}
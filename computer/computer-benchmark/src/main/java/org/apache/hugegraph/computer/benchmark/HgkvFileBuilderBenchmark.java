@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.store.file.hgkvfile.builder.HgkvFileBuilder;
+import org.apache.hugegraph.computer.core.store.file.hgkvfile.builder.HgkvFileBuilderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark writing sorted entries into a hgkv file, include the data
+ * blocks, the index block and the footer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HgkvFileBuilderBenchmark {
+
+    @Param({"100000"})
+    private int count;
+
+    @Param({"16", "256"})
+    private int entrySize;
+
+    private Config config;
+    private List<KvEntry> entries;
+    private File dir;
+    private File file;
+
+    @Setup
+    public void setup() throws IOException {
+        this.config = BenchmarkUtil.initContext();
+        long[] keys = BenchmarkUtil.keys(KeyDistribution.SEQUENTIAL,
+                                         this.count);
+        this.entries = BenchmarkUtil.entries(
+                       BenchmarkUtil.entriesBuffer(keys, this.entrySize));
+        this.dir = Files.createTempDirectory("hgkv-benchmark").toFile();
+        this.file = new File(this.dir, "benchmark.hgkv");
+    }
+
+    @Setup(Level.Invocation)
+    public void deleteFile() {
+        FileUtils.deleteQuietly(this.file);
+    }
+
+    @TearDown
+    public void teardown() {
+        FileUtils.deleteQuietly(this.dir);
+    }
+
+    @Benchmark
+    public long build() throws IOException {
+        try (HgkvFileBuilder builder = new HgkvFileBuilderImpl(
+                                       this.config, this.file.getPath())) {
+            for (KvEntry entry : this.entries) {
+                builder.add(entry);
+            }
+            builder.finish();
+            return builder.dataLength();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.benchmark;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.sort.sorter.InputSorter;
+import org.apache.hugegraph.computer.core.sort.sorter.JavaInputSorter;
+import org.apache.hugegraph.computer.core.sort.sorter.PrefixKeyInputSorter;
+import org.apache.hugegraph.computer.core.store.buffer.KvEntriesInput;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark sorting a buffer of entries in memory, which is done for each
+ * write buffer before sending it and for each received buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InputSorterBenchmark {
+
+    @Param({"100000"})
+    private int count;
+
+    @Param({"16", "256"})
+    private int entrySize;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "SKEWED"})
+    private KeyDistribution distribution;
+
+    @Param({"java", "prefix"})
+    private String sorterType;
+
+    private byte[] buffer;
+    private InputSorter sorter;
+
+    @Setup
+    public void setup() throws IOException {
+        long[] keys = BenchmarkUtil.keys(this.distribution, this.count);
+        this.buffer = BenchmarkUtil.entriesBuffer(keys, this.entrySize);
+        if ("java".equals(this.sorterType)) {
+            this.sorter = new JavaInputSorter();
+        } else {
+            this.sorter = new PrefixKeyInputSorter();
+        }
+    }
+
+    @Benchmark
+    public void sort(Blackhole blackhole) throws IOException {
+        KvEntriesInput input = new KvEntriesInput(
+                               IOFactory.createBytesInput(this.buffer));
+        Iterator<KvEntry> sorted = this.sorter.sort(input);
+        while (sorted.hasNext()) {
+            blackhole.consume(sorted.next());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hugegraph.computer.core.sort.sorting.InputsSorting;
+import org.apache.hugegraph.computer.core.sort.sorting.SortingFactory;
+import org.apache.hugegraph.computer.core.sort.sorting.SortingMode;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark the k-way merge of sorted inputs, compare the loser tree with
+ * the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InputsSortingBenchmark {
+
+    @Param({"200000"})
+    private int count;
+
+    @Param({"4", "16", "64"})
+    private int inputs;
+
+    @Param({"LOSER_TREE", "HEAP"})
+    private SortingMode mode;
+
+    @Param({"UNIFORM", "SKEWED"})
+    private KeyDistribution distribution;
+
+    private List<List<KvEntry>> sources;
+
+    @Setup
+    public void setup() throws IOException {
+        long[] keys = BenchmarkUtil.keys(this.distribution, this.count);
+        List<KvEntry> entries = BenchmarkUtil.entries(
+                                BenchmarkUtil.entriesBuffer(keys, 8));
+        this.sources = new ArrayList<>(this.inputs);
+        for (int i = 0; i < this.inputs; i++) {
+            this.sources.add(new ArrayList<>());
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            this.sources.get(i % this.inputs).add(entries.get(i));
+        }
+        for (List<KvEntry> source : this.sources) {
+            source.sort(KvEntry::compareTo);
+        }
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) {
+        List<Iterator<KvEntry>> iterators = new ArrayList<>(this.inputs);
+        for (List<KvEntry> source : this.sources) {
+            iterators.add(source.iterator());
+        }
+        InputsSorting<KvEntry> sorting = SortingFactory.createSorting(
+                                         iterators, this.mode);
+        while (sorting.hasNext()) {
+            blackhole.consume(sorting.next());
+        }
+    }
+}
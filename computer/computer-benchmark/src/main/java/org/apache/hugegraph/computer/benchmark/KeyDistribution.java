@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.benchmark;
+
+import java.util.Random;
+
+/**
+ * The distribution of the vertex ids used as keys of the generated entries.
+ */
+public enum KeyDistribution {
+
+    /**
+     * Keys are 0, 1, 2... so the input is already sorted.
+     */
+    SEQUENTIAL {
+        @Override
+        public long key(int index, int count, Random random) {
+            return index;
+        }
+    },
+
+    /**
+     * Keys are uniformly distributed in [0, count).
+     */
+    UNIFORM {
+        @Override
+        public long key(int index, int count, Random random) {
+            return random.nextInt(count);
+        }
+    },
+
+    /**
+     * Most keys fall into a small range of hot vertices, like the messages
+     * sent to the high degree vertices of a power-law graph.
+     */
+    SKEWED {
+        @Override
+        public long key(int index, int count, Random random) {
+            double r = random.nextDouble();
+            return (long) (r * r * r * count);
+        }
+    };
+
+    public abstract long key(int index, int count, Random random);
+}
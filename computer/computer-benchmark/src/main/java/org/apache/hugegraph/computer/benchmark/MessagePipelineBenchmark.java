@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hugegraph.computer.core.common.ComputerContext;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.value.StringValue;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
+import org.apache.hugegraph.computer.core.network.message.MessageType;
+import org.apache.hugegraph.computer.core.receiver.message.ComputeMessageRecvPartition;
+import org.apache.hugegraph.computer.core.sender.WriteBuffers;
+import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
+import org.apache.hugegraph.computer.core.sort.sorting.RecvSortManager;
+import org.apache.hugegraph.computer.core.sort.sorting.SendSortManager;
+import org.apache.hugegraph.computer.core.sort.sorting.SortManager;
+import org.apache.hugegraph.computer.core.store.FileManager;
+import org.apache.hugegraph.computer.core.store.SuperstepFileGenerator;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.util.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * End-to-end benchmark of the message path inside a single process: write
+ * messages into the write buffers, sort them by the send sort manager, feed
+ * the sorted buffers into a message receive partition, which sorts and
+ * merges them into files, then iterate the merged messages.
+ * The network is skipped, the sorted buffers are handed to the receive
+ * partition directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MessagePipelineBenchmark {
+
+    private static final int WRITE_BUFFER_THRESHOLD = (int) Bytes.MB;
+    private static final int WRITE_BUFFER_CAPACITY = (int) Bytes.MB * 2;
+    private static final long RECV_BUFFERS_LIMIT = Bytes.MB * 8;
+
+    @Param({"100000"})
+    private int count;
+
+    @Param({"16", "256"})
+    private int entrySize;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "SKEWED"})
+    private KeyDistribution distribution;
+
+    @Param({"false", "true"})
+    private boolean sortOffHeap;
+
+    private ComputerContext context;
+    private Config config;
+    private File dataDir;
+    private FileManager fileManager;
+    private SortManager sendSortManager;
+    private SortManager recvSortManager;
+
+    private Id[] targets;
+    private StringValue message;
+    private int superstep;
+
+    @Setup
+    public void setup() throws IOException {
+        this.dataDir = Files.createTempDirectory("message-benchmark")
+                            .toFile();
+        this.config = BenchmarkUtil.initContext(
+                      ComputerOptions.JOB_ID, "local_benchmark",
+                      ComputerOptions.WORKER_DATA_DIRS,
+                      "[" + this.dataDir.getPath() + "]",
+                      ComputerOptions.WORKER_RECEIVED_BUFFERS_BYTES_LIMIT,
+                      RECV_BUFFERS_LIMIT,
+                      ComputerOptions.TRANSPORT_RECV_FILE_MODE, false,
+                      ComputerOptions.WORKER_SORT_OUTPUT_OFF_HEAP,
+                      this.sortOffHeap
+        );
+        this.context = ComputerContext.instance();
+
+        this.fileManager = new FileManager();
+        this.fileManager.init(this.config);
+        this.sendSortManager = new SendSortManager(this.context);
+        this.sendSortManager.init(this.config);
+        this.recvSortManager = new RecvSortManager(this.context);
+        this.recvSortManager.init(this.config);
+
+        long[] keys = BenchmarkUtil.keys(this.distribution, this.count);
+        this.targets = new Id[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            this.targets[i] = BytesId.of(keys[i]);
+        }
+        this.message = BenchmarkUtil.value(this.entrySize);
+        this.superstep = 0;
+    }
+
+    @TearDown
+    public void teardown() {
+        this.sendSortManager.close(this.config);
+        this.recvSortManager.close(this.config);
+        this.fileManager.close(this.config);
+        FileUtils.deleteQuietly(this.dataDir);
+    }
+
+    @TearDown(Level.Invocation)
+    public void cleanFiles() throws IOException {
+        for (String dir : this.fileManager.dirs()) {
+            FileUtils.cleanDirectory(new File(dir));
+        }
+    }
+
+    @Benchmark
+    public void sendSortAndMerge(Blackhole blackhole) throws IOException {
+        SuperstepFileGenerator fileGenerator = new SuperstepFileGenerator(
+                                               this.fileManager,
+                                               this.superstep++);
+        ComputeMessageRecvPartition partition =
+                new ComputeMessageRecvPartition(this.context, fileGenerator,
+                                                this.recvSortManager);
+        WriteBuffers buffers = new WriteBuffers(this.context,
+                                                WRITE_BUFFER_THRESHOLD,
+                                                WRITE_BUFFER_CAPACITY);
+        for (Id target : this.targets) {
+            buffers.writeMessage(target, this.message);
+            if (buffers.reachThreshold()) {
+                this.sortAndReceive(buffers, partition);
+            }
+        }
+        if (!buffers.isEmpty()) {
+            this.sortAndReceive(buffers, partition);
+        }
+
+        PeekableIterator<KvEntry> iterator = partition.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+        try {
+            iterator.close();
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void sortAndReceive(WriteBuffers buffers,
+                                ComputeMessageRecvPartition partition) {
+        buffers.prepareSorting();
+        NetworkBuffer sorted = this.sendSortManager.sort(MessageType.MSG,
+                                                         buffers).join();
+        buffers.finishSorting();
+        partition.addBuffer(sorted);
+        sorted.release();
+    }
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import org.apache.hugegraph.computer.core.common.Constants;
 import org.apache.hugegraph.computer.core.common.ContainerInfo;
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.SuperstepStat;
 import org.apache.hugegraph.computer.core.graph.value.IntValue;
 import org.apache.hugegraph.computer.core.util.SerializeUtil;
@@ -47,6 +48,17 @@ public class Bsp4Master extends BspBase {
         LOG.info("Master set init-done, master info: {}", masterInfo);
     }
 
+    /**
+     * Send the schema dictionary to workers, it's used to encode the labels
+     * and property keys of vertices and edges.
+     */
+    public void masterSchemaDone(SchemaDictionary dictionary) {
+        String path = this.constructPath(BspEvent.BSP_MASTER_SCHEMA_DONE);
+        this.bspClient().put(path, SerializeUtil.toBytes(dictionary));
+        LOG.info("Master set schema-done, schema names: {}",
+                 dictionary.size());
+    }
+
     /**
      * Wait workers registered.
      */
@@ -22,6 +22,7 @@ import java.util.List;
 import org.apache.hugegraph.computer.core.common.Constants;
 import org.apache.hugegraph.computer.core.common.ContainerInfo;
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.SuperstepStat;
 import org.apache.hugegraph.computer.core.graph.value.IntValue;
 import org.apache.hugegraph.computer.core.util.SerializeUtil;
@@ -57,6 +58,21 @@ public class Bsp4Worker extends BspBase {
         return masterInfo;
     }
 
+    /**
+     * Wait master sent the schema dictionary, and read it into the
+     * specified dictionary before reading any vertices and edges.
+     */
+    public void waitMasterSchemaDone(SchemaDictionary dictionary) {
+        LOG.info("Worker({}) is waiting for master schema-done",
+                 this.workerInfo.uniqueName());
+        String path = this.constructPath(BspEvent.BSP_MASTER_SCHEMA_DONE);
+        byte[] bytes = this.bspClient().get(path, this.registerTimeout(),
+                                            this.logInterval());
+        SerializeUtil.fromBytes(bytes, dictionary);
+        LOG.info("Worker({}) waited master schema-done, schema names: {}",
+                 this.workerInfo.uniqueName(), dictionary.size());
+    }
+
     /**
      * Register this worker, worker's information is passed by constructor.
      */
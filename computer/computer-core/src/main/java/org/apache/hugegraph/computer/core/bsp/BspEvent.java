@@ -33,7 +33,8 @@ public enum BspEvent {
     BSP_WORKER_STEP_DONE(11, "/worker/step_done"),
     BSP_MASTER_STEP_DONE(12, "/master/step_done"),
     BSP_WORKER_OUTPUT_DONE(13, "/worker/output_done"),
-    BSP_WORKER_CLOSE_DONE(14, "/worker/close_done");
+    BSP_WORKER_CLOSE_DONE(14, "/worker/close_done"),
+    BSP_MASTER_SCHEMA_DONE(15, "/master/schema");
 
     private byte code;
     private String key;
@@ -20,19 +20,22 @@ package org.apache.hugegraph.computer.core.combiner;
 import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.properties.Properties;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
-import org.apache.hugegraph.computer.core.io.StreamGraphInput;
 import org.apache.hugegraph.computer.core.store.entry.InlinePointer;
 import org.apache.hugegraph.computer.core.store.entry.Pointer;
 
 public class VertexValueCombiner extends AbstractPointerCombiner<Properties> {
 
+    private final SchemaDictionary dictionary;
+
     public VertexValueCombiner(ComputerContext context) {
         super(() -> {
             return context.graphFactory().createProperties();
         }, context.config().createObject(
            ComputerOptions.WORKER_VERTEX_PROPERTIES_COMBINER_CLASS));
+        this.dictionary = context.graphFactory().schemaDictionary();
     }
 
     @Override
@@ -42,8 +45,8 @@ public class VertexValueCombiner extends AbstractPointerCombiner<Properties> {
             RandomAccessInput input2 = v2.input();
             input1.seek(v1.offset());
             input2.seek(v2.offset());
-            String label1 = StreamGraphInput.readLabel(input1);
-            String label2 = StreamGraphInput.readLabel(input2);
+            String label1 = this.dictionary.readName(input1);
+            String label2 = this.dictionary.readName(input2);
             assert label1.equals(label2);
 
             this.v1.read(input1);
@@ -51,7 +54,7 @@ public class VertexValueCombiner extends AbstractPointerCombiner<Properties> {
             this.combiner.combine(this.v1, this.v2, this.result);
 
             this.output.seek(0L);
-            this.output.writeUTF(label1);
+            this.dictionary.writeName(this.output, label1);
             this.result.write(this.output);
             return new InlinePointer(this.output.buffer(),
                                      this.output.position());
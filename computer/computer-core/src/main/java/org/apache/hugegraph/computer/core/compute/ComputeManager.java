@@ -21,22 +21,26 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.config.PartitionMode;
 import org.apache.hugegraph.computer.core.graph.partition.PartitionStat;
 import org.apache.hugegraph.computer.core.manager.Managers;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.receiver.MessageRecvManager;
 import org.apache.hugegraph.computer.core.receiver.MessageStat;
+import org.apache.hugegraph.computer.core.receiver.message.CombinedMessageArray;
 import org.apache.hugegraph.computer.core.sender.MessageSendManager;
 import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
 import org.apache.hugegraph.computer.core.store.entry.KvEntry;
 import org.apache.hugegraph.computer.core.util.Consumers;
 import org.apache.hugegraph.computer.core.worker.WorkerContext;
 import org.apache.hugegraph.computer.core.worker.WorkerStat;
+import org.apache.hugegraph.util.E;
 import org.apache.hugegraph.util.ExecutorUtil;
 import org.apache.hugegraph.util.Log;
 import org.slf4j.Logger;
@@ -45,15 +49,17 @@ public class ComputeManager {
 
     private static final Logger LOG = Log.logger(ComputeManager.class);
     private static final String PREFIX = "partition-compute-executor-%s";
+    private static final String OUTPUT_PREFIX = "partition-output-executor-%s";
 
     private final int workerId;
     private final ComputerContext context;
     private final Managers managers;
 
-    private final Map<Integer, FileGraphPartition> partitions;
+    private final Map<Integer, GraphPartition> partitions;
     private final MessageRecvManager recvManager;
     private final MessageSendManager sendManager;
     private final ExecutorService computeExecutor;
+    private final boolean combinedMessageArray;
 
     public ComputeManager(int workerId, ComputerContext context, Managers managers) {
         this.workerId = workerId;
@@ -68,6 +74,22 @@ public class ComputeManager {
                                computeThreadNum, PREFIX);
         LOG.info("Created partition compute thread pool, thread num: {}",
                  computeThreadNum);
+
+        Config config = context.config();
+        this.combinedMessageArray = config.get(
+                                    ComputerOptions.WORKER_COMBINED_MESSAGE_ARRAY);
+        boolean asyncLocalMessages = config.get(
+                                     ComputerOptions.WORKER_ASYNC_LOCAL_MESSAGES);
+        boolean memoryMode = config.get(ComputerOptions.WORKER_PARTITION_MODE) ==
+                             PartitionMode.MEMORY;
+        E.checkArgument(!this.combinedMessageArray || memoryMode,
+                        "The option '%s' is only supported in MEMORY " +
+                        "partition mode",
+                        ComputerOptions.WORKER_COMBINED_MESSAGE_ARRAY.name());
+        E.checkArgument(!asyncLocalMessages || memoryMode,
+                        "The option '%s' is only supported in MEMORY " +
+                        "partition mode",
+                        ComputerOptions.WORKER_ASYNC_LOCAL_MESSAGES.name());
     }
 
     private Integer partitionComputeThreadNum(Config config) {
@@ -78,54 +100,106 @@ public class ComputeManager {
         WorkerStat workerStat = new WorkerStat(this.workerId);
         this.recvManager.waitReceivedAllMessages();
 
-        Map<Integer, PeekableIterator<KvEntry>> vertices =
-                     this.recvManager.vertexPartitions();
-        Map<Integer, PeekableIterator<KvEntry>> edges =
-                     this.recvManager.edgePartitions();
-
-        // TODO: parallel input process
-        for (Map.Entry<Integer, PeekableIterator<KvEntry>> entry :
-             vertices.entrySet()) {
-            int partition = entry.getKey();
-            PeekableIterator<KvEntry> vertexIter = entry.getValue();
-            PeekableIterator<KvEntry> edgesIter =
-                                      edges.getOrDefault(
-                                            partition,
-                                            PeekableIterator.emptyIterator());
-
-            FileGraphPartition part = new FileGraphPartition(this.context,
-                                                             this.managers,
-                                                             partition);
-            PartitionStat partitionStat = null;
-            ComputerException inputException = null;
+        Map<Integer, GraphPartition> partitions = new ConcurrentHashMap<>();
+        Map<Integer, PartitionStat> stats = new ConcurrentHashMap<>();
+
+        /*
+         * Input the partitions in parallel, include merging the received
+         * vertex and edge files of each partition. The main thread can
+         * perceive the partition input exception only after all partition
+         * input completed, and only record the last exception.
+         */
+        Consumers<Integer> consumers =
+                  new Consumers<>(this.computeExecutor, partition -> {
+                      GraphPartition part = this.createPartition(partition);
+                      PartitionStat stat = this.inputPartition(part);
+                      partitions.put(partition, part);
+                      stats.put(partition, stat);
+                  });
+        consumers.start("partition-input");
+
+        try {
+            for (Integer partition : this.recvManager.vertexPartitionIds()) {
+                consumers.provide(partition);
+            }
+            consumers.await();
+        } catch (Throwable t) {
+            throw new ComputerException("An exception occurred when " +
+                                        "partition parallel input", t);
+        }
+
+        this.partitions.putAll(partitions);
+        if (this.combinedMessageArray) {
+            this.recvManager.useCombinedMessageArrays(this.vertexIndexes());
+        }
+        for (PartitionStat stat : stats.values()) {
+            workerStat.add(stat);
+        }
+        return workerStat;
+    }
+
+    private Map<Integer, VertexIndex> vertexIndexes() {
+        Map<Integer, VertexIndex> indexes = new HashMap<>();
+        for (GraphPartition partition : this.partitions.values()) {
+            MemoryGraphPartition memPartition = (MemoryGraphPartition) partition;
+            indexes.put(partition.partition(), memPartition.vertexIndex());
+        }
+        return indexes;
+    }
+
+    private GraphPartition createPartition(int partition) {
+        PartitionMode mode = this.context.config().get(
+                             ComputerOptions.WORKER_PARTITION_MODE);
+        switch (mode) {
+            case FILE:
+                return new FileGraphPartition(this.context, this.managers,
+                                              partition);
+            case MEMORY:
+                return new MemoryGraphPartition(this.context, partition);
+            default:
+                throw new ComputerException("Unsupported partition mode '%s'",
+                                            mode);
+        }
+    }
+
+    private PartitionStat inputPartition(GraphPartition part) {
+        long start = System.currentTimeMillis();
+        int partition = part.partition();
+        PeekableIterator<KvEntry> vertexIter = this.recvManager
+                                                   .vertexPartition(partition);
+        PeekableIterator<KvEntry> edgesIter = this.recvManager
+                                                  .edgePartition(partition);
+
+        PartitionStat partitionStat = null;
+        ComputerException inputException = null;
+        try {
+            partitionStat = part.input(vertexIter, edgesIter);
+        } catch (ComputerException e) {
+            inputException = e;
+        } finally {
             try {
-                partitionStat = part.input(vertexIter, edgesIter);
-            } catch (ComputerException e) {
-                inputException = e;
-            } finally {
-                try {
-                    vertexIter.close();
-                    edgesIter.close();
-                } catch (Exception e) {
-                    String message = "Failed to close vertex or edge file " +
-                                     "iterator";
-                    ComputerException closeException = new ComputerException(
-                                                           message, e);
-                    if (inputException != null) {
-                        inputException.addSuppressed(closeException);
-                    } else {
-                        throw closeException;
-                    }
-                }
+                vertexIter.close();
+                edgesIter.close();
+            } catch (Exception e) {
+                String message = "Failed to close vertex or edge file " +
+                                 "iterator";
+                ComputerException closeException = new ComputerException(
+                                                       message, e);
                 if (inputException != null) {
-                    throw inputException;
+                    inputException.addSuppressed(closeException);
+                } else {
+                    throw closeException;
                 }
             }
-
-            workerStat.add(partitionStat);
-            this.partitions.put(partition, part);
+            if (inputException != null) {
+                throw inputException;
+            }
         }
-        return workerStat;
+
+        partitionStat.costTime(System.currentTimeMillis() - start);
+        LOG.info("Input partition {} complete, cost {}ms",
+                 partition, partitionStat.costTime());
+        return partitionStat;
     }
 
     /**
@@ -136,8 +210,15 @@ public class ComputeManager {
     public void takeRecvedMessages() {
         Map<Integer, PeekableIterator<KvEntry>> messages =
                      this.recvManager.messagePartitions();
-        for (FileGraphPartition partition : this.partitions.values()) {
+        Map<Integer, CombinedMessageArray> messageArrays =
+                     this.recvManager.messageArrays();
+        for (GraphPartition partition : this.partitions.values()) {
             partition.messages(messages.get(partition.partition()));
+            if (messageArrays != null) {
+                CombinedMessageArray array = messageArrays.get(
+                                             partition.partition());
+                ((MemoryGraphPartition) partition).messages(array);
+            }
         }
     }
 
@@ -152,7 +233,7 @@ public class ComputeManager {
          * only after all partition compute completed, and only record the last
          * exception.
          */
-        Consumers<FileGraphPartition> consumers =
+        Consumers<GraphPartition> consumers =
                   new Consumers<>(this.computeExecutor, partition -> {
                       PartitionStat stat = partition.compute(context,
                                                              superstep);
@@ -161,7 +242,7 @@ public class ComputeManager {
         consumers.start("partition-compute");
 
         try {
-            for (FileGraphPartition partition : this.partitions.values()) {
+            for (GraphPartition partition : this.partitions.values()) {
                 consumers.provide(partition);
             }
             consumers.await();
@@ -185,19 +266,53 @@ public class ComputeManager {
             if (recvStat != null) {
                 partStat.mergeRecvMessageStat(recvStat);
             }
+            this.partitions.get(partitionId).recvMessageStat(recvStat);
 
             workerStat.add(partStat);
         }
         return workerStat;
     }
 
-    public void output() {
-        // TODO: Write results back parallel
-        for (FileGraphPartition partition : this.partitions.values()) {
-            PartitionStat stat = partition.output();
-            LOG.info("Output partition {} complete, stat='{}'",
-                     partition.partition(), stat);
+    /**
+     * Output the vertices of all the partitions.
+     * @return the number of vertices written by the output.
+     */
+    public long output() {
+        int outputThreadNum = this.context.config().get(
+                              ComputerOptions.OUTPUT_PARTITION_THREADS);
+        ExecutorService outputExecutor = ExecutorUtil.newFixedThreadPool(
+                                         outputThreadNum, OUTPUT_PREFIX);
+        LOG.info("Created partition output thread pool, thread num: {}",
+                 outputThreadNum);
+
+        /*
+         * Each partition writes to its own ComputerOutput, the number of
+         * partitions written at the same time is limited by the thread pool,
+         * and the batches in flight of each output are limited by itself.
+         */
+        AtomicLong writtenVertexCount = new AtomicLong();
+        Consumers<GraphPartition> consumers =
+                  new Consumers<>(outputExecutor, partition -> {
+                      PartitionStat stat = partition.output();
+                      writtenVertexCount.addAndGet(
+                                         partition.writtenVertexCount());
+                      LOG.info("Output partition {} complete, stat='{}'",
+                               partition.partition(), stat);
+                  });
+        consumers.start("partition-output");
+
+        try {
+            for (GraphPartition partition : this.partitions.values()) {
+                consumers.provide(partition);
+            }
+            consumers.await();
+        } catch (Throwable t) {
+            throw new ComputerException("An exception occurred when " +
+                                        "partition parallel output", t);
+        } finally {
+            outputExecutor.shutdown();
         }
+        return writtenVertexCount.get();
     }
 
     public void close() {
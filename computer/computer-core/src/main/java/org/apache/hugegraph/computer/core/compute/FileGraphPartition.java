@@ -19,23 +19,31 @@ package org.apache.hugegraph.computer.core.compute;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.BitSet;
 import java.util.Iterator;
 
 import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.common.Constants;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.compute.column.MappedValueColumn;
 import org.apache.hugegraph.computer.core.compute.input.EdgesInput;
 import org.apache.hugegraph.computer.core.compute.input.MessageInput;
 import org.apache.hugegraph.computer.core.compute.input.VertexInput;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.graph.edge.Edges;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.id.IdType;
 import org.apache.hugegraph.computer.core.graph.partition.PartitionStat;
 import org.apache.hugegraph.computer.core.graph.value.Value;
 import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
 import org.apache.hugegraph.computer.core.io.BufferedFileInput;
 import org.apache.hugegraph.computer.core.io.BufferedFileOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
 import org.apache.hugegraph.computer.core.manager.Managers;
 import org.apache.hugegraph.computer.core.output.ComputerOutput;
+import org.apache.hugegraph.computer.core.receiver.MessageStat;
 import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
 import org.apache.hugegraph.computer.core.store.EntryIterator;
 import org.apache.hugegraph.computer.core.store.FileGenerator;
@@ -43,92 +51,150 @@ import org.apache.hugegraph.computer.core.store.FileManager;
 import org.apache.hugegraph.computer.core.store.entry.EntriesUtil;
 import org.apache.hugegraph.computer.core.store.entry.KvEntry;
 import org.apache.hugegraph.computer.core.store.entry.Pointer;
-import org.apache.hugegraph.computer.core.worker.Computation;
 import org.apache.hugegraph.computer.core.worker.ComputationContext;
 import org.apache.hugegraph.computer.core.worker.WorkerContext;
 import org.apache.hugegraph.util.E;
 import org.apache.hugegraph.util.Log;
 import org.slf4j.Logger;
 
-public class FileGraphPartition {
+/**
+ * The partition stores the vertices, edges and values in files, and reads
+ * them at each superstep. The active status of vertices is kept in a bitset
+ * as the frontier of the partition. If the frontier and the received
+ * messages are small enough, the superstep is computed sparsely, it only
+ * seeks to the active and messaged vertices and appends their new values to
+ * the value file, the values of other vertices are carried forward as is.
+ * The fixed width values are updated in place in a memory mapped column if
+ * mmap is enabled, instead of the value files, it includes the id values if
+ * the vertex ids are all of LONG type.
+ */
+public class FileGraphPartition extends GraphPartition {
 
     private static final Logger LOG = Log.logger(FileGraphPartition.class);
 
     private static final String VERTEX = "vertex";
     private static final String EDGE = "edge";
-    private static final String STATUS = "status";
+    private static final String DEGREE = "degree";
+    private static final String INDEX = "index";
     private static final String VALUE = "value";
 
-    private final ComputerContext context;
-    private final Computation<Value> computation;
+    private static final int DEGREE_ENTRY_LEN = Constants.INT_LEN +
+                                                Constants.LONG_LEN;
+
     private final FileGenerator fileGenerator;
-    private final int partition;
 
     private final File vertexFile;
     private final File edgeFile;
+    // The degree and position in edge file of each vertex
+    private final File degreeFile;
+    // The position in vertex file of each vertex
+    private final File indexFile;
+    private final boolean mmap;
+    private final double sparseRatio;
+
+    // The active status of each vertex
+    private BitSet actives;
+    // The values updated in place, null if the values aren't fixed width
+    private MappedValueColumn valueColumn;
+    // The position in value file of each vertex, null if sparse is disabled
+    private long[] valuePositions;
+    // The length of value file when it was rewritten at last
+    private long compactValueLength;
+    private long activeVertexCount;
+    // Whether the ids of all vertices in the partition are of LONG type
+    private boolean longIds;
+    private long recvMessageCount;
+    private boolean sparse;
 
-    private File preStatusFile;
-    private File curStatusFile;
     private File preValueFile;
     private File curValueFile;
 
-    private long vertexCount;
-    private long edgeCount;
-
-    private BufferedFileOutput curStatusOutput;
     private BufferedFileOutput curValueOutput;
-
-    private BufferedFileInput preStatusInput;
     private BufferedFileInput preValueInput;
 
     private VertexInput vertexInput;
     private EdgesInput edgesInput;
+    private RandomAccessInput degreeInput;
+    private RandomAccessInput indexInput;
     private MessageInput<Value> messageInput;
 
     public FileGraphPartition(ComputerContext context,
                               Managers managers,
                               int partition) {
-        this.context = context;
-        this.computation = context.config()
-                                  .createObject(
-                                          ComputerOptions.WORKER_COMPUTATION_CLASS);
-        this.computation.init(context.config());
+        super(context, partition);
         this.fileGenerator = managers.get(FileManager.NAME);
-        this.partition = partition;
         this.vertexFile = new File(this.fileGenerator.randomDirectory(VERTEX));
         this.edgeFile = new File(this.fileGenerator.randomDirectory(EDGE));
-        this.vertexCount = 0L;
-        this.edgeCount = 0L;
+        this.degreeFile = new File(this.fileGenerator.randomDirectory(DEGREE));
+        this.indexFile = new File(this.fileGenerator.randomDirectory(INDEX));
+        this.mmap = context.config().get(
+                    ComputerOptions.WORKER_PARTITION_FILE_MMAP);
+        this.sparseRatio = context.config().get(
+                           ComputerOptions.WORKER_PARTITION_SPARSE_RATIO);
     }
 
+    @Override
     protected PartitionStat input(PeekableIterator<KvEntry> vertices,
                                   PeekableIterator<KvEntry> edges) {
+        this.longIds = true;
         try {
             createFile(this.vertexFile);
             createFile(this.edgeFile);
+            createFile(this.degreeFile);
+            createFile(this.indexFile);
             BufferedFileOutput vertexOut = new BufferedFileOutput(
                                            this.vertexFile);
             BufferedFileOutput edgeOut = new BufferedFileOutput(
                                          this.edgeFile);
+            BufferedFileOutput degreeOut = new BufferedFileOutput(
+                                           this.degreeFile);
+            BufferedFileOutput indexOut = new BufferedFileOutput(
+                                          this.indexFile);
             while (vertices.hasNext()) {
                 KvEntry entry = vertices.next();
                 Pointer key = entry.key();
                 Pointer value = entry.value();
+                indexOut.writeLong(vertexOut.position());
                 this.writeVertex(key, value, vertexOut);
-                this.writeEdges(key, edges, edgeOut);
+                this.writeEdges(key, edges, edgeOut, degreeOut);
             }
             vertexOut.close();
             edgeOut.close();
+            degreeOut.close();
+            indexOut.close();
         } catch (IOException e) {
             throw new ComputerException(
                       "Failed to init FileGraphPartition '%s'",
                       e, this.partition);
         }
 
+        E.checkState(this.vertexCount <= Integer.MAX_VALUE,
+                     "Too many vertices in partition %s: %s",
+                     this.partition, this.vertexCount);
+        this.actives = new BitSet((int) this.vertexCount);
+        Value result = this.context.config().createObject(
+                       ComputerOptions.ALGORITHM_RESULT_CLASS);
+        if (this.mmap && MappedValueColumn.supports(result) &&
+            (!(result instanceof Id) || this.longIds)) {
+            File valueFile = new File(this.fileGenerator.randomDirectory(VALUE));
+            try {
+                createFile(valueFile);
+                this.valueColumn = new MappedValueColumn(
+                                   valueFile, result, (int) this.vertexCount);
+            } catch (IOException e) {
+                throw new ComputerException(
+                          "Failed to create value column of partition '%s'",
+                          e, this.partition);
+            }
+        } else if (this.sparseRatio > 0.0D) {
+            this.valuePositions = new long[(int) this.vertexCount];
+        }
+
         return new PartitionStat(this.partition, this.vertexCount,
                                  this.edgeCount, 0L);
     }
 
+    @Override
     protected PartitionStat compute(WorkerContext context,
                                     int superstep) {
         LOG.info("Partition {} begin compute in superstep {}",
@@ -144,9 +210,13 @@ public class FileGraphPartition {
         long activeVertexCount;
         try {
             this.computation.beforeSuperstep(context);
-            activeVertexCount = superstep == 0 ?
-                                this.compute0(context) :
-                                this.compute1(context);
+            if (superstep == 0) {
+                activeVertexCount = this.compute0(context);
+            } else if (this.sparse) {
+                activeVertexCount = this.sparseCompute1(context);
+            } else {
+                activeVertexCount = this.compute1(context);
+            }
             this.computation.afterSuperstep(context);
         } catch (Exception e) {
             throw new ComputerException(
@@ -162,23 +232,22 @@ public class FileGraphPartition {
                       e, superstep);
         }
 
-        LOG.info("Partition {} finish compute in superstep {}",
-                 this.partition, superstep);
+        LOG.info("Partition {} finish compute in superstep {}, sparse: {}",
+                 this.partition, superstep, this.sparse);
+        this.activeVertexCount = activeVertexCount;
 
         return new PartitionStat(this.partition, this.vertexCount,
                                  this.edgeCount,
                                  this.vertexCount - activeVertexCount);
     }
 
-
     private long compute0(ComputationContext context) {
         long activeVertexCount = 0L;
+        int index = 0;
         while (this.vertexInput.hasNext()) {
             Vertex vertex = this.vertexInput.next();
             vertex.reactivate();
-
-            Edges edges = this.edgesInput.edges(this.vertexInput.idPointer());
-            vertex.edges(edges);
+            vertex.edges(this.readEdges(index));
 
             this.computation.compute0(context, vertex);
 
@@ -187,11 +256,12 @@ public class FileGraphPartition {
             }
 
             try {
-                this.saveVertexStatusAndValue(vertex);
+                this.saveVertexStatusAndValue(index, vertex);
             } catch (IOException e) {
                 throw new ComputerException(
                           "Error occurred when saveVertex: %s", e, vertex);
             }
+            index++;
         }
         return activeVertexCount;
     }
@@ -200,9 +270,11 @@ public class FileGraphPartition {
         Value result = this.context.config().createObject(
                        ComputerOptions.ALGORITHM_RESULT_CLASS);
         long activeVertexCount = 0L;
+        int index = 0;
         while (this.vertexInput.hasNext()) {
             Vertex vertex = this.vertexInput.next();
-            this.readVertexStatusAndValue(vertex, result);
+            this.readVertexStatusAndValue(index, vertex, result);
+            vertex.edges(this.readEdges(index));
 
             Iterator<Value> messageIter = this.messageInput.iterator(
                                           this.vertexInput.idPointer());
@@ -210,14 +282,7 @@ public class FileGraphPartition {
                 vertex.reactivate();
             }
 
-            /*
-             * If the vertex is inactive, it's edges will be skipped
-             * automatically at the next vertex.
-             */
             if (vertex.active()) {
-                Edges edges = this.edgesInput.edges(
-                              this.vertexInput.idPointer());
-                vertex.edges(edges);
                 this.computation.compute(context, vertex, messageIter);
             }
 
@@ -227,16 +292,103 @@ public class FileGraphPartition {
             }
 
             try {
-                this.saveVertexStatusAndValue(vertex);
+                this.saveVertexStatusAndValue(index, vertex);
             } catch (IOException e) {
                 throw new ComputerException(
                           "Error occurred when saveVertex", e);
             }
+            index++;
         }
         return activeVertexCount;
     }
 
+    /**
+     * Only visit the active vertices and the vertices received messages in
+     * the order of index, the active vertices are got from the bitset, and
+     * the index of the messaged vertices are searched from the vertex file
+     * by the message keys.
+     */
+    private long sparseCompute1(ComputationContext context) throws IOException {
+        Value result = this.context.config().createObject(
+                       ComputerOptions.ALGORITHM_RESULT_CLASS);
+        int vertexCount = (int) this.vertexCount;
+        // All vertices before the index have been visited
+        int index = 0;
+        while (index < vertexCount) {
+            int active = this.actives.nextSetBit(index);
+            if (active < 0) {
+                active = vertexCount;
+            }
+            int next = this.messagedIndex(index, active);
+            if (next >= vertexCount) {
+                break;
+            }
+            index = next + 1;
+
+            long position = this.vertexPosition(next);
+            Vertex vertex = this.vertexInput.read(position);
+            Iterator<Value> messageIter = this.messageInput.iterator(
+                                          this.vertexInput.idPointer());
+            boolean hasMessages = messageIter.hasNext();
+            if (!hasMessages && !this.actives.get(next)) {
+                // The messages are sent to a vertex not exist
+                continue;
+            }
+
+            this.readVertexStatusAndValue(next, vertex, result);
+            vertex.edges(this.readEdges(next));
+            if (hasMessages) {
+                vertex.reactivate();
+            }
+            this.computation.compute(context, vertex, messageIter);
+            this.saveVertexStatusAndValue(next, vertex);
+        }
+        return this.actives.cardinality();
+    }
+
+    /**
+     * Search the index of the first vertex whose id isn't less than the key
+     * of next message in range [from, to], gallop from the start of range
+     * since the messaged vertices are usually close in dense supersteps.
+     * @return to if there is no message to the vertices in the range.
+     */
+    private int messagedIndex(int from, int to) throws IOException {
+        Pointer key = this.messageInput.peekKey();
+        if (key == null) {
+            return to;
+        }
+        int low = from;
+        int high = from;
+        long step = 1L;
+        while (high < to && this.compareVertexId(high, key) < 0) {
+            low = high + 1;
+            high = (int) Math.min(from + step, to);
+            step <<= 1;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.compareVertexId(mid, key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareVertexId(int index, Pointer key) throws IOException {
+        long position = this.vertexPosition(index);
+        return this.vertexInput.readId(position).compareTo(key);
+    }
+
+    private long vertexPosition(int index) throws IOException {
+        this.indexInput.seek((long) index * Constants.LONG_LEN);
+        return this.indexInput.readLong();
+    }
+
+    @Override
     protected PartitionStat output() {
+        long start = System.currentTimeMillis();
         ComputerOutput output = this.context.config().createObject(
                                 ComputerOptions.OUTPUT_CLASS);
         output.init(this.context.config(), this.partition);
@@ -248,15 +400,17 @@ public class FileGraphPartition {
 
         Value result = this.context.config().createObject(
                        ComputerOptions.ALGORITHM_RESULT_CLASS);
+        long writtenCount = 0L;
+        int index = 0;
         while (this.vertexInput.hasNext()) {
             Vertex vertex = this.vertexInput.next();
-            this.readVertexStatusAndValue(vertex, result);
-
-            Edges edges = this.edgesInput.edges(this.vertexInput.idPointer());
-            vertex.edges(edges);
+            this.readVertexStatusAndValue(index, vertex, result);
+            vertex.edges(this.readEdges(index));
+            index++;
 
             if (output.filter(this.context.config(), this.computation, vertex)) {
                 output.write(vertex);
+                writtenCount++;
             }
         }
 
@@ -266,57 +420,133 @@ public class FileGraphPartition {
             throw new ComputerException("Error occurred when afterOutput", e);
         }
         output.close();
-        return new PartitionStat(this.partition, this.vertexCount,
-                                 this.edgeCount, 0L);
+
+        PartitionStat stat = new PartitionStat(this.partition,
+                                               this.vertexCount,
+                                               this.edgeCount, 0L);
+        stat.costTime(System.currentTimeMillis() - start);
+        this.writtenVertexCount = writtenCount;
+        LOG.info("Partition {} written {} of {} vertices, cost {}ms",
+                 this.partition, writtenCount, this.vertexCount,
+                 stat.costTime());
+        return stat;
     }
 
-    /**
-     * Put the messages sent at previous superstep from MessageRecvManager to
-     * this partition. The messages is null if no messages sent to this
-     * partition at previous superstep.
-     */
+    @Override
     protected void messages(PeekableIterator<KvEntry> messages) {
         this.messageInput = new MessageInput<>(this.context, messages);
     }
 
-    protected int partition() {
-        return this.partition;
+    @Override
+    protected void recvMessageStat(MessageStat stat) {
+        this.recvMessageCount = stat == null ? 0L : stat.messageCount();
     }
 
-    private void readVertexStatusAndValue(Vertex vertex, Value result) {
+    private void readVertexStatusAndValue(int index, Vertex vertex,
+                                          Value result) {
+        if (this.actives.get(index)) {
+            vertex.reactivate();
+        } else {
+            vertex.inactivate();
+        }
+
+        if (this.valueColumn != null) {
+            vertex.value(this.valueColumn.read(index, result));
+            return;
+        }
         try {
-            boolean activate = this.preStatusInput.readBoolean();
-            if (activate) {
-                vertex.reactivate();
-            } else {
-                vertex.inactivate();
+            if (this.valuePositions != null) {
+                this.preValueInput.seek(this.valuePositions[index]);
             }
+            result.read(this.preValueInput);
+            vertex.value(result);
         } catch (IOException e) {
             throw new ComputerException(
-                      "Failed to read status of vertex '%s'", e, vertex);
+                      "Failed to read value of vertex '%s'", e, vertex);
         }
+    }
 
+    /**
+     * Read the degree of current vertex and return the lazy edges, the edge
+     * file is only read if the edges are iterated by the computation.
+     */
+    private Edges readEdges(int index) {
         try {
-            result.read(this.preValueInput);
-            vertex.value(result);
+            this.degreeInput.seek((long) index * DEGREE_ENTRY_LEN);
+            int degree = this.degreeInput.readFixedInt();
+            long position = this.degreeInput.readLong();
+            return this.edgesInput.edges(this.vertexInput.idPointer(),
+                                         degree, position);
         } catch (IOException e) {
             throw new ComputerException(
-                      "Failed to read value of vertex '%s'", e, vertex);
+                      "Failed to read degree of vertex from '%s'",
+                      e, this.degreeFile.getAbsolutePath());
         }
     }
 
-    private void saveVertexStatusAndValue(Vertex vertex) throws IOException {
-        this.curStatusOutput.writeBoolean(vertex.active());
+    private void saveVertexStatusAndValue(int index, Vertex vertex)
+                                          throws IOException {
+        this.actives.set(index, vertex.active());
         Value value = vertex.value();
         E.checkNotNull(value, "Vertex's value can't be null");
+        if (this.valueColumn != null) {
+            if (this.valueColumn.writable(value)) {
+                this.valueColumn.write(index, value);
+                return;
+            }
+            this.moveColumnToValueFile();
+        }
+        if (this.valuePositions != null) {
+            this.valuePositions[index] = this.curValueOutput.position();
+        }
         value.write(this.curValueOutput);
     }
 
+    /**
+     * Move the values in the column to a value file when a value can't be
+     * stored in the column, like an id of non-LONG type adopted from the
+     * vertex of another partition. The values are read by their positions
+     * since then, and the values of current superstep are appended to the
+     * same file like a sparse superstep.
+     */
+    private void moveColumnToValueFile() throws IOException {
+        LOG.info("Partition {} moves the values from mapped column to " +
+                 "value file", this.partition);
+        Value value = this.context.config().createObject(
+                      ComputerOptions.ALGORITHM_RESULT_CLASS);
+        String valuePath = this.fileGenerator.randomDirectory(
+                           VALUE, Integer.toString(this.partition));
+        this.curValueFile = new File(valuePath);
+        createFile(this.curValueFile);
+        this.valuePositions = new long[(int) this.vertexCount];
+        BufferedFileOutput valueOut = new BufferedFileOutput(
+                                      this.curValueFile);
+        for (int i = 0; i < this.vertexCount; i++) {
+            this.valuePositions[i] = valueOut.position();
+            this.valueColumn.read(i, value).write(valueOut);
+        }
+        valueOut.close();
+
+        this.valueColumn.close();
+        this.valueColumn.file().delete();
+        this.valueColumn = null;
+
+        this.preValueFile = this.curValueFile;
+        this.preValueInput = new BufferedFileInput(this.preValueFile);
+        RandomAccessFile file = new RandomAccessFile(this.curValueFile,
+                                                     Constants.FILE_MODE_WRITE);
+        this.curValueOutput = new BufferedFileOutput(file,
+                                                     Constants.BIG_BUF_SIZE);
+        this.curValueOutput.seek(file.length());
+    }
+
     private void writeVertex(Pointer key, Pointer value,
                              BufferedFileOutput vertexOut) throws IOException {
         byte[] keyBytes = key.bytes();
         vertexOut.writeFixedInt(keyBytes.length);
         vertexOut.write(keyBytes);
+        // The serialized id starts with the id type
+        this.longIds &= keyBytes[0] == IdType.LONG.code();
 
         byte[] valueBytes = value.bytes();
         vertexOut.writeFixedInt(valueBytes.length);
@@ -326,14 +556,17 @@ public class FileGraphPartition {
     }
 
     private void writeEdges(Pointer vid, PeekableIterator<KvEntry> edges,
-                            BufferedFileOutput edgeOut) throws IOException {
+                            BufferedFileOutput edgeOut,
+                            BufferedFileOutput degreeOut) throws IOException {
         byte[] vidBytes = vid.bytes();
+        long position = edgeOut.position();
+        long degree = 0L;
         while (edges.hasNext()) {
             KvEntry entry = edges.peek();
             Pointer key = entry.key();
             int matched = vid.compareTo(key);
             if (matched < 0) {
-                return;
+                break;
             }
 
             edges.next();
@@ -349,6 +582,7 @@ public class FileGraphPartition {
             edgeOut.writeFixedInt(0);
 
             this.edgeCount += entry.numSubEntries();
+            degree += entry.numSubEntries();
             edgeOut.writeFixedInt((int) entry.numSubEntries());
             EntryIterator subKvIt = EntriesUtil.subKvIterFromEntry(entry);
             while (subKvIt.hasNext()) {
@@ -362,80 +596,132 @@ public class FileGraphPartition {
                                Constants.INT_LEN;
             edgeOut.writeFixedInt(valuePosition, (int) valueLength);
         }
+        degreeOut.writeFixedInt((int) degree);
+        degreeOut.writeLong(position);
     }
 
     private void beforeCompute(int superstep) throws IOException {
+        this.sparse = superstep != 0 && this.sparseSuperstep();
         this.vertexInput = new VertexInput(this.context, this.vertexFile,
                                            this.vertexCount);
-        this.edgesInput = new EdgesInput(this.context, this.edgeFile);
-        // Inputs of vertex, edges, status, and value.
+        this.edgesInput = new EdgesInput(this.context, this.edgeFile,
+                                         this.computation.needEdgeProperties());
+        // Inputs of vertex, edges, and value.
         this.vertexInput.init();
         this.edgesInput.init();
+        this.degreeInput = IOFactory.createRawFileInput(this.degreeFile,
+                                                        this.mmap);
+        if (this.sparse) {
+            this.indexInput = IOFactory.createRawFileInput(this.indexFile,
+                                                           this.mmap);
+        }
+        if (this.valueColumn != null) {
+            return;
+        }
         if (superstep != 0) {
-            this.preStatusFile = this.curStatusFile;
             this.preValueFile = this.curValueFile;
-            this.preStatusInput = new BufferedFileInput(this.preStatusFile);
             this.preValueInput = new BufferedFileInput(this.preValueFile);
         }
 
-        // Outputs of vertex's status and vertex's value.
-        String statusPath = this.fileGenerator.randomDirectory(
-                            STATUS, Integer.toString(superstep),
-                            Integer.toString(this.partition));
+        if (this.sparse) {
+            // Append the values of visited vertices to the value file
+            RandomAccessFile file = new RandomAccessFile(
+                                    this.curValueFile,
+                                    Constants.FILE_MODE_WRITE);
+            this.curValueOutput = new BufferedFileOutput(
+                                  file, Constants.BIG_BUF_SIZE);
+            this.curValueOutput.seek(file.length());
+            return;
+        }
+
+        // Output of vertex's value.
         String valuePath = this.fileGenerator.randomDirectory(
                            VALUE, Integer.toString(superstep),
                            Integer.toString(this.partition));
-        this.curStatusFile = new File(statusPath);
         this.curValueFile = new File(valuePath);
-        createFile(this.curStatusFile);
         createFile(this.curValueFile);
-
-        this.curStatusOutput = new BufferedFileOutput(this.curStatusFile);
         this.curValueOutput = new BufferedFileOutput(this.curValueFile);
     }
 
+    /**
+     * The superstep is sparse if the active vertices and received messages
+     * are less than the ratio of vertices, and the stale values appended by
+     * sparse supersteps are not more than the values rewritten at last.
+     */
+    private boolean sparseSuperstep() {
+        if (this.sparseRatio <= 0.0D) {
+            return false;
+        }
+        if (this.valueColumn == null &&
+            this.curValueFile.length() > 2L * this.compactValueLength) {
+            return false;
+        }
+        long frontier = this.activeVertexCount + this.recvMessageCount;
+        return frontier < this.sparseRatio * this.vertexCount;
+    }
+
     private void afterCompute(int superstep) throws Exception {
         this.vertexInput.close();
         this.edgesInput.close();
+        this.degreeInput.close();
+        if (this.sparse) {
+            this.indexInput.close();
+        }
         if (superstep != 0) {
             this.messageInput.close();
-            this.preStatusInput.close();
+        }
+        if (this.valueColumn != null) {
+            return;
+        }
+        if (!this.sparse) {
+            this.compactValueLength = this.curValueOutput.position();
+        }
+        // The values are read at superstep 0 if moved from the column
+        if (this.preValueInput != null) {
             this.preValueInput.close();
-            this.preStatusFile.delete();
-            this.preValueFile.delete();
+            this.preValueInput = null;
+            if (this.preValueFile != this.curValueFile) {
+                this.preValueFile.delete();
+            }
         }
-        this.curStatusOutput.close();
         this.curValueOutput.close();
     }
 
     private void beforeOutput() throws IOException {
         this.vertexInput = new VertexInput(this.context, this.vertexFile,
                                            this.vertexCount);
-        this.edgesInput = new EdgesInput(this.context, this.edgeFile);
+        this.edgesInput = new EdgesInput(this.context, this.edgeFile,
+                                         this.computation.needEdgeProperties());
 
         this.vertexInput.init();
         this.edgesInput.init();
+        this.degreeInput = IOFactory.createRawFileInput(this.degreeFile,
+                                                        this.mmap);
 
-        this.preStatusFile = this.curStatusFile;
-        this.preValueFile = this.curValueFile;
-        this.preStatusInput = new BufferedFileInput(this.preStatusFile);
-        this.preValueInput = new BufferedFileInput(this.preValueFile);
+        if (this.valueColumn == null) {
+            this.preValueFile = this.curValueFile;
+            this.preValueInput = new BufferedFileInput(this.preValueFile);
+        }
     }
 
     private void afterOutput() throws IOException {
         this.vertexInput.close();
         this.edgesInput.close();
+        this.degreeInput.close();
 
-        this.preStatusInput.close();
-        this.preValueInput.close();
-
-        assert this.preStatusFile == this.curStatusFile;
-        assert this.preValueFile == this.curValueFile;
-        this.preStatusFile.delete();
-        this.preValueFile.delete();
+        if (this.valueColumn != null) {
+            this.valueColumn.close();
+            this.valueColumn.file().delete();
+        } else {
+            this.preValueInput.close();
+            assert this.preValueFile == this.curValueFile;
+            this.preValueFile.delete();
+        }
 
         this.vertexFile.delete();
         this.edgeFile.delete();
+        this.degreeFile.delete();
+        this.indexFile.delete();
     }
 
     private static void createFile(File file) throws IOException {
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute;
+
+import org.apache.hugegraph.computer.core.common.ComputerContext;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.graph.partition.PartitionStat;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.receiver.MessageStat;
+import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.worker.Computation;
+import org.apache.hugegraph.computer.core.worker.WorkerContext;
+
+/**
+ * The vertices, edges and the computation state of a partition on a worker.
+ * The way to store them is decided by the subclass, it's selected by
+ * {@link ComputerOptions#WORKER_PARTITION_MODE}.
+ */
+public abstract class GraphPartition {
+
+    protected final ComputerContext context;
+    protected final Computation<Value> computation;
+    protected final int partition;
+
+    protected long vertexCount;
+    protected long edgeCount;
+    // The vertices written by the output, it's set at output step
+    protected long writtenVertexCount;
+
+    public GraphPartition(ComputerContext context, int partition) {
+        this.context = context;
+        this.computation = context.config()
+                                  .createObject(
+                                          ComputerOptions.WORKER_COMPUTATION_CLASS);
+        this.computation.init(context.config());
+        this.partition = partition;
+        this.vertexCount = 0L;
+        this.edgeCount = 0L;
+        this.writtenVertexCount = 0L;
+    }
+
+    /**
+     * Build the partition from the sorted vertices and edges received at
+     * input step.
+     */
+    protected abstract PartitionStat input(PeekableIterator<KvEntry> vertices,
+                                           PeekableIterator<KvEntry> edges);
+
+    protected abstract PartitionStat compute(WorkerContext context,
+                                             int superstep);
+
+    protected abstract PartitionStat output();
+
+    /**
+     * Put the messages sent at previous superstep from MessageRecvManager to
+     * this partition. The messages is null if no messages sent to this
+     * partition at previous superstep.
+     */
+    protected abstract void messages(PeekableIterator<KvEntry> messages);
+
+    /**
+     * Put the stat of the messages received by this partition in current
+     * superstep, they will be computed in next superstep. The stat is null
+     * if no messages sent to this partition.
+     */
+    protected void recvMessageStat(MessageStat stat) {
+        // Do nothing by default
+    }
+
+    protected int partition() {
+        return this.partition;
+    }
+
+    protected long writtenVertexCount() {
+        return this.writtenVertexCount;
+    }
+}
@@ -0,0 +1,822 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnull;
+
+import org.apache.hugegraph.computer.core.aggregator.Aggregator;
+import org.apache.hugegraph.computer.core.combiner.Combiner;
+import org.apache.hugegraph.computer.core.common.ComputerContext;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.compute.column.ValueColumn;
+import org.apache.hugegraph.computer.core.compute.input.MessageInput;
+import org.apache.hugegraph.computer.core.compute.input.ReusablePointer;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.config.EdgeFrequency;
+import org.apache.hugegraph.computer.core.graph.GraphFactory;
+import org.apache.hugegraph.computer.core.graph.edge.Edge;
+import org.apache.hugegraph.computer.core.graph.edge.Edges;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.partition.PartitionStat;
+import org.apache.hugegraph.computer.core.graph.partition.Partitioner;
+import org.apache.hugegraph.computer.core.graph.properties.Properties;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
+import org.apache.hugegraph.computer.core.io.BytesInput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.io.StreamGraphInput;
+import org.apache.hugegraph.computer.core.output.ComputerOutput;
+import org.apache.hugegraph.computer.core.receiver.message.CombinedMessageArray;
+import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
+import org.apache.hugegraph.computer.core.store.EntryIterator;
+import org.apache.hugegraph.computer.core.store.entry.EntriesUtil;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.store.entry.Pointer;
+import org.apache.hugegraph.computer.core.worker.ComputationContext;
+import org.apache.hugegraph.computer.core.worker.WorkerContext;
+import org.apache.hugegraph.util.E;
+import org.apache.hugegraph.util.Log;
+import org.slf4j.Logger;
+
+/**
+ * Keep the partition in heap as a compressed sparse row(CSR) structure.
+ * The vertices are indexed by the order of their serialized ids, the edges
+ * of the vertex at index i are located at [edgeOffsets[i],
+ * edgeOffsets[i + 1]) of the edge arrays, and the target ids of edges are
+ * deduplicated and referenced by index. The status and value of vertices
+ * are stored in columns indexed by vertex index, so a superstep only
+ * iterates arrays instead of reading and writing files.
+ *
+ * If the messages are async, the messages sent to the vertices of this
+ * partition are combined into a local array instead of being sent. The
+ * vertex computed later in the superstep receives them at once, and the
+ * vertex computed earlier is activated to receive them in next superstep.
+ * The targets of edges in this partition are resolved to their vertex
+ * indexes at input step, which the partitioner tells without reading the
+ * targets, so the messages sent along edges are addressed by int index.
+ */
+public class MemoryGraphPartition extends GraphPartition {
+
+    private static final Logger LOG = Log.logger(MemoryGraphPartition.class);
+
+    private static final int INIT_CAPACITY = 16;
+
+    private final GraphFactory graphFactory;
+    private final EdgeFrequency frequency;
+    private final Properties emptyProperties;
+
+    private VertexIndex vertexIndex;
+    private String[] labels;
+    private Properties[] properties;
+
+    private int[] edgeOffsets;
+    private int[] edgeTargets;
+    private Id[] targetIds;
+    /*
+     * The vertex index of each target if it's in this partition, or -1,
+     * only built if the messages are async
+     */
+    private int[] localTargets;
+    // The edge labels is null if frequency is SINGLE
+    private String[] edgeLabels;
+    // The edge names is null if frequency is not MULTIPLE
+    private String[] edgeNames;
+    /*
+     * The element is null if the edge has no properties or the properties
+     * are not needed by the computation
+     */
+    private Properties[] edgeProperties;
+
+    private BitSet actives;
+    private ValueColumn values;
+
+    private final ReusablePointer idPointer;
+    private BytesInput idInput;
+    private MessageInput<Value> messageInput;
+    // The messages are combined in the array if it's not null
+    private CombinedMessageArray messageArray;
+    // The local messages of current superstep if the messages are async
+    private CombinedMessageArray localMessages;
+    private final boolean asyncMessages;
+    // Locate the partition of message target if the messages are async
+    private final Partitioner partitioner;
+
+    public MemoryGraphPartition(ComputerContext context, int partition) {
+        super(context, partition);
+        this.graphFactory = context.graphFactory();
+        this.frequency = context.config().get(ComputerOptions.INPUT_EDGE_FREQ);
+        this.emptyProperties = this.graphFactory.createProperties();
+        this.idPointer = new ReusablePointer();
+
+        boolean asyncMessages = context.config().get(
+                                ComputerOptions.WORKER_ASYNC_LOCAL_MESSAGES);
+        if (asyncMessages && !this.computation.allowAsyncMessages()) {
+            LOG.warn("The computation '{}' doesn't allow async messages, " +
+                     "the option '{}' is ignored", this.computation.name(),
+                     ComputerOptions.WORKER_ASYNC_LOCAL_MESSAGES.name());
+            asyncMessages = false;
+        }
+        this.asyncMessages = asyncMessages;
+        if (asyncMessages) {
+            this.partitioner = context.config().createObject(
+                               ComputerOptions.WORKER_PARTITIONER);
+            this.partitioner.init(context.config());
+        } else {
+            this.partitioner = null;
+        }
+    }
+
+    @Override
+    protected PartitionStat input(PeekableIterator<KvEntry> vertices,
+                                  PeekableIterator<KvEntry> edges) {
+        PartitionBuilder builder = new PartitionBuilder();
+        try {
+            while (vertices.hasNext()) {
+                KvEntry entry = vertices.next();
+                builder.addVertex(entry.key(), entry.value());
+                builder.addEdges(entry.key(), edges);
+            }
+        } catch (IOException e) {
+            throw new ComputerException(
+                      "Failed to init MemoryGraphPartition '%s'",
+                      e, this.partition);
+        }
+        builder.build();
+        if (this.asyncMessages) {
+            this.localMessages = new CombinedMessageArray(this.context,
+                                                          this.vertexIndex);
+        }
+
+        LOG.info("Partition {} loaded {} vertices and {} edges into memory",
+                 this.partition, this.vertexCount, this.edgeCount);
+        return new PartitionStat(this.partition, this.vertexCount,
+                                 this.edgeCount, 0L);
+    }
+
+    public VertexIndex vertexIndex() {
+        return this.vertexIndex;
+    }
+
+    @Override
+    protected PartitionStat compute(WorkerContext context, int superstep) {
+        LOG.info("Partition {} begin compute in superstep {}",
+                 this.partition, superstep);
+        long activeVertexCount;
+        try {
+            if (superstep == 0) {
+                this.computation.beforeSuperstep(context);
+                activeVertexCount = this.compute0(context);
+                this.computation.afterSuperstep(context);
+            } else if (this.localMessages != null) {
+                AsyncMessageContext asyncContext = new AsyncMessageContext(
+                                                   context);
+                this.computation.beforeSuperstep(asyncContext);
+                activeVertexCount = this.compute1(asyncContext);
+                this.computation.afterSuperstep(asyncContext);
+            } else {
+                this.computation.beforeSuperstep(context);
+                activeVertexCount = this.compute1(context);
+                this.computation.afterSuperstep(context);
+            }
+        } catch (Exception e) {
+            throw new ComputerException(
+                      "Error occurred when compute at superstep %s",
+                      e, superstep);
+        }
+
+        if (superstep != 0) {
+            try {
+                this.messageInput.close();
+            } catch (Exception e) {
+                throw new ComputerException(
+                          "Error occurred when afterCompute at superstep %s",
+                          e, superstep);
+            }
+        }
+
+        LOG.info("Partition {} finish compute in superstep {}",
+                 this.partition, superstep);
+
+        return new PartitionStat(this.partition, this.vertexCount,
+                                 this.edgeCount,
+                                 this.vertexCount - activeVertexCount);
+    }
+
+    private long compute0(ComputationContext context) {
+        long activeVertexCount = 0L;
+        Vertex vertex = this.graphFactory.createVertex();
+        this.resetIdInput();
+        for (int i = 0; i < this.vertexCount; i++) {
+            this.readVertex(i, vertex);
+            vertex.reactivate();
+
+            this.computation.compute0(context, vertex);
+
+            if (vertex.active()) {
+                activeVertexCount++;
+            }
+            this.saveVertexStatusAndValue(i, vertex);
+        }
+        return activeVertexCount;
+    }
+
+    private long compute1(ComputationContext context) {
+        Value result = this.context.config().createObject(
+                       ComputerOptions.ALGORITHM_RESULT_CLASS);
+        long activeVertexCount = 0L;
+        Vertex vertex = this.graphFactory.createVertex();
+        CombinedMessageIterator combinedIter = this.messageArray == null ?
+                                               null :
+                                               new CombinedMessageIterator();
+        AsyncMessageContext asyncContext = null;
+        LocalMessageIterator localIter = null;
+        if (context instanceof AsyncMessageContext) {
+            asyncContext = (AsyncMessageContext) context;
+            localIter = new LocalMessageIterator();
+        }
+        this.resetIdInput();
+        for (int i = 0; i < this.vertexCount; i++) {
+            this.readVertex(i, vertex);
+            this.readVertexStatusAndValue(i, vertex, result);
+
+            Iterator<Value> messageIter;
+            if (combinedIter != null) {
+                messageIter = combinedIter.reset(i);
+            } else {
+                messageIter = this.messageInput.iterator(this.idPointer);
+            }
+            if (asyncContext != null) {
+                asyncContext.current(i);
+                messageIter = localIter.reset(i, messageIter);
+            }
+            if (messageIter.hasNext()) {
+                vertex.reactivate();
+            }
+
+            if (vertex.active()) {
+                this.computation.compute(context, vertex, messageIter);
+            }
+
+            // The vertex status may be changed after computation
+            if (vertex.active()) {
+                activeVertexCount++;
+            }
+            this.saveVertexStatusAndValue(i, vertex);
+            if (asyncContext != null && this.localMessages.hasMessage(i)) {
+                // The message sent to itself is received in next superstep
+                this.actives.set(i);
+            }
+        }
+        if (asyncContext != null) {
+            /*
+             * Count the vertices activated by the local messages to the
+             * vertices computed earlier, they aren't counted by the sender,
+             * the job must not stop before they are received.
+             */
+            activeVertexCount = this.actives.cardinality();
+        }
+        return activeVertexCount;
+    }
+
+    @Override
+    protected PartitionStat output() {
+        long start = System.currentTimeMillis();
+        ComputerOutput output = this.context.config().createObject(
+                                ComputerOptions.OUTPUT_CLASS);
+        output.init(this.context.config(), this.partition);
+
+        Value result = this.context.config().createObject(
+                       ComputerOptions.ALGORITHM_RESULT_CLASS);
+        Vertex vertex = this.graphFactory.createVertex();
+        long writtenCount = 0L;
+        this.resetIdInput();
+        for (int i = 0; i < this.vertexCount; i++) {
+            this.readVertex(i, vertex);
+            this.readVertexStatusAndValue(i, vertex, result);
+
+            if (output.filter(this.context.config(), this.computation, vertex)) {
+                output.write(vertex);
+                writtenCount++;
+            }
+        }
+        output.close();
+        this.release();
+
+        PartitionStat stat = new PartitionStat(this.partition,
+                                               this.vertexCount,
+                                               this.edgeCount, 0L);
+        stat.costTime(System.currentTimeMillis() - start);
+        this.writtenVertexCount = writtenCount;
+        LOG.info("Partition {} written {} of {} vertices, cost {}ms",
+                 this.partition, writtenCount, this.vertexCount,
+                 stat.costTime());
+        return stat;
+    }
+
+    @Override
+    protected void messages(PeekableIterator<KvEntry> messages) {
+        this.messageInput = new MessageInput<>(this.context, messages);
+        this.messageArray = null;
+    }
+
+    /**
+     * Use the combined messages of the array in next superstep, it must be
+     * called after {@link #messages(PeekableIterator)}.
+     */
+    public void messages(CombinedMessageArray array) {
+        this.messageArray = array;
+    }
+
+    /**
+     * Iterate the only one combined message of a vertex, reused for all
+     * vertices of the partition.
+     */
+    private class CombinedMessageIterator implements Iterator<Value> {
+
+        private final Value message;
+        private int index;
+        private boolean hasNext;
+
+        CombinedMessageIterator() {
+            this.message = context.config().createObject(
+                           ComputerOptions.ALGORITHM_MESSAGE_CLASS);
+        }
+
+        Iterator<Value> reset(int index) {
+            this.index = index;
+            this.hasNext = messageArray.hasMessage(index);
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.hasNext;
+        }
+
+        @Override
+        public Value next() {
+            if (!this.hasNext) {
+                throw new NoSuchElementException();
+            }
+            this.hasNext = false;
+            return messageArray.message(this.index, this.message);
+        }
+    }
+
+    /**
+     * Iterate the messages received from the sender, followed by the
+     * combined local message of the vertex. The local message is taken
+     * out of the array at reset, so the messages sent to the vertex during
+     * its computation are kept for next superstep.
+     */
+    private class LocalMessageIterator implements Iterator<Value> {
+
+        private final Value message;
+        private Iterator<Value> received;
+        private boolean hasLocal;
+
+        LocalMessageIterator() {
+            this.message = context.config().createObject(
+                           ComputerOptions.ALGORITHM_MESSAGE_CLASS);
+        }
+
+        Iterator<Value> reset(int index, Iterator<Value> received) {
+            this.received = received;
+            this.hasLocal = localMessages.hasMessage(index);
+            if (this.hasLocal) {
+                localMessages.message(index, this.message);
+                localMessages.remove(index);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.received.hasNext() || this.hasLocal;
+        }
+
+        @Override
+        public Value next() {
+            if (this.received.hasNext()) {
+                return this.received.next();
+            }
+            if (!this.hasLocal) {
+                throw new NoSuchElementException();
+            }
+            this.hasLocal = false;
+            return this.message;
+        }
+    }
+
+    /**
+     * Deliver the messages to the vertices of this partition to the local
+     * array, other messages are sent by the wrapped context.
+     */
+    private class AsyncMessageContext implements WorkerContext {
+
+        private final WorkerContext context;
+        private int current;
+
+        AsyncMessageContext(WorkerContext context) {
+            this.context = context;
+        }
+
+        void current(int index) {
+            this.current = index;
+        }
+
+        @Override
+        public void sendMessage(Id target, Value value) {
+            // Only look up the targets in this partition
+            int index = partitioner.partitionId(target) == partition ?
+                        vertexIndex.indexOf(target) : -1;
+            if (index < 0) {
+                this.context.sendMessage(target, value);
+                return;
+            }
+            this.combine(index, value);
+        }
+
+        @Override
+        public void sendMessageToAllEdges(Vertex vertex, Value value) {
+            if (!(vertex.edges() instanceof CsrEdges)) {
+                WorkerContext.super.sendMessageToAllEdges(vertex, value);
+                return;
+            }
+            // The local targets are resolved at input step
+            CsrEdges edges = (CsrEdges) vertex.edges();
+            for (int i = edges.start; i < edges.end; i++) {
+                int target = edgeTargets[i];
+                int index = localTargets[target];
+                if (index < 0) {
+                    this.context.sendMessage(targetIds[target], value);
+                } else {
+                    this.combine(index, value);
+                }
+            }
+        }
+
+        private void combine(int index, Value value) {
+            localMessages.combine(index, value);
+            if (index < this.current) {
+                actives.set(index);
+            }
+        }
+
+        @Override
+        public Config config() {
+            return this.context.config();
+        }
+
+        @Override
+        public long totalVertexCount() {
+            return this.context.totalVertexCount();
+        }
+
+        @Override
+        public long totalEdgeCount() {
+            return this.context.totalEdgeCount();
+        }
+
+        @Override
+        public int superstep() {
+            return this.context.superstep();
+        }
+
+        @Override
+        public <V extends Value> Combiner<V> combiner() {
+            return this.context.combiner();
+        }
+
+        @Override
+        public <V extends Value> Aggregator<V> createAggregator(String name) {
+            return this.context.createAggregator(name);
+        }
+
+        @Override
+        public <V extends Value> void aggregateValue(String name, V value) {
+            this.context.aggregateValue(name, value);
+        }
+
+        @Override
+        public <V extends Value> V aggregatedValue(String name) {
+            return this.context.aggregatedValue(name);
+        }
+    }
+
+    private void resetIdInput() {
+        this.idInput = this.vertexIndex.idInput();
+    }
+
+    private void readVertex(int index, Vertex vertex) {
+        try {
+            this.idPointer.read(this.idInput);
+        } catch (IOException e) {
+            throw new ComputerException("Failed to read id of vertex at " +
+                                        "index %s", e, index);
+        }
+        vertex.id(this.vertexIndex.id(index));
+        vertex.label(this.labels[index]);
+        Properties props = this.properties[index];
+        vertex.properties(props == null ? this.emptyProperties : props);
+        vertex.edges(new CsrEdges(this.edgeOffsets[index],
+                                  this.edgeOffsets[index + 1]));
+    }
+
+    private void readVertexStatusAndValue(int index, Vertex vertex,
+                                          Value result) {
+        if (this.actives.get(index)) {
+            vertex.reactivate();
+        } else {
+            vertex.inactivate();
+        }
+        vertex.value(this.values.read(index, result));
+    }
+
+    private void saveVertexStatusAndValue(int index, Vertex vertex) {
+        this.actives.set(index, vertex.active());
+        Value value = vertex.value();
+        E.checkNotNull(value, "Vertex's value can't be null");
+        this.values.write(index, value);
+    }
+
+    private void release() {
+        this.vertexIndex = null;
+        this.labels = null;
+        this.properties = null;
+        this.edgeOffsets = null;
+        this.edgeTargets = null;
+        this.targetIds = null;
+        this.localTargets = null;
+        this.edgeLabels = null;
+        this.edgeNames = null;
+        this.edgeProperties = null;
+        this.actives = null;
+        this.values = null;
+        this.localMessages = null;
+    }
+
+    private class CsrEdges implements Edges {
+
+        private final int start;
+        private final int end;
+
+        CsrEdges(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int size() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public void add(Edge edge) {
+            throw new ComputerException(
+                      "Not support adding edges during computing");
+        }
+
+        @Override
+        @Nonnull
+        public Iterator<Edge> iterator() {
+            return new Iterator<Edge>() {
+
+                // Reuse one edge for the edges of the iterator
+                private final Edge edge = graphFactory.createEdge();
+                private final Properties emptyProps = this.edge.properties();
+                private int cursor = CsrEdges.this.start;
+
+                @Override
+                public boolean hasNext() {
+                    return this.cursor < CsrEdges.this.end;
+                }
+
+                @Override
+                public Edge next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    fillEdge(this.cursor++, this.edge, this.emptyProps);
+                    return this.edge;
+                }
+            };
+        }
+    }
+
+    private void fillEdge(int index, Edge edge, Properties emptyProps) {
+        edge.targetId(this.targetIds[this.edgeTargets[index]]);
+        if (this.edgeLabels != null) {
+            edge.label(this.edgeLabels[index]);
+        }
+        if (this.edgeNames != null) {
+            edge.name(this.edgeNames[index]);
+        }
+        Properties props = this.edgeProperties[index];
+        edge.properties(props == null ? emptyProps : props);
+    }
+
+    /**
+     * Collect the sorted vertices and edges at input step, then build the
+     * arrays of the partition.
+     */
+    private class PartitionBuilder {
+
+        private final VertexIndex.Builder indexBuilder;
+        private final List<String> labels;
+        private final List<Properties> properties;
+
+        private int[] edgeOffsets;
+        private int[] edgeTargets;
+        private final List<String> edgeLabels;
+        private final List<String> edgeNames;
+        private final List<Properties> edgeProperties;
+        private int edgeSize;
+        private int vertexCount;
+
+        private final Map<Id, Integer> targetIndexes;
+        private final List<Id> targetIds;
+        // Share the label strings between vertices and edges
+        private final Map<String, String> labelDict;
+
+        PartitionBuilder() {
+            this.indexBuilder = new VertexIndex.Builder(partition);
+            this.vertexCount = 0;
+            this.labels = new ArrayList<>();
+            this.properties = new ArrayList<>();
+            this.edgeOffsets = new int[INIT_CAPACITY];
+            this.edgeTargets = new int[INIT_CAPACITY];
+            this.edgeLabels = new ArrayList<>();
+            this.edgeNames = new ArrayList<>();
+            this.edgeProperties = new ArrayList<>();
+            this.edgeSize = 0;
+            this.targetIndexes = new HashMap<>();
+            this.targetIds = new ArrayList<>();
+            this.labelDict = new HashMap<>();
+        }
+
+        void addVertex(Pointer key, Pointer value) throws IOException {
+            byte[] keyBytes = key.bytes();
+            Id id = StreamGraphInput.readId(
+                    IOFactory.createBytesInput(keyBytes));
+            this.indexBuilder.add(keyBytes, id);
+
+            BytesInput in = IOFactory.createBytesInput(value.bytes());
+            this.labels.add(this.label(
+                            graphFactory.schemaDictionary().readName(in)));
+            Properties props = graphFactory.createProperties();
+            props.read(in);
+            this.properties.add(props.size() == 0 ? null : props);
+
+            int index = this.vertexCount++;
+            this.edgeOffsets = ensureCapacity(this.edgeOffsets, index + 2);
+            this.edgeOffsets[index] = this.edgeSize;
+            this.edgeOffsets[index + 1] = this.edgeSize;
+        }
+
+        void addEdges(Pointer vid, PeekableIterator<KvEntry> edges)
+                      throws IOException {
+            while (edges.hasNext()) {
+                KvEntry entry = edges.peek();
+                int matched = vid.compareTo(entry.key());
+                if (matched < 0) {
+                    break;
+                }
+
+                edges.next();
+                if (matched > 0) {
+                    // Skip stale edges
+                    continue;
+                }
+                assert matched == 0;
+                EntryIterator subKvIt = EntriesUtil.subKvIterFromEntry(entry);
+                while (subKvIt.hasNext()) {
+                    KvEntry subEntry = subKvIt.next();
+                    this.addEdge(subEntry.key(), subEntry.value());
+                }
+            }
+            this.edgeOffsets[this.vertexCount] = this.edgeSize;
+        }
+
+        private void addEdge(Pointer key, Pointer value) throws IOException {
+            E.checkState(this.edgeSize < Integer.MAX_VALUE,
+                         "Too many edges in partition %s for MEMORY " +
+                         "partition mode", partition);
+            BytesInput in = IOFactory.createBytesInput(key.bytes());
+            if (frequency != EdgeFrequency.SINGLE) {
+                this.edgeLabels.add(this.label(
+                                    graphFactory.schemaDictionary()
+                                                .readName(in)));
+            }
+            if (frequency == EdgeFrequency.MULTIPLE) {
+                this.edgeNames.add(in.readUTF());
+            }
+            Id targetId = StreamGraphInput.readId(in);
+
+            if (computation.needEdgeProperties()) {
+                Properties props = graphFactory.createProperties();
+                props.read(IOFactory.createBytesInput(value.bytes()));
+                this.edgeProperties.add(props.size() == 0 ? null : props);
+            } else {
+                this.edgeProperties.add(null);
+            }
+
+            this.edgeTargets = ensureCapacity(this.edgeTargets,
+                                              this.edgeSize + 1);
+            this.edgeTargets[this.edgeSize++] = this.targetIndex(targetId);
+        }
+
+        private int targetIndex(Id targetId) {
+            Integer index = this.targetIndexes.get(targetId);
+            if (index == null) {
+                index = this.targetIds.size();
+                this.targetIds.add(targetId);
+                this.targetIndexes.put(targetId, index);
+            }
+            return index;
+        }
+
+        private int[] localTargets(VertexIndex index, Id[] targetIds) {
+            int[] localTargets = new int[targetIds.length];
+            for (int i = 0; i < targetIds.length; i++) {
+                Id targetId = targetIds[i];
+                localTargets[i] = partitioner.partitionId(targetId) ==
+                                  partition ? index.indexOf(targetId) : -1;
+            }
+            return localTargets;
+        }
+
+        private String label(String label) {
+            String existed = this.labelDict.putIfAbsent(label, label);
+            return existed == null ? label : existed;
+        }
+
+        void build() {
+            MemoryGraphPartition partition = MemoryGraphPartition.this;
+            int size = this.vertexCount;
+            partition.vertexIndex = this.indexBuilder.build();
+            partition.labels = this.labels.toArray(new String[0]);
+            partition.properties = this.properties.toArray(new Properties[0]);
+
+            partition.edgeOffsets = Arrays.copyOf(this.edgeOffsets, size + 1);
+            partition.edgeTargets = Arrays.copyOf(this.edgeTargets,
+                                                  this.edgeSize);
+            partition.targetIds = this.targetIds.toArray(new Id[0]);
+            if (partitioner != null) {
+                partition.localTargets = this.localTargets(
+                                         partition.vertexIndex,
+                                         partition.targetIds);
+            }
+            if (frequency != EdgeFrequency.SINGLE) {
+                partition.edgeLabels = this.edgeLabels.toArray(new String[0]);
+            }
+            if (frequency == EdgeFrequency.MULTIPLE) {
+                partition.edgeNames = this.edgeNames.toArray(new String[0]);
+            }
+            partition.edgeProperties = this.edgeProperties.toArray(
+                                       new Properties[0]);
+
+            Value result = context.config().createObject(
+                           ComputerOptions.ALGORITHM_RESULT_CLASS);
+            partition.actives = new BitSet(size);
+            partition.values = ValueColumn.create(result, size);
+
+            partition.vertexCount = size;
+            partition.edgeCount = this.edgeSize;
+        }
+    }
+
+    private static int[] ensureCapacity(int[] array, int size) {
+        if (size <= array.length) {
+            return array;
+        }
+        int newLength = Math.max(size, array.length + (array.length >> 1));
+        return Arrays.copyOf(array, newLength);
+    }
+}
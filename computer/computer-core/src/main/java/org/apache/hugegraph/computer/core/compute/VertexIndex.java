@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.io.BytesInput;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.store.entry.Pointer;
+import org.apache.hugegraph.computer.core.util.BytesUtil;
+
+/**
+ * The dense index of the vertices in a partition. The vertices are indexed
+ * from 0 by the order of their serialized ids, so a vertex can be located
+ * by its index in O(1), and by its id in O(log n) through binary search.
+ */
+public class VertexIndex {
+
+    private static final ThreadLocal<BytesOutput> ID_OUTPUT =
+                         ThreadLocal.withInitial(() -> IOFactory.createBytesOutput(
+                                                       Constants.SMALL_BUF_SIZE));
+
+    private final int partition;
+    // The serialized ids in order, each one is prefixed by fixed int length
+    private final byte[] idBytes;
+    private final int idBytesLength;
+    // The offset of the length prefix of each id in idBytes
+    private final int[] offsets;
+    private final Id[] ids;
+
+    private VertexIndex(int partition, byte[] idBytes, int idBytesLength,
+                        int[] offsets, Id[] ids) {
+        this.partition = partition;
+        this.idBytes = idBytes;
+        this.idBytesLength = idBytesLength;
+        this.offsets = offsets;
+        this.ids = ids;
+    }
+
+    public int partition() {
+        return this.partition;
+    }
+
+    public int size() {
+        return this.ids.length;
+    }
+
+    public Id id(int index) {
+        return this.ids[index];
+    }
+
+    /**
+     * Create an input over the serialized ids, each one can be read into a
+     * {@link org.apache.hugegraph.computer.core.compute.input.ReusablePointer}
+     * in index order.
+     */
+    public BytesInput idInput() {
+        return IOFactory.createBytesInput(this.idBytes, this.idBytesLength);
+    }
+
+    /**
+     * @return the index of the vertex whose serialized id is the key, or -1
+     * if the vertex doesn't exist in the partition.
+     */
+    public int indexOf(Pointer key) {
+        try {
+            // The bytes of pointer always start from 0
+            return this.indexOf(key.bytes(), 0, (int) key.length());
+        } catch (IOException e) {
+            throw new ComputerException("Failed to read the bytes of key", e);
+        }
+    }
+
+    public int indexOf(Id id) {
+        // Reuse the output of the thread to serialize the id
+        BytesOutput output = ID_OUTPUT.get();
+        try {
+            output.seek(0L);
+            id.write(output);
+        } catch (IOException e) {
+            throw new ComputerException("Failed to serialize id '%s'", e, id);
+        }
+        return this.indexOf(output.buffer(), 0, (int) output.position());
+    }
+
+    private int indexOf(byte[] key, int keyOffset, int keyLength) {
+        int low = 0;
+        int high = this.ids.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int offset = this.offsets[mid];
+            int length = this.offsets[mid + 1] - offset - Integer.BYTES;
+            int cmp = BytesUtil.compare(this.idBytes, offset + Integer.BYTES,
+                                        length, key, keyOffset, keyLength);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Add the vertices in the order of serialized ids, then build the index.
+     */
+    public static class Builder {
+
+        private static final int INIT_CAPACITY = 16;
+
+        private final int partition;
+        private final BytesOutput idOutput;
+        private final List<Id> ids;
+        private int[] offsets;
+
+        public Builder(int partition) {
+            this.partition = partition;
+            this.idOutput = IOFactory.createBytesOutput(
+                            Constants.BIG_BUF_SIZE);
+            this.ids = new ArrayList<>();
+            this.offsets = new int[INIT_CAPACITY];
+        }
+
+        public void add(byte[] keyBytes, Id id) throws IOException {
+            int size = this.ids.size();
+            if (size + 1 >= this.offsets.length) {
+                int length = this.offsets.length;
+                this.offsets = Arrays.copyOf(this.offsets,
+                                             length + (length >> 1));
+            }
+            this.offsets[size] = (int) this.idOutput.position();
+            this.idOutput.writeFixedInt(keyBytes.length);
+            this.idOutput.write(keyBytes);
+            this.ids.add(id);
+        }
+
+        public VertexIndex build() {
+            int size = this.ids.size();
+            int idBytesLength = (int) this.idOutput.position();
+            this.offsets[size] = idBytesLength;
+            return new VertexIndex(this.partition, this.idOutput.buffer(),
+                                   idBytesLength,
+                                   Arrays.copyOf(this.offsets, size + 1),
+                                   this.ids.toArray(new Id[0]));
+        }
+    }
+}
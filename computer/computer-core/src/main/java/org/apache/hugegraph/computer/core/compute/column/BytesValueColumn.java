@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute.column;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+
+/**
+ * Store the values in serialized form, it's used for the values which
+ * are not fixed width, the value object set to vertex may be shared or
+ * reused by the computation, so it can't be kept directly.
+ */
+public class BytesValueColumn implements ValueColumn {
+
+    private final byte[][] values;
+    private final BytesOutput output;
+
+    public BytesValueColumn(int size) {
+        this.values = new byte[size][];
+        this.output = IOFactory.createBytesOutput(Constants.SMALL_BUF_SIZE);
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public Value read(int index, Value reused) {
+        try {
+            reused.read(IOFactory.createBytesInput(this.values[index]));
+        } catch (IOException e) {
+            throw new ComputerException("Failed to read value at index %s",
+                                        e, index);
+        }
+        return reused;
+    }
+
+    @Override
+    public void write(int index, Value value) {
+        try {
+            this.output.seek(0L);
+            value.write(this.output);
+        } catch (IOException e) {
+            throw new ComputerException("Failed to write value '%s' at " +
+                                        "index %s", e, value, index);
+        }
+        this.values[index] = this.output.toByteArray();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute.column;
+
+import org.apache.hugegraph.computer.core.graph.value.FloatValue;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+
+public class FloatValueColumn implements ValueColumn {
+
+    private final float[] values;
+
+    public FloatValueColumn(int size) {
+        this.values = new float[size];
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public Value read(int index, Value reused) {
+        ((FloatValue) reused).value(this.values[index]);
+        return reused;
+    }
+
+    @Override
+    public void write(int index, Value value) {
+        this.values[index] = ((FloatValue) value).floatValue();
+    }
+}
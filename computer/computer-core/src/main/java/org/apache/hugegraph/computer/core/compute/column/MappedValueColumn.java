@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute.column;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.id.IdType;
+import org.apache.hugegraph.computer.core.graph.id.LongId;
+import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
+import org.apache.hugegraph.computer.core.graph.value.FloatValue;
+import org.apache.hugegraph.computer.core.graph.value.IntValue;
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.graph.value.ValueType;
+import org.apache.hugegraph.computer.core.util.MappedBufferUtil;
+import org.apache.hugegraph.util.E;
+
+/**
+ * The fixed width values of all vertices in a partition, stored in a memory
+ * mapped file and indexed by the vertex index in the partition. The values
+ * are updated in place, so a superstep doesn't write the values of all
+ * vertices to a new file, and they are kept in page cache instead of heap.
+ * The file is mapped as chunks, each chunk is a multiple of the value width,
+ * so a value never crosses two chunks. The id of LONG type is stored as the
+ * fixed 8 bytes long value, the ids of other types can't be stored, the
+ * caller should check it by {@link #writable(Value)}.
+ */
+public class MappedValueColumn implements ValueColumn, Closeable {
+
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1L;
+
+    private final File file;
+    private final ValueType type;
+    private final int width;
+    private final int size;
+    private final MappedByteBuffer[] buffers;
+    private boolean closed;
+
+    public MappedValueColumn(File file, Value value, int size)
+                             throws IOException {
+        E.checkArgument(supports(value),
+                        "The value class '%s' isn't fixed width",
+                        value.getClass().getName());
+        this.file = file;
+        this.type = value.valueType();
+        this.width = this.type == ValueType.ID ? Constants.LONG_LEN :
+                                                 this.type.byteSize();
+        this.size = size;
+
+        long fileLength = (long) size * this.width;
+        int count = (int) ((fileLength + CHUNK_MASK) >>> CHUNK_BITS);
+        this.buffers = new MappedByteBuffer[count];
+        try (FileChannel channel = FileChannel.open(
+                                   file.toPath(),
+                                   StandardOpenOption.CREATE,
+                                   StandardOpenOption.READ,
+                                   StandardOpenOption.WRITE)) {
+            for (int i = 0; i < count; i++) {
+                long start = (long) i << CHUNK_BITS;
+                long length = Math.min(CHUNK_MASK + 1L, fileLength - start);
+                this.buffers[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                                              start, length);
+                this.buffers[i].order(ByteOrder.nativeOrder());
+            }
+        }
+        this.closed = false;
+    }
+
+    /**
+     * Whether the values of the same class as the specified value can be
+     * stored in this column, the id values must be of LONG type.
+     */
+    public static boolean supports(Value value) {
+        Class<?> clazz = value.getClass();
+        return clazz == DoubleValue.class || clazz == FloatValue.class ||
+               clazz == LongValue.class || clazz == IntValue.class ||
+               clazz == BytesId.class || clazz == LongId.class;
+    }
+
+    /**
+     * Whether the value can be written into this column, an id value can't
+     * be written if it isn't of LONG type.
+     */
+    public boolean writable(Value value) {
+        return this.type != ValueType.ID ||
+               ((Id) value).idType() == IdType.LONG;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Value read(int index, Value reused) {
+        long offset = this.offset(index);
+        MappedByteBuffer buffer = this.buffers[(int) (offset >>> CHUNK_BITS)];
+        int position = (int) (offset & CHUNK_MASK);
+        switch (this.type) {
+            case DOUBLE:
+                ((DoubleValue) reused).value(buffer.getDouble(position));
+                break;
+            case FLOAT:
+                ((FloatValue) reused).value(buffer.getFloat(position));
+                break;
+            case LONG:
+                ((LongValue) reused).value(buffer.getLong(position));
+                break;
+            case INT:
+                ((IntValue) reused).value(buffer.getInt(position));
+                break;
+            case ID:
+                reused.assign(LongId.of(buffer.getLong(position)));
+                break;
+            default:
+                throw new ComputerException("Unexpected value type '%s'",
+                                            this.type);
+        }
+        return reused;
+    }
+
+    @Override
+    public void write(int index, Value value) {
+        long offset = this.offset(index);
+        MappedByteBuffer buffer = this.buffers[(int) (offset >>> CHUNK_BITS)];
+        int position = (int) (offset & CHUNK_MASK);
+        switch (this.type) {
+            case DOUBLE:
+                buffer.putDouble(position, ((DoubleValue) value).doubleValue());
+                break;
+            case FLOAT:
+                buffer.putFloat(position, ((FloatValue) value).floatValue());
+                break;
+            case LONG:
+                buffer.putLong(position, ((LongValue) value).longValue());
+                break;
+            case INT:
+                buffer.putInt(position, ((IntValue) value).intValue());
+                break;
+            case ID:
+                buffer.putLong(position, longId((Id) value));
+                break;
+            default:
+                throw new ComputerException("Unexpected value type '%s'",
+                                            this.type);
+        }
+    }
+
+    /**
+     * Unmap the file eagerly instead of waiting for GC, the column can't be
+     * accessed after closed. The file is left to the caller.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        for (MappedByteBuffer buffer : this.buffers) {
+            MappedBufferUtil.unmap(buffer);
+        }
+    }
+
+    public File file() {
+        return this.file;
+    }
+
+    private long offset(int index) {
+        assert !this.closed;
+        return (long) index * this.width;
+    }
+
+    private static long longId(Id id) {
+        if (id instanceof LongId) {
+            return ((LongId) id).longValue();
+        }
+        if (id.idType() != IdType.LONG) {
+            throw new ComputerException("Only the id of LONG type can be " +
+                                        "stored in mapped column, but got " +
+                                        "'%s'(%s)", id, id.idType());
+        }
+        return (long) id.asObject();
+    }
+}
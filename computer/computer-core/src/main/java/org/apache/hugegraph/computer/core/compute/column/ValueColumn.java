@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute.column;
+
+import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
+import org.apache.hugegraph.computer.core.graph.value.FloatValue;
+import org.apache.hugegraph.computer.core.graph.value.IntValue;
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+
+/**
+ * The values of all vertices in a partition, indexed by the vertex index
+ * in the partition.
+ */
+public interface ValueColumn {
+
+    int size();
+
+    /**
+     * Read the value at the index. The returned value may be the specified
+     * reused value, so the caller can't hold it after reading next index.
+     */
+    Value read(int index, Value reused);
+
+    void write(int index, Value value);
+
+    /**
+     * Create the column for the values of the same class as the specified
+     * value, the values of fixed width number class will be stored in a
+     * primitive array, others will be stored as serialized bytes.
+     */
+    static ValueColumn create(Value value, int size) {
+        Class<?> clazz = value.getClass();
+        if (clazz == DoubleValue.class) {
+            return new DoubleValueColumn(size);
+        } else if (clazz == FloatValue.class) {
+            return new FloatValueColumn(size);
+        } else if (clazz == LongValue.class) {
+            return new LongValueColumn(size);
+        } else if (clazz == IntValue.class) {
+            return new IntValueColumn(size);
+        } else {
+            return new BytesValueColumn(size);
+        }
+    }
+}
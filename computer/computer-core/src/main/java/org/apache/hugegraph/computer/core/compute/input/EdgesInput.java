@@ -20,20 +20,26 @@ package org.apache.hugegraph.computer.core.compute.input;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import javax.annotation.Nonnull;
 
 import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.common.SerialEnum;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.EdgeFrequency;
 import org.apache.hugegraph.computer.core.graph.GraphFactory;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.edge.Edge;
 import org.apache.hugegraph.computer.core.graph.edge.Edges;
-import org.apache.hugegraph.computer.core.graph.properties.Properties;
-import org.apache.hugegraph.computer.core.io.BufferedFileInput;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.graph.value.ValueType;
+import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
 import org.apache.hugegraph.computer.core.io.StreamGraphInput;
 
@@ -43,22 +49,40 @@ public class EdgesInput {
     private final ReusablePointer idPointer;
     private final ReusablePointer valuePointer;
     private final File edgeFile;
+    private final boolean mmap;
     private final GraphFactory graphFactory;
+    private final SchemaDictionary dictionary;
     private final int flushThreshold;
     private final EdgeFrequency frequency;
+    private final boolean withProperties;
+    private final BatchEdges batchEdges;
+    private final LazyEdges lazyEdges;
+    private final Map<ValueType, Value> skippedValues;
 
     public EdgesInput(ComputerContext context, File edgeFile) {
+        this(context, edgeFile, true);
+    }
+
+    public EdgesInput(ComputerContext context, File edgeFile,
+                      boolean withProperties) {
         this.graphFactory = context.graphFactory();
+        this.dictionary = this.graphFactory.schemaDictionary();
         this.idPointer = new ReusablePointer();
         this.valuePointer = new ReusablePointer();
         this.edgeFile = edgeFile;
+        this.mmap = context.config().get(
+                    ComputerOptions.WORKER_PARTITION_FILE_MMAP);
         this.flushThreshold = context.config().get(
                 ComputerOptions.INPUT_MAX_EDGES_IN_ONE_VERTEX);
         this.frequency = context.config().get(ComputerOptions.INPUT_EDGE_FREQ);
+        this.withProperties = withProperties;
+        this.batchEdges = new BatchEdges();
+        this.lazyEdges = new LazyEdges();
+        this.skippedValues = new EnumMap<>(ValueType.class);
     }
 
     public void init() throws IOException {
-        this.input = new BufferedFileInput(this.edgeFile);
+        this.input = IOFactory.createRawFileInput(this.edgeFile, this.mmap);
     }
 
     public void close() throws IOException {
@@ -102,6 +126,61 @@ public class EdgesInput {
         }
     }
 
+    /**
+     * Get the edges of the vertex whose degree and position of the first
+     * batch in edge file are known. The edge file is read only when the
+     * returned edges are iterated, and the returned edges are reused for
+     * next vertex.
+     */
+    public Edges edges(ReusablePointer vidPointer, int degree, long position) {
+        if (degree == 0) {
+            return EmptyEdges.instance();
+        }
+        this.lazyEdges.reset(vidPointer, degree, position);
+        return this.lazyEdges;
+    }
+
+    private class LazyEdges implements Edges {
+
+        private ReusablePointer vid;
+        private int size;
+        private long position;
+        private Edges edges;
+
+        private void reset(ReusablePointer vid, int size, long position) {
+            this.vid = vid;
+            this.size = size;
+            this.position = position;
+            this.edges = null;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public void add(Edge edge) {
+            throw new ComputerException(
+                      "Not support adding edges during computing");
+        }
+
+        @Override
+        @Nonnull
+        public Iterator<Edge> iterator() {
+            if (this.edges == null) {
+                try {
+                    EdgesInput.this.input.seek(this.position);
+                } catch (IOException e) {
+                    throw new ComputerException("Can't seek to %s",
+                                                e, this.position);
+                }
+                this.edges = EdgesInput.this.edges(this.vid);
+            }
+            return this.edges.iterator();
+        }
+    }
+
     private class SuperEdges implements Edges {
 
         private final ReusablePointer vid;
@@ -205,59 +284,128 @@ public class EdgesInput {
         }
     }
 
-    // TODO: use one reused Edges instance to read batches for each vertex.
     private Edges readEdges(RandomAccessInput in) {
         try {
             int count = in.readFixedInt();
-            Edges edges = this.graphFactory.createEdges(count);
-            if (this.frequency == EdgeFrequency.SINGLE) {
-                for (int i = 0; i < count; i++) {
-                    Edge edge = this.graphFactory.createEdge();
-                    // Only use targetId as subKey, use props as subValue
-                    edge.targetId(StreamGraphInput.readId(in));
-                    // Read subValue
-                    Properties props = this.graphFactory.createProperties();
-                    props.read(in);
-                    edge.properties(props);
-                    edges.add(edge);
-                }
-            } else if (this.frequency == EdgeFrequency.SINGLE_PER_LABEL) {
-                for (int i = 0; i < count; i++) {
-                    Edge edge = this.graphFactory.createEdge();
-                    // Use label + targetId as subKey, use props as subValue
-                    edge.label(StreamGraphInput.readLabel(in));
-                    edge.targetId(StreamGraphInput.readId(in));
-                    // Read subValue
-                    Properties props = this.graphFactory.createProperties();
-                    props.read(in);
-                    edge.properties(props);
-                    edges.add(edge);
-                }
-            } else {
-                assert this.frequency == EdgeFrequency.MULTIPLE;
-                for (int i = 0; i < count; i++) {
-                    Edge edge = this.graphFactory.createEdge();
-                    /*
-                     * Use label + sortValues + targetId as subKey,
-                     * use properties as subValue
-                     */
-                    edge.label(StreamGraphInput.readLabel(in));
-                    edge.name(StreamGraphInput.readLabel(in));
-                    edge.targetId(StreamGraphInput.readId(in));
-                    // Read subValue
-                    Properties props = this.graphFactory.createProperties();
-                    props.read(in);
-                    edge.properties(props);
-                    edges.add(edge);
-                }
-            }
-            return edges;
+            this.batchEdges.reset(in, in.position(), count);
+            return this.batchEdges;
         } catch (IOException e) {
             throw new ComputerException("Failed to read edges from input '%s'",
                                         e, this.edgeFile.getAbsoluteFile());
         }
     }
 
+    private void readEdge(RandomAccessInput in, Edge edge) throws IOException {
+        /*
+         * Use targetId as subKey if frequency is SINGLE, label + targetId
+         * if SINGLE_PER_LABEL, label + sortValues + targetId if MULTIPLE,
+         * use properties as subValue
+         */
+        if (this.frequency != EdgeFrequency.SINGLE) {
+            edge.label(this.dictionary.readName(in));
+        }
+        if (this.frequency == EdgeFrequency.MULTIPLE) {
+            edge.name(in.readUTF());
+        }
+        edge.targetId(StreamGraphInput.readId(in));
+        // Read subValue
+        if (this.withProperties) {
+            edge.properties().read(in);
+        } else {
+            this.skipProperties(in);
+        }
+    }
+
+    private void skipProperties(RandomAccessInput in) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            // Skip the key, the encoding of the length depends on the input
+            this.dictionary.readName(in);
+            ValueType valueType = SerialEnum.fromCode(ValueType.class,
+                                                      in.readByte());
+            // The length of value is unknown, read it to a reused value
+            Value value = this.skippedValues.computeIfAbsent(
+                          valueType, this.graphFactory::createValue);
+            value.read(in);
+        }
+    }
+
+    /**
+     * The edges of a batch, it's reused for every batch read. The edges are
+     * decoded from the batch when iterating, and the iterator reuses one
+     * edge instance, so the edge can't be held after moving to next edge.
+     */
+    private class BatchEdges implements Edges {
+
+        private RandomAccessInput input;
+        private long position;
+        private int size;
+
+        private void reset(RandomAccessInput input, long position, int size) {
+            this.input = input;
+            this.position = position;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public void add(Edge edge) {
+            throw new ComputerException(
+                      "Not support adding edges during computing");
+        }
+
+        @Override
+        @Nonnull
+        public Iterator<Edge> iterator() {
+            return new BatchEdgesIterator(this.input, this.position,
+                                          this.size);
+        }
+    }
+
+    private class BatchEdgesIterator implements Iterator<Edge> {
+
+        private final RandomAccessInput input;
+        private final Edge edge;
+        private long position;
+        private int remaining;
+
+        BatchEdgesIterator(RandomAccessInput input, long position,
+                           int remaining) {
+            this.input = input;
+            this.edge = graphFactory.createEdge();
+            this.position = position;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public Edge next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                // The input may be shared by other iterators of the batch
+                this.input.seek(this.position);
+                readEdge(this.input, this.edge);
+                this.position = this.input.position();
+            } catch (IOException e) {
+                throw new ComputerException(
+                          "Failed to read edge from input '%s'",
+                          e, edgeFile.getAbsoluteFile());
+            }
+            this.remaining--;
+            return this.edge;
+        }
+    }
+
     public static class EmptyEdges implements Edges {
 
         private static final EmptyEdges INSTANCE = new EmptyEdges();
@@ -69,6 +69,18 @@ public class MessageInput<T extends Value> {
         return new MessageIterator(vidPointer);
     }
 
+    /**
+     * @return the key of next message, or null if no more messages. The
+     * messages with this key are skipped by {@link #iterator} if it's
+     * called with a greater vertex id.
+     */
+    public Pointer peekKey() {
+        if (!this.messages.hasNext()) {
+            return null;
+        }
+        return this.messages.peek().key();
+    }
+
     public void close() throws Exception {
         this.messages.close();
     }
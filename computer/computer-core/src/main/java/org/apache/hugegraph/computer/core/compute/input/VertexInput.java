@@ -22,9 +22,11 @@ import java.io.IOException;
 
 import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.properties.Properties;
 import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
-import org.apache.hugegraph.computer.core.io.BufferedFileInput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
 import org.apache.hugegraph.computer.core.io.StreamGraphInput;
 
@@ -37,23 +39,28 @@ public class VertexInput {
     private final ReusablePointer idPointer;
     private final ReusablePointer valuePointer;
     private final Properties properties;
+    private final SchemaDictionary dictionary;
     private final File vertexFile;
+    private final boolean mmap;
 
     public VertexInput(ComputerContext context,
                        File vertexFile,
                        long vertexCount) {
         this.vertexFile = vertexFile;
+        this.mmap = context.config().get(
+                    ComputerOptions.WORKER_PARTITION_FILE_MMAP);
         this.vertexCount = vertexCount;
         this.readCount = 0L;
         this.vertex = context.graphFactory().createVertex();
         this.idPointer = new ReusablePointer();
         this.valuePointer = new ReusablePointer();
         this.properties = context.graphFactory().createProperties();
+        this.dictionary = context.graphFactory().schemaDictionary();
         this.readCount = 0;
     }
 
     public void init() throws IOException {
-        this.input = new BufferedFileInput(this.vertexFile);
+        this.input = IOFactory.createRawFileInput(this.vertexFile, this.mmap);
     }
 
     public void close() throws IOException {
@@ -66,11 +73,49 @@ public class VertexInput {
 
     public Vertex next() {
         this.readCount++;
+        return this.readVertex();
+    }
+
+    /**
+     * Read the vertex at the specified position of the vertex file, it's
+     * used to visit the vertices out of order.
+     */
+    public Vertex read(long position) {
+        this.seek(position);
+        return this.readVertex();
+    }
+
+    /**
+     * Read only the id of the vertex at the specified position of the
+     * vertex file, the returned pointer is reused by the next read.
+     */
+    public ReusablePointer readId(long position) {
+        this.seek(position);
+        try {
+            this.idPointer.read(this.input);
+        } catch (IOException e) {
+            throw new ComputerException("Can't read vertex id from input '%s'",
+                                        e, this.vertexFile.getAbsolutePath());
+        }
+        return this.idPointer;
+    }
+
+    private void seek(long position) {
+        try {
+            this.input.seek(position);
+        } catch (IOException e) {
+            throw new ComputerException("Can't seek to %s of input '%s'",
+                                        e, position,
+                                        this.vertexFile.getAbsolutePath());
+        }
+    }
+
+    private Vertex readVertex() {
         try {
             this.idPointer.read(this.input);
             this.valuePointer.read(this.input);
             RandomAccessInput valueInput = this.valuePointer.input();
-            this.vertex.label(StreamGraphInput.readLabel(valueInput));
+            this.vertex.label(this.dictionary.readName(valueInput));
             this.properties.read(valueInput);
             this.vertex.id(StreamGraphInput.readId(this.idPointer.input()));
             this.vertex.properties(this.properties);
@@ -34,6 +34,7 @@ import org.apache.hugegraph.computer.core.graph.edge.Edge;
 import org.apache.hugegraph.computer.core.graph.edge.Edges;
 import org.apache.hugegraph.computer.core.graph.id.BytesId;
 import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.id.LongId;
 import org.apache.hugegraph.computer.core.graph.properties.DefaultProperties;
 import org.apache.hugegraph.computer.core.graph.properties.Properties;
 import org.apache.hugegraph.computer.core.graph.value.BooleanValue;
@@ -57,6 +58,12 @@ public final class BuiltinGraphFactory implements GraphFactory {
 
     private static final int AVERAGE_DEGREE = 10;
 
+    private final SchemaDictionary schemaDictionary;
+
+    public BuiltinGraphFactory() {
+        this.schemaDictionary = new SchemaDictionary();
+    }
+
     @Override
     public Id createId() {
         return new BytesId();
@@ -64,7 +71,7 @@ public final class BuiltinGraphFactory implements GraphFactory {
 
     @Override
     public Id createId(long id) {
-        return BytesId.of(id);
+        return LongId.of(id);
     }
 
     @Override
@@ -196,4 +203,9 @@ public final class BuiltinGraphFactory implements GraphFactory {
                                             type.name());
         }
     }
+
+    @Override
+    public SchemaDictionary schemaDictionary() {
+        return this.schemaDictionary;
+    }
 }
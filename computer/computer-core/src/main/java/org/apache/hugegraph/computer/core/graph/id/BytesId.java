@@ -60,15 +60,12 @@ public class BytesId implements Id {
         this.length = (int) length;
     }
 
+    /**
+     * The long value is encoded as fixed width sortable bytes, the same as
+     * the serialized {@link LongId}.
+     */
     public static BytesId of(long value) {
-        BytesOutput output = IOFactory.createBytesOutput(9);
-        try {
-            output.writeLong(value);
-        } catch (IOException e) {
-            throw new ComputerException("Failed to write Long object to " +
-                                        "BytesId");
-        }
-        return new BytesId(IdType.LONG, output.buffer(), output.position());
+        return new BytesId(IdType.LONG, LongId.encode(value));
     }
 
     public static BytesId of(String value) {
@@ -103,6 +100,12 @@ public class BytesId implements Id {
 
     @Override
     public void assign(Value other) {
+        if (other instanceof LongId) {
+            this.idType = IdType.LONG;
+            this.bytes = LongId.encode(((LongId) other).longValue());
+            this.length = this.bytes.length;
+            return;
+        }
         this.checkAssign(other);
         this.idType = ((BytesId) other).idType;
         this.bytes = ((BytesId) other).bytes;
@@ -129,18 +132,15 @@ public class BytesId implements Id {
     public Object asObject() {
         switch (this.idType) {
             case LONG:
-                BytesInput input = IOFactory.createBytesInput(this.bytes, 0,
-                                                              this.length);
-                try {
-                    return input.readLong();
-                } catch (IOException e) {
-                    throw new ComputerException("Failed to read BytesId to " +
-                                                "Long object");
-                }
+                E.checkState(this.length == Constants.LONG_LEN,
+                             "The length of LONG id must be %s, but got %s",
+                             Constants.LONG_LEN, this.length);
+                return LongId.decode(this.bytes);
             case UTF8:
                 return CoderUtil.decode(this.bytes, 0, this.length);
             case UUID:
-                input = IOFactory.createBytesInput(this.bytes, 0, this.length);
+                BytesInput input = IOFactory.createBytesInput(this.bytes, 0,
+                                                              this.length);
                 try {
                     long high = input.readLong();
                     long low = input.readLong();
@@ -182,6 +182,9 @@ public class BytesId implements Id {
         if (typeDiff != 0) {
             return typeDiff;
         }
+        if (obj instanceof LongId) {
+            return -obj.compareTo(this);
+        }
         BytesId other = (BytesId) obj;
         return BytesUtil.compare(this.bytes, this.length,
                                  other.bytes, other.length);
@@ -189,6 +192,11 @@ public class BytesId implements Id {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj instanceof LongId) {
+            return this.idType == IdType.LONG &&
+                   this.length == Constants.LONG_LEN &&
+                   LongId.decode(this.bytes) == ((LongId) obj).longValue();
+        }
         if (!(obj instanceof BytesId)) {
             return false;
         }
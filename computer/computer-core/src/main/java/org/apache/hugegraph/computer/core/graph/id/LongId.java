@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.graph.id;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.common.SerialEnum;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.graph.value.ValueType;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
+import org.apache.hugegraph.util.E;
+
+/**
+ * The id of LONG type which keeps the primitive long value, so comparing,
+ * hashing and writing it don't need to materialize the bytes. It's
+ * serialized in the same format as the {@link BytesId} of LONG type, the
+ * value is encoded as fixed 8 bytes in big-endian with the sign bit flipped,
+ * so the serialized ids are sorted in the numeric order of the values.
+ */
+public class LongId implements Id {
+
+    private long value;
+
+    public LongId() {
+        this(0L);
+    }
+
+    public LongId(long value) {
+        this.value = value;
+    }
+
+    public static LongId of(long value) {
+        return new LongId(value);
+    }
+
+    public long longValue() {
+        return this.value;
+    }
+
+    @Override
+    public ValueType valueType() {
+        return ValueType.ID;
+    }
+
+    @Override
+    public IdType idType() {
+        return IdType.LONG;
+    }
+
+    @Override
+    public void assign(Value other) {
+        E.checkArgument(other instanceof Id &&
+                        ((Id) other).idType() == IdType.LONG,
+                        "Can't assign '%s'(%s) to LongId",
+                        other, other == null ? null :
+                               other.getClass().getSimpleName());
+        if (other instanceof LongId) {
+            this.value = ((LongId) other).value;
+        } else {
+            this.value = (Long) ((Id) other).asObject();
+        }
+    }
+
+    @Override
+    public Id copy() {
+        return new LongId(this.value);
+    }
+
+    @Override
+    public int length() {
+        return Constants.LONG_LEN;
+    }
+
+    @Override
+    public Object value() {
+        return this.value;
+    }
+
+    @Override
+    public Object asObject() {
+        return this.value;
+    }
+
+    @Override
+    public void read(RandomAccessInput in) throws IOException {
+        IdType type = SerialEnum.fromCode(IdType.class, in.readByte());
+        E.checkArgument(type == IdType.LONG,
+                        "Can't read id of type %s to LongId", type);
+        int length = in.readInt();
+        E.checkArgument(length == Constants.LONG_LEN,
+                        "The length of LONG id must be %s, but got %s",
+                        Constants.LONG_LEN, length);
+        long sortable = 0L;
+        for (int i = 0; i < Constants.LONG_LEN; i++) {
+            sortable = (sortable << 8) | (in.readByte() & 0xFFL);
+        }
+        this.value = sortable ^ Long.MIN_VALUE;
+    }
+
+    @Override
+    public void write(RandomAccessOutput out) throws IOException {
+        out.writeByte(IdType.LONG.code());
+        out.writeInt(Constants.LONG_LEN);
+        long sortable = this.value ^ Long.MIN_VALUE;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.writeByte((int) (sortable >>> shift));
+        }
+    }
+
+    @Override
+    public int compareTo(Value obj) {
+        int typeDiff = this.valueType().compareTo(obj.valueType());
+        if (typeDiff != 0) {
+            return typeDiff;
+        }
+        Id other = (Id) obj;
+        typeDiff = IdType.LONG.code() - other.idType().code();
+        if (typeDiff != 0) {
+            return typeDiff;
+        }
+        if (other instanceof LongId) {
+            return Long.compare(this.value, ((LongId) other).value);
+        }
+        return Long.compare(this.value, (Long) other.asObject());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LongId) {
+            return this.value == ((LongId) obj).value;
+        }
+        if (obj instanceof BytesId) {
+            return obj.equals(this);
+        }
+        return false;
+    }
+
+    /**
+     * The same as the hash code of {@link BytesId} of the same value.
+     */
+    @Override
+    public int hashCode() {
+        return hashCode(this.value);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.value);
+    }
+
+    static byte[] encode(long value) {
+        byte[] bytes = new byte[Constants.LONG_LEN];
+        long sortable = value ^ Long.MIN_VALUE;
+        for (int i = Constants.LONG_LEN - 1; i >= 0; i--) {
+            bytes[i] = (byte) sortable;
+            sortable >>>= 8;
+        }
+        return bytes;
+    }
+
+    static long decode(byte[] bytes) {
+        long sortable = 0L;
+        for (int i = 0; i < Constants.LONG_LEN; i++) {
+            sortable = (sortable << 8) | (bytes[i] & 0xFFL);
+        }
+        return sortable ^ Long.MIN_VALUE;
+    }
+
+    static int hashCode(long value) {
+        // Keep consistent with BytesUtil.hashBytes() of the encoded bytes
+        long sortable = value ^ Long.MIN_VALUE;
+        int hash = 1;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            hash = 31 * hash + (byte) (sortable >>> shift);
+        }
+        return hash;
+    }
+}
@@ -40,6 +40,9 @@ public class PartitionStat implements Readable, Writable {
     private long messageRecvCount;
     private long messageRecvBytes;
 
+    // The time(in ms) spent on the partition in current step
+    private long costTime;
+
     public PartitionStat() {
         // For reflexion
         this(0, 0L, 0L, 0L);
@@ -55,6 +58,7 @@ public class PartitionStat implements Readable, Writable {
         this.messageSendBytes = 0L;
         this.messageRecvCount = 0L;
         this.messageRecvBytes = 0L;
+        this.costTime = 0L;
     }
 
     public int partitionId() {
@@ -89,6 +93,14 @@ public class PartitionStat implements Readable, Writable {
         return this.messageRecvBytes;
     }
 
+    public long costTime() {
+        return this.costTime;
+    }
+
+    public void costTime(long costTime) {
+        this.costTime = costTime;
+    }
+
     @Override
     public void read(RandomAccessInput in) throws IOException {
         this.partitionId = in.readInt();
@@ -99,6 +111,7 @@ public class PartitionStat implements Readable, Writable {
         this.messageSendBytes = in.readLong();
         this.messageRecvCount = in.readLong();
         this.messageRecvBytes = in.readLong();
+        this.costTime = in.readLong();
     }
 
     @Override
@@ -111,6 +124,7 @@ public class PartitionStat implements Readable, Writable {
         out.writeLong(this.messageSendBytes);
         out.writeLong(this.messageRecvCount);
         out.writeLong(this.messageRecvBytes);
+        out.writeLong(this.costTime);
     }
 
     public void mergeSendMessageStat(MessageStat messageStat) {
@@ -136,7 +150,8 @@ public class PartitionStat implements Readable, Writable {
                this.messageSendCount == other.messageSendCount &&
                this.messageSendBytes == other.messageSendBytes &&
                this.messageRecvCount == other.messageRecvCount &&
-               this.messageRecvBytes == other.messageRecvBytes;
+               this.messageRecvBytes == other.messageRecvBytes &&
+               this.costTime == other.costTime;
     }
 
     @Override
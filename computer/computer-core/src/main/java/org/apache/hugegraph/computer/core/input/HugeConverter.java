@@ -26,6 +26,7 @@ import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.graph.GraphFactory;
 import org.apache.hugegraph.computer.core.graph.id.BytesId;
 import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.id.LongId;
 import org.apache.hugegraph.computer.core.graph.properties.Properties;
 import org.apache.hugegraph.computer.core.graph.value.BooleanValue;
 import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
@@ -46,7 +47,7 @@ public final class HugeConverter {
     public static Id convertId(Object rawId) {
         E.checkArgumentNotNull(rawId, "The rawId can't be null");
         if (rawId instanceof Number) {
-            return BytesId.of(((Number) rawId).longValue());
+            return LongId.of(((Number) rawId).longValue());
         } else if (rawId instanceof String) {
             return BytesId.of((String) rawId);
         } else if (rawId instanceof UUID) {
@@ -17,7 +17,9 @@
 
 package org.apache.hugegraph.computer.core.input;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 public interface InputSplitFetcher {
 
@@ -37,4 +39,14 @@ public interface InputSplitFetcher {
      * @return all edge input splits
      */
     List<InputSplit> fetchEdgeInputSplits();
+
+    /**
+     * Fetch the names of vertex labels, edge labels and property keys of
+     * the input just once, they are used to build the schema dictionary,
+     * the names are written inline if it's empty
+     * @return the names known by the input source
+     */
+    default Set<String> fetchSchemaNames() {
+        return Collections.emptySet();
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.hugegraph.computer.core.input;
 
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.manager.Manager;
 import org.apache.hugegraph.util.E;
 import org.apache.hugegraph.util.Log;
@@ -31,6 +32,7 @@ public class MasterInputManager implements Manager {
 
     private InputSplitFetcher fetcher;
     private MasterInputHandler handler;
+    private SchemaDictionary schemaDictionary;
 
     @Override
     public String name() {
@@ -45,6 +47,10 @@ public class MasterInputManager implements Manager {
         int edgeSplitSize = this.handler.createEdgeInputSplits();
         LOG.info("Master create {} vertex splits, {} edge splits",
                  vertexSplitSize, edgeSplitSize);
+        this.schemaDictionary = new SchemaDictionary(
+                                this.fetcher.fetchSchemaNames());
+        LOG.info("Master create schema dictionary with {} names",
+                 this.schemaDictionary.size());
     }
 
     @Override
@@ -59,4 +65,9 @@ public class MasterInputManager implements Manager {
         E.checkNotNull(this.handler, "handler");
         return this.handler;
     }
+
+    public SchemaDictionary schemaDictionary() {
+        E.checkNotNull(this.schemaDictionary, "schemaDictionary");
+        return this.schemaDictionary;
+    }
 }
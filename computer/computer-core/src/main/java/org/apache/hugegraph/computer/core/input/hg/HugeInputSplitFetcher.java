@@ -18,7 +18,9 @@
 package org.apache.hugegraph.computer.core.input.hg;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
@@ -26,7 +28,11 @@ import org.apache.hugegraph.computer.core.input.InputSplit;
 import org.apache.hugegraph.computer.core.input.InputSplitFetcher;
 import org.apache.hugegraph.driver.HugeClient;
 import org.apache.hugegraph.driver.HugeClientBuilder;
+import org.apache.hugegraph.driver.SchemaManager;
 import org.apache.hugegraph.structure.graph.Shard;
+import org.apache.hugegraph.structure.schema.EdgeLabel;
+import org.apache.hugegraph.structure.schema.PropertyKey;
+import org.apache.hugegraph.structure.schema.VertexLabel;
 import org.apache.hugegraph.util.E;
 
 public class HugeInputSplitFetcher implements InputSplitFetcher {
@@ -80,4 +86,20 @@ public class HugeInputSplitFetcher implements InputSplitFetcher {
         }
         return splits;
     }
+
+    @Override
+    public Set<String> fetchSchemaNames() {
+        SchemaManager schema = this.client.schema();
+        Set<String> names = new HashSet<>();
+        for (VertexLabel label : schema.getVertexLabels()) {
+            names.add(label.name());
+        }
+        for (EdgeLabel label : schema.getEdgeLabels()) {
+            names.add(label.name());
+        }
+        for (PropertyKey key : schema.getPropertyKeys()) {
+            names.add(key.name());
+        }
+        return names;
+    }
 }
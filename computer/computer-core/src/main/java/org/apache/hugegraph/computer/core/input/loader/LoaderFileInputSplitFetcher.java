@@ -20,7 +20,9 @@ package org.apache.hugegraph.computer.core.input.loader;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.FileUtils;
@@ -37,6 +39,7 @@ import org.apache.hugegraph.computer.core.input.InputSplit;
 import org.apache.hugegraph.computer.core.input.InputSplitFetcher;
 import org.apache.hugegraph.loader.constant.ElemType;
 import org.apache.hugegraph.loader.exception.LoadException;
+import org.apache.hugegraph.loader.mapping.ElementMapping;
 import org.apache.hugegraph.loader.mapping.InputStruct;
 import org.apache.hugegraph.loader.mapping.LoadMapping;
 import org.apache.hugegraph.loader.source.SourceType;
@@ -97,6 +100,35 @@ public class LoaderFileInputSplitFetcher implements InputSplitFetcher {
         return splits;
     }
 
+    @Override
+    public Set<String> fetchSchemaNames() {
+        Set<String> names = new HashSet<>();
+        for (InputStruct struct : this.vertexInputStructs) {
+            collectSchemaNames(struct, struct.vertices(), names);
+        }
+        for (InputStruct struct : this.edgeInputStructs) {
+            collectSchemaNames(struct, struct.edges(), names);
+        }
+        return names;
+    }
+
+    private static void collectSchemaNames(
+                        InputStruct struct,
+                        List<? extends ElementMapping> mappings,
+                        Set<String> names) {
+        // The columns are property keys if they are not mapped
+        String[] header = struct.input().header();
+        for (ElementMapping mapping : mappings) {
+            names.add(mapping.label());
+            names.addAll(mapping.mappingFields().values());
+            if (header != null) {
+                for (String column : header) {
+                    names.add(mapping.mappingField(column));
+                }
+            }
+        }
+    }
+
     private void splitStructs(List<InputStruct> structs) {
         for (InputStruct struct : structs) {
             InputStruct result = struct.extractVertexStruct();
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.io;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.util.E;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * This is used to buffer the content and output the buffer to a netty
+ * ByteBuf when the buffer is full, the ByteBuf may be allocated from the
+ * off-heap memory. The ByteBuf is extended if it's not enough, and it is
+ * not released when this output is closed.
+ * This class is not thread safe.
+ */
+public class BufferedByteBufOutput extends AbstractBufferedFileOutput {
+
+    private final int bufferCapacity;
+    private final ByteBuf buf;
+
+    public BufferedByteBufOutput(ByteBuf buf) {
+        this(buf, Constants.BIG_BUF_SIZE);
+    }
+
+    public BufferedByteBufOutput(ByteBuf buf, int bufferCapacity) {
+        super(bufferCapacity);
+        E.checkArgument(bufferCapacity >= 8,
+                        "The parameter bufferSize must be >= 8");
+        this.bufferCapacity = bufferCapacity;
+        this.buf = buf;
+        this.fileOffset = buf.writerIndex();
+    }
+
+    @Override
+    public void write(byte[] b) throws IOException {
+        this.write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len <= this.bufferAvailable()) {
+            super.write(b, off, len);
+            return;
+        }
+        this.flushBuffer();
+        if (len <= this.bufferCapacity) {
+            super.write(b, off, len);
+        } else {
+            // The len > buffer size, write out directly
+            this.writeToBuf(b, off, len);
+            this.fileOffset += len;
+        }
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+        if (this.fileOffset <= position && position <= this.position()) {
+            super.seek(position - this.fileOffset);
+            return;
+        }
+        this.flushBuffer();
+        this.fileOffset = position;
+    }
+
+    @Override
+    protected void flushBuffer() throws IOException {
+        int bufferSize = super.bufferSize();
+        if (bufferSize == 0) {
+            return;
+        }
+        this.writeToBuf(this.buffer(), 0, bufferSize);
+        this.fileOffset += bufferSize;
+        super.seek(0);
+    }
+
+    private void writeToBuf(byte[] b, int off, int len) {
+        int index = (int) this.fileOffset;
+        int end = index + len;
+        int writerIndex = this.buf.writerIndex();
+        if (end > writerIndex) {
+            this.buf.ensureWritable(end - writerIndex);
+        }
+        this.buf.setBytes(index, b, off, len);
+        if (end > writerIndex) {
+            this.buf.writerIndex(end);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.flushBuffer();
+    }
+}
@@ -27,6 +27,8 @@ import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.store.entry.EntryOutput;
 import org.apache.hugegraph.computer.core.store.entry.EntryOutputImpl;
 
+import io.netty.buffer.ByteBuf;
+
 public final class IOFactory {
 
     public static BytesOutput createBytesOutput(int size) {
@@ -51,11 +53,31 @@ public final class IOFactory {
         return new OptimizedBytesOutput(new BufferedFileOutput(file));
     }
 
+    /**
+     * Create the output that writes to the ByteBuf, the ByteBuf is not
+     * released when the output is closed.
+     */
+    public static RandomAccessOutput createByteBufOutput(ByteBuf buf) {
+        return new OptimizedBytesOutput(new BufferedByteBufOutput(buf));
+    }
+
     public static RandomAccessInput createFileInput(File file)
                                     throws IOException {
         return new OptimizedBytesInput(new BufferedFileInput(file));
     }
 
+    /**
+     * Create the input of raw file without variable length encoding, the
+     * file is read through memory mapped buffers if mmap is true.
+     */
+    public static RandomAccessInput createRawFileInput(File file, boolean mmap)
+                                    throws IOException {
+        if (mmap) {
+            return new MappedFileInput(file);
+        }
+        return new BufferedFileInput(file);
+    }
+
     public static RandomAccessOutput createStreamOutput(OutputStream stream)
                                      throws IOException {
         return new OptimizedBytesOutput(new BufferedStreamOutput(stream));
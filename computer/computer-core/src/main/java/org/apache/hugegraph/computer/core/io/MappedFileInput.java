@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.util.BytesUtil;
+import org.apache.hugegraph.computer.core.util.CoderUtil;
+import org.apache.hugegraph.computer.core.util.MappedBufferUtil;
+import org.apache.hugegraph.util.E;
+
+/**
+ * Read the file through memory mapped buffers, the file is mapped as
+ * chunks, so the file larger than 2GB can be read. Reading from the mapped
+ * buffers hits the page cache directly instead of copying the file content
+ * to the heap buffer by a syscall, and seeking only resets the position.
+ * The primitive values are read in native byte order, the same as
+ * {@link UnsafeBytesOutput} written.
+ */
+public class MappedFileInput implements RandomAccessInput {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    private final File file;
+    private final MappedChunks chunks;
+    // The views of the chunks with independent position of this input
+    private final ByteBuffer[] buffers;
+    private final int chunkBits;
+    private final long chunkMask;
+    private final byte[] scratch;
+    private final ByteBuffer scratchBuffer;
+    private long position;
+    private boolean closed;
+
+    public MappedFileInput(File file) throws IOException {
+        this(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    public MappedFileInput(File file, int chunkSize) throws IOException {
+        this(file, new MappedChunks(file, chunkSize), 0L);
+    }
+
+    private MappedFileInput(File file, MappedChunks chunks, long position) {
+        this.file = file;
+        this.chunks = chunks;
+        MappedByteBuffer[] mapped = chunks.buffers;
+        this.buffers = new ByteBuffer[mapped.length];
+        for (int i = 0; i < mapped.length; i++) {
+            /*
+             * Call ByteBuffer.duplicate() rather than the covariant
+             * MappedByteBuffer.duplicate() added in JDK 13, so the class
+             * compiled by newer JDK can run on the older one.
+             */
+            ByteBuffer buffer = mapped[i];
+            this.buffers[i] = buffer.duplicate()
+                                    .order(ByteOrder.nativeOrder());
+        }
+        this.chunkBits = Integer.numberOfTrailingZeros(chunks.chunkSize);
+        this.chunkMask = chunks.chunkSize - 1L;
+        this.scratch = new byte[Constants.LONG_LEN];
+        this.scratchBuffer = ByteBuffer.wrap(this.scratch)
+                                       .order(ByteOrder.nativeOrder());
+        this.position = position;
+        this.closed = false;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        this.readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        this.checkAvailable(len);
+        while (len > 0) {
+            ByteBuffer buffer = this.currentBuffer();
+            int size = Math.min(len, buffer.remaining());
+            buffer.get(b, off, size);
+            off += size;
+            len -= size;
+            this.position += size;
+        }
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = (int) Math.min(n, this.fileLength() - this.position);
+        this.position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return this.readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        return this.require(Constants.BYTE_LEN).get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return this.readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return this.require(Constants.SHORT_LEN).getShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return this.readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return this.require(Constants.CHAR_LEN).getChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        return this.require(Constants.INT_LEN).getInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return this.require(Constants.LONG_LEN).getLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return this.require(Constants.FLOAT_LEN).getFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return this.require(Constants.DOUBLE_LEN).getDouble();
+    }
+
+    @Override
+    public String readLine() {
+        throw new ComputerException("Not implemented yet");
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        int len = this.readUnsignedShort();
+        byte[] bytes = new byte[len];
+        this.readFully(bytes, 0, len);
+        return CoderUtil.decode(bytes);
+    }
+
+    @Override
+    public long position() {
+        return this.position;
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+        if (position < 0L || position > this.fileLength()) {
+            throw new EOFException(String.format(
+                                   "Can't seek to %s, reach the end of file",
+                                   position));
+        }
+        this.position = position;
+    }
+
+    @Override
+    public long skip(long bytesToSkip) throws IOException {
+        E.checkArgument(bytesToSkip >= 0,
+                        "The parameter bytesToSkip must be >= 0, but got %s",
+                        bytesToSkip);
+        E.checkArgument(this.available() >= bytesToSkip,
+                        "Failed to skip '%s' bytes, because don't have " +
+                        "enough data", bytesToSkip);
+        long positionBeforeSkip = this.position;
+        this.position += bytesToSkip;
+        return positionBeforeSkip;
+    }
+
+    @Override
+    public long available() throws IOException {
+        return this.fileLength() - this.position;
+    }
+
+    @Override
+    public MappedFileInput duplicate() throws IOException {
+        this.chunks.retain();
+        return new MappedFileInput(this.file, this.chunks, this.position);
+    }
+
+    @Override
+    public int compare(long offset, long length, RandomAccessInput other,
+                       long otherOffset, long otherLength) throws IOException {
+        byte[] bytes1 = readBytes(this, offset, length);
+        byte[] bytes2 = readBytes(other, otherOffset, otherLength);
+        return BytesUtil.compare(bytes1, bytes2);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.chunks.release();
+    }
+
+    public long fileLength() {
+        return this.chunks.fileLength;
+    }
+
+    private static byte[] readBytes(RandomAccessInput input, long offset,
+                                    long length) throws IOException {
+        long oldPosition = input.position();
+        input.seek(offset);
+        byte[] bytes = input.readBytes((int) length);
+        input.seek(oldPosition);
+        return bytes;
+    }
+
+    /**
+     * Return the buffer positioned at the data of specified size. The data
+     * crossed two chunks is copied to the scratch buffer.
+     */
+    private ByteBuffer require(int size) throws IOException {
+        this.checkAvailable(size);
+        ByteBuffer buffer = this.currentBuffer();
+        if (buffer.remaining() >= size) {
+            this.position += size;
+            return buffer;
+        }
+        this.readFully(this.scratch, 0, size);
+        this.scratchBuffer.clear();
+        return this.scratchBuffer;
+    }
+
+    private ByteBuffer currentBuffer() {
+        ByteBuffer buffer = this.buffers[(int) (this.position >>>
+                                                this.chunkBits)];
+        buffer.position((int) (this.position & this.chunkMask));
+        return buffer;
+    }
+
+    private void checkAvailable(int size) throws IOException {
+        if (this.closed) {
+            throw new IOException(String.format(
+                                  "The input of file '%s' has been closed",
+                                  this.file));
+        }
+        if (this.position + size > this.fileLength()) {
+            throw new EOFException(String.format(
+                                   "Reading %s bytes from position %s " +
+                                   "overflows file length %s",
+                                   size, this.position, this.fileLength()));
+        }
+    }
+
+    /**
+     * The mapped buffers shared by the input and its duplicates, the
+     * buffers are unmapped after all of them are closed.
+     */
+    private static class MappedChunks {
+
+        private final int chunkSize;
+        private final long fileLength;
+        private final MappedByteBuffer[] buffers;
+        private int refCount;
+
+        MappedChunks(File file, int chunkSize) throws IOException {
+            E.checkArgument(chunkSize >= Constants.LONG_LEN &&
+                            Integer.bitCount(chunkSize) == 1,
+                            "The chunk size must be power of 2 and >= 8, " +
+                            "but got %s", chunkSize);
+            this.chunkSize = chunkSize;
+            try (FileChannel channel = FileChannel.open(
+                                       file.toPath(),
+                                       StandardOpenOption.READ)) {
+                this.fileLength = channel.size();
+                int count = (int) ((this.fileLength + chunkSize - 1) /
+                                   chunkSize);
+                this.buffers = new MappedByteBuffer[count];
+                for (int i = 0; i < count; i++) {
+                    long start = (long) i * chunkSize;
+                    long size = Math.min(chunkSize, this.fileLength - start);
+                    this.buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                                                  start, size);
+                }
+            }
+            this.refCount = 1;
+        }
+
+        synchronized void retain() {
+            E.checkState(this.refCount > 0,
+                         "The mapped buffers have been released");
+            this.refCount++;
+        }
+
+        synchronized void release() {
+            if (--this.refCount > 0) {
+                return;
+            }
+            // Unmap eagerly instead of waiting for GC
+            for (MappedByteBuffer buffer : this.buffers) {
+                MappedBufferUtil.unmap(buffer);
+            }
+        }
+    }
+}
@@ -26,9 +26,12 @@ import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
 import org.apache.hugegraph.computer.core.config.EdgeFrequency;
 import org.apache.hugegraph.computer.core.graph.GraphFactory;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.edge.Edge;
 import org.apache.hugegraph.computer.core.graph.id.BytesId;
 import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.id.IdType;
+import org.apache.hugegraph.computer.core.graph.id.LongId;
 import org.apache.hugegraph.computer.core.graph.properties.Properties;
 import org.apache.hugegraph.computer.core.graph.value.Value;
 import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
@@ -40,12 +43,14 @@ public class StreamGraphInput implements GraphComputeInput {
     private final GraphFactory graphFactory;
     private final Config config;
     private final EdgeFrequency frequency;
+    private final SchemaDictionary dictionary;
     private final EntryInput in;
 
     public StreamGraphInput(ComputerContext context, EntryInput in) {
         this.graphFactory = context.graphFactory();
         this.config = context.config();
         this.frequency = context.config().get(ComputerOptions.INPUT_EDGE_FREQ);
+        this.dictionary = this.graphFactory.schemaDictionary();
         this.in = in;
     }
 
@@ -55,8 +60,8 @@ public class StreamGraphInput implements GraphComputeInput {
         this.in.readEntry(in -> {
             vertex.id(readId(in));
         }, in -> {
-            vertex.label(readLabel(in));
-            vertex.properties(readProperties(in));
+            vertex.label(this.readLabel(in));
+            vertex.properties(this.readProperties(in));
         });
         return vertex;
     }
@@ -75,7 +80,7 @@ public class StreamGraphInput implements GraphComputeInput {
                 reader.readSubKv(in -> {
                     edge.targetId(readId(in));
                 }, in -> {
-                    edge.properties(readProperties(in));
+                    edge.properties(this.readProperties(in));
                 });
                 vertex.addEdge(edge);
             }
@@ -84,10 +89,10 @@ public class StreamGraphInput implements GraphComputeInput {
                 Edge edge = this.graphFactory.createEdge();
                 // Use label + targetId as subKey, use properties as subValue
                 reader.readSubKv(in -> {
-                    edge.label(readLabel(in));
+                    edge.label(this.readLabel(in));
                     edge.targetId(readId(in));
                 }, in -> {
-                    edge.properties(readProperties(in));
+                    edge.properties(this.readProperties(in));
                 });
                 vertex.addEdge(edge);
             }
@@ -100,8 +105,8 @@ public class StreamGraphInput implements GraphComputeInput {
                  * use properties as subValue
                  */
                 reader.readSubKv(in -> {
-                    edge.label(readLabel(in));
-                    edge.name(readLabel(in));
+                    edge.label(this.readLabel(in));
+                    edge.name(in.readUTF());
                     edge.targetId(readId(in));
                 }, in -> {
                     edge.properties(this.readProperties(in));
@@ -143,7 +148,7 @@ public class StreamGraphInput implements GraphComputeInput {
         Properties properties = this.graphFactory.createProperties();
         int size = in.readInt();
         for (int i = 0; i < size; i++) {
-            String key = in.readUTF();
+            String key = this.dictionary.readName(in);
             Value value = this.readValue(in);
             properties.put(key, value);
         }
@@ -151,12 +156,16 @@ public class StreamGraphInput implements GraphComputeInput {
     }
 
     public static Id readId(RandomAccessInput in) throws IOException {
-        Id id = new BytesId();
+        // Peek the id type to read LONG id as LongId
+        long position = in.position();
+        byte code = in.readByte();
+        in.seek(position);
+        Id id = code == IdType.LONG.code() ? new LongId() : new BytesId();
         id.read(in);
         return id;
     }
 
-    public static String readLabel(RandomAccessInput in) throws IOException {
-        return in.readUTF();
+    private String readLabel(RandomAccessInput in) throws IOException {
+        return this.dictionary.readName(in);
     }
 }
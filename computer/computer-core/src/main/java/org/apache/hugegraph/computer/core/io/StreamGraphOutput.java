@@ -23,6 +23,7 @@ import java.util.Map;
 import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.EdgeFrequency;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.edge.Edge;
 import org.apache.hugegraph.computer.core.graph.id.Id;
 import org.apache.hugegraph.computer.core.graph.properties.Properties;
@@ -35,10 +36,12 @@ public class StreamGraphOutput implements GraphComputeOutput {
 
     private final EntryOutput out;
     private final EdgeFrequency frequency;
+    private final SchemaDictionary dictionary;
 
     public StreamGraphOutput(ComputerContext context, EntryOutput out) {
         this.out = out;
         this.frequency = context.config().get(ComputerOptions.INPUT_EDGE_FREQ);
+        this.dictionary = context.graphFactory().schemaDictionary();
     }
 
     @Override
@@ -88,7 +91,7 @@ public class StreamGraphOutput implements GraphComputeOutput {
                  */
                 writer.writeSubKv(out -> {
                     this.writeLabel(out, edge.label());
-                    this.writeLabel(out, edge.name());
+                    out.writeUTF(edge.name());
                     this.writeId(out, edge.targetId());
                 }, out -> {
                     this.writeProperties(out, edge.properties());
@@ -130,13 +133,13 @@ public class StreamGraphOutput implements GraphComputeOutput {
         Map<String, Value> keyValues = properties.get();
         out.writeInt(keyValues.size());
         for (Map.Entry<String, Value> entry : keyValues.entrySet()) {
-            out.writeUTF(entry.getKey());
+            this.dictionary.writeName(out, entry.getKey());
             this.writeValue(out, entry.getValue());
         }
     }
 
     private void writeLabel(RandomAccessOutput output, String label)
                             throws IOException {
-        output.writeUTF(label);
+        this.dictionary.writeName(output, label);
     }
 }
@@ -110,6 +110,10 @@ public class MasterService implements Closeable {
         this.masterComputation.init(new DefaultMasterContext());
         this.managers.initedAll(config);
 
+        MasterInputManager inputManager = this.managers.get(
+                                          MasterInputManager.NAME);
+        this.bsp4Master.masterSchemaDone(inputManager.schemaDictionary());
+
         LOG.info("{} register MasterService", this);
         this.bsp4Master.masterInitDone(this.masterInfo);
 
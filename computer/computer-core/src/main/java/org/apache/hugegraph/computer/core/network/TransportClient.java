@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.hugegraph.computer.core.common.exception.TransportException;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.network.connection.ConnectionManager;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 
@@ -52,6 +53,15 @@ public interface TransportClient {
     boolean send(MessageType messageType, int partition, ByteBuffer buffer)
                  throws TransportException;
 
+    /**
+     * Send the buffer to the server like
+     * {@link #send(MessageType, int, ByteBuffer)}, the buffer is released
+     * after it is written out if it's sent, so a pooled buffer can be sent
+     * without copy.
+     */
+    boolean send(MessageType messageType, int partition, NetworkBuffer buffer)
+                 throws TransportException;
+
     /**
      * This method is called after an iteration. It will block the caller to
      * make sure the buffers sent be received by target workers.
@@ -67,6 +67,19 @@ public class TransportConf {
                this.maxTransportThreads());
     }
 
+    public int recvHandlerThreads() {
+        return this.config.get(
+                    ComputerOptions.TRANSPORT_RECV_HANDLER_THREADS);
+    }
+
+    /**
+     * The unhandled buffers of all connections can't exceed the pending
+     * requests window of each sender worker.
+     */
+    public int recvHandlerQueueCapacity() {
+        return this.maxTransportThreads() * this.maxPendingRequests();
+    }
+
     private int maxTransportThreads() {
         return this.config.get(ComputerOptions.JOB_WORKERS_COUNT);
     }
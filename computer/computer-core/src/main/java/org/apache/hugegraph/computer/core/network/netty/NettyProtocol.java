@@ -50,9 +50,15 @@ public class NettyProtocol {
     protected static final String SERVER_HANDLER_NAME = "networkServerHandler";
 
     private final TransportConf conf;
+    private final RecvHandoff recvHandoff;
 
     public NettyProtocol(TransportConf conf) {
+        this(conf, null);
+    }
+
+    public NettyProtocol(TransportConf conf, RecvHandoff recvHandoff) {
         this.conf = conf;
+        this.recvHandoff = recvHandoff;
     }
 
     /**
@@ -181,7 +187,8 @@ public class NettyProtocol {
 
     private NettyServerHandler newNettyServerHandler(MessageHandler handler) {
         ServerSession serverSession = new ServerSession(this.conf);
-        return new NettyServerHandler(serverSession, handler);
+        return new NettyServerHandler(serverSession, handler,
+                                      this.recvHandoff);
     }
 
     private IdleStateHandler newServerIdleStateHandler() {
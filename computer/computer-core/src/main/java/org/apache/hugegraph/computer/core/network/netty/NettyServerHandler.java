@@ -47,13 +47,22 @@ public class NettyServerHandler extends AbstractNettyHandler {
     private final MessageHandler handler;
     private final ServerSession serverSession;
     private final ChannelFutureListenerOnWrite listenerOnWrite;
+    // Handle the data buffers off the event loop if not null
+    private final RecvHandoff recvHandoff;
     private ScheduledFuture<?> respondAckTask;
 
     public NettyServerHandler(ServerSession serverSession,
                               MessageHandler handler) {
+        this(serverSession, handler, null);
+    }
+
+    public NettyServerHandler(ServerSession serverSession,
+                              MessageHandler handler,
+                              RecvHandoff recvHandoff) {
         this.serverSession = serverSession;
         this.handler = handler;
         this.listenerOnWrite = new ChannelFutureListenerOnWrite(this.handler);
+        this.recvHandoff = recvHandoff;
     }
 
     @Override
@@ -80,6 +89,7 @@ public class NettyServerHandler extends AbstractNettyHandler {
                                       Channel channel,
                                       DataMessage dataMessage) {
         NetworkBuffer body = dataMessage.body();
+        boolean handedOff = false;
         try {
             int requestId = dataMessage.requestId();
             this.serverSession.onRecvData(requestId);
@@ -87,15 +97,58 @@ public class NettyServerHandler extends AbstractNettyHandler {
                 this.processFileRegionBuffer(ctx, channel, dataMessage,
                                              (FileRegionBuffer) body);
             } else {
-                this.handler.handle(dataMessage.type(), dataMessage.partition(),
-                                    dataMessage.body());
-                this.serverSession.onHandledData(requestId);
+                handedOff = this.handleDataMessage(ctx, dataMessage);
             }
         } finally {
-            body.release();
+            if (!handedOff) {
+                body.release();
+            }
         }
     }
 
+    /**
+     * Handle the data message in the recv handoff if there is one, the
+     * handled id is updated after it's handled, so the ack is delayed and
+     * the client stops sending when its pending requests window is full.
+     * @return true if the message is handed off, it will be released after
+     * handled.
+     */
+    private boolean handleDataMessage(ChannelHandlerContext ctx,
+                                      DataMessage dataMessage) {
+        if (this.recvHandoff != null) {
+            boolean handedOff = this.recvHandoff.offer(
+                                dataMessage.partition(), () -> {
+                try {
+                    this.handler.handle(dataMessage.type(),
+                                        dataMessage.partition(),
+                                        dataMessage.body());
+                } catch (Throwable e) {
+                    // Report it before the handled id moves forward
+                    ctx.executor().execute(() -> this.exceptionCaught(ctx, e));
+                } finally {
+                    /*
+                     * Always mark it as handled, otherwise the later data
+                     * can't be acked and the finish waits until timeout,
+                     * the failure is reported to the handler instead.
+                     */
+                    this.serverSession.onHandledData(dataMessage.requestId());
+                    dataMessage.release();
+                }
+            });
+            if (handedOff) {
+                return true;
+            }
+        }
+        this.doHandleDataMessage(dataMessage);
+        return false;
+    }
+
+    private void doHandleDataMessage(DataMessage dataMessage) {
+        this.handler.handle(dataMessage.type(), dataMessage.partition(),
+                            dataMessage.body());
+        this.serverSession.onHandledData(dataMessage.requestId());
+    }
+
     private void processFileRegionBuffer(ChannelHandlerContext ctx,
                                          Channel channel,
                                          DataMessage dataMessage,
@@ -112,13 +165,10 @@ public class NettyServerHandler extends AbstractNettyHandler {
                                       (SocketChannel) channel, outputPath);
 
         channelFuture.addListener((ChannelFutureListener) future -> {
+            boolean handedOff = false;
             try {
                 if (future.isSuccess()) {
-                    this.handler.handle(dataMessage.type(),
-                                        dataMessage.partition(),
-                                        dataMessage.body());
-                    this.serverSession.onHandledData(
-                            dataMessage.requestId());
+                    handedOff = this.handleDataMessage(ctx, dataMessage);
                 } else {
                     this.exceptionCaught(ctx, future.cause());
                 }
@@ -127,9 +177,12 @@ public class NettyServerHandler extends AbstractNettyHandler {
                                                  AbstractMessage.HEADER_LENGTH);
                 future.channel().unsafe().recvBufAllocHandle().reset(
                                  future.channel().config());
-                dataMessage.release();
             } catch (Throwable throwable) {
                 this.exceptionCaught(ctx, throwable);
+            } finally {
+                if (!handedOff) {
+                    dataMessage.release();
+                }
             }
         });
     }
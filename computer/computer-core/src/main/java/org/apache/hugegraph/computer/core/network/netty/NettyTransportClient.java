@@ -30,6 +30,8 @@ import org.apache.hugegraph.computer.core.network.ConnectionId;
 import org.apache.hugegraph.computer.core.network.TransportClient;
 import org.apache.hugegraph.computer.core.network.TransportConf;
 import org.apache.hugegraph.computer.core.network.TransportState;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
+import org.apache.hugegraph.computer.core.network.buffer.NioBuffer;
 import org.apache.hugegraph.computer.core.network.message.Message;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.network.session.ClientSession;
@@ -138,6 +140,12 @@ public class NettyTransportClient implements TransportClient {
     @Override
     public boolean send(MessageType messageType, int partition,
                         ByteBuffer buffer) throws TransportException {
+        return this.send(messageType, partition, new NioBuffer(buffer));
+    }
+
+    @Override
+    public boolean send(MessageType messageType, int partition,
+                        NetworkBuffer buffer) throws TransportException {
         if (!this.checkSendAvailable()) {
             return false;
         }
@@ -58,6 +58,7 @@ public class NettyTransportServer implements TransportServer, Closeable {
     private ServerBootstrap bootstrap;
     private ChannelFuture bindFuture;
     private InetSocketAddress bindAddress;
+    private RecvHandoff recvHandoff;
 
     public NettyTransportServer() {
         this(BufAllocatorFactory.createBufAllocator());
@@ -78,8 +79,15 @@ public class NettyTransportServer implements TransportServer, Closeable {
 
         this.init(config);
 
+        if (this.conf.recvHandlerThreads() > 0) {
+            this.recvHandoff = new RecvHandoff(
+                               this.conf.recvHandlerThreads(),
+                               this.conf.recvHandlerQueueCapacity());
+        }
+
         // Child channel pipeline for accepted connections
-        NettyProtocol protocol = new NettyProtocol(this.conf);
+        NettyProtocol protocol = new NettyProtocol(this.conf,
+                                                   this.recvHandoff);
         ServerChannelInitializer initializer = new ServerChannelInitializer(
                                                    protocol, serverHandler);
         this.bootstrap.childHandler(initializer);
@@ -204,6 +212,10 @@ public class NettyTransportServer implements TransportServer, Closeable {
             this.bootstrap.config().childGroup().shutdownGracefully();
         }
         this.bootstrap = null;
+        if (this.recvHandoff != null) {
+            this.recvHandoff.close();
+            this.recvHandoff = null;
+        }
     }
 
     private static class ServerChannelInitializer
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.network.netty;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.util.E;
+import org.apache.hugegraph.util.Log;
+import org.slf4j.Logger;
+
+/**
+ * Hand off the handling of received data buffers from the transport threads
+ * to dedicated threads, so that a slow handler (like waiting for the
+ * previous buffers of the partition sorted) doesn't block the event loop
+ * and all the other connections it serves.
+ * Each thread drains a bounded lock-free queue, the tasks of a partition
+ * are always submitted to the same thread to keep their order.
+ */
+public class RecvHandoff {
+
+    private static final Logger LOG = Log.logger(RecvHandoff.class);
+
+    private static final String NAME = "recv-handler";
+
+    private final Worker[] workers;
+
+    public RecvHandoff(int threads, int queueCapacity) {
+        E.checkArgument(threads > 0,
+                        "The threads of recv handoff must be > 0, " +
+                        "actual got %s", threads);
+        E.checkArgument(queueCapacity > 0,
+                        "The queue capacity of recv handoff must be > 0, " +
+                        "actual got %s", queueCapacity);
+        this.workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            this.workers[i] = new Worker(NAME + "-" + i, queueCapacity);
+            this.workers[i].thread.start();
+        }
+    }
+
+    /**
+     * Submit the task to the thread of the partition without blocking.
+     * @return false if the queue of the thread is full or closed, the caller
+     * should run the task by itself.
+     */
+    public boolean offer(int partition, Runnable task) {
+        int index = Math.floorMod(partition, this.workers.length);
+        return this.workers[index].offer(task);
+    }
+
+    /**
+     * Stop the threads after the submitted tasks are done.
+     */
+    public void close() {
+        for (Worker worker : this.workers) {
+            worker.closed = true;
+            LockSupport.unpark(worker.thread);
+        }
+        try {
+            for (Worker worker : this.workers) {
+                worker.thread.join();
+            }
+        } catch (InterruptedException e) {
+            throw new ComputerException("Interrupted when waiting for " +
+                                        "recv handlers to stop", e);
+        }
+    }
+
+    private static class Worker implements Runnable {
+
+        private final Thread thread;
+        private final Queue<Runnable> queue;
+        private final AtomicInteger size;
+        private final int capacity;
+        private volatile boolean closed;
+
+        public Worker(String name, int capacity) {
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+            this.queue = new ConcurrentLinkedQueue<>();
+            this.size = new AtomicInteger();
+            this.capacity = capacity;
+            this.closed = false;
+        }
+
+        public boolean offer(Runnable task) {
+            if (this.closed) {
+                return false;
+            }
+            if (this.size.incrementAndGet() > this.capacity) {
+                this.size.decrementAndGet();
+                return false;
+            }
+            this.queue.offer(task);
+            LockSupport.unpark(this.thread);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            LOG.info("The {} is running", this.thread.getName());
+            while (true) {
+                Runnable task = this.queue.poll();
+                if (task == null) {
+                    if (this.closed && this.size.get() == 0) {
+                        break;
+                    }
+                    LockSupport.park(this);
+                    continue;
+                }
+                this.size.decrementAndGet();
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    LOG.error("Failed to handle the received buffer", e);
+                }
+            }
+            LOG.info("The {} is terminated", this.thread.getName());
+        }
+    }
+}
@@ -169,14 +169,18 @@ public class ClientSession extends TransportSession {
 
     public synchronized void sendAsync(MessageType messageType, int partition,
                                        ByteBuffer buffer) {
+        this.sendAsync(messageType, partition, new NioBuffer(buffer));
+    }
+
+    public synchronized void sendAsync(MessageType messageType, int partition,
+                                       NetworkBuffer buffer) {
         E.checkArgument(this.state == TransportState.ESTABLISHED,
                         "The state must be ESTABLISHED instead of %s " +
                         "at sendAsync()", this.state);
         int requestId = this.nextRequestId();
 
-        NetworkBuffer networkBuffer = new NioBuffer(buffer);
         DataMessage dataMessage = new DataMessage(messageType, requestId,
-                                                  partition, networkBuffer);
+                                                  partition, buffer);
 
         this.sendFunction.apply(dataMessage);
 
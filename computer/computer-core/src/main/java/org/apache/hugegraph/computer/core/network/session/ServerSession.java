@@ -17,6 +17,9 @@
 
 package org.apache.hugegraph.computer.core.network.session;
 
+import java.util.SortedSet;
+import java.util.TreeSet;
+
 import org.apache.hugegraph.computer.core.network.TransportConf;
 import org.apache.hugegraph.computer.core.network.TransportState;
 import org.apache.hugegraph.computer.core.network.message.AbstractMessage;
@@ -26,16 +29,25 @@ public class ServerSession extends TransportSession {
 
     private final long minAckInterval;
     private volatile int maxHandledId;
+    /*
+     * The handled ids greater than maxHandledId + 1, the data may be handled
+     * out of order if it's handled off the transport thread
+     */
+    private final SortedSet<Integer> outOfOrderHandledIds;
 
     public ServerSession(TransportConf conf) {
         super(conf);
         this.minAckInterval = this.conf().minAckInterval();
         this.maxHandledId = AbstractMessage.UNKNOWN_SEQ;
+        this.outOfOrderHandledIds = new TreeSet<>();
     }
 
     @Override
     protected void stateReady() {
-        this.maxHandledId = AbstractMessage.UNKNOWN_SEQ;
+        synchronized (this) {
+            this.maxHandledId = AbstractMessage.UNKNOWN_SEQ;
+            this.outOfOrderHandledIds.clear();
+        }
         super.stateReady();
     }
 
@@ -44,7 +56,10 @@ public class ServerSession extends TransportSession {
                         "The state must be START_RECV instead of %s " +
                         "at completeStateStart()", this.state);
 
-        this.maxHandledId = AbstractMessage.START_SEQ;
+        synchronized (this) {
+            this.maxHandledId = AbstractMessage.START_SEQ;
+            this.outOfOrderHandledIds.clear();
+        }
         this.maxAckId = AbstractMessage.START_SEQ;
         this.stateEstablished();
     }
@@ -98,10 +113,26 @@ public class ServerSession extends TransportSession {
                         "The state must be ESTABLISHED or FINISH_RECV " +
                         "instead of %s at onHandledData()", this.state);
 
+        /*
+         * The maxHandledId only moves forward when all the data before it
+         * are handled, so that the ack of data or finish means all the data
+         * before it have been handled.
+         */
         synchronized (this) {
-            if (requestId > this.maxHandledId) {
-                this.maxHandledId = requestId;
+            if (requestId <= this.maxHandledId) {
+                return;
+            }
+            if (requestId != this.maxHandledId + 1) {
+                this.outOfOrderHandledIds.add(requestId);
+                return;
+            }
+            int handledId = requestId;
+            while (!this.outOfOrderHandledIds.isEmpty() &&
+                   this.outOfOrderHandledIds.first() == handledId + 1) {
+                handledId = this.outOfOrderHandledIds.first();
+                this.outOfOrderHandledIds.remove(handledId);
             }
+            this.maxHandledId = handledId;
         }
     }
 
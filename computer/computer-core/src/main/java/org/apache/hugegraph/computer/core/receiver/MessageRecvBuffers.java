@@ -54,7 +54,10 @@ public class MessageRecvBuffers {
          * TODO: don't not use copy, add a new class
          *       RandomAccessInput(NetworkBuffer)
          */
-        byte[] bytes = data.copyToByteArray();
+        this.addBuffer(data.copyToByteArray());
+    }
+
+    public void addBuffer(byte[] bytes) {
         this.buffers.add(bytes);
         this.totalBytes += bytes.length;
     }
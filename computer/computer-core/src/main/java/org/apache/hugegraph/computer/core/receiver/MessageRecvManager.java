@@ -17,7 +17,9 @@
 
 package org.apache.hugegraph.computer.core.receiver;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +30,7 @@ import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.common.Constants;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.common.exception.TransportException;
+import org.apache.hugegraph.computer.core.compute.VertexIndex;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
 import org.apache.hugegraph.computer.core.manager.Manager;
@@ -36,6 +39,7 @@ import org.apache.hugegraph.computer.core.network.MessageHandler;
 import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.receiver.edge.EdgeMessageRecvPartitions;
+import org.apache.hugegraph.computer.core.receiver.message.CombinedMessageArray;
 import org.apache.hugegraph.computer.core.receiver.message.ComputeMessageRecvPartitions;
 import org.apache.hugegraph.computer.core.receiver.vertex.VertexMessageRecvPartitions;
 import org.apache.hugegraph.computer.core.snapshot.SnapshotManager;
@@ -61,6 +65,13 @@ public class MessageRecvManager implements Manager, MessageHandler {
     private VertexMessageRecvPartitions vertexPartitions;
     private EdgeMessageRecvPartitions edgePartitions;
     private ComputeMessageRecvPartitions messagePartitions;
+    /*
+     * The combined message arrays receiving the messages of current
+     * superstep, and the ones being consumed by the computation. They are
+     * null if the combined message arrays are not used.
+     */
+    private Map<Integer, CombinedMessageArray> messageArrays;
+    private Map<Integer, CombinedMessageArray> consumedMessageArrays;
 
     private int workerCount;
     private int expectedFinishMessages;
@@ -123,6 +134,20 @@ public class MessageRecvManager implements Manager, MessageHandler {
 
         this.superstep = superstep;
 
+        if (this.messageArrays != null) {
+            /*
+             * The arrays consumed in previous superstep are no longer used,
+             * reuse them to receive the messages of this superstep.
+             */
+            Map<Integer, CombinedMessageArray> arrays =
+                                               this.consumedMessageArrays;
+            this.consumedMessageArrays = this.messageArrays;
+            this.messageArrays = arrays;
+            for (CombinedMessageArray array : this.messageArrays.values()) {
+                array.clear();
+            }
+        }
+
         if (this.superstep == Constants.INPUT_SUPERSTEP + 1) {
             assert this.vertexPartitions != null;
             this.vertexPartitions.clearOldFiles(Constants.INPUT_SUPERSTEP);
@@ -183,7 +208,14 @@ public class MessageRecvManager implements Manager, MessageHandler {
                 this.edgePartitions.addBuffer(partition, buffer);
                 break;
             case MSG:
-                this.messagePartitions.addBuffer(partition, buffer);
+                CombinedMessageArray array = this.messageArrays == null ?
+                                             null :
+                                             this.messageArrays.get(partition);
+                if (array != null) {
+                    array.addBuffer(buffer);
+                } else {
+                    this.messagePartitions.addBuffer(partition, buffer);
+                }
                 break;
             default:
                 throw new ComputerException(
@@ -239,6 +271,29 @@ public class MessageRecvManager implements Manager, MessageHandler {
         return partitions.iterators();
     }
 
+    /**
+     * Get the ids of the partitions which received vertices, used to
+     * iterate the vertices and edges of each partition in parallel by
+     * {@link #vertexPartition(int)} and {@link #edgePartition(int)}.
+     */
+    public Set<Integer> vertexPartitionIds() {
+        E.checkState(this.vertexPartitions != null,
+                     "The vertexPartitions can't be null");
+        return this.vertexPartitions.partitionIds();
+    }
+
+    public PeekableIterator<KvEntry> vertexPartition(int partitionId) {
+        E.checkState(this.vertexPartitions != null,
+                     "The vertexPartitions can't be null");
+        return this.vertexPartitions.iterator(partitionId);
+    }
+
+    public PeekableIterator<KvEntry> edgePartition(int partitionId) {
+        E.checkState(this.edgePartitions != null,
+                     "The edgePartitions can't be null");
+        return this.edgePartitions.iterator(partitionId);
+    }
+
     public Map<Integer, PeekableIterator<KvEntry>> messagePartitions() {
         E.checkState(this.messagePartitions != null,
                      "The messagePartitions can't be null");
@@ -247,11 +302,50 @@ public class MessageRecvManager implements Manager, MessageHandler {
         return partitions.iterators();
     }
 
+    /**
+     * Combine the received messages of the partitions into the arrays
+     * indexed by the vertex indexes since next superstep, instead of
+     * sorting and merging them to files. The messages of the partitions
+     * not in the indexes are still received as files.
+     */
+    public void useCombinedMessageArrays(Map<Integer, VertexIndex> indexes) {
+        Map<Integer, CombinedMessageArray> arrays = new HashMap<>();
+        Map<Integer, CombinedMessageArray> consumedArrays = new HashMap<>();
+        for (Map.Entry<Integer, VertexIndex> entry : indexes.entrySet()) {
+            arrays.put(entry.getKey(), new CombinedMessageArray(
+                                       this.context, entry.getValue()));
+            consumedArrays.put(entry.getKey(), new CombinedMessageArray(
+                                               this.context, entry.getValue()));
+        }
+        this.messageArrays = arrays;
+        this.consumedMessageArrays = consumedArrays;
+    }
+
+    /**
+     * Get the combined message arrays of the messages received in last
+     * superstep, it's null if the combined message arrays are not used.
+     */
+    public Map<Integer, CombinedMessageArray> messageArrays() {
+        return this.messageArrays;
+    }
+
     public Map<Integer, MessageStat> messageStats() {
         this.waitReceivedAllMessages();
         E.checkState(this.messagePartitions != null,
                      "The messagePartitions can't be null");
-        return this.messagePartitions.messageStats();
+        Map<Integer, MessageStat> stats = this.messagePartitions
+                                              .messageStats();
+        if (this.messageArrays != null) {
+            for (CombinedMessageArray array : this.messageArrays.values()) {
+                MessageStat stat = stats.get(array.partition());
+                if (stat == null) {
+                    stats.put(array.partition(), array.messageStat());
+                } else {
+                    stat.increase(array.messageStat());
+                }
+            }
+        }
+        return stats;
     }
 
     public void setSnapshotManager(SnapshotManager snapshotManager) {
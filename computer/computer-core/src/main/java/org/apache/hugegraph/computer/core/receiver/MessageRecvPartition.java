@@ -17,19 +17,27 @@
 
 package org.apache.hugegraph.computer.core.receiver;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
 
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.io.BufferedFileInput;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.io.UnsafeBytesInput;
 import org.apache.hugegraph.computer.core.network.buffer.FileRegionBuffer;
 import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.sort.flusher.OuterSortFlusher;
 import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
 import org.apache.hugegraph.computer.core.sort.sorting.SortManager;
 import org.apache.hugegraph.computer.core.store.SuperstepFileGenerator;
+import org.apache.hugegraph.computer.core.store.entry.EntriesUtil;
 import org.apache.hugegraph.computer.core.store.entry.KvEntry;
 import org.apache.hugegraph.computer.core.util.FileUtil;
 import org.apache.hugegraph.util.Log;
@@ -57,6 +65,7 @@ public abstract class MessageRecvPartition {
     private final boolean withSubKv;
     private final int mergeFileNum;
     private long totalBytes;
+    private long messageCount;
     private final boolean useFileRegion;
 
     private final AtomicReference<Throwable> exception;
@@ -85,6 +94,7 @@ public abstract class MessageRecvPartition {
 
         this.outputFiles = new ArrayList<>();
         this.totalBytes = 0L;
+        this.messageCount = 0L;
         this.exception = new AtomicReference<>();
     }
 
@@ -96,9 +106,16 @@ public abstract class MessageRecvPartition {
         if (buffer instanceof FileRegionBuffer) {
             String path = ((FileRegionBuffer) buffer).path();
             this.outputFiles.add(path);
+            if (this.countMessages()) {
+                this.messageCount += this.countEntries(path);
+            }
             return;
         }
-        this.recvBuffers.addBuffer(buffer);
+        byte[] bytes = buffer.copyToByteArray();
+        if (this.countMessages()) {
+            this.messageCount += this.countEntries(bytes);
+        }
+        this.recvBuffers.addBuffer(bytes);
         if (this.recvBuffers.full()) {
             // Wait for the previous sorting
             this.sortBuffers.waitSorted();
@@ -109,18 +126,67 @@ public abstract class MessageRecvPartition {
     }
 
     public synchronized PeekableIterator<KvEntry> iterator() {
-        /*
-         * TODO: create iterator directly from buffers if there is no
-         *       outputFiles.
-         */
+        return this.iterator(bytes -> false, bytes -> { });
+    }
+
+    public synchronized PeekableIterator<KvEntry> iterator(
+                                        LongPredicate reserveMemory) {
+        return this.iterator(reserveMemory, bytes -> { });
+    }
+
+    /**
+     * Get the iterator of the received data, iterate the received buffers
+     * in memory directly if no buffer is sorted into file and the memory
+     * of the buffers can be reserved. The buffers are dropped and the
+     * reserved memory is released when the iterator is closed.
+     * @param reserveMemory Try to reserve the specified bytes of memory,
+     *                      return false if the memory is not enough
+     * @param releaseMemory Release the specified bytes of reserved memory
+     */
+    public synchronized PeekableIterator<KvEntry> iterator(
+                                        LongPredicate reserveMemory,
+                                        LongConsumer releaseMemory) {
         if (!this.useFileRegion) {
+            long bytes = this.recvBuffers.totalBytes();
+            if (this.outputFiles.isEmpty() && bytes > 0L &&
+                reserveMemory.test(bytes)) {
+                return new ReleasableIterator(this.buffersIterator(), () -> {
+                    this.releaseBuffers();
+                    releaseMemory.accept(bytes);
+                });
+            }
             this.flushAllBuffersAndWaitSorted();
         }
         this.mergeOutputFilesIfNeeded();
         if (this.outputFiles.size() == 0) {
             return PeekableIterator.emptyIterator();
         }
-        return this.sortManager.iterator(this.outputFiles, this.withSubKv);
+        PeekableIterator<KvEntry> iterator = this.sortManager.iterator(
+                                             this.outputFiles,
+                                             this.withSubKv);
+        if (this.outputFiles.size() > 1) {
+            /*
+             * Merge the sorted runs on the fly instead of merging them to
+             * one more file, the same key may exist in several runs.
+             */
+            iterator = this.combineRuns(iterator, this.outputFiles.size());
+        }
+        return iterator;
+    }
+
+    private PeekableIterator<KvEntry> buffersIterator() {
+        List<RandomAccessInput> buffers = this.recvBuffers.buffers();
+        PeekableIterator<KvEntry> iterator = this.sortManager.buffersIterator(
+                                             buffers, this.withSubKv);
+        if (buffers.size() > 1) {
+            // The buffers are sorted runs like the output files
+            iterator = this.combineRuns(iterator, buffers.size());
+        }
+        return iterator;
+    }
+
+    private synchronized void releaseBuffers() {
+        this.recvBuffers.prepareSort();
     }
 
     public synchronized long totalBytes() {
@@ -132,12 +198,67 @@ public abstract class MessageRecvPartition {
     }
 
     public synchronized MessageStat messageStat() {
-        // TODO: count the message received
-        return new MessageStat(0L, this.totalBytes);
+        return new MessageStat(this.messageCount, this.totalBytes);
+    }
+
+    /**
+     * Whether to count the entries of the received buffers as the message
+     * count of {@link #messageStat()}, the buffers are scanned once more.
+     */
+    protected boolean countMessages() {
+        return false;
+    }
+
+    private long countEntries(byte[] bytes) {
+        try {
+            return EntriesUtil.countEntries(new UnsafeBytesInput(bytes));
+        } catch (IOException e) {
+            throw new ComputerException("Failed to count the entries of " +
+                                        "%s buffer", e, this.type());
+        }
+    }
+
+    private long countEntries(String path) {
+        try (BufferedFileInput input = new BufferedFileInput(
+                                       new File(path))) {
+            return EntriesUtil.countEntries(input);
+        } catch (IOException e) {
+            throw new ComputerException("Failed to count the entries of " +
+                                        "%s file '%s'", e, this.type(), path);
+        }
     }
 
+    /**
+     * Create a flusher for each sorting, the flusher can't be shared by the
+     * concurrent sortings.
+     */
     protected abstract OuterSortFlusher outerSortFlusher();
 
+    /**
+     * Combine the entries with the same key from several sorted runs when
+     * iterating the runs, return the runs directly if needn't combine.
+     * @param runs The entries of the runs merged by increasing order of key
+     * @param runNum The number of runs
+     */
+    protected PeekableIterator<KvEntry> combineRuns(
+                                        PeekableIterator<KvEntry> runs,
+                                        int runNum) {
+        return runs;
+    }
+
+    /**
+     * The number of files to merge the output files into before iterating,
+     * the iterator merges these files on the fly. Return fileNum if the
+     * output files needn't be merged.
+     */
+    private int mergeOutputFileNum(int fileNum) {
+        if (fileNum <= this.mergeFileNum) {
+            return fileNum;
+        }
+        // Like merge 10000 files into 100 files
+        return (int) Math.ceil(Math.sqrt(fileNum));
+    }
+
     protected abstract String type();
 
     /**
@@ -196,15 +317,13 @@ public abstract class MessageRecvPartition {
             return;
         }
 
-        /*
-         * TODO Restore genOutputFileNames(sqrt(outputFiles.size()))
-         *  after add Sorter#iterator() of subkv
-         */
-        int mergeFileNum = this.mergeFileNum;
-        mergeFileNum = 1;
+        int mergeFileNum = this.mergeOutputFileNum(this.outputFiles.size());
+        if (mergeFileNum >= this.outputFiles.size()) {
+            return;
+        }
         List<String> newOutputs = this.genOutputFileNames(mergeFileNum);
         this.sortManager.mergeInputs(this.outputFiles, newOutputs,
-                                     this.withSubKv, this.outerSortFlusher());
+                                     this.withSubKv, this::outerSortFlusher);
         FileUtil.deleteFilesQuietly(this.outputFiles);
         this.outputFiles = newOutputs;
     }
@@ -227,4 +346,53 @@ public abstract class MessageRecvPartition {
             throw new ComputerException(t.getMessage(), t);
         }
     }
+
+    /**
+     * The iterator of the received buffers in memory, the release action
+     * is run once when it's closed.
+     */
+    private static class ReleasableIterator
+                   implements PeekableIterator<KvEntry> {
+
+        private final PeekableIterator<KvEntry> entries;
+        private Runnable release;
+
+        ReleasableIterator(PeekableIterator<KvEntry> entries,
+                           Runnable release) {
+            this.entries = entries;
+            this.release = release;
+        }
+
+        @Override
+        public KvEntry peek() {
+            return this.entries.peek();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.entries.hasNext();
+        }
+
+        @Override
+        public KvEntry next() {
+            return this.entries.next();
+        }
+
+        @Override
+        public Object metadata(String s, Object... objects) {
+            return this.entries.metadata(s, objects);
+        }
+
+        @Override
+        public void close() throws Exception {
+            try {
+                this.entries.close();
+            } finally {
+                if (this.release != null) {
+                    this.release.run();
+                    this.release = null;
+                }
+            }
+        }
+    }
 }
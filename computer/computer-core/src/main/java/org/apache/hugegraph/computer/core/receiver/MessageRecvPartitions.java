@@ -18,12 +18,16 @@
 package org.apache.hugegraph.computer.core.receiver;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.hugegraph.computer.core.common.ComputerContext;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
 import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.snapshot.SnapshotManager;
@@ -42,6 +46,8 @@ public abstract class MessageRecvPartitions<P extends MessageRecvPartition> {
 
     // The map of partition-id and the messages for the partition.
     private final Map<Integer, P> partitions;
+    // The remaining bytes of memory to iterate the received buffers
+    private final AtomicLong remainingMemory;
 
     public MessageRecvPartitions(ComputerContext context,
                                  SuperstepFileGenerator fileGenerator,
@@ -53,12 +59,22 @@ public abstract class MessageRecvPartitions<P extends MessageRecvPartition> {
         this.sortManager = sortManager;
         this.snapshotManager = snapshotManager;
         this.partitions = new HashMap<>();
+        this.remainingMemory = new AtomicLong(this.config.get(
+                               ComputerOptions.WORKER_RECEIVED_BUFFERS_MEMORY_LIMIT));
     }
 
     protected abstract P createPartition();
 
     protected abstract void writePartitionSnapshot(int partitionId, List<String> outputFiles);
 
+    /**
+     * Whether the received buffers must be sorted into the output files,
+     * like the output files are needed by the snapshot.
+     */
+    protected boolean needOutputFiles() {
+        return false;
+    }
+
     public void addBuffer(int partitionId, NetworkBuffer buffer) {
         P partition = this.partition(partitionId);
         partition.addBuffer(buffer);
@@ -91,13 +107,61 @@ public abstract class MessageRecvPartitions<P extends MessageRecvPartition> {
 
     public Map<Integer, PeekableIterator<KvEntry>> iterators() {
         Map<Integer, PeekableIterator<KvEntry>> entries = new HashMap<>();
-        for (Map.Entry<Integer, P> entry : this.partitions.entrySet()) {
-            entries.put(entry.getKey(), entry.getValue().iterator());
-            this.writePartitionSnapshot(entry.getKey(), entry.getValue().outputFiles());
+        for (Integer partitionId : this.partitions.keySet()) {
+            entries.put(partitionId, this.iterator(partitionId));
         }
         return entries;
     }
 
+    public Set<Integer> partitionIds() {
+        return Collections.unmodifiableSet(this.partitions.keySet());
+    }
+
+    /**
+     * Get the iterator of the specified partition, the received buffers and
+     * files of the partition will be merged before return. It's allowed to
+     * call this method for different partitions concurrently after all the
+     * buffers are received.
+     */
+    public PeekableIterator<KvEntry> iterator(int partitionId) {
+        P partition = this.partitions.get(partitionId);
+        if (partition == null) {
+            return PeekableIterator.emptyIterator();
+        }
+        PeekableIterator<KvEntry> iterator = partition.iterator(
+                                             this::reserveMemory,
+                                             this::releaseMemory);
+        this.writePartitionSnapshot(partitionId, partition.outputFiles());
+        return iterator;
+    }
+
+    private boolean reserveMemory(long bytes) {
+        if (this.needOutputFiles()) {
+            return false;
+        }
+        long remaining;
+        do {
+            remaining = this.remainingMemory.get();
+            if (remaining < bytes) {
+                return false;
+            }
+        } while (!this.remainingMemory.compareAndSet(remaining,
+                                                     remaining - bytes));
+        return true;
+    }
+
+    private void releaseMemory(long bytes) {
+        this.remainingMemory.addAndGet(bytes);
+    }
+
+    /**
+     * The remaining bytes of memory to iterate the received buffers, the
+     * memory reserved by a partition is released after its iterator closed.
+     */
+    public long remainingMemory() {
+        return this.remainingMemory.get();
+    }
+
     public Map<Integer, MessageStat> messageStats() {
         Map<Integer, MessageStat> entries = new HashMap<>();
         for (Map.Entry<Integer, P> entry : this.partitions.entrySet()) {
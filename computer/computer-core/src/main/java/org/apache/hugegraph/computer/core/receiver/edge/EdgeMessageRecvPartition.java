@@ -25,15 +25,19 @@ import org.apache.hugegraph.computer.core.config.Config;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.receiver.MessageRecvPartition;
 import org.apache.hugegraph.computer.core.sort.flusher.CombineSubKvOuterSortFlusher;
+import org.apache.hugegraph.computer.core.sort.flusher.CombineSubKvPeekableIterator;
 import org.apache.hugegraph.computer.core.sort.flusher.OuterSortFlusher;
+import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
 import org.apache.hugegraph.computer.core.sort.sorting.SortManager;
 import org.apache.hugegraph.computer.core.store.SuperstepFileGenerator;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
 
 public class EdgeMessageRecvPartition extends MessageRecvPartition {
 
     private static final String TYPE = MessageType.EDGE.name().toLowerCase();
 
-    private final OuterSortFlusher flusher;
+    private final ComputerContext context;
+    private final int flushThreshold;
 
     public EdgeMessageRecvPartition(ComputerContext context,
                                     SuperstepFileGenerator fileGenerator,
@@ -41,17 +45,24 @@ public class EdgeMessageRecvPartition extends MessageRecvPartition {
         super(context.config(), fileGenerator, sortManager, true);
 
         Config config = context.config();
-        int flushThreshold = config.get(
-                             ComputerOptions.INPUT_MAX_EDGES_IN_ONE_VERTEX);
-        PointerCombiner combiner = new EdgeValueCombiner(context);
-
-        this.flusher = new CombineSubKvOuterSortFlusher(combiner,
-                                                        flushThreshold);
+        this.context = context;
+        this.flushThreshold = config.get(
+                              ComputerOptions.INPUT_MAX_EDGES_IN_ONE_VERTEX);
     }
 
     @Override
     protected OuterSortFlusher outerSortFlusher() {
-        return this.flusher;
+        PointerCombiner combiner = new EdgeValueCombiner(this.context);
+        return new CombineSubKvOuterSortFlusher(combiner, this.flushThreshold);
+    }
+
+    @Override
+    protected PeekableIterator<KvEntry> combineRuns(
+                                        PeekableIterator<KvEntry> runs,
+                                        int runNum) {
+        PointerCombiner combiner = new EdgeValueCombiner(this.context);
+        return new CombineSubKvPeekableIterator(runs, combiner, runNum,
+                                                this.flushThreshold);
     }
 
     @Override
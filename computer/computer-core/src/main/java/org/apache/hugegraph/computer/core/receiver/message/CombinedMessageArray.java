@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.receiver.message;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.BitSet;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hugegraph.computer.core.combiner.Combiner;
+import org.apache.hugegraph.computer.core.common.ComputerContext;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.compute.VertexIndex;
+import org.apache.hugegraph.computer.core.compute.column.ValueColumn;
+import org.apache.hugegraph.computer.core.compute.input.ReusablePointer;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.io.BytesInput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.network.buffer.FileRegionBuffer;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
+import org.apache.hugegraph.computer.core.receiver.MessageStat;
+import org.apache.hugegraph.util.E;
+
+/**
+ * Combine the received messages of a partition into one slot per target
+ * vertex by the configured combiner, the slot is located by the index of
+ * the target vertex in the partition. The values are kept in a
+ * {@link ValueColumn}, so the messages of fixed width number class are
+ * combined into a primitive array directly instead of being sorted and
+ * merged to files.
+ */
+public class CombinedMessageArray {
+
+    private final VertexIndex vertexIndex;
+    private final Combiner<Value> combiner;
+    private final ValueColumn values;
+    private final BitSet exists;
+
+    private final ReusablePointer idPointer;
+    private final Value message;
+    private final Value combined;
+    private final Value result;
+
+    private long messageCount;
+    private long messageBytes;
+
+    public CombinedMessageArray(ComputerContext context,
+                                VertexIndex vertexIndex) {
+        Config config = context.config();
+        this.vertexIndex = vertexIndex;
+        this.combiner = config.createObject(
+                        ComputerOptions.WORKER_COMBINER_CLASS, false);
+        E.checkArgument(this.combiner != null,
+                        "The combiner can't be null for combined message " +
+                        "array");
+        this.message = config.createObject(
+                       ComputerOptions.ALGORITHM_MESSAGE_CLASS);
+        this.combined = this.message.copy();
+        this.result = this.message.copy();
+        this.values = ValueColumn.create(this.message, vertexIndex.size());
+        this.exists = new BitSet(vertexIndex.size());
+        this.idPointer = new ReusablePointer();
+    }
+
+    public int partition() {
+        return this.vertexIndex.partition();
+    }
+
+    /**
+     * Combine the messages of the buffer into the slots of the targets,
+     * the messages to the vertices not in the partition are ignored.
+     */
+    public synchronized void addBuffer(NetworkBuffer buffer) {
+        byte[] bytes;
+        if (buffer instanceof FileRegionBuffer) {
+            File file = new File(((FileRegionBuffer) buffer).path());
+            try {
+                bytes = FileUtils.readFileToByteArray(file);
+            } catch (IOException e) {
+                throw new ComputerException("Failed to read messages from " +
+                                            "file '%s'", e, file);
+            }
+            FileUtils.deleteQuietly(file);
+        } else {
+            bytes = buffer.copyToByteArray();
+        }
+
+        BytesInput input = IOFactory.createBytesInput(bytes);
+        try {
+            while (input.available() > 0) {
+                this.idPointer.read(input);
+                int valueLength = input.readFixedInt();
+                long valueEnd = input.position() + valueLength;
+                this.messageCount++;
+
+                int index = this.vertexIndex.indexOf(this.idPointer);
+                if (index < 0) {
+                    input.seek(valueEnd);
+                    continue;
+                }
+                this.message.read(input);
+                this.combine(index, this.message);
+                assert input.position() == valueEnd;
+            }
+        } catch (IOException e) {
+            throw new ComputerException("Failed to combine messages of " +
+                                        "partition %s", e, this.partition());
+        }
+        this.messageBytes += bytes.length;
+    }
+
+    /**
+     * Combine the message into the slot of the vertex at the index, the
+     * message is not kept by the array and can be reused by the caller.
+     */
+    public void combine(int index, Value message) {
+        if (this.exists.get(index)) {
+            Value combined = this.values.read(index, this.combined);
+            this.combiner.combine(combined, message, this.result);
+            this.values.write(index, this.result);
+        } else {
+            this.values.write(index, message);
+            this.exists.set(index);
+        }
+    }
+
+    public boolean hasMessage(int index) {
+        return this.exists.get(index);
+    }
+
+    /**
+     * Read the combined message of the vertex at the index, the returned
+     * value may be the specified reused value.
+     */
+    public Value message(int index, Value reused) {
+        E.checkArgument(this.exists.get(index),
+                        "No message for the vertex at index %s", index);
+        return this.values.read(index, reused);
+    }
+
+    /**
+     * Remove the combined message of the vertex at the index.
+     */
+    public void remove(int index) {
+        this.exists.clear(index);
+    }
+
+    public synchronized MessageStat messageStat() {
+        return new MessageStat(this.messageCount, this.messageBytes);
+    }
+
+    /**
+     * Clear the messages to reuse the array in next superstep.
+     */
+    public synchronized void clear() {
+        this.exists.clear();
+        this.messageCount = 0L;
+        this.messageBytes = 0L;
+    }
+}
@@ -27,16 +27,20 @@ import org.apache.hugegraph.computer.core.graph.value.Value;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.receiver.MessageRecvPartition;
 import org.apache.hugegraph.computer.core.sort.flusher.CombineKvOuterSortFlusher;
+import org.apache.hugegraph.computer.core.sort.flusher.CombineKvPeekableIterator;
 import org.apache.hugegraph.computer.core.sort.flusher.KvOuterSortFlusher;
 import org.apache.hugegraph.computer.core.sort.flusher.OuterSortFlusher;
+import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
 import org.apache.hugegraph.computer.core.sort.sorting.SortManager;
 import org.apache.hugegraph.computer.core.store.SuperstepFileGenerator;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
 
 public class ComputeMessageRecvPartition extends MessageRecvPartition {
 
     private static final String TYPE = MessageType.MSG.name().toLowerCase();
 
-    private final OuterSortFlusher flusher;
+    private final ComputerContext context;
+    private final boolean withCombiner;
 
     public ComputeMessageRecvPartition(ComputerContext context,
                                        SuperstepFileGenerator fileGenerator,
@@ -46,17 +50,35 @@ public class ComputeMessageRecvPartition extends MessageRecvPartition {
         Combiner<Value> combiner = config.createObject(
                                    ComputerOptions.WORKER_COMBINER_CLASS,
                                    false);
-        if (combiner == null) {
-            this.flusher = new KvOuterSortFlusher();
-        } else {
-            PointerCombiner pointerCombiner = new MessageValueCombiner(context);
-            this.flusher = new CombineKvOuterSortFlusher(pointerCombiner);
-        }
+        this.context = context;
+        this.withCombiner = combiner != null;
     }
 
     @Override
     protected OuterSortFlusher outerSortFlusher() {
-        return this.flusher;
+        if (!this.withCombiner) {
+            return new KvOuterSortFlusher();
+        }
+        PointerCombiner combiner = new MessageValueCombiner(this.context);
+        return new CombineKvOuterSortFlusher(combiner);
+    }
+
+    @Override
+    protected PeekableIterator<KvEntry> combineRuns(
+                                        PeekableIterator<KvEntry> runs,
+                                        int runNum) {
+        if (!this.withCombiner) {
+            // The messages of a vertex are iterated one by one
+            return runs;
+        }
+        PointerCombiner combiner = new MessageValueCombiner(this.context);
+        return new CombineKvPeekableIterator(runs, combiner);
+    }
+
+    @Override
+    protected boolean countMessages() {
+        // Decide whether the next superstep is sparse by the message count
+        return true;
     }
 
     @Override
@@ -23,29 +23,38 @@ import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.receiver.MessageRecvPartition;
 import org.apache.hugegraph.computer.core.sort.flusher.CombineKvOuterSortFlusher;
+import org.apache.hugegraph.computer.core.sort.flusher.CombineKvPeekableIterator;
 import org.apache.hugegraph.computer.core.sort.flusher.OuterSortFlusher;
+import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
 import org.apache.hugegraph.computer.core.sort.sorting.SortManager;
 import org.apache.hugegraph.computer.core.store.SuperstepFileGenerator;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
 
 public class VertexMessageRecvPartition extends MessageRecvPartition {
 
     private static final String TYPE = MessageType.VERTEX.name().toLowerCase();
 
-    private final OuterSortFlusher flusher;
+    private final ComputerContext context;
 
     public VertexMessageRecvPartition(ComputerContext context,
                                       SuperstepFileGenerator fileGenerator,
                                       SortManager sortManager) {
         super(context.config(), fileGenerator, sortManager, false);
-
-        PointerCombiner combiner = new VertexValueCombiner(context);
-
-        this.flusher = new CombineKvOuterSortFlusher(combiner);
+        this.context = context;
     }
 
     @Override
     protected OuterSortFlusher outerSortFlusher() {
-        return this.flusher;
+        PointerCombiner combiner = new VertexValueCombiner(this.context);
+        return new CombineKvOuterSortFlusher(combiner);
+    }
+
+    @Override
+    protected PeekableIterator<KvEntry> combineRuns(
+                                        PeekableIterator<KvEntry> runs,
+                                        int runNum) {
+        PointerCombiner combiner = new VertexValueCombiner(this.context);
+        return new CombineKvPeekableIterator(runs, combiner);
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.apache.hugegraph.computer.core.receiver.vertex;
 import java.util.List;
 
 import org.apache.hugegraph.computer.core.common.ComputerContext;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.receiver.MessageRecvPartitions;
 import org.apache.hugegraph.computer.core.snapshot.SnapshotManager;
@@ -43,6 +44,12 @@ public class VertexMessageRecvPartitions
                                               this.sortManager);
     }
 
+    @Override
+    protected boolean needOutputFiles() {
+        // The output files are uploaded as the snapshot
+        return this.config.get(ComputerOptions.SNAPSHOT_WRITE);
+    }
+
     @Override
     public void writePartitionSnapshot(int partitionId, List<String> outputFiles) {
         if (this.snapshotManager.writeSnapshot()) {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.sender;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hugegraph.computer.core.combiner.Combiner;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+
+/**
+ * A bounded hash table that combines the messages sent to the same target
+ * vertex by the combiner before they are serialized into the write buffer.
+ * It's not thread safe, it belongs to the WriteBuffers of a partition and a
+ * sending thread.
+ */
+class MessageCombineTable {
+
+    private final Combiner<Value> combiner;
+    private final int maxEntries;
+    private final Map<Id, Value> messages;
+
+    public MessageCombineTable(Combiner<Value> combiner, int maxEntries) {
+        assert combiner != null && maxEntries > 0;
+        this.combiner = combiner;
+        this.maxEntries = maxEntries;
+        this.messages = new HashMap<>(maxEntries << 1);
+    }
+
+    /**
+     * Combine the message into the table, the target id and the message
+     * are copied because the caller may reuse them.
+     * @return true if the number of target vertices reaches the max entries,
+     * means the table needs to be flushed.
+     */
+    public boolean add(Id targetId, Value message) {
+        Value combined = this.messages.get(targetId);
+        if (combined == null) {
+            this.messages.put((Id) targetId.copy(), message.copy());
+            return this.messages.size() >= this.maxEntries;
+        }
+        /*
+         * The combiner may assign v2 to the result, which is a shallow copy
+         * for the values of variable length like list.
+         */
+        if (message.valueType().byteSize() < 0) {
+            message = message.copy();
+        }
+        this.combiner.combine(combined, message, combined);
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return this.messages.isEmpty();
+    }
+
+    public int size() {
+        return this.messages.size();
+    }
+
+    public Map<Id, Value> messages() {
+        return this.messages;
+    }
+
+    public void clear() {
+        this.messages.clear();
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.hugegraph.computer.core.sender;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.hugegraph.util.E;
 
@@ -29,6 +30,8 @@ class MessageQueue {
 
     private final BlockingQueue<QueuedMessage> queue;
     private final Runnable notEmptyNotifier;
+    // The max number of messages in the queue, for metrics
+    private final AtomicInteger maxSize;
 
     public MessageQueue(Runnable notEmptyNotifier) {
         E.checkArgumentNotNull(notEmptyNotifier,
@@ -37,10 +40,15 @@ class MessageQueue {
         // TODO: replace with disruptor queue
         this.queue = new LinkedBlockingQueue<>(128);
         this.notEmptyNotifier = notEmptyNotifier;
+        this.maxSize = new AtomicInteger();
     }
 
     public void put(QueuedMessage message) throws InterruptedException {
         this.queue.put(message);
+        int size = this.queue.size();
+        if (size > this.maxSize.get()) {
+            this.maxSize.accumulateAndGet(size, Math::max);
+        }
         /*
          * TODO: Try to optimize, don't signal every time when the queue
          * is not empty
@@ -55,4 +63,12 @@ class MessageQueue {
     public QueuedMessage take() throws InterruptedException {
         return this.queue.take();
     }
+
+    public int size() {
+        return this.queue.size();
+    }
+
+    public int maxSize() {
+        return this.maxSize.get();
+    }
 }
@@ -198,8 +198,8 @@ public class MessageSendManager implements Manager {
             // The following code is also executed in sort thread
             buffer.finishSorting();
             // Each target worker has a buffer queue
-            QueuedMessage message = new QueuedMessage(partitionId, type,
-                                                      sortedBuffer);
+            QueuedMessage message = QueuedMessage.of(partitionId, type,
+                                                     sortedBuffer);
             try {
                 this.sender.send(workerId, message);
             } catch (InterruptedException e) {
@@ -19,20 +19,36 @@ package org.apache.hugegraph.computer.core.sender;
 
 import java.nio.ByteBuffer;
 
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
+import org.apache.hugegraph.computer.core.network.buffer.NioBuffer;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 
 public class QueuedMessage {
 
     private final int partitionId;
     private final MessageType type;
-    private final ByteBuffer buffer;
+    private final NetworkBuffer buffer;
 
     public QueuedMessage(int partitionId, MessageType type, ByteBuffer buffer) {
+        this(partitionId, type, buffer == null ? null : new NioBuffer(buffer));
+    }
+
+    private QueuedMessage(int partitionId, MessageType type,
+                          NetworkBuffer buffer) {
         this.partitionId = partitionId;
         this.type = type;
         this.buffer = buffer;
     }
 
+    /**
+     * Create the message of the buffer, the buffer is released after it's
+     * sent, like the pooled buffer of the sorted messages.
+     */
+    public static QueuedMessage of(int partitionId, MessageType type,
+                                   NetworkBuffer buffer) {
+        return new QueuedMessage(partitionId, type, buffer);
+    }
+
     public int partitionId() {
         return this.partitionId;
     }
@@ -42,6 +58,10 @@ public class QueuedMessage {
     }
 
     public ByteBuffer buffer() {
+        return this.buffer == null ? null : this.buffer.nioByteBuffer();
+    }
+
+    public NetworkBuffer networkBuffer() {
         return this.buffer;
     }
 }
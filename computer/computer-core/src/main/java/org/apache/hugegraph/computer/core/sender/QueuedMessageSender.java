@@ -17,6 +17,8 @@
 
 package org.apache.hugegraph.computer.core.sender;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -26,6 +28,7 @@ import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
 import org.apache.hugegraph.computer.core.network.ConnectionId;
 import org.apache.hugegraph.computer.core.network.TransportClient;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.concurrent.BarrierEvent;
 import org.apache.hugegraph.util.E;
@@ -40,45 +43,67 @@ public class QueuedMessageSender implements MessageSender {
 
     // Each target worker has a WorkerChannel
     private final WorkerChannel[] channels;
-    // The thread used to send vertex/message, only one is enough
-    private final Thread sendExecutor;
-    private final BarrierEvent anyQueueNotEmptyEvent;
-    private final BarrierEvent anyClientNotBusyEvent;
+    /*
+     * The threads used to send vertex/message, each target worker is
+     * assigned to one of them by the worker id
+     */
+    private final Sender[] senders;
 
     public QueuedMessageSender(Config config) {
         int workerCount = config.get(ComputerOptions.JOB_WORKERS_COUNT);
+        int threadNums = config.get(ComputerOptions.WORKER_SEND_THREAD_NUMS);
         // NOTE: the workerId start from 1
         this.channels = new WorkerChannel[workerCount];
-        // TODO: pass send-executor in and share executor with others
-        this.sendExecutor = new Thread(new Sender(), NAME);
-        this.anyQueueNotEmptyEvent = new BarrierEvent();
-        this.anyClientNotBusyEvent = new BarrierEvent();
+        // It's meaningless to start more threads than target workers
+        this.senders = new Sender[Math.min(threadNums, workerCount)];
+        for (int i = 0; i < this.senders.length; i++) {
+            String name = this.senders.length == 1 ? NAME : NAME + "-" + i;
+            this.senders[i] = new Sender(name);
+        }
     }
 
     public void init() {
         for (WorkerChannel channel : this.channels) {
             E.checkNotNull(channel, "channel");
         }
-        this.sendExecutor.start();
+        for (int i = 0; i < this.channels.length; i++) {
+            this.senderOf(i).channels.add(this.channels[i]);
+        }
+        for (Sender sender : this.senders) {
+            sender.thread.start();
+        }
     }
 
     public void close() {
-        this.sendExecutor.interrupt();
+        for (Sender sender : this.senders) {
+            sender.thread.interrupt();
+        }
         try {
-            this.sendExecutor.join();
+            for (Sender sender : this.senders) {
+                sender.thread.join();
+            }
         } catch (InterruptedException e) {
             throw new ComputerException("Interrupted when waiting for " +
                                         "send-executor to stop", e);
         }
+        for (WorkerChannel channel : this.channels) {
+            if (channel != null) {
+                LOG.info("Sent {} buffers({} bytes) to worker {}, the max " +
+                         "queue depth is {}", channel.sentCount,
+                         channel.sentBytes, channel.workerId,
+                         channel.queue.maxSize());
+            }
+        }
     }
 
     public void addWorkerClient(int workerId, TransportClient client) {
+        Sender sender = this.senderOf(channelId(workerId));
         MessageQueue queue = new MessageQueue(
-                             this.anyQueueNotEmptyEvent::signal);
+                             sender.anyQueueNotEmptyEvent::signal);
         WorkerChannel channel = new WorkerChannel(workerId, queue, client);
         this.channels[channelId(workerId)] = channel;
-        LOG.info("Add client {} for worker {}",
-                 client.connectionId(), workerId);
+        LOG.info("Add client {} for worker {} to {}",
+                 client.connectionId(), workerId, sender.thread.getName());
     }
 
     @Override
@@ -113,25 +138,63 @@ public class QueuedMessageSender implements MessageSender {
         }
     }
 
+    /**
+     * @return the number of messages waiting to be sent to the worker
+     */
+    public int queueDepth(int workerId) {
+        return this.channels[channelId(workerId)].queue.size();
+    }
+
     public Runnable notBusyNotifier() {
         /*
          * DataClientHandler.sendAvailable() will call it when client
-         * is available
+         * is available, it's unknown which sender the client belongs to
          */
-        return this.anyClientNotBusyEvent::signal;
+        return () -> {
+            for (Sender sender : this.senders) {
+                sender.anyClientNotBusyEvent.signal();
+            }
+        };
     }
 
-    private class Sender implements Runnable {
+    private Sender senderOf(int channelId) {
+        return this.senders[channelId % this.senders.length];
+    }
+
+    private static class Sender implements Runnable {
+
+        private final Thread thread;
+        private final List<WorkerChannel> channels;
+        private final BarrierEvent anyQueueNotEmptyEvent;
+        private final BarrierEvent anyClientNotBusyEvent;
+        // The channel to start with in a round, for fairness
+        private int startChannel;
+
+        public Sender(String name) {
+            this.thread = new Thread(this, name);
+            this.channels = new ArrayList<>();
+            this.anyQueueNotEmptyEvent = new BarrierEvent();
+            this.anyClientNotBusyEvent = new BarrierEvent();
+            this.startChannel = 0;
+        }
 
         @Override
         public void run() {
-            LOG.info("The send-executor is running");
+            LOG.info("The {} is running", this.thread.getName());
             Thread thread = Thread.currentThread();
             while (!thread.isInterrupted()) {
                 try {
                     int emptyQueueCount = 0;
                     int busyClientCount = 0;
-                    for (WorkerChannel channel : channels) {
+                    int channelCount = this.channels.size();
+                    /*
+                     * Send at most one message to each channel in a round,
+                     * and rotate the first channel of each round, so that a
+                     * channel with a long queue can't starve the others
+                     */
+                    for (int i = 0; i < channelCount; i++) {
+                        WorkerChannel channel = this.channels.get(
+                                (this.startChannel + i) % channelCount);
                         QueuedMessage message = channel.queue.peek();
                         if (message == null) {
                             ++emptyQueueCount;
@@ -144,30 +207,32 @@ public class QueuedMessageSender implements MessageSender {
                             ++busyClientCount;
                         }
                     }
-                    int channelCount = channels.length;
+                    if (++this.startChannel >= channelCount) {
+                        this.startChannel = 0;
+                    }
                     /*
                      * If all queues are empty, let send thread wait
                      * until any queue is available
                      */
                     if (emptyQueueCount >= channelCount) {
-                        LOG.debug("The send executor was blocked " +
-                                  "to wait any queue not empty");
-                        QueuedMessageSender.this.waitAnyQueueNotEmpty();
+                        LOG.debug("The {} was blocked to wait any queue " +
+                                  "not empty", this.thread.getName());
+                        this.waitAnyQueueNotEmpty();
                     }
                     /*
                      * If all clients are busy, let send thread wait
                      * until any client is available
                      */
                     if (busyClientCount >= channelCount) {
-                        LOG.debug("The send executor was blocked " +
-                                  "to wait any client not busy");
-                        QueuedMessageSender.this.waitAnyClientNotBusy();
+                        LOG.debug("The {} was blocked to wait any client " +
+                                  "not busy", this.thread.getName());
+                        this.waitAnyClientNotBusy();
                     }
                 } catch (InterruptedException e) {
                     // Reset interrupted flag
                     thread.interrupt();
                     // Any client is active means that sending task in running
-                    if (QueuedMessageSender.this.activeClientCount() > 0) {
+                    if (this.activeClientCount() > 0) {
                         throw new ComputerException(
                                   "Interrupted when waiting for message " +
                                   "queue not empty");
@@ -177,42 +242,42 @@ public class QueuedMessageSender implements MessageSender {
                     throw new ComputerException("Failed to send message", e);
                 }
             }
-            LOG.info("The send-executor is terminated");
+            LOG.info("The {} is terminated", this.thread.getName());
         }
-    }
 
-    private void waitAnyQueueNotEmpty() {
-        try {
-            this.anyQueueNotEmptyEvent.await();
-        } catch (InterruptedException e) {
-            // Reset interrupted flag
-            Thread.currentThread().interrupt();
-        } finally {
-            this.anyQueueNotEmptyEvent.reset();
+        private void waitAnyQueueNotEmpty() {
+            try {
+                this.anyQueueNotEmptyEvent.await();
+            } catch (InterruptedException e) {
+                // Reset interrupted flag
+                Thread.currentThread().interrupt();
+            } finally {
+                this.anyQueueNotEmptyEvent.reset();
+            }
         }
-    }
 
-    private void waitAnyClientNotBusy() {
-        try {
-            this.anyClientNotBusyEvent.await();
-        } catch (InterruptedException e) {
-            // Reset interrupted flag
-            Thread.currentThread().interrupt();
-            throw new ComputerException("Interrupted when waiting any client " +
-                                        "not busy");
-        } finally {
-            this.anyClientNotBusyEvent.reset();
+        private void waitAnyClientNotBusy() {
+            try {
+                this.anyClientNotBusyEvent.await();
+            } catch (InterruptedException e) {
+                // Reset interrupted flag
+                Thread.currentThread().interrupt();
+                throw new ComputerException("Interrupted when waiting any " +
+                                            "client not busy");
+            } finally {
+                this.anyClientNotBusyEvent.reset();
+            }
         }
-    }
 
-    private int activeClientCount() {
-        int count = 0;
-        for (WorkerChannel channel : this.channels) {
-            if (channel.client.sessionActive()) {
-                ++count;
+        private int activeClientCount() {
+            int count = 0;
+            for (WorkerChannel channel : this.channels) {
+                if (channel.client.sessionActive()) {
+                    ++count;
+                }
             }
+            return count;
         }
-        return count;
     }
 
     private static int channelId(int workerId) {
@@ -228,6 +293,9 @@ public class QueuedMessageSender implements MessageSender {
         // Each target worker has a TransportClient
         private final TransportClient client;
         private final AtomicReference<CompletableFuture<Void>> futureRef;
+        // Only updated by the sender thread of the channel
+        private long sentCount;
+        private long sentBytes;
 
         public WorkerChannel(int workerId, MessageQueue queue,
                              TransportClient client) {
@@ -300,8 +368,15 @@ public class QueuedMessageSender implements MessageSender {
 
         public boolean sendDataMessage(QueuedMessage message)
                                        throws TransportException {
-            return this.client.send(message.type(), message.partitionId(),
-                                    message.buffer());
+            NetworkBuffer buffer = message.networkBuffer();
+            int bytes = buffer.length();
+            if (!this.client.send(message.type(), message.partitionId(),
+                                  buffer)) {
+                return false;
+            }
+            this.sentCount++;
+            this.sentBytes += bytes;
+            return true;
         }
 
         @Override
@@ -18,9 +18,13 @@
 package org.apache.hugegraph.computer.core.sender;
 
 import java.io.IOException;
+import java.util.Map;
 
+import org.apache.hugegraph.computer.core.combiner.Combiner;
 import org.apache.hugegraph.computer.core.common.ComputerContext;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.config.Config;
 import org.apache.hugegraph.computer.core.graph.id.Id;
 import org.apache.hugegraph.computer.core.graph.value.Value;
 import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
@@ -36,6 +40,8 @@ public class WriteBuffers {
     private WriteBuffer writingBuffer;
     // For sorting
     private WriteBuffer sortingBuffer;
+    // For combining messages before writing, null if disabled
+    private final MessageCombineTable combineTable;
     // Total count & bytes written
     private long totalCount;
     private long totalBytes;
@@ -52,16 +58,33 @@ public class WriteBuffers {
                         threshold, capacity);
         this.writingBuffer = new WriteBuffer(context, threshold, capacity);
         this.sortingBuffer = new WriteBuffer(context, threshold, capacity);
+        this.combineTable = createCombineTable(context.config());
         this.totalCount = 0L;
         this.totalBytes = 0L;
     }
 
+    private static MessageCombineTable createCombineTable(Config config) {
+        int maxEntries = config.get(
+                         ComputerOptions.WORKER_SEND_COMBINE_ENTRIES);
+        if (maxEntries <= 0) {
+            return null;
+        }
+        Combiner<Value> combiner = config.createObject(
+                                   ComputerOptions.WORKER_COMBINER_CLASS,
+                                   false);
+        if (combiner == null) {
+            return null;
+        }
+        return new MessageCombineTable(combiner, maxEntries);
+    }
+
     public boolean reachThreshold() {
         return this.writingBuffer.reachThreshold();
     }
 
     public boolean isEmpty() {
-        return this.writingBuffer.isEmpty();
+        return this.writingBuffer.isEmpty() &&
+               (this.combineTable == null || this.combineTable.isEmpty());
     }
 
     public void resetMessageWritten() {
@@ -83,7 +106,22 @@ public class WriteBuffers {
 
     public synchronized void writeMessage(Id targetId, Value value)
                                           throws IOException {
-        this.writingBuffer.writeMessage(targetId, value);
+        if (this.combineTable == null) {
+            this.writingBuffer.writeMessage(targetId, value);
+        } else if (this.combineTable.add(targetId, value)) {
+            this.flushCombineTable();
+        }
+    }
+
+    private void flushCombineTable() throws IOException {
+        if (this.combineTable == null || this.combineTable.isEmpty()) {
+            return;
+        }
+        Map<Id, Value> messages = this.combineTable.messages();
+        for (Map.Entry<Id, Value> entry : messages.entrySet()) {
+            this.writingBuffer.writeMessage(entry.getKey(), entry.getValue());
+        }
+        this.combineTable.clear();
     }
 
     public synchronized void switchForSorting() {
@@ -98,6 +136,13 @@ public class WriteBuffers {
      * single thread
      */
     public synchronized void prepareSorting() {
+        // Write the messages still being combined
+        try {
+            this.flushCombineTable();
+        } catch (IOException e) {
+            throw new ComputerException("Failed to write combined messages",
+                                        e);
+        }
         // Ensure last sorting task finished
         while (!this.sortingBuffer.isEmpty()) {
             try {
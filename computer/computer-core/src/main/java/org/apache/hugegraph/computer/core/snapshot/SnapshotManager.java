@@ -17,7 +17,9 @@
 
 package org.apache.hugegraph.computer.core.snapshot;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedList;
@@ -30,20 +32,24 @@ import org.apache.hugegraph.computer.core.common.ContainerInfo;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.graph.SchemaDictionary;
 import org.apache.hugegraph.computer.core.graph.partition.Partitioner;
 import org.apache.hugegraph.computer.core.manager.Manager;
 import org.apache.hugegraph.computer.core.network.buffer.FileRegionBuffer;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.receiver.MessageRecvManager;
 import org.apache.hugegraph.computer.core.sender.MessageSendManager;
+import org.apache.hugegraph.computer.core.util.SerializeUtil;
 import org.apache.hugegraph.util.Log;
 import org.slf4j.Logger;
 
 import io.minio.BucketExistsArgs;
 import io.minio.DownloadObjectArgs;
+import io.minio.GetObjectArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectsArgs;
 import io.minio.Result;
 import io.minio.UploadObjectArgs;
@@ -55,6 +61,7 @@ public class SnapshotManager implements Manager {
 
     private static final Logger LOG = Log.logger(SnapshotManager.class);
     public static final String NAME = "worker_snapshot";
+    private static final String SCHEMA_DICTIONARY = "SCHEMA_DICTIONARY";
 
     private final MessageSendManager sendManager;
     private final MessageRecvManager recvManager;
@@ -65,6 +72,8 @@ public class SnapshotManager implements Manager {
     private final boolean loadSnapshot;
     private final boolean writeSnapshot;
     private final String snapshotName;
+    private final SchemaDictionary schemaDictionary;
+    private volatile boolean schemaDictionaryUploaded;
 
     private MinioClient minioClient;
     private String bucketName;
@@ -82,6 +91,8 @@ public class SnapshotManager implements Manager {
         this.partitioner = context.config().createObject(ComputerOptions.WORKER_PARTITIONER);
         this.partitionCount = context.config().get(ComputerOptions.JOB_PARTITIONS_COUNT);
         this.snapshotName = context.config().get(ComputerOptions.SNAPSHOT_NAME);
+        this.schemaDictionary = context.graphFactory().schemaDictionary();
+        this.schemaDictionaryUploaded = false;
     }
 
     @Override
@@ -137,10 +148,12 @@ public class SnapshotManager implements Manager {
                       messageType.name().toLowerCase(Locale.ROOT));
             return;
         }
+        this.uploadSchemaDictionary();
         this.uploadObjects(messageType, partitionId, outputFiles);
     }
 
     public void load() {
+        this.loadSchemaDictionary();
         int id = this.workerInfo.id();
         for (int partitionId = 0; partitionId < this.partitionCount; partitionId++) {
             if (this.partitioner.workerId(partitionId) == id) {
@@ -156,6 +169,70 @@ public class SnapshotManager implements Manager {
         }
     }
 
+    /**
+     * The names in the snapshot files are encoded by the schema dictionary,
+     * the ids of the names are shifted if the schema is changed, so the
+     * dictionary is kept with the snapshot.
+     */
+    private void uploadSchemaDictionary() {
+        if (this.schemaDictionaryUploaded) {
+            return;
+        }
+        synchronized (this) {
+            if (this.schemaDictionaryUploaded) {
+                return;
+            }
+            String objectName = this.generateSchemaDictionaryName();
+            byte[] bytes = SerializeUtil.toBytes(this.schemaDictionary);
+            try {
+                this.minioClient.putObject(PutObjectArgs.builder()
+                                                        .bucket(this.bucketName)
+                                                        .object(objectName)
+                                                        .stream(new ByteArrayInputStream(bytes),
+                                                                bytes.length, -1L)
+                                                        .build());
+            } catch (Exception e) {
+                throw new ComputerException("Failed to upload schema dictionary to %s",
+                                            objectName, e);
+            }
+            this.schemaDictionaryUploaded = true;
+        }
+    }
+
+    /**
+     * Decode the snapshot files with the dictionary they were written with,
+     * every worker loads the same one, so the names sent between workers
+     * are still encoded in the same way.
+     */
+    private void loadSchemaDictionary() {
+        String objectName = this.generateSchemaDictionaryName();
+        byte[] bytes;
+        try (InputStream input = this.minioClient.getObject(
+                                 GetObjectArgs.builder()
+                                              .bucket(this.bucketName)
+                                              .object(objectName)
+                                              .build())) {
+            bytes = input.readAllBytes();
+        } catch (Exception e) {
+            throw new ComputerException("Failed to load schema dictionary of snapshot from %s",
+                                        objectName, e);
+        }
+
+        SchemaDictionary snapshotDictionary = new SchemaDictionary();
+        SerializeUtil.fromBytes(bytes, snapshotDictionary);
+        if (!snapshotDictionary.names().equals(this.schemaDictionary.names())) {
+            LOG.info("The schema is changed since the snapshot is written, " +
+                     "load the schema dictionary of snapshot with {} names",
+                     snapshotDictionary.size());
+            SerializeUtil.fromBytes(bytes, this.schemaDictionary);
+        }
+        if (!snapshotDictionary.names().equals(this.schemaDictionary.names())) {
+            throw new ComputerException("The schema dictionary of snapshot %s doesn't " +
+                                        "match the schema dictionary %s of job",
+                                        snapshotDictionary, this.schemaDictionary);
+        }
+    }
+
     private void uploadObjects(MessageType messageType, int partitionId,
                                List<String> outputFiles) {
         String dirName = this.generateObjectDirName(messageType, partitionId);
@@ -260,6 +337,15 @@ public class SnapshotManager implements Manager {
         }
     }
 
+    private String generateSchemaDictionaryName() {
+        // object name: {SNAPSHOT_NAME}/{PARTITIONER}/{PARTITION_COUNT}/SCHEMA_DICTIONARY
+        Path path = Paths.get(this.snapshotName,
+                              this.partitioner.getClass().getSimpleName(),
+                              String.valueOf(this.partitionCount),
+                              SCHEMA_DICTIONARY);
+        return path.toString();
+    }
+
     private String generateObjectDirName(MessageType messageType, int partitionId) {
         // dir name: {SNAPSHOT_NAME}/{PARTITIONER}/{PARTITION_COUNT}/VERTEX/{PARTITION_ID}/
         Path path = Paths.get(this.snapshotName,
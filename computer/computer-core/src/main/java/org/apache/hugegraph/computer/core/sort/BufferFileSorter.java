@@ -20,6 +20,7 @@ package org.apache.hugegraph.computer.core.sort;
 import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.hugegraph.computer.core.config.Config;
@@ -78,28 +79,66 @@ public class BufferFileSorter implements Sorter {
     public void mergeInputs(List<String> inputs, OuterSortFlusher flusher,
                             List<String> outputs, boolean withSubKv)
                             throws Exception {
-        Function<String, EntryIterator> fileToInput;
-        Function<String, KvEntryFileWriter> fileToWriter;
-        if (withSubKv) {
-            fileToInput = o -> new BufferFileSubEntryReader(o).iterator();
-        } else {
-            fileToInput = o -> new BufferFileEntryReader(o).iterator();
-        }
-        fileToWriter = BufferFileEntryBuilder::new;
+        List<SelectedFiles> selectResult = this.selectInputs(inputs, outputs);
+        this.sorter.mergeFile(selectResult, this.fileToInput(withSubKv),
+                              BufferFileEntryBuilder::new, flusher);
+    }
 
-        InputFilesSelector selector = new DisperseEvenlySelector();
-        List<SelectedFiles> selectResult = selector.selectedByBufferFile(
-                                                    inputs, outputs);
-        this.sorter.mergeFile(selectResult, fileToInput, fileToWriter, flusher);
+    @Override
+    public void mergeInputs(List<String> inputs,
+                            Supplier<OuterSortFlusher> flushers,
+                            List<String> outputs, boolean withSubKv)
+                            throws Exception {
+        List<SelectedFiles> selectResult = this.selectInputs(inputs, outputs);
+        this.sorter.mergeFile(selectResult, this.fileToInput(withSubKv),
+                              BufferFileEntryBuilder::new, flushers);
     }
 
     @Override
     public PeekableIterator<KvEntry> iterator(List<String> inputs,
                                               boolean withSubKv)
                                               throws IOException {
-        Function<String, EntryIterator> fileToEntries = input -> {
-            return new BufferFileEntryReader(input, withSubKv).iterator();
-        };
+        Function<String, EntryIterator> fileToEntries;
+        if (withSubKv && inputs.size() > 1) {
+            // Order the entries of the same key by the first subKv
+            fileToEntries = input -> {
+                return new BufferFileSubEntryReader(input).iterator();
+            };
+        } else {
+            fileToEntries = input -> {
+                return new BufferFileEntryReader(input, withSubKv).iterator();
+            };
+        }
         return this.sorter.iterator(inputs, fileToEntries);
     }
+
+    @Override
+    public PeekableIterator<KvEntry> buffersIterator(
+                                     List<RandomAccessInput> inputs,
+                                     boolean withSubKv)
+                                     throws IOException {
+        Function<RandomAccessInput, EntryIterator> bufferToEntries;
+        if (withSubKv && inputs.size() > 1) {
+            // Order the entries of the same key by the first subKv
+            bufferToEntries = KvEntriesWithFirstSubKvInput::new;
+        } else {
+            bufferToEntries = input -> new KvEntriesInput(input, withSubKv);
+        }
+        return this.sorter.iterator(inputs, bufferToEntries);
+    }
+
+    private List<SelectedFiles> selectInputs(List<String> inputs,
+                                             List<String> outputs)
+                                             throws IOException {
+        InputFilesSelector selector = new DisperseEvenlySelector();
+        return selector.selectedByBufferFile(inputs, outputs);
+    }
+
+    private Function<String, EntryIterator> fileToInput(boolean withSubKv) {
+        if (withSubKv) {
+            return o -> new BufferFileSubEntryReader(o).iterator();
+        } else {
+            return o -> new BufferFileEntryReader(o).iterator();
+        }
+    }
 }
@@ -18,8 +18,13 @@
 package org.apache.hugegraph.computer.core.sort;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.hugegraph.computer.core.config.Config;
@@ -32,7 +37,7 @@ import org.apache.hugegraph.computer.core.sort.merge.FileMergerImpl;
 import org.apache.hugegraph.computer.core.sort.sorter.InputSorter;
 import org.apache.hugegraph.computer.core.sort.sorter.InputsSorter;
 import org.apache.hugegraph.computer.core.sort.sorter.InputsSorterImpl;
-import org.apache.hugegraph.computer.core.sort.sorter.JavaInputSorter;
+import org.apache.hugegraph.computer.core.sort.sorter.PrefixKeyInputSorter;
 import org.apache.hugegraph.computer.core.store.EntryIterator;
 import org.apache.hugegraph.computer.core.store.KvEntryFileWriter;
 import org.apache.hugegraph.computer.core.store.entry.KvEntry;
@@ -41,14 +46,20 @@ import org.apache.hugegraph.computer.core.store.file.select.SelectedFiles;
 public class DefaultSorter {
 
     private final Config config;
+    private final Executor executor;
 
     public DefaultSorter(Config config) {
+        this(config, null);
+    }
+
+    public DefaultSorter(Config config, Executor executor) {
         this.config = config;
+        this.executor = executor;
     }
 
     public void sortBuffer(EntryIterator entries, InnerSortFlusher flusher)
                            throws Exception {
-        InputSorter sorter = new JavaInputSorter();
+        InputSorter sorter = new PrefixKeyInputSorter();
         flusher.flush(sorter.sort(entries));
     }
 
@@ -64,20 +75,61 @@ public class DefaultSorter {
                           Function<String, EntryIterator> fileToEntries,
                           Function<String, KvEntryFileWriter> fileToWriter,
                           OuterSortFlusher flusher) throws Exception {
+        // The flusher is shared, so merge the files in the caller thread
         FileMerger merger = new FileMergerImpl(this.config);
+        this.mergeFile(merger, selectedFiles, fileToEntries, fileToWriter,
+                       () -> flusher);
+    }
+
+    /**
+     * Merge the selected files to their outputs, the outputs and the sub
+     * merges of each output are merged concurrently in the executor.
+     */
+    public void mergeFile(List<SelectedFiles> selectedFiles,
+                          Function<String, EntryIterator> fileToEntries,
+                          Function<String, KvEntryFileWriter> fileToWriter,
+                          Supplier<OuterSortFlusher> flushers)
+                          throws Exception {
+        FileMerger merger = new FileMergerImpl(this.config, this.executor);
+        this.mergeFile(merger, selectedFiles, fileToEntries, fileToWriter,
+                       flushers);
+    }
+
+    private void mergeFile(FileMerger merger,
+                           List<SelectedFiles> selectedFiles,
+                           Function<String, EntryIterator> fileToEntries,
+                           Function<String, KvEntryFileWriter> fileToWriter,
+                           Supplier<OuterSortFlusher> flushers)
+                           throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(
+                                                selectedFiles.size());
         for (SelectedFiles select : selectedFiles) {
-            merger.merge(select.inputs(), fileToEntries,
-                         select.output(), fileToWriter, flusher);
+            futures.add(merger.merge(select.inputs(), fileToEntries,
+                                     select.output(), fileToWriter,
+                                     flushers));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                             .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
         }
     }
 
-    public PeekableIterator<KvEntry> iterator(
-           List<String> inputs, Function<String, EntryIterator> fileToEntries)
-           throws IOException {
+    public <T> PeekableIterator<KvEntry> iterator(
+               List<T> inputs, Function<T, EntryIterator> inputToEntries)
+               throws IOException {
         List<EntryIterator> entries = inputs.stream()
-                                            .map(fileToEntries)
+                                            .map(inputToEntries)
                                             .collect(Collectors.toList());
         InputsSorterImpl sorter = new InputsSorterImpl();
-        return PeekableIteratorAdaptor.of(sorter.sort(entries));
+        EntryIterator result = sorter.sort(entries);
+        if (!result.hasNext()) {
+            return PeekableIterator.emptyIterator();
+        }
+        return PeekableIteratorAdaptor.of(result);
     }
 }
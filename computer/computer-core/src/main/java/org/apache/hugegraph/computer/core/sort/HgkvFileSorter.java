@@ -19,7 +19,9 @@ package org.apache.hugegraph.computer.core.sort;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.hugegraph.computer.core.config.Config;
@@ -45,8 +47,12 @@ public class HgkvFileSorter implements Sorter {
     private final DefaultSorter sorter;
 
     public HgkvFileSorter(Config config) {
+        this(config, null);
+    }
+
+    public HgkvFileSorter(Config config, Executor executor) {
         this.config = config;
-        this.sorter = new DefaultSorter(config);
+        this.sorter = new DefaultSorter(config, executor);
     }
 
     @Override
@@ -81,28 +87,74 @@ public class HgkvFileSorter implements Sorter {
     public void mergeInputs(List<String> inputs, OuterSortFlusher flusher,
                             List<String> outputs, boolean withSubKv)
                             throws Exception {
-        Function<String, EntryIterator> fileToInput;
-        Function<String, KvEntryFileWriter> fileToWriter;
-        if (withSubKv) {
-            fileToInput = o -> new HgkvDir4SubKvReaderImpl(o).iterator();
-        } else {
-            fileToInput = o -> new HgkvDirReaderImpl(o).iterator();
-        }
-        fileToWriter = path -> new HgkvDirBuilderImpl(this.config, path);
+        List<SelectedFiles> selectResult = this.selectInputs(inputs, outputs);
+        this.sorter.mergeFile(selectResult, this.fileToInput(withSubKv),
+                              this::fileToWriter, flusher);
+    }
 
-        InputFilesSelector selector = new DisperseEvenlySelector();
-        List<SelectedFiles> selectResult = selector.selectedByHgkvFile(
-                                                    inputs, outputs);
-        this.sorter.mergeFile(selectResult, fileToInput, fileToWriter, flusher);
+    @Override
+    public void mergeInputs(List<String> inputs,
+                            Supplier<OuterSortFlusher> flushers,
+                            List<String> outputs, boolean withSubKv)
+                            throws Exception {
+        List<SelectedFiles> selectResult = this.selectInputs(inputs, outputs);
+        this.sorter.mergeFile(selectResult, this.fileToInput(withSubKv),
+                              this::fileToWriter, flushers);
     }
 
     @Override
     public PeekableIterator<KvEntry> iterator(List<String> inputs,
                                               boolean withSubKv)
                                               throws IOException {
-        Function<String, EntryIterator> fileToEntries = input -> {
-            return new HgkvDirReaderImpl(input, false, withSubKv).iterator();
-        };
+        Function<String, EntryIterator> fileToEntries;
+        if (withSubKv && inputs.size() > 1) {
+            /*
+             * Order the entries of the same key by the first subKv, so that
+             * the subKvs of the same key from several files can be merged
+             */
+            fileToEntries = input -> {
+                return new HgkvDir4SubKvReaderImpl(input, false).iterator();
+            };
+        } else {
+            fileToEntries = input -> {
+                return new HgkvDirReaderImpl(input, false, withSubKv)
+                           .iterator();
+            };
+        }
         return this.sorter.iterator(inputs, fileToEntries);
     }
+
+    @Override
+    public PeekableIterator<KvEntry> buffersIterator(
+                                     List<RandomAccessInput> inputs,
+                                     boolean withSubKv)
+                                     throws IOException {
+        Function<RandomAccessInput, EntryIterator> bufferToEntries;
+        if (withSubKv && inputs.size() > 1) {
+            // Order the entries of the same key by the first subKv
+            bufferToEntries = KvEntriesWithFirstSubKvInput::new;
+        } else {
+            bufferToEntries = input -> new KvEntriesInput(input, withSubKv);
+        }
+        return this.sorter.iterator(inputs, bufferToEntries);
+    }
+
+    private List<SelectedFiles> selectInputs(List<String> inputs,
+                                             List<String> outputs)
+                                             throws IOException {
+        InputFilesSelector selector = new DisperseEvenlySelector();
+        return selector.selectedByHgkvFile(inputs, outputs);
+    }
+
+    private Function<String, EntryIterator> fileToInput(boolean withSubKv) {
+        if (withSubKv) {
+            return o -> new HgkvDir4SubKvReaderImpl(o).iterator();
+        } else {
+            return o -> new HgkvDirReaderImpl(o).iterator();
+        }
+    }
+
+    private KvEntryFileWriter fileToWriter(String path) {
+        return new HgkvDirBuilderImpl(this.config, path);
+    }
 }
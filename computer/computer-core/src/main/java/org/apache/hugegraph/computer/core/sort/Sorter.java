@@ -19,6 +19,7 @@ package org.apache.hugegraph.computer.core.sort;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
 import org.apache.hugegraph.computer.core.sort.flusher.InnerSortFlusher;
@@ -103,9 +104,30 @@ public interface Sorter {
     void mergeInputs(List<String> inputs, OuterSortFlusher flusher,
                      List<String> outputs, boolean withSubKv) throws Exception;
 
+    /**
+     * Merge the n inputs into m outputs like
+     * {@link #mergeInputs(List, OuterSortFlusher, List, boolean)}, the
+     * outputs and the sub merges of each output are merged concurrently if
+     * the sorter has an executor.
+     * @param flushers Supply a flusher for each merge, because the flusher
+     *                 can't be shared by the concurrent merges.
+     */
+    void mergeInputs(List<String> inputs, Supplier<OuterSortFlusher> flushers,
+                     List<String> outputs, boolean withSubKv) throws Exception;
+
     /**
      * Get the iterator of <key, value> pair by increasing order of key.
      */
     PeekableIterator<KvEntry> iterator(List<String> inputs, boolean withSubKv)
                                        throws IOException;
+
+    /**
+     * Get the iterator of <key, value> pair by increasing order of key from
+     * the buffers directly, the buffers are merged on the fly without
+     * writing to file. The formats of the buffers are same as
+     * {@link #mergeBuffers(List, OuterSortFlusher, String, boolean)}.
+     */
+    PeekableIterator<KvEntry> buffersIterator(List<RandomAccessInput> inputs,
+                                              boolean withSubKv)
+                                              throws IOException;
 }
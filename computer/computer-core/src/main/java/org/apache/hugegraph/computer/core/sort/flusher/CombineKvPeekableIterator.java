@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.sort.flusher;
+
+import java.util.NoSuchElementException;
+
+import org.apache.hugegraph.computer.core.combiner.PointerCombiner;
+import org.apache.hugegraph.computer.core.store.entry.DefaultKvEntry;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.store.entry.Pointer;
+
+/**
+ * Combine the adjacent entries with the same key of a sorted iterator, it's
+ * used to iterate several sorted files whose keys may be overlapped.
+ * The combined entry is only valid before the next entry is fetched, so
+ * the next entry is combined lazily when it's peeked.
+ */
+public class CombineKvPeekableIterator implements PeekableIterator<KvEntry> {
+
+    private final PeekableIterator<KvEntry> entries;
+    private final PointerCombiner combiner;
+    private KvEntry next;
+
+    public CombineKvPeekableIterator(PeekableIterator<KvEntry> entries,
+                                     PointerCombiner combiner) {
+        this.entries = entries;
+        this.combiner = combiner;
+        this.next = null;
+    }
+
+    @Override
+    public KvEntry peek() {
+        if (this.next == null && this.entries.hasNext()) {
+            this.next = this.combineNext();
+        }
+        return this.next;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.peek() != null;
+    }
+
+    @Override
+    public KvEntry next() {
+        KvEntry next = this.peek();
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        this.next = null;
+        return next;
+    }
+
+    private KvEntry combineNext() {
+        KvEntry first = this.entries.next();
+        Pointer combineValue = first.value();
+        while (this.entries.hasNext()) {
+            KvEntry current = this.entries.peek();
+            if (first.compareTo(current) != 0) {
+                break;
+            }
+            this.entries.next();
+            combineValue = this.combiner.combine(combineValue,
+                                                 current.value());
+        }
+        if (combineValue == first.value()) {
+            return first;
+        }
+        return new DefaultKvEntry(first.key(), combineValue);
+    }
+
+    @Override
+    public void close() throws Exception {
+        this.entries.close();
+    }
+
+    @Override
+    public Object metadata(String s, Object... objects) {
+        return this.entries.metadata(s, objects);
+    }
+}
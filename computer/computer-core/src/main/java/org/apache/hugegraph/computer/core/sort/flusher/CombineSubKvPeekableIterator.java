@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.sort.flusher;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import org.apache.hugegraph.computer.core.combiner.PointerCombiner;
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.sort.sorter.SubKvSorter;
+import org.apache.hugegraph.computer.core.store.entry.EntriesUtil;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.store.entry.Pointer;
+
+/**
+ * Merge the subKvs of the adjacent entries with the same key from several
+ * sorted sources, and combine the subKvs with the same sub-key. An entry
+ * holds at most subKvFlushThreshold subKvs, the rest subKvs of the key are
+ * output in the following entries.
+ * The entry is written to a reused buffer, so it's only valid before the
+ * next entry is fetched, the next entry is built lazily when it's peeked.
+ */
+public class CombineSubKvPeekableIterator implements PeekableIterator<KvEntry> {
+
+    private final PeekableIterator<KvEntry> entries;
+    private final PointerCombiner combiner;
+    private final int sources;
+    private final int subKvFlushThreshold;
+    private final BytesOutput output;
+
+    private SubKvSorter sorter;
+    // The key of the subKvs to output, null if no more entries
+    private KvEntry currentKv;
+    // The subKv fetched but not output yet
+    private KvEntry lastSubKv;
+    private KvEntry next;
+
+    public CombineSubKvPeekableIterator(PeekableIterator<KvEntry> entries,
+                                        PointerCombiner combiner,
+                                        int sources,
+                                        int subKvFlushThreshold) {
+        this.entries = entries;
+        this.combiner = combiner;
+        this.sources = sources;
+        this.subKvFlushThreshold = subKvFlushThreshold;
+        this.output = IOFactory.createBytesOutput(Constants.BIG_BUF_SIZE);
+        this.sorter = null;
+        this.currentKv = null;
+        this.lastSubKv = null;
+        this.next = null;
+    }
+
+    @Override
+    public KvEntry peek() {
+        if (this.next == null) {
+            try {
+                this.next = this.fetchNext();
+            } catch (IOException e) {
+                throw new ComputerException("Failed to combine subKvs", e);
+            }
+        }
+        return this.next;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.peek() != null;
+    }
+
+    @Override
+    public KvEntry next() {
+        KvEntry next = this.peek();
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        this.next = null;
+        return next;
+    }
+
+    private KvEntry fetchNext() throws IOException {
+        if (this.sorter == null) {
+            if (!this.entries.hasNext()) {
+                return null;
+            }
+            this.sorter = new SubKvSorter(this.entries, this.sources);
+            this.currentKv = this.sorter.currentKv();
+        }
+        if (this.currentKv == null) {
+            return null;
+        }
+
+        this.output.seek(0L);
+        this.currentKv.key().write(this.output);
+        long position = this.output.position();
+        // Write total sub-entry length placeholder
+        this.output.writeFixedInt(0);
+        // Write sub-entry count placeholder
+        this.output.writeFixedInt(0);
+        int writtenCount = 0;
+
+        if (this.lastSubKv == null) {
+            this.lastSubKv = this.sorter.next();
+        }
+        Pointer lastSubValue = this.lastSubKv.value();
+        while (true) {
+            KvEntry current = null;
+            if (this.sorter.hasNext()) {
+                current = this.sorter.next();
+                if (this.lastSubKv.compareTo(current) == 0) {
+                    lastSubValue = this.combiner.combine(lastSubValue,
+                                                         current.value());
+                    continue;
+                }
+            }
+
+            this.lastSubKv.key().write(this.output);
+            lastSubValue.write(this.output);
+            writtenCount++;
+
+            this.lastSubKv = current;
+            if (current == null) {
+                // All the subKvs of current key are output, go to next key
+                this.sorter.reset();
+                this.currentKv = this.sorter.currentKv();
+                break;
+            }
+            lastSubValue = current.value();
+            if (writtenCount == this.subKvFlushThreshold) {
+                break;
+            }
+        }
+
+        // Fill placeholder
+        long currentPosition = this.output.position();
+        this.output.seek(position);
+        this.output.writeFixedInt((int) (currentPosition - position -
+                                         Integer.BYTES));
+        this.output.writeFixedInt(writtenCount);
+        this.output.seek(currentPosition);
+
+        RandomAccessInput input = EntriesUtil.inputFromOutput(this.output);
+        return EntriesUtil.kvEntryFromInput(input, true, true);
+    }
+
+    @Override
+    public void close() throws Exception {
+        this.entries.close();
+    }
+
+    @Override
+    public Object metadata(String s, Object... objects) {
+        return this.entries.metadata(s, objects);
+    }
+}
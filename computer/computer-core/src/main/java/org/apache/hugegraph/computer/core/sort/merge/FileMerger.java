@@ -18,7 +18,9 @@
 package org.apache.hugegraph.computer.core.sort.merge;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.hugegraph.computer.core.sort.flusher.OuterSortFlusher;
 import org.apache.hugegraph.computer.core.store.EntryIterator;
@@ -27,14 +29,19 @@ import org.apache.hugegraph.computer.core.store.KvEntryFileWriter;
 public interface FileMerger {
 
     /**
-     * Merge inputs file to output file
+     * Merge inputs file to output file, the independent sub merges of a
+     * round may be run concurrently.
      * @param inputs file that need to be merged
      * @param inputToEntries key value pair read mode
      * @param output write merge result to this file
-     * @param flusher combiner entries of same key
+     * @param flushers supply a flusher to combine entries of same key for
+     *                 each sub merge, the flusher isn't shared by the
+     *                 concurrent sub merges
+     * @return the future completed when the output file is written
      */
-    void merge(List<String> inputs,
-               Function<String, EntryIterator> inputToEntries,
-               String output, Function<String, KvEntryFileWriter> fileToWriter,
-               OuterSortFlusher flusher) throws Exception;
+    CompletableFuture<Void> merge(List<String> inputs,
+                                  Function<String, EntryIterator> inputToEntries,
+                                  String output,
+                                  Function<String, KvEntryFileWriter> fileToWriter,
+                                  Supplier<OuterSortFlusher> flushers);
 }
@@ -21,9 +21,13 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
 import org.apache.hugegraph.computer.core.sort.flusher.OuterSortFlusher;
@@ -39,57 +43,92 @@ public class FileMergerImpl implements FileMerger {
 
     private final int mergePathNum;
     private final String tempDir;
+    /*
+     * Run the sub merges of a round concurrently if not null, the tasks
+     * never wait for each other, the next round is chained after all the
+     * sub merges of current round are done.
+     */
+    private final Executor executor;
 
     public FileMergerImpl(Config config) {
+        this(config, null);
+    }
+
+    public FileMergerImpl(Config config, Executor executor) {
         this.mergePathNum = config.get(ComputerOptions.HGKV_MERGE_FILES_NUM);
         this.tempDir = config.get(ComputerOptions.HGKV_TEMP_DIR) +
                        File.separator + UUID.randomUUID();
         boolean result = new File(this.tempDir).mkdirs();
         E.checkState(result, "Failed to create temp directory: '%s'",
                      this.tempDir);
+        this.executor = executor;
     }
 
     @Override
-    public void merge(List<String> inputs,
-                      Function<String, EntryIterator> inputToEntries,
-                      String output,
-                      Function<String, KvEntryFileWriter> fileToWriter,
-                      OuterSortFlusher flusher) throws Exception {
-        List<String> subInputs = new ArrayList<>(this.mergePathNum);
-        int round = 0;
-        while (inputs.size() > this.mergePathNum) {
-            List<String> newInputs = new ArrayList<>(inputs.size());
-            for (int i = 0; i < inputs.size(); i++) {
-                subInputs.add(inputs.get(i));
-                if (subInputs.size() == this.mergePathNum ||
-                    i == inputs.size() - 1) {
-                    String subOutput = this.mergeInputsToRandomFile(
-                            subInputs, inputToEntries,
-                            fileToWriter, flusher);
-                    // Don't remove original file
-                    if (round != 0) {
-                        FileUtil.deleteFilesQuietly(subInputs);
-                    }
-                    subInputs.clear();
-                    newInputs.add(subOutput);
+    public CompletableFuture<Void> merge(
+                                   List<String> inputs,
+                                   Function<String, EntryIterator> inputToEntries,
+                                   String output,
+                                   Function<String, KvEntryFileWriter> fileToWriter,
+                                   Supplier<OuterSortFlusher> flushers) {
+        return this.mergeRound(inputs, 0, inputToEntries, output,
+                               fileToWriter, flushers);
+    }
+
+    private CompletableFuture<Void> mergeRound(
+                                    List<String> inputs, int round,
+                                    Function<String, EntryIterator> inputToEntries,
+                                    String output,
+                                    Function<String, KvEntryFileWriter> fileToWriter,
+                                    Supplier<OuterSortFlusher> flushers) {
+        if (inputs.size() <= this.mergePathNum) {
+            return this.runAsync(() -> {
+                this.mergeInputs(inputs, inputToEntries, flushers.get(),
+                                 output, fileToWriter);
+                // Don't remove original file
+                if (round != 0) {
+                    FileUtil.deleteFilesQuietly(inputs);
                 }
-            }
+            });
+        }
 
-            inputs = newInputs;
-            round++;
+        List<String> newInputs = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i += this.mergePathNum) {
+            int end = Math.min(i + this.mergePathNum, inputs.size());
+            List<String> subInputs = inputs.subList(i, end);
+            String subOutput = this.randomPath();
+            newInputs.add(subOutput);
+            futures.add(this.runAsync(() -> {
+                this.mergeInputs(subInputs, inputToEntries, flushers.get(),
+                                 subOutput, fileToWriter);
+                if (round != 0) {
+                    FileUtil.deleteFilesQuietly(subInputs);
+                }
+            }));
         }
 
-        this.mergeInputs(inputs, inputToEntries, flusher, output, fileToWriter);
+        CompletableFuture<?>[] roundFutures = futures.toArray(
+                                              new CompletableFuture[0]);
+        return CompletableFuture.allOf(roundFutures).thenCompose(ignored -> {
+            return this.mergeRound(newInputs, round + 1, inputToEntries,
+                                   output, fileToWriter, flushers);
+        });
     }
 
-    private String mergeInputsToRandomFile(
-                   List<String> inputs,
-                   Function<String, EntryIterator> inputToIter,
-                   Function<String, KvEntryFileWriter> fileToWriter,
-                   OuterSortFlusher flusher) throws Exception {
-        String output = this.randomPath();
-        this.mergeInputs(inputs, inputToIter, flusher, output, fileToWriter);
-        return output;
+    private CompletableFuture<Void> runAsync(MergeTask task) {
+        Runnable runnable = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                throw new ComputerException("Failed to merge files", e);
+            }
+        };
+        if (this.executor == null) {
+            // Run in the caller thread
+            return CompletableFuture.runAsync(runnable, Runnable::run);
+        }
+        return CompletableFuture.runAsync(runnable, this.executor);
     }
 
     private void mergeInputs(List<String> inputs,
@@ -117,4 +156,10 @@ public class FileMergerImpl implements FileMerger {
         return this.tempDir + File.separator + HgkvDirImpl.FILE_NAME_PREFIX +
                UUID.randomUUID() + HgkvDirImpl.FILE_EXTEND_NAME;
     }
+
+    @FunctionalInterface
+    private interface MergeTask {
+
+        void run() throws Exception;
+    }
 }
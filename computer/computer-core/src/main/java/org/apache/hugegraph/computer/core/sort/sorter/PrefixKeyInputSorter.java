@@ -0,0 +1,358 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.sort.sorter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.store.entry.InlinePointer;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.store.entry.KvEntryWithFirstSubKv;
+import org.apache.hugegraph.computer.core.store.entry.Pointer;
+
+/**
+ * Sort the entries by a normalized prefix of the key at first, so the key
+ * bytes of the most entries needn't be copied and compared. The prefix is
+ * a long compared as unsigned value, it's built from the key bytes after
+ * the bytes shared by all the keys, like the header of the serialized id
+ * (the id type and the id length), so the prefix of an id key is taken from
+ * the id value. If the keys have the same length the prefix is the first 8
+ * bytes after the shared bytes, otherwise the highest byte is the key length
+ * and the other bytes are the first 7 bytes after the shared bytes, it keeps
+ * the order of {@link org.apache.hugegraph.computer.core.util.BytesUtil#compare}
+ * which compares the key length first. The prefixes are sorted by radix
+ * sort, only the entries with the same prefix are compared by the full key.
+ * The sort is stable like {@link JavaInputSorter}.
+ */
+public class PrefixKeyInputSorter implements InputSorter {
+
+    private static final int PREFIX_BYTES = 7;
+    // The bytes of key are not in the prefix if the length reaches it
+    private static final int MAX_PREFIX_LENGTH = 0xff;
+    private static final int LENGTH_SHIFT = PREFIX_BYTES * Byte.SIZE;
+    // At most check so many bytes shared by all the keys
+    private static final int MAX_SHARED_BYTES = 32;
+
+    private static final int RADIX = 1 << Byte.SIZE;
+    private static final int RADIX_SORT_THRESHOLD = 64;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    // Don't keep the larger arrays in the thread after sorting
+    private static final int MAX_CACHED_SIZE = 1 << 16;
+
+    private static final ThreadLocal<SortContext> SORT_LOCAL =
+                         ThreadLocal.withInitial(SortContext::new);
+
+    @Override
+    public Iterator<KvEntry> sort(Iterator<KvEntry> entries)
+                             throws IOException {
+        List<KvEntry> kvEntries = new ArrayList<>();
+        while (entries.hasNext()) {
+            kvEntries.add(entries.next());
+        }
+        int size = kvEntries.size();
+        if (size <= 1) {
+            return kvEntries.iterator();
+        }
+
+        SortContext context = SORT_LOCAL.get();
+        try {
+            context.prepare(kvEntries);
+            if (size < RADIX_SORT_THRESHOLD) {
+                context.mergeSort(0, size);
+            } else {
+                context.radixSort(size);
+                context.sortSamePrefixes(size);
+            }
+            return context.sortedEntries(size).iterator();
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Read the bytes of the key in range [offset, offset + length) to the
+     * buffer.
+     */
+    private static void readKey(Pointer key, int offset, int length,
+                                byte[] buffer) throws IOException {
+        if (key instanceof InlinePointer) {
+            System.arraycopy(key.bytes(), offset, buffer, 0, length);
+        } else {
+            RandomAccessInput input = key.input();
+            input.seek(key.offset() + offset);
+            input.readFully(buffer, 0, length);
+        }
+    }
+
+    private static class SortContext {
+
+        private final int[] counts;
+        private final byte[] firstBytes;
+        private final byte[] keyBytes;
+        private List<KvEntry> entries;
+        private long[] prefixes;
+        private int[] indexes;
+        private int[] buffer;
+        // The count of the bytes shared by all the keys
+        private int sharedBytes;
+        private boolean sameLength;
+        private boolean keysInPrefix;
+
+        public SortContext() {
+            this.counts = new int[Long.BYTES * RADIX];
+            this.firstBytes = new byte[MAX_SHARED_BYTES];
+            this.keyBytes = new byte[MAX_SHARED_BYTES];
+            this.prefixes = new long[0];
+            this.indexes = new int[0];
+            this.buffer = new int[0];
+        }
+
+        public void prepare(List<KvEntry> entries) throws IOException {
+            int size = entries.size();
+            this.entries = entries;
+            if (this.prefixes.length < size) {
+                this.prefixes = new long[size];
+                this.indexes = new int[size];
+                this.buffer = new int[size];
+            }
+            this.checkSharedBytes();
+            for (int i = 0; i < size; i++) {
+                this.prefixes[i] = this.prefix(entries.get(i).key());
+                this.indexes[i] = i;
+            }
+        }
+
+        public void release() {
+            this.entries = null;
+            if (this.prefixes.length > MAX_CACHED_SIZE) {
+                this.prefixes = new long[0];
+                this.indexes = new int[0];
+                this.buffer = new int[0];
+            }
+        }
+
+        public List<KvEntry> sortedEntries(int size) {
+            List<KvEntry> sortedEntries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sortedEntries.add(this.entries.get(this.indexes[i]));
+            }
+            return sortedEntries;
+        }
+
+        /**
+         * Find the leading bytes shared by all the keys and whether the
+         * keys have the same length, the shared bytes are skipped when
+         * building the prefixes.
+         */
+        private void checkSharedBytes() throws IOException {
+            Pointer first = this.entries.get(0).key();
+            long length = first.length();
+            int shared = (int) Math.min(length, MAX_SHARED_BYTES);
+            readKey(first, 0, shared, this.firstBytes);
+
+            boolean sameLength = true;
+            byte[] bytes = this.keyBytes;
+            for (int i = 1, size = this.entries.size(); i < size; i++) {
+                Pointer key = this.entries.get(i).key();
+                sameLength &= key.length() == length;
+                int count = (int) Math.min(key.length(), shared);
+                if (count == 0) {
+                    shared = 0;
+                    continue;
+                }
+                readKey(key, 0, count, bytes);
+                shared = 0;
+                while (shared < count &&
+                       bytes[shared] == this.firstBytes[shared]) {
+                    shared++;
+                }
+            }
+            this.sharedBytes = shared;
+            this.sameLength = sameLength;
+            this.keysInPrefix = sameLength && length - shared <= Long.BYTES;
+        }
+
+        private long prefix(Pointer key) throws IOException {
+            long length = key.length();
+            int maxPrefixBytes;
+            long prefix;
+            if (this.sameLength) {
+                maxPrefixBytes = Long.BYTES;
+                prefix = 0L;
+            } else if (length >= MAX_PREFIX_LENGTH) {
+                return (long) MAX_PREFIX_LENGTH << LENGTH_SHIFT;
+            } else {
+                maxPrefixBytes = PREFIX_BYTES;
+                prefix = length;
+            }
+            int prefixBytes = (int) Math.min(length - this.sharedBytes,
+                                             maxPrefixBytes);
+            readKey(key, this.sharedBytes, prefixBytes, this.keyBytes);
+            for (int i = 0; i < prefixBytes; i++) {
+                prefix = (prefix << Byte.SIZE) | (this.keyBytes[i] & 0xff);
+            }
+            // Pad the short key with 0
+            return prefix << ((maxPrefixBytes - prefixBytes) * Byte.SIZE);
+        }
+
+        private boolean keyInPrefix(long prefix) {
+            if (this.sameLength) {
+                return this.keysInPrefix;
+            }
+            long length = prefix >>> LENGTH_SHIFT;
+            return length - this.sharedBytes <= PREFIX_BYTES;
+        }
+
+        /**
+         * LSD radix sort the indexes by the prefixes byte by byte, skip
+         * the byte if all the prefixes have the same value on it.
+         */
+        public void radixSort(int size) {
+            int[] counts = this.counts;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                long prefix = this.prefixes[i];
+                for (int b = 0; b < Long.BYTES; b++) {
+                    counts[b * RADIX + digit(prefix, b)]++;
+                }
+            }
+
+            int[] source = this.indexes;
+            int[] target = this.buffer;
+            for (int b = 0; b < Long.BYTES; b++) {
+                int base = b * RADIX;
+                if (counts[base + digit(this.prefixes[0], b)] == size) {
+                    continue;
+                }
+                int offset = 0;
+                for (int d = 0; d < RADIX; d++) {
+                    int count = counts[base + d];
+                    counts[base + d] = offset;
+                    offset += count;
+                }
+                for (int i = 0; i < size; i++) {
+                    int index = source[i];
+                    int d = digit(this.prefixes[index], b);
+                    target[counts[base + d]++] = index;
+                }
+                int[] swap = source;
+                source = target;
+                target = swap;
+            }
+            if (source != this.indexes) {
+                System.arraycopy(source, 0, this.indexes, 0, size);
+            }
+        }
+
+        /**
+         * Sort each run of the entries with the same prefix by the full key,
+         * the run is skipped if the keys are the same.
+         */
+        public void sortSamePrefixes(int size) {
+            int start = 0;
+            for (int i = 1; i <= size; i++) {
+                if (i < size && this.prefixes[this.indexes[i]] ==
+                                this.prefixes[this.indexes[start]]) {
+                    continue;
+                }
+                if (i - start > 1 && !this.sameKeys(this.indexes[start])) {
+                    this.mergeSort(start, i);
+                }
+                start = i;
+            }
+        }
+
+        /**
+         * Stable merge sort the indexes in range [from, to).
+         */
+        public void mergeSort(int from, int to) {
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                this.insertionSort(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            this.mergeSort(from, mid);
+            this.mergeSort(mid, to);
+            int[] indexes = this.indexes;
+            if (this.compare(indexes[mid - 1], indexes[mid]) <= 0) {
+                return;
+            }
+
+            int[] buffer = this.buffer;
+            System.arraycopy(indexes, from, buffer, from, to - from);
+            int i = from;
+            int j = mid;
+            int k = from;
+            while (i < mid && j < to) {
+                if (this.compare(buffer[j], buffer[i]) < 0) {
+                    indexes[k++] = buffer[j++];
+                } else {
+                    indexes[k++] = buffer[i++];
+                }
+            }
+            while (i < mid) {
+                indexes[k++] = buffer[i++];
+            }
+            while (j < to) {
+                indexes[k++] = buffer[j++];
+            }
+        }
+
+        private void insertionSort(int from, int to) {
+            int[] indexes = this.indexes;
+            for (int i = from + 1; i < to; i++) {
+                int index = indexes[i];
+                int j = i;
+                while (j > from && this.compare(indexes[j - 1], index) > 0) {
+                    indexes[j] = indexes[j - 1];
+                    j--;
+                }
+                indexes[j] = index;
+            }
+        }
+
+        private int compare(int index1, int index2) {
+            long prefix1 = this.prefixes[index1];
+            int result = Long.compareUnsigned(prefix1,
+                                              this.prefixes[index2]);
+            if (result != 0 || this.sameKeys(index1)) {
+                return result;
+            }
+            return this.entries.get(index1)
+                               .compareTo(this.entries.get(index2));
+        }
+
+        /**
+         * Whether the entries with the same prefix as the specified entry
+         * are equal, it's true if the whole key is in the prefix, except the
+         * entries are also ordered by the first subKv.
+         */
+        private boolean sameKeys(int index) {
+            return this.keyInPrefix(this.prefixes[index]) &&
+                   !(this.entries.get(index) instanceof KvEntryWithFirstSubKv);
+        }
+
+        private static int digit(long prefix, int b) {
+            return (int) (prefix >>> (b * Byte.SIZE)) & (RADIX - 1);
+        }
+    }
+}
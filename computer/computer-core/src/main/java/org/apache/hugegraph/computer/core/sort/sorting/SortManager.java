@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.apache.hugegraph.computer.core.combiner.Combiner;
 import org.apache.hugegraph.computer.core.combiner.EdgeValueCombiner;
@@ -40,7 +41,11 @@ import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
 import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
 import org.apache.hugegraph.computer.core.manager.Manager;
+import org.apache.hugegraph.computer.core.network.buffer.NettyBuffer;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
+import org.apache.hugegraph.computer.core.network.buffer.NioBuffer;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
+import org.apache.hugegraph.computer.core.network.netty.BufAllocatorFactory;
 import org.apache.hugegraph.computer.core.sender.WriteBuffers;
 import org.apache.hugegraph.computer.core.sort.BufferFileSorter;
 import org.apache.hugegraph.computer.core.sort.HgkvFileSorter;
@@ -56,6 +61,9 @@ import org.apache.hugegraph.util.ExecutorUtil;
 import org.apache.hugegraph.util.Log;
 import org.slf4j.Logger;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
 public abstract class SortManager implements Manager {
 
     public static final Logger LOG = Log.logger(SortManager.class);
@@ -65,6 +73,8 @@ public abstract class SortManager implements Manager {
     private final Sorter sorter;
     private final int capacity;
     private final int flushThreshold;
+    private final boolean sortOffHeap;
+    private final ByteBufAllocator allocator;
 
     public SortManager(ComputerContext context) {
         this.context = context;
@@ -78,12 +88,15 @@ public abstract class SortManager implements Manager {
         if (config.get(ComputerOptions.TRANSPORT_RECV_FILE_MODE)) {
             this.sorter = new BufferFileSorter(config);
         } else {
-            this.sorter = new HgkvFileSorter(config);
+            this.sorter = new HgkvFileSorter(config, this.sortExecutor);
         }
         this.capacity = config.get(
                         ComputerOptions.WORKER_WRITE_BUFFER_INIT_CAPACITY);
         this.flushThreshold = config.get(
                               ComputerOptions.INPUT_MAX_EDGES_IN_ONE_VERTEX);
+        this.sortOffHeap = config.get(
+                           ComputerOptions.WORKER_SORT_OUTPUT_OFF_HEAP);
+        this.allocator = BufAllocatorFactory.createBufAllocator();
     }
 
     @Override
@@ -114,27 +127,60 @@ public abstract class SortManager implements Manager {
         }
     }
 
-    public CompletableFuture<ByteBuffer> sort(MessageType type,
-                                              WriteBuffers buffer) {
+    public CompletableFuture<NetworkBuffer> sort(MessageType type,
+                                                 WriteBuffers buffer) {
         return CompletableFuture.supplyAsync(() -> {
             RandomAccessInput bufferForRead = buffer.wrapForRead();
-            // TODO：This ByteBuffer should be allocated from the off-heap
-            BytesOutput output = IOFactory.createBytesOutput(this.capacity);
-            InnerSortFlusher flusher = this.createSortFlusher(
-                                       type, output,
-                                       this.flushThreshold);
-            try {
-                this.sorter.sortBuffer(bufferForRead, flusher,
-                                       type == MessageType.EDGE);
-            } catch (Exception e) {
-                throw new ComputerException("Failed to sort buffers of %s " +
-                                            "message", e, type.name());
+            if (this.sortOffHeap) {
+                return this.sortToDirectBuffer(type, bufferForRead);
             }
+            BytesOutput output = IOFactory.createBytesOutput(this.capacity);
+            this.sortBuffer(type, bufferForRead, output);
 
-            return ByteBuffer.wrap(output.buffer(), 0, (int) output.position());
+            return new NioBuffer(ByteBuffer.wrap(output.buffer(), 0,
+                                                 (int) output.position()));
         }, this.sortExecutor);
     }
 
+    /**
+     * Sort the buffer into a pooled direct ByteBuf, the returned buffer will
+     * be released after it's written to the socket.
+     */
+    private NetworkBuffer sortToDirectBuffer(MessageType type,
+                                             RandomAccessInput input) {
+        ByteBuf buf;
+        try {
+            // The sorted buffer is not larger than the input mostly
+            buf = this.allocator.directBuffer((int) input.available());
+        } catch (IOException e) {
+            throw new ComputerException("Failed to get the size of buffer " +
+                                        "of %s message", e, type.name());
+        }
+        try (RandomAccessOutput output = IOFactory.createByteBufOutput(buf)) {
+            this.sortBuffer(type, input, output);
+        } catch (IOException e) {
+            buf.release();
+            throw new ComputerException("Failed to flush sorted buffer of " +
+                                        "%s message", e, type.name());
+        } catch (RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+        return new NettyBuffer(buf);
+    }
+
+    private void sortBuffer(MessageType type, RandomAccessInput input,
+                            RandomAccessOutput output) {
+        InnerSortFlusher flusher = this.createSortFlusher(type, output,
+                                                          this.flushThreshold);
+        try {
+            this.sorter.sortBuffer(input, flusher, type == MessageType.EDGE);
+        } catch (Exception e) {
+            throw new ComputerException("Failed to sort buffers of %s " +
+                                        "message", e, type.name());
+        }
+    }
+
     public CompletableFuture<Void> mergeBuffers(List<RandomAccessInput> inputs,
                                                 String path,
                                                 boolean withSubKv,
@@ -153,13 +199,24 @@ public abstract class SortManager implements Manager {
         }, this.sortExecutor);
     }
 
+    /**
+     * Merge the inputs into the outputs, the merges are run concurrently
+     * in the sort executor, so this method can't be called from the sort
+     * executor.
+     */
     public void mergeInputs(List<String> inputs, List<String> outputs,
-                            boolean withSubKv, OuterSortFlusher flusher) {
-        if (withSubKv) {
-            flusher.sources(inputs.size());
-        }
+                            boolean withSubKv,
+                            Supplier<OuterSortFlusher> flushers) {
+        Supplier<OuterSortFlusher> flushersWithSources = () -> {
+            OuterSortFlusher flusher = flushers.get();
+            if (withSubKv) {
+                flusher.sources(inputs.size());
+            }
+            return flusher;
+        };
         try {
-            this.sorter.mergeInputs(inputs, flusher, outputs, withSubKv);
+            this.sorter.mergeInputs(inputs, flushersWithSources, outputs,
+                                    withSubKv);
         } catch (Exception e) {
             throw new ComputerException(
                       "Failed to merge %s files into %s files",
@@ -177,6 +234,17 @@ public abstract class SortManager implements Manager {
         }
     }
 
+    public PeekableIterator<KvEntry> buffersIterator(
+                                     List<RandomAccessInput> inputs,
+                                     boolean withSubKv) {
+        try {
+            return this.sorter.buffersIterator(inputs, withSubKv);
+        } catch (IOException e) {
+            throw new ComputerException("Failed to iterate %s buffers",
+                                        e, inputs.size());
+        }
+    }
+
     private InnerSortFlusher createSortFlusher(MessageType type,
                                                RandomAccessOutput output,
                                                int flushThreshold) {
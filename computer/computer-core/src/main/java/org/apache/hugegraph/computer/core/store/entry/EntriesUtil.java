@@ -157,6 +157,23 @@ public final class EntriesUtil {
         }
     }
 
+    /**
+     * Count the kv entries from current position to the end of the input,
+     * the keys and values are skipped by their lengths without reading.
+     */
+    public static long countEntries(RandomAccessInput input)
+                                    throws IOException {
+        long count = 0L;
+        while (input.available() > 0L) {
+            int keyLength = input.readFixedInt();
+            input.skip(keyLength);
+            int valueLength = input.readFixedInt();
+            input.skip(valueLength);
+            count++;
+        }
+        return count;
+    }
+
     public static BytesInput inputFromOutput(BytesOutput output) {
         return IOFactory.createBytesInput(output.buffer(),
                                           (int) output.position());
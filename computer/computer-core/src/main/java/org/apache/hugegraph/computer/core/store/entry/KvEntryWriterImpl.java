@@ -28,7 +28,7 @@ import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
 import org.apache.hugegraph.computer.core.io.Writable;
 import org.apache.hugegraph.computer.core.sort.sorter.InputSorter;
-import org.apache.hugegraph.computer.core.sort.sorter.JavaInputSorter;
+import org.apache.hugegraph.computer.core.sort.sorter.PrefixKeyInputSorter;
 import org.apache.hugegraph.computer.core.store.buffer.KvEntriesInput;
 
 public class KvEntryWriterImpl implements KvEntryWriter {
@@ -89,7 +89,7 @@ public class KvEntryWriterImpl implements KvEntryWriter {
 
     private void sortAndWriteSubKvs() throws IOException {
         BytesInput input = EntriesUtil.inputFromOutput(this.subKvBuffer);
-        InputSorter sorter = new JavaInputSorter();
+        InputSorter sorter = new PrefixKeyInputSorter();
         Iterator<KvEntry> subKvs = sorter.sort(new KvEntriesInput(input));
 
         while (subKvs.hasNext()) {
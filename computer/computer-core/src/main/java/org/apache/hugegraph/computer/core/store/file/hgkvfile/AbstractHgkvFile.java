@@ -17,6 +17,8 @@
 
 package org.apache.hugegraph.computer.core.store.file.hgkvfile;
 
+import org.apache.hugegraph.computer.core.config.HgkvCompression;
+
 public abstract class AbstractHgkvFile implements HgkvFile {
 
     public static final byte MAJOR_VERSION;
@@ -24,7 +26,8 @@ public abstract class AbstractHgkvFile implements HgkvFile {
     public static final String MAGIC;
 
     static {
-        MAJOR_VERSION = 1;
+        // The LONG ids in the keys are encoded in fixed width since 2.0
+        MAJOR_VERSION = 2;
         MINOR_VERSION = 0;
         MAGIC = "hgkv";
     }
@@ -38,9 +41,11 @@ public abstract class AbstractHgkvFile implements HgkvFile {
     protected byte[] max;
     protected byte[] min;
     protected String version;
+    protected HgkvCompression compression;
 
     public AbstractHgkvFile(String path) {
         this.path = path;
+        this.compression = HgkvCompression.NONE;
     }
 
     @Override
@@ -77,4 +82,9 @@ public abstract class AbstractHgkvFile implements HgkvFile {
     public String magic() {
         return this.magic;
     }
+
+    @Override
+    public HgkvCompression compression() {
+        return this.compression;
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.store.file.hgkvfile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.config.HgkvCompression;
+import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
+import org.apache.hugegraph.util.E;
+
+/**
+ * Compress and decompress the data blocks of hgkv-file. A compressed block
+ * is written as the raw length, the compressed length and the compressed
+ * bytes. It's not thread safe, use one for each file builder or reader.
+ */
+public class BlockCompressor implements Closeable {
+
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private Deflater deflater;
+    private Inflater inflater;
+    private byte[] buffer;
+
+    public BlockCompressor(HgkvCompression compression) {
+        E.checkArgument(compression == HgkvCompression.DEFLATE,
+                        "Unsupported hgkv compression '%s'", compression);
+        this.deflater = null;
+        this.inflater = null;
+        this.buffer = new byte[MIN_BUFFER_SIZE];
+    }
+
+    /**
+     * Compress the first length bytes and write the block to output.
+     * @return the number of bytes written
+     */
+    public long compress(byte[] bytes, int length, RandomAccessOutput output)
+                         throws IOException {
+        if (this.deflater == null) {
+            this.deflater = new Deflater(Deflater.BEST_SPEED);
+        }
+        this.deflater.reset();
+        this.deflater.setInput(bytes, 0, length);
+        this.deflater.finish();
+
+        this.ensureBufferSize(length);
+        int size = 0;
+        while (!this.deflater.finished()) {
+            if (size == this.buffer.length) {
+                this.ensureBufferSize(size << 1);
+            }
+            size += this.deflater.deflate(this.buffer, size,
+                                          this.buffer.length - size);
+        }
+
+        output.writeFixedInt(length);
+        output.writeFixedInt(size);
+        output.write(this.buffer, 0, size);
+        return Integer.BYTES * 2L + size;
+    }
+
+    /**
+     * Read a block written by {@link #compress} from input.
+     * @return the raw bytes of the block, a new array for each block
+     */
+    public byte[] decompress(RandomAccessInput input) throws IOException {
+        if (this.inflater == null) {
+            this.inflater = new Inflater();
+        }
+        int length = input.readFixedInt();
+        int size = input.readFixedInt();
+        this.ensureBufferSize(size);
+        input.readFully(this.buffer, 0, size);
+
+        this.inflater.reset();
+        this.inflater.setInput(this.buffer, 0, size);
+        byte[] bytes = new byte[length];
+        try {
+            int read = 0;
+            while (read < length) {
+                int count = this.inflater.inflate(bytes, read, length - read);
+                if (count == 0 && (this.inflater.finished() ||
+                                   this.inflater.needsInput())) {
+                    break;
+                }
+                read += count;
+            }
+            if (read != length) {
+                throw new ComputerException(
+                          "Failed to decompress hgkv block, expect %s " +
+                          "bytes but got %s bytes", length, read);
+            }
+        } catch (DataFormatException e) {
+            throw new ComputerException("Failed to decompress hgkv block",
+                                        e);
+        }
+        return bytes;
+    }
+
+    @Override
+    public void close() {
+        if (this.deflater != null) {
+            this.deflater.end();
+            this.deflater = null;
+        }
+        if (this.inflater != null) {
+            this.inflater.end();
+            this.inflater = null;
+        }
+    }
+
+    private void ensureBufferSize(int size) {
+        if (this.buffer.length < size) {
+            this.buffer = Arrays.copyOf(this.buffer,
+                                        Math.max(size, MIN_BUFFER_SIZE));
+        }
+    }
+}
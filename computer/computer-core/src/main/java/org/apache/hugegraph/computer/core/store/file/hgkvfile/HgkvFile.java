@@ -20,6 +20,7 @@ package org.apache.hugegraph.computer.core.store.file.hgkvfile;
 import java.io.Closeable;
 import java.io.IOException;
 
+import org.apache.hugegraph.computer.core.config.HgkvCompression;
 import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
 
 public interface HgkvFile extends Closeable {
@@ -59,6 +60,11 @@ public interface HgkvFile extends Closeable {
      */
     String magic();
 
+    /**
+     * The codec of data blocks.
+     */
+    HgkvCompression compression();
+
     /**
      * Output of hgkv file.
      */
@@ -21,7 +21,9 @@ import java.io.File;
 import java.io.IOException;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.hugegraph.computer.core.common.SerialEnum;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.config.HgkvCompression;
 import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
 import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
@@ -94,7 +96,18 @@ public class HgkvFileImpl extends AbstractHgkvFile {
             int footerLength = input.readFixedInt();
             switch (version) {
                 case "1.0":
-                    this.readFooterV1d0(input, file.length() - footerLength);
+                case "1.1":
+                    /*
+                     * The keys of the LONG ids written before 2.0 are in
+                     * different order, they can't be merged or searched.
+                     */
+                    throw new ComputerException(
+                              "Unsupported HgkvFile version '%s' of file " +
+                              "'%s', the files written before version 2.0 " +
+                              "use the old encoding of LONG ids, please " +
+                              "regenerate them", version, this.path);
+                case "2.0":
+                    this.readFooterV2d0(input, file.length() - footerLength);
                     break;
                 default:
                     throw new ComputerException("Illegal HgkvFile version '%s'",
@@ -103,41 +116,69 @@ public class HgkvFileImpl extends AbstractHgkvFile {
         }
     }
 
-    private void readFooterV1d0(RandomAccessInput input, long footerBegin)
+    private void readFooterV2d0(RandomAccessInput input, long footerBegin)
                                 throws IOException {
         input.seek(footerBegin);
 
         // Read magic
-        String magic = new String(input.readBytes(MAGIC.length()));
-        E.checkArgument(MAGIC.equals(magic),
-                        "Failed to read footer, illegal hgvk-file magic in " +
-                        "file: '%s'", this.path);
-        this.magic = magic;
+        this.readMagic(input);
         // Read numEntries
         this.numEntries = input.readLong();
         // Read numSubEntries
         this.numSubEntries = input.readLong();
-        // Read dataBlock length
+        // Read length of the uncompressed dataBlock
         this.dataBlockSize = input.readLong();
         // Read indexBlock length
         this.indexBlockSize = input.readLong();
-        // Read max key and min key
+        // Read max key and min key offset in the uncompressed dataBlock
         long maxKeyOffset = input.readLong();
         long minKeyOffset = input.readLong();
-        // Read version
+        // Read compression
+        this.compression = SerialEnum.fromCode(HgkvCompression.class,
+                                               input.readByte());
+        if (this.compression == HgkvCompression.NONE) {
+            // Read version
+            this.readVersion(input);
+            if (this.numEntries > 0) {
+                this.readMaxMinKey(input, maxKeyOffset, minKeyOffset);
+            }
+        } else {
+            /*
+             * The keys can't be read from the compressed dataBlock by
+             * offset, they are written in footer.
+             */
+            if (this.numEntries > 0) {
+                this.max = input.readBytes(input.readFixedInt());
+                this.min = input.readBytes(input.readFixedInt());
+            }
+            // Read version
+            this.readVersion(input);
+        }
+    }
+
+    private void readMagic(RandomAccessInput input) throws IOException {
+        String magic = new String(input.readBytes(MAGIC.length()));
+        E.checkArgument(MAGIC.equals(magic),
+                        "Failed to read footer, illegal hgvk-file magic in " +
+                        "file: '%s'", this.path);
+        this.magic = magic;
+    }
+
+    private void readVersion(RandomAccessInput input) throws IOException {
         short majorVersion = input.readShort();
         short minorVersion = input.readShort();
         this.version = version(majorVersion, minorVersion);
+    }
 
-        if (this.numEntries > 0) {
-            // Read max key
-            input.seek(maxKeyOffset);
-            int maxKeyLength = input.readFixedInt();
-            this.max = input.readBytes(maxKeyLength);
-            // Read min Key
-            input.seek(minKeyOffset);
-            int minKeyLength = input.readFixedInt();
-            this.min = input.readBytes(minKeyLength);
-        }
+    private void readMaxMinKey(RandomAccessInput input, long maxKeyOffset,
+                               long minKeyOffset) throws IOException {
+        // Read max key
+        input.seek(maxKeyOffset);
+        int maxKeyLength = input.readFixedInt();
+        this.max = input.readBytes(maxKeyLength);
+        // Read min Key
+        input.seek(minKeyOffset);
+        int minKeyLength = input.readFixedInt();
+        this.min = input.readBytes(minKeyLength);
     }
 }
@@ -21,10 +21,16 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.hugegraph.computer.core.common.Constants;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.config.HgkvCompression;
+import org.apache.hugegraph.computer.core.io.BytesInput;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
 import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.store.file.hgkvfile.BlockCompressor;
 import org.apache.hugegraph.computer.core.store.file.hgkvfile.HgkvFile;
 import org.apache.hugegraph.computer.core.store.file.hgkvfile.HgkvFileImpl;
 import org.apache.hugegraph.util.E;
@@ -48,11 +54,30 @@ public class HgkvFileBuilderImpl implements HgkvFileBuilder {
     private long maxKeyOffset;
     private final long minKeyOffset;
 
+    private final HgkvCompression compression;
+    // The entries of current block are buffered to be compressed
+    private final BytesOutput blockOutput;
+    private final BlockCompressor compressor;
+    private long lastEntryPosition;
+    private byte[] maxKey;
+    private byte[] minKey;
+
     public HgkvFileBuilderImpl(Config config, String path) throws IOException {
         this.maxDataBlockSize = config.get(ComputerOptions.HGKV_DATABLOCK_SIZE);
         this.file = HgkvFileImpl.create(path);
         this.output = this.file.output();
-        this.dataBlockBuilder = new DataBlockBuilderImpl(this.output);
+        this.compression = config.get(ComputerOptions.HGKV_COMPRESSION);
+        if (this.compression == HgkvCompression.NONE) {
+            this.blockOutput = null;
+            this.compressor = null;
+            this.dataBlockBuilder = new DataBlockBuilderImpl(this.output);
+        } else {
+            this.blockOutput = IOFactory.createBytesOutput(
+                               Constants.BIG_BUF_SIZE);
+            this.compressor = new BlockCompressor(this.compression);
+            this.dataBlockBuilder = new DataBlockBuilderImpl(
+                                    this.blockOutput);
+        }
         this.indexBlockBuilder = new IndexBlockBuilderImpl(this.output);
         this.buildFinished = false;
         this.dataLength = 0L;
@@ -63,6 +88,7 @@ public class HgkvFileBuilderImpl implements HgkvFileBuilder {
         this.footerLength = 0;
         this.maxKeyOffset = 0L;
         this.minKeyOffset = 0L;
+        this.lastEntryPosition = 0L;
     }
 
     @Override
@@ -89,11 +115,14 @@ public class HgkvFileBuilderImpl implements HgkvFileBuilder {
             return;
         }
 
-        this.dataBlockBuilder.finish();
+        this.finishDataBlock();
         this.writeIndexBlock();
         this.writeFooter();
         this.output.close();
         this.file.close();
+        if (this.compressor != null) {
+            this.compressor.close();
+        }
         this.buildFinished = true;
     }
 
@@ -130,14 +159,40 @@ public class HgkvFileBuilderImpl implements HgkvFileBuilder {
         long entrySize = this.dataBlockBuilder.sizeOfEntry(entry);
         long blockSize = this.dataBlockBuilder.size();
         if ((entrySize + blockSize) >= this.maxDataBlockSize) {
-            this.dataBlockBuilder.finish();
+            this.finishDataBlock();
             this.dataBlockBuilder.reset();
 
             this.indexBlock.add(entry.key().bytes());
         }
+        if (this.blockOutput != null) {
+            this.lastEntryPosition = this.blockOutput.position();
+        }
         this.dataBlockBuilder.add(entry);
     }
 
+    private void finishDataBlock() throws IOException {
+        this.dataBlockBuilder.finish();
+        if (this.blockOutput == null || this.blockOutput.position() == 0L) {
+            return;
+        }
+
+        byte[] buffer = this.blockOutput.buffer();
+        int length = (int) this.blockOutput.position();
+        if (this.minKey == null) {
+            this.minKey = readKey(buffer, length, 0L);
+        }
+        this.maxKey = readKey(buffer, length, this.lastEntryPosition);
+        this.compressor.compress(buffer, length, this.output);
+        this.blockOutput.seek(0L);
+    }
+
+    private static byte[] readKey(byte[] buffer, int length, long position)
+                                  throws IOException {
+        BytesInput input = IOFactory.createBytesInput(buffer, length);
+        input.seek(position);
+        return input.readBytes(input.readFixedInt());
+    }
+
     private void writeIndexBlock() throws IOException {
         for (byte[] index : this.indexBlock) {
             this.indexBlockBuilder.add(index);
@@ -161,6 +216,16 @@ public class HgkvFileBuilderImpl implements HgkvFileBuilder {
         this.output.writeLong(this.maxKeyOffset);
         // Write min key offset
         this.output.writeLong(this.minKeyOffset);
+        // Write compression
+        this.output.writeByte(this.compression.code());
+        if (this.compression != HgkvCompression.NONE &&
+            this.numEntries > 0L) {
+            // Write max key and min key, can't read them by offset
+            this.output.writeFixedInt(this.maxKey.length);
+            this.output.write(this.maxKey);
+            this.output.writeFixedInt(this.minKey.length);
+            this.output.write(this.minKey);
+        }
         // Write version
         this.output.writeShort(HgkvFileImpl.MAJOR_VERSION);
         this.output.writeShort(HgkvFileImpl.MINOR_VERSION);
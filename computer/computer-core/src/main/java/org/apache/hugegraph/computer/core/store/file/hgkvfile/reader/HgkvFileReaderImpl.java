@@ -22,12 +22,14 @@ import java.io.IOException;
 import java.util.NoSuchElementException;
 
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.config.HgkvCompression;
 import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
 import org.apache.hugegraph.computer.core.store.EntryIterator;
 import org.apache.hugegraph.computer.core.store.KvEntryFileReader;
 import org.apache.hugegraph.computer.core.store.entry.EntriesUtil;
 import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.store.file.hgkvfile.BlockCompressor;
 import org.apache.hugegraph.computer.core.store.file.hgkvfile.HgkvFile;
 import org.apache.hugegraph.computer.core.store.file.hgkvfile.HgkvFileImpl;
 
@@ -64,6 +66,10 @@ public class HgkvFileReaderImpl implements KvEntryFileReader {
         private long numEntries;
         private final boolean useInlinePointer;
         private final boolean withSubKv;
+        // Used to read the compressed data blocks
+        private final BlockCompressor compressor;
+        private RandomAccessInput blockInput;
+        private RandomAccessInput blockUserAccessInput;
 
         public EntryIter(HgkvFile hgkvFile, boolean useInlinePointer,
                          boolean withSubKv) {
@@ -78,6 +84,14 @@ public class HgkvFileReaderImpl implements KvEntryFileReader {
             }
             this.useInlinePointer = useInlinePointer;
             this.withSubKv = withSubKv;
+            HgkvCompression compression = this.file.compression();
+            if (compression == HgkvCompression.NONE) {
+                this.compressor = null;
+            } else {
+                this.compressor = new BlockCompressor(compression);
+            }
+            this.blockInput = null;
+            this.blockUserAccessInput = null;
         }
 
         @Override
@@ -92,17 +106,45 @@ public class HgkvFileReaderImpl implements KvEntryFileReader {
             }
 
             this.numEntries--;
-            return EntriesUtil.kvEntryFromInput(this.input,
-                                                this.userAccessInput,
+            if (this.compressor == null) {
+                return EntriesUtil.kvEntryFromInput(this.input,
+                                                    this.userAccessInput,
+                                                    this.useInlinePointer,
+                                                    this.withSubKv);
+            }
+
+            try {
+                if (this.blockInput == null ||
+                    this.blockInput.available() == 0L) {
+                    this.readBlock();
+                }
+            } catch (IOException e) {
+                throw new ComputerException(e.getMessage(), e);
+            }
+            return EntriesUtil.kvEntryFromInput(this.blockInput,
+                                                this.blockUserAccessInput,
                                                 this.useInlinePointer,
                                                 this.withSubKv);
         }
 
+        private void readBlock() throws IOException {
+            /*
+             * The entries read from previous blocks may still refer to
+             * them, so use new inputs for each block.
+             */
+            byte[] block = this.compressor.decompress(this.input);
+            this.blockInput = IOFactory.createBytesInput(block);
+            this.blockUserAccessInput = this.blockInput.duplicate();
+        }
+
         @Override
         public void close() throws IOException {
             this.file.close();
             this.input.close();
             this.userAccessInput.close();
+            if (this.compressor != null) {
+                this.compressor.close();
+            }
         }
     }
 }
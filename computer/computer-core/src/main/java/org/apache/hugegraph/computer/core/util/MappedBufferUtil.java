@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+
+public final class MappedBufferUtil {
+
+    /*
+     * Unsafe.invokeCleaner is looked up by reflection instead of referring
+     * to sun.misc.Unsafe, which is warned as internal proprietary API.
+     */
+    private static final MethodHandle INVOKE_CLEANER;
+
+    static {
+        try {
+            Class<?> clazz = Class.forName("sun.misc.Unsafe");
+            Field field = clazz.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            MethodType type = MethodType.methodType(void.class,
+                                                    ByteBuffer.class);
+            INVOKE_CLEANER = MethodHandles.lookup()
+                                          .findVirtual(clazz, "invokeCleaner",
+                                                       type)
+                                          .bindTo(field.get(null));
+        } catch (Exception e) {
+            throw new ComputerException("Failed to get unsafe cleaner", e);
+        }
+    }
+
+    /**
+     * Unmap the buffer eagerly instead of waiting for GC, the buffer and
+     * its duplicates can't be accessed after unmapped.
+     */
+    public static void unmap(MappedByteBuffer buffer) {
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable e) {
+            throw new ComputerException("Failed to unmap buffer", e);
+        }
+    }
+}
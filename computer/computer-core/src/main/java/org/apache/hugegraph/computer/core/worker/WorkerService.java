@@ -107,6 +107,8 @@ public class WorkerService implements Closeable {
              * in order to ensure master init() before worker managers init()
              */
             ContainerInfo masterInfo = this.bsp4Worker.waitMasterInitDone();
+            this.bsp4Worker.waitMasterSchemaDone(
+                            this.context.graphFactory().schemaDictionary());
             InetSocketAddress address = this.initManagers(masterInfo);
             this.workerInfo.updateAddress(address);
             this.loadComputation();
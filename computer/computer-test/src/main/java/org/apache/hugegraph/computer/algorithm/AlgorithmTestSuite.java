@@ -19,12 +19,15 @@ package org.apache.hugegraph.computer.algorithm;
 
 import org.apache.hugegraph.computer.algorithm.centrality.betweenness.BetweennessCentralityTest;
 import org.apache.hugegraph.computer.algorithm.centrality.closeness.ClosenessCentralityTest;
+import org.apache.hugegraph.computer.algorithm.centrality.closeness.HyperBallCentralityTest;
+import org.apache.hugegraph.computer.algorithm.centrality.closeness.HyperLogLogValueTest;
 import org.apache.hugegraph.computer.algorithm.centrality.degree.DegreeCentralityTest;
 import org.apache.hugegraph.computer.algorithm.centrality.pagerank.PageRankTest;
 import org.apache.hugegraph.computer.algorithm.community.cc.ClusteringCoefficientTest;
 import org.apache.hugegraph.computer.algorithm.community.kcore.KcoreTest;
 import org.apache.hugegraph.computer.algorithm.community.lpa.LpaTest;
 import org.apache.hugegraph.computer.algorithm.community.trianglecount.TriangleCountTest;
+import org.apache.hugegraph.computer.algorithm.community.wcc.FastSvTest;
 import org.apache.hugegraph.computer.algorithm.community.wcc.WccTest;
 import org.apache.hugegraph.computer.algorithm.path.rings.RingsDetectionTest;
 import org.apache.hugegraph.computer.algorithm.path.rings.RingsDetectionWithFilterTest;
@@ -38,6 +41,7 @@ import org.junit.runners.Suite;
     PageRankTest.class,
     DegreeCentralityTest.class,
     WccTest.class,
+    FastSvTest.class,
     LpaTest.class,
     KcoreTest.class,
     TriangleCountTest.class,
@@ -45,6 +49,8 @@ import org.junit.runners.Suite;
     RingsDetectionWithFilterTest.class,
     ClusteringCoefficientTest.class,
     ClosenessCentralityTest.class,
+    HyperBallCentralityTest.class,
+    HyperLogLogValueTest.class,
     BetweennessCentralityTest.class,
     RandomWalkTest.class,
     SingleSourceShortestPathTest.class
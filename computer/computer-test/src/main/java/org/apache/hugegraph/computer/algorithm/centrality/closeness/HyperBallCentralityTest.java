@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.algorithm.centrality.closeness;
+
+import java.util.Map;
+
+import org.apache.hugegraph.computer.algorithm.AlgorithmTestBase;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.output.hg.HugeGraphDoubleOutput;
+import org.apache.hugegraph.driver.GraphManager;
+import org.apache.hugegraph.driver.HugeClient;
+import org.apache.hugegraph.driver.SchemaManager;
+import org.apache.hugegraph.structure.constant.T;
+import org.apache.hugegraph.structure.graph.Vertex;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+public class HyperBallCentralityTest extends AlgorithmTestBase {
+
+    @BeforeClass
+    public static void setup() {
+        clearAll();
+
+        HugeClient client = client();
+        SchemaManager schema = client.schema();
+
+        schema.vertexLabel("user")
+              .useCustomizeStringId()
+              .ifNotExist()
+              .create();
+        schema.edgeLabel("link")
+              .sourceLabel("user")
+              .targetLabel("user")
+              .ifNotExist()
+              .create();
+
+        GraphManager graph = client.graph();
+        Vertex vA = graph.addVertex(T.LABEL, "user", T.ID, "A");
+        Vertex vB = graph.addVertex(T.LABEL, "user", T.ID, "B");
+        Vertex vC = graph.addVertex(T.LABEL, "user", T.ID, "C");
+        Vertex vD = graph.addVertex(T.LABEL, "user", T.ID, "D");
+        Vertex vE = graph.addVertex(T.LABEL, "user", T.ID, "E");
+        Vertex vF = graph.addVertex(T.LABEL, "user", T.ID, "F");
+
+        vA.addEdge("link", vB);
+        vB.addEdge("link", vA);
+
+        vB.addEdge("link", vC);
+        vC.addEdge("link", vB);
+
+        vB.addEdge("link", vD);
+        vD.addEdge("link", vB);
+
+        vC.addEdge("link", vD);
+        vD.addEdge("link", vC);
+
+        vC.addEdge("link", vE);
+        vE.addEdge("link", vC);
+
+        vD.addEdge("link", vE);
+        vE.addEdge("link", vD);
+
+        vD.addEdge("link", vF);
+        vF.addEdge("link", vD);
+
+        vE.addEdge("link", vF);
+        vF.addEdge("link", vE);
+    }
+
+    @AfterClass
+    public static void clear() {
+        clearAll();
+    }
+
+    @Test
+    public void testRunAlgorithm() throws InterruptedException {
+        runAlgorithm(HyperBallCentralityParams.class.getName(),
+                     HyperBallCentrality.OPTION_REGISTER_BITS, "10",
+                     ComputerOptions.BSP_MAX_SUPER_STEP.name(), "10",
+                     ComputerOptions.OUTPUT_CLASS.name(),
+                     HyperBallTestOutput.class.getName());
+    }
+
+    public static class HyperBallTestOutput extends HugeGraphDoubleOutput {
+
+        // The same as the closeness without weight property
+        private final Map<String, Double> expectResults =
+                ImmutableMap.<String, Double>builder()
+                            .put("A", 2.6666666666666665)
+                            .put("B", 4.0)
+                            .put("C", 4.0)
+                            .put("D", 4.5)
+                            .put("E", 3.833333333333333)
+                            .put("F", 3.333333333333333)
+                            .build();
+
+        @Override
+        protected Double value(
+                  org.apache.hugegraph.computer.core.graph.vertex.Vertex
+                  vertex) {
+            Double result = super.value(vertex);
+            Double expect = expectResults.get(vertex.id().string());
+            Assert.assertNotNull(expect);
+            // The counters of small balls are almost exact
+            Assert.assertEquals(expect, result, 0.1D);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.algorithm.centrality.closeness;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.suite.unit.UnitTestBase;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+public class HyperLogLogValueTest extends UnitTestBase {
+
+    @Test
+    public void testCount() {
+        HyperLogLogValue counter = new HyperLogLogValue(10);
+        Assert.assertEquals(1024, counter.size());
+        Assert.assertEquals(0.0D, counter.count(), 0.0D);
+
+        for (long i = 0L; i < 6L; i++) {
+            counter.add(BytesId.of(i));
+            // Add again doesn't change the count
+            counter.add(BytesId.of(i));
+        }
+        Assert.assertEquals(6.0D, counter.count(), 0.1D);
+
+        for (long i = 6L; i < 100000L; i++) {
+            counter.add(BytesId.of(i));
+        }
+        Assert.assertEquals(100000.0D, counter.count(), 100000.0D * 0.1D);
+
+        HyperLogLogValue strings = new HyperLogLogValue(10);
+        HyperLogLogValue uuids = new HyperLogLogValue(10);
+        for (int i = 0; i < 10000; i++) {
+            strings.add(BytesId.of("v" + i));
+            uuids.add(BytesId.of(new UUID(i, i * 31L)));
+        }
+        Assert.assertEquals(10000.0D, strings.count(), 10000.0D * 0.1D);
+        Assert.assertEquals(10000.0D, uuids.count(), 10000.0D * 0.1D);
+    }
+
+    @Test
+    public void testUnion() {
+        HyperLogLogValue counter1 = new HyperLogLogValue(8);
+        HyperLogLogValue counter2 = new HyperLogLogValue(8);
+        for (long i = 0L; i < 1000L; i++) {
+            counter1.add(BytesId.of(i));
+            counter2.add(BytesId.of(i + 500L));
+        }
+
+        HyperLogLogValue result = new HyperLogLogValue();
+        result.max(counter1, counter2);
+        Assert.assertEquals(1500.0D, result.count(), 1500.0D * 0.2D);
+
+        Assert.assertTrue(counter1.union(counter2));
+        Assert.assertEquals(result, counter1);
+        Assert.assertFalse(counter1.union(counter2));
+
+        // The result can be the same as the combined counter
+        counter2.max(counter2, counter1);
+        Assert.assertEquals(result, counter2);
+
+        HyperLogLogValue other = new HyperLogLogValue(4);
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            counter1.union(other);
+        }, e -> {
+            Assert.assertContains("Can't merge the counters with 256 and 16",
+                                  e.getMessage());
+        });
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            new HyperLogLogValue(3);
+        }, e -> {
+            Assert.assertContains("The register bits must be in [4, 16]",
+                                  e.getMessage());
+        });
+    }
+
+    @Test
+    public void testReadWrite() throws IOException {
+        HyperLogLogValue counter = new HyperLogLogValue(6);
+        for (long i = 0L; i < 100L; i++) {
+            counter.add(BytesId.of(i));
+        }
+        assertEqualAfterWriteAndRead(counter, new HyperLogLogValue());
+        Assert.assertEquals(counter, counter.copy());
+    }
+
+    @Test
+    public void testHyperBallValue() {
+        HyperBallValue value = new HyperBallValue(6);
+        value.counter().add(BytesId.of(1L));
+        value.count(1.0D, 0);
+        Assert.assertEquals(0.0D, value.value(), 0.0D);
+
+        // 2 vertices at distance 1 and 4 vertices at distance 2
+        value.count(3.0D, 1);
+        value.count(7.0D, 2);
+        Assert.assertEquals(4.0D, value.value(), 1E-9D);
+        Assert.assertEquals(7.0D, value.count(), 0.0D);
+
+        // The ball never shrinks
+        value.count(6.5D, 3);
+        Assert.assertEquals(4.0D, value.value(), 1E-9D);
+        Assert.assertEquals(7.0D, value.count(), 0.0D);
+    }
+}
@@ -19,18 +19,26 @@ package org.apache.hugegraph.computer.core.compute;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
+import org.apache.hugegraph.computer.core.combiner.IdListMergeCombiner;
+import org.apache.hugegraph.computer.core.combiner.ValueMinCombiner;
 import org.apache.hugegraph.computer.core.common.Constants;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
 import org.apache.hugegraph.computer.core.config.EdgeFrequency;
 import org.apache.hugegraph.computer.core.config.Null;
+import org.apache.hugegraph.computer.core.config.PartitionMode;
 import org.apache.hugegraph.computer.core.graph.edge.Edge;
 import org.apache.hugegraph.computer.core.graph.edge.Edges;
 import org.apache.hugegraph.computer.core.graph.id.BytesId;
 import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.partition.PartitionStat;
 import org.apache.hugegraph.computer.core.graph.properties.Properties;
 import org.apache.hugegraph.computer.core.graph.value.IdList;
 import org.apache.hugegraph.computer.core.graph.value.IdListList;
@@ -44,8 +52,10 @@ import org.apache.hugegraph.computer.core.manager.Managers;
 import org.apache.hugegraph.computer.core.network.ConnectionId;
 import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
+import org.apache.hugegraph.computer.core.output.ComputerOutput;
 import org.apache.hugegraph.computer.core.receiver.MessageRecvManager;
 import org.apache.hugegraph.computer.core.receiver.ReceiverUtil;
+import org.apache.hugegraph.computer.core.receiver.message.CombinedMessageArray;
 import org.apache.hugegraph.computer.core.sender.MessageSendManager;
 import org.apache.hugegraph.computer.core.snapshot.SnapshotManager;
 import org.apache.hugegraph.computer.core.sort.sorting.SendSortManager;
@@ -53,7 +63,9 @@ import org.apache.hugegraph.computer.core.sort.sorting.SortManager;
 import org.apache.hugegraph.computer.core.store.FileManager;
 import org.apache.hugegraph.computer.core.store.entry.EntryOutput;
 import org.apache.hugegraph.computer.core.store.entry.EntryOutputImpl;
+import org.apache.hugegraph.computer.core.worker.WorkerStat;
 import org.apache.hugegraph.computer.suite.unit.UnitTestBase;
+import org.apache.hugegraph.testutil.Assert;
 import org.apache.hugegraph.testutil.Whitebox;
 import org.junit.After;
 import org.junit.Before;
@@ -70,7 +82,11 @@ public class ComputeManagerTest extends UnitTestBase {
 
     @Before
     public void setup() {
-        this.config = UnitTestBase.updateWithRequiredOptions(
+        this.init(PartitionMode.FILE);
+    }
+
+    private void init(PartitionMode mode, Object... options) {
+        Object[] defaultOptions = {
                 ComputerOptions.JOB_ID, "local_001",
                 ComputerOptions.JOB_WORKERS_COUNT, "1",
                 ComputerOptions.JOB_PARTITIONS_COUNT, "2",
@@ -88,8 +104,15 @@ public class ComputeManagerTest extends UnitTestBase {
                 ComputerOptions.WORKER_COMPUTATION_CLASS,
                 MockComputation.class.getName(),
                 ComputerOptions.INPUT_EDGE_FREQ, "SINGLE",
-                ComputerOptions.TRANSPORT_RECV_FILE_MODE, "false"
-        );
+                ComputerOptions.TRANSPORT_RECV_FILE_MODE, "false",
+                ComputerOptions.WORKER_PARTITION_MODE, mode.name()
+        };
+        Object[] allOptions = Arrays.copyOf(defaultOptions,
+                                            defaultOptions.length +
+                                            options.length);
+        System.arraycopy(options, 0, allOptions, defaultOptions.length,
+                         options.length);
+        this.config = UnitTestBase.updateWithRequiredOptions(allOptions);
 
         this.managers = new Managers();
         FileManager fileManager = new FileManager();
@@ -124,6 +147,476 @@ public class ComputeManagerTest extends UnitTestBase {
 
     @Test
     public void testProcess() throws IOException {
+        this.process();
+    }
+
+    @Test
+    public void testProcessWithParallelOutput() throws IOException {
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.OUTPUT_PARTITION_THREADS, "2");
+
+        this.process();
+    }
+
+    @Test
+    public void testProcessWithMemoryPartition() throws IOException {
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.MEMORY);
+
+        this.process();
+    }
+
+    @Test
+    public void testProcessWithCombinedMessageArray() throws IOException {
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.MEMORY,
+                  ComputerOptions.WORKER_COMBINED_MESSAGE_ARRAY, "true",
+                  ComputerOptions.WORKER_COMBINER_CLASS,
+                  IdListMergeCombiner.class.getName());
+
+        this.process();
+
+        MessageRecvManager receiveManager = this.managers.get(
+                                            MessageRecvManager.NAME);
+        Map<Integer, CombinedMessageArray> arrays =
+                                           receiveManager.messageArrays();
+        Assert.assertEquals(2, arrays.size());
+    }
+
+    @Test
+    public void testCombinedMessageArrayWithFilePartition() {
+        this.managers.closeAll(this.config);
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            this.init(PartitionMode.FILE,
+                      ComputerOptions.WORKER_COMBINED_MESSAGE_ARRAY, "true");
+        }, e -> {
+            Assert.assertContains("is only supported in MEMORY partition",
+                                  e.getMessage());
+        });
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE);
+    }
+
+    @Test
+    public void testProcessWithAsyncLocalMessages() throws IOException {
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.MEMORY,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockMinComputation.class.getName(),
+                  ComputerOptions.ALGORITHM_RESULT_CLASS,
+                  LongValue.class.getName(),
+                  ComputerOptions.ALGORITHM_MESSAGE_CLASS,
+                  LongValue.class.getName(),
+                  ComputerOptions.WORKER_COMBINER_CLASS,
+                  ValueMinCombiner.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_ASYNC_LOCAL_MESSAGES, "true",
+                  // All the vertices are in the partition of the partitioner
+                  ComputerOptions.JOB_PARTITIONS_COUNT, "1");
+        FrontierOutput.VALUES.clear();
+
+        MessageRecvManager receiveManager = this.managers.get(
+                                            MessageRecvManager.NAME);
+        receiveManager.onStarted(this.connectionId);
+        add200VertexBuffer((NetworkBuffer buffer) -> {
+            receiveManager.handle(MessageType.VERTEX, 0, buffer);
+        });
+        receiveManager.onFinished(this.connectionId);
+        receiveManager.onStarted(this.connectionId);
+        receiveManager.onFinished(this.connectionId);
+        this.computeManager.input();
+
+        long[] finishedCounts = new long[3];
+        for (int superstep = 0; superstep < 3; superstep++) {
+            if (superstep > 0) {
+                this.computeManager.takeRecvedMessages();
+            }
+            receiveManager.beforeSuperstep(this.config, superstep);
+            receiveManager.onStarted(this.connectionId);
+            receiveManager.onFinished(this.connectionId);
+            WorkerStat stat = this.computeManager.compute(null, superstep);
+            receiveManager.afterSuperstep(this.config, superstep);
+            for (PartitionStat partitionStat : stat) {
+                finishedCounts[superstep] +=
+                        partitionStat.finishedVertexCount();
+            }
+        }
+        Assert.assertEquals(100L, this.computeManager.output());
+
+        /*
+         * The min id is propagated along the whole chain at superstep 1,
+         * the vertices received the messages from the later vertices are
+         * activated, and all vertices are finished at superstep 2.
+         */
+        Assert.assertEquals(0L, finishedCounts[0]);
+        Assert.assertEquals(1L, finishedCounts[1]);
+        Assert.assertEquals(100L, finishedCounts[2]);
+        Assert.assertEquals(100, FrontierOutput.VALUES.size());
+        for (String value : FrontierOutput.VALUES.values()) {
+            Assert.assertEquals("0", value);
+        }
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE);
+    }
+
+    @Test
+    public void testProcessWithLocalTargets() throws IOException {
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.MEMORY,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockEdgeMinComputation.class.getName(),
+                  ComputerOptions.ALGORITHM_RESULT_CLASS,
+                  LongValue.class.getName(),
+                  ComputerOptions.ALGORITHM_MESSAGE_CLASS,
+                  LongValue.class.getName(),
+                  ComputerOptions.WORKER_COMBINER_CLASS,
+                  ValueMinCombiner.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_ASYNC_LOCAL_MESSAGES, "true",
+                  // All the vertices are in the partition of the partitioner
+                  ComputerOptions.JOB_PARTITIONS_COUNT, "1");
+        FrontierOutput.VALUES.clear();
+
+        MessageRecvManager receiveManager = this.managers.get(
+                                            MessageRecvManager.NAME);
+        receiveManager.onStarted(this.connectionId);
+        add200VertexBuffer((NetworkBuffer buffer) -> {
+            receiveManager.handle(MessageType.VERTEX, 0, buffer);
+        });
+        receiveManager.onFinished(this.connectionId);
+        receiveManager.onStarted(this.connectionId);
+        addChainEdgeBuffer((NetworkBuffer buffer) -> {
+            receiveManager.handle(MessageType.EDGE, 0, buffer);
+        });
+        receiveManager.onFinished(this.connectionId);
+        this.computeManager.input();
+
+        // The target of each edge is resolved to the index of the vertex
+        Map<Integer, GraphPartition> partitions = Whitebox.getInternalState(
+                                                  this.computeManager,
+                                                  "partitions");
+        GraphPartition partition = partitions.get(0);
+        Id[] targetIds = Whitebox.getInternalState(partition, "targetIds");
+        int[] localTargets = Whitebox.getInternalState(partition,
+                                                       "localTargets");
+        Assert.assertEquals(100, targetIds.length);
+        Assert.assertEquals(targetIds.length, localTargets.length);
+        for (int i = 0; i < targetIds.length; i++) {
+            long id = (long) targetIds[i].asObject();
+            Assert.assertEquals(id / 2L, localTargets[i]);
+        }
+
+        for (int superstep = 0; superstep < 3; superstep++) {
+            if (superstep > 0) {
+                this.computeManager.takeRecvedMessages();
+            }
+            receiveManager.beforeSuperstep(this.config, superstep);
+            receiveManager.onStarted(this.connectionId);
+            receiveManager.onFinished(this.connectionId);
+            this.computeManager.compute(null, superstep);
+            receiveManager.afterSuperstep(this.config, superstep);
+        }
+        Assert.assertEquals(100L, this.computeManager.output());
+
+        // The min id is propagated along the edges of the whole chain
+        Assert.assertEquals(100, FrontierOutput.VALUES.size());
+        for (String value : FrontierOutput.VALUES.values()) {
+            Assert.assertEquals("0", value);
+        }
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE);
+    }
+
+    @Test
+    public void testAsyncLocalMessagesWithFilePartition() {
+        this.managers.closeAll(this.config);
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            this.init(PartitionMode.FILE,
+                      ComputerOptions.WORKER_ASYNC_LOCAL_MESSAGES, "true");
+        }, e -> {
+            Assert.assertContains("is only supported in MEMORY partition",
+                                  e.getMessage());
+        });
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE);
+    }
+
+    @Test
+    public void testProcessWithSparseSuperstep() throws IOException {
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockFrontierComputation.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0");
+        Map<String, String> denseValues = this.processFrontier(false);
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockFrontierComputation.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0.5");
+        Map<String, String> sparseValues = this.processFrontier(true);
+
+        Assert.assertEquals(200, sparseValues.size());
+        Assert.assertEquals(denseValues, sparseValues);
+        // Active at superstep 1 and received 2 messages
+        Assert.assertEquals("[[0], [0], [0]]", sparseValues.get("0/0"));
+        Assert.assertEquals("[[0]]", sparseValues.get("1/0"));
+        // Inactive without messages
+        Assert.assertEquals("[]", sparseValues.get("0/2"));
+        // Inactive but received a message at superstep 2
+        Assert.assertEquals("[[4], [4]]", sparseValues.get("0/4"));
+        Assert.assertEquals("[]", sparseValues.get("1/4"));
+        // Active at superstep 1
+        Assert.assertEquals("[[6]]", sparseValues.get("0/6"));
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE);
+    }
+
+    @Test
+    public void testProcessWithDenseFrontier() throws IOException {
+        // Send messages to all vertices of partition 0
+        long[] messageIds = new long[100];
+        for (int i = 0; i < messageIds.length; i++) {
+            messageIds[i] = i * 2L;
+        }
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockFrontierComputation.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0");
+        Map<String, String> denseValues = this.processFrontier(messageIds,
+                                                               false, false);
+
+        /*
+         * The frontier of partition 0 is larger than the ratio because of
+         * the received messages, though only a third of vertices is active.
+         */
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockFrontierComputation.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0.5");
+        Map<String, String> values = this.processFrontier(messageIds,
+                                                          false, true);
+
+        Assert.assertEquals(200, values.size());
+        Assert.assertEquals(denseValues, values);
+        Assert.assertEquals("[[2], [2]]", values.get("0/2"));
+        Assert.assertEquals("[]", values.get("1/2"));
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE);
+    }
+
+    @Test
+    public void testProcessWithValueColumn() throws IOException {
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockCountComputation.class.getName(),
+                  ComputerOptions.ALGORITHM_RESULT_CLASS,
+                  LongValue.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_FILE_MMAP, "false",
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0.5");
+        Map<String, String> fileValues = this.processFrontier(true);
+        this.checkValueColumn(false);
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockCountComputation.class.getName(),
+                  ComputerOptions.ALGORITHM_RESULT_CLASS,
+                  LongValue.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0.5");
+        Map<String, String> sparseValues = this.processFrontier(true);
+        this.checkValueColumn(true);
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockCountComputation.class.getName(),
+                  ComputerOptions.ALGORITHM_RESULT_CLASS,
+                  LongValue.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0");
+        Map<String, String> denseValues = this.processFrontier(false);
+        this.checkValueColumn(true);
+
+        Assert.assertEquals(200, fileValues.size());
+        Assert.assertEquals(fileValues, sparseValues);
+        Assert.assertEquals(fileValues, denseValues);
+        Assert.assertEquals("3", fileValues.get("0/0"));
+        Assert.assertEquals("1", fileValues.get("1/0"));
+        Assert.assertEquals("0", fileValues.get("0/2"));
+        Assert.assertEquals("2", fileValues.get("0/4"));
+        Assert.assertEquals("1", fileValues.get("0/6"));
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE);
+    }
+
+    @Test
+    public void testProcessWithNonLongIdValue() throws IOException {
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockLabelComputation.class.getName(),
+                  ComputerOptions.ALGORITHM_RESULT_CLASS,
+                  BytesId.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_FILE_MMAP, "false",
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0.5");
+        Map<String, String> fileValues = this.processFrontier(true);
+        this.checkValueColumn(false);
+
+        /*
+         * The values of partition 0 are moved to value file once a label
+         * isn't LONG id, partition 1 doesn't receive messages.
+         */
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockLabelComputation.class.getName(),
+                  ComputerOptions.ALGORITHM_RESULT_CLASS,
+                  BytesId.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0.5");
+        Map<String, String> sparseValues = this.processFrontier(true);
+        this.checkValueColumn(false, true);
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE,
+                  ComputerOptions.WORKER_COMPUTATION_CLASS,
+                  MockLabelComputation.class.getName(),
+                  ComputerOptions.ALGORITHM_RESULT_CLASS,
+                  BytesId.class.getName(),
+                  ComputerOptions.OUTPUT_CLASS, FrontierOutput.class.getName(),
+                  ComputerOptions.WORKER_PARTITION_SPARSE_RATIO, "0");
+        Map<String, String> denseValues = this.processFrontier(false);
+        this.checkValueColumn(false, true);
+
+        Assert.assertEquals(200, fileValues.size());
+        Assert.assertEquals(fileValues, sparseValues);
+        Assert.assertEquals(fileValues, denseValues);
+        Assert.assertEquals("label0", fileValues.get("0/0"));
+        Assert.assertEquals("0", fileValues.get("1/0"));
+        Assert.assertEquals("2", fileValues.get("0/2"));
+        Assert.assertEquals("label4", fileValues.get("0/4"));
+        Assert.assertEquals("6", fileValues.get("0/6"));
+
+        this.managers.closeAll(this.config);
+        this.init(PartitionMode.FILE);
+    }
+
+    private void checkValueColumn(boolean expected) {
+        this.checkValueColumn(expected, expected);
+    }
+
+    private void checkValueColumn(boolean expected0, boolean expected1) {
+        Map<Integer, GraphPartition> partitions = Whitebox.getInternalState(
+                                                  this.computeManager,
+                                                  "partitions");
+        Object column0 = Whitebox.getInternalState(partitions.get(0),
+                                                   "valueColumn");
+        Assert.assertEquals(expected0, column0 != null);
+        Object column1 = Whitebox.getInternalState(partitions.get(1),
+                                                   "valueColumn");
+        Assert.assertEquals(expected1, column1 != null);
+    }
+
+    private Map<String, String> processFrontier(boolean sparse)
+                                            throws IOException {
+        return this.processFrontier(new long[]{0L, 0L, 3L, 50L, 51L, 198L},
+                                    sparse, sparse);
+    }
+
+    /**
+     * Process the frontier computation in 3 supersteps, the messages of
+     * superstep 0 are sent to partition 0.
+     * @param sparse0 Whether partition 0 is sparse at superstep 1
+     * @param sparse1 Whether partition 1 is sparse at superstep 1
+     */
+    private Map<String, String> processFrontier(long[] messageIds,
+                                                boolean sparse0,
+                                                boolean sparse1)
+                                                throws IOException {
+        FrontierOutput.VALUES.clear();
+
+        MessageRecvManager receiveManager = this.managers.get(
+                                            MessageRecvManager.NAME);
+        receiveManager.onStarted(this.connectionId);
+        add200VertexBuffer((NetworkBuffer buffer) -> {
+            receiveManager.handle(MessageType.VERTEX, 0, buffer);
+        });
+        add200VertexBuffer((NetworkBuffer buffer) -> {
+            receiveManager.handle(MessageType.VERTEX, 1, buffer);
+        });
+        receiveManager.onFinished(this.connectionId);
+        receiveManager.onStarted(this.connectionId);
+        addSingleFreqEdgeBuffer((NetworkBuffer buffer) -> {
+            receiveManager.handle(MessageType.EDGE, 0, buffer);
+        });
+        receiveManager.onFinished(this.connectionId);
+        this.computeManager.input();
+
+        // Superstep 0, the vertices with odd id don't exist
+        receiveManager.beforeSuperstep(this.config, 0);
+        receiveManager.onStarted(this.connectionId);
+        addMessages(messageIds, (NetworkBuffer buffer) -> {
+            receiveManager.handle(MessageType.MSG, 0, buffer);
+        });
+        receiveManager.onFinished(this.connectionId);
+        this.computeManager.compute(null, 0);
+        receiveManager.afterSuperstep(this.config, 0);
+
+        // Superstep 1
+        this.computeManager.takeRecvedMessages();
+        receiveManager.beforeSuperstep(this.config, 1);
+        receiveManager.onStarted(this.connectionId);
+        addMessages(new long[]{4L, 7L}, (NetworkBuffer buffer) -> {
+            receiveManager.handle(MessageType.MSG, 0, buffer);
+        });
+        receiveManager.onFinished(this.connectionId);
+        this.computeManager.compute(null, 1);
+        receiveManager.afterSuperstep(this.config, 1);
+
+        Map<Integer, GraphPartition> partitions = Whitebox.getInternalState(
+                                                  this.computeManager,
+                                                  "partitions");
+        Assert.assertEquals(sparse0, Whitebox.getInternalState(
+                                     partitions.get(0), "sparse"));
+        Assert.assertEquals(sparse1, Whitebox.getInternalState(
+                                     partitions.get(1), "sparse"));
+
+        // Superstep 2
+        this.computeManager.takeRecvedMessages();
+        receiveManager.beforeSuperstep(this.config, 2);
+        receiveManager.onStarted(this.connectionId);
+        receiveManager.onFinished(this.connectionId);
+        this.computeManager.compute(null, 2);
+        receiveManager.afterSuperstep(this.config, 2);
+
+        this.computeManager.output();
+        return new HashMap<>(FrontierOutput.VALUES);
+    }
+
+    private void process() throws IOException {
+        this.process(() -> { });
+    }
+
+    private void process(Runnable afterInput) throws IOException {
         MessageRecvManager receiveManager = this.managers.get(
                                             MessageRecvManager.NAME);
         receiveManager.onStarted(this.connectionId);
@@ -141,6 +634,7 @@ public class ComputeManagerTest extends UnitTestBase {
         });
         receiveManager.onFinished(this.connectionId);
         this.computeManager.input();
+        afterInput.run();
 
         // Superstep 0
         receiveManager.beforeSuperstep(this.config, 0);
@@ -160,8 +654,8 @@ public class ComputeManagerTest extends UnitTestBase {
         this.computeManager.compute(null, 1);
         receiveManager.afterSuperstep(this.config, 1);
 
-        // Output
-        this.computeManager.output();
+        // Output, each partition has 100 vertices
+        Assert.assertEquals(200L, this.computeManager.output());
     }
 
     private static void add200VertexBuffer(Consumer<NetworkBuffer> consumer)
@@ -209,6 +703,29 @@ public class ComputeManagerTest extends UnitTestBase {
         }
     }
 
+    /**
+     * Link each vertex with even id to the previous and the next one.
+     */
+    private static void addChainEdgeBuffer(Consumer<NetworkBuffer> consumer)
+                                           throws IOException {
+        for (long i = 0L; i < 200L; i += 2) {
+            Vertex vertex = graphFactory().createVertex();
+            vertex.id(BytesId.of(i));
+            Edges edges = graphFactory().createEdges(2);
+            for (long target : new long[]{i - 2L, i + 2L}) {
+                if (target < 0L || target >= 200L) {
+                    continue;
+                }
+                Edge edge = graphFactory().createEdge();
+                edge.targetId(BytesId.of(target));
+                edges.add(edge);
+            }
+            vertex.edges(edges);
+            ReceiverUtil.consumeBuffer(writeEdges(vertex, EdgeFrequency.SINGLE),
+                                       consumer);
+        }
+    }
+
     private static byte[] writeEdges(Vertex vertex, EdgeFrequency freq)
                                      throws IOException {
         BytesOutput bytesOutput = IOFactory.createBytesOutput(
@@ -221,6 +738,18 @@ public class ComputeManagerTest extends UnitTestBase {
         return bytesOutput.toByteArray();
     }
 
+    private static void addMessages(long[] ids,
+                                    Consumer<NetworkBuffer> consumer)
+                                    throws IOException {
+        for (long i : ids) {
+            Id id = BytesId.of(i);
+            IdList message = new IdList();
+            message.add(id);
+            ReceiverUtil.consumeBuffer(ReceiverUtil.writeMessage(id, message),
+                                       consumer);
+        }
+    }
+
     private static void addMessages(Consumer<NetworkBuffer> consumer)
                                     throws IOException {
         for (long i = 0L; i < 200L; i++) {
@@ -235,4 +764,34 @@ public class ComputeManagerTest extends UnitTestBase {
             }
         }
     }
+
+    public static class FrontierOutput implements ComputerOutput {
+
+        // The value of each vertex, the key is partition and vertex id
+        private static final Map<String, String> VALUES =
+                                                 new ConcurrentHashMap<>();
+
+        private int partition;
+
+        @Override
+        public void init(Config config, int partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void write(Vertex vertex) {
+            VALUES.put(this.partition + "/" + vertex.id(),
+                       vertex.value().toString());
+        }
+
+        @Override
+        public void close() {
+            // pass
+        }
+
+        @Override
+        public String name() {
+            return "frontier";
+        }
+    }
 }
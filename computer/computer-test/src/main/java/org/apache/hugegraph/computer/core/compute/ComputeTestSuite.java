@@ -17,6 +17,7 @@
 
 package org.apache.hugegraph.computer.core.compute;
 
+import org.apache.hugegraph.computer.core.compute.column.ValueColumnTest;
 import org.apache.hugegraph.computer.core.compute.input.EdgesInputTest;
 import org.apache.hugegraph.computer.core.compute.input.MessageInputTest;
 import org.apache.hugegraph.computer.core.compute.input.ResuablePointerTest;
@@ -28,6 +29,8 @@ import org.junit.runners.Suite;
     EdgesInputTest.class,
     ResuablePointerTest.class,
     MessageInputTest.class,
+    ValueColumnTest.class,
+    VertexIndexTest.class,
     ComputeManagerTest.class
 })
 public class ComputeTestSuite {
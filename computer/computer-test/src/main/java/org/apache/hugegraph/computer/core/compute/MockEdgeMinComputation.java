@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute;
+
+import java.util.Iterator;
+
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
+import org.apache.hugegraph.computer.core.worker.Computation;
+import org.apache.hugegraph.computer.core.worker.ComputationContext;
+
+/**
+ * Propagate the min id along the edges, the value is sent to all the
+ * adjacent vertices if it's changed.
+ */
+public class MockEdgeMinComputation implements Computation<LongValue> {
+
+    private static final String NAME = "MockEdgeMinComputation";
+    private static final String CATEGORY = "Mock";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String category() {
+        return CATEGORY;
+    }
+
+    @Override
+    public boolean allowAsyncMessages() {
+        return true;
+    }
+
+    @Override
+    public void compute0(ComputationContext context, Vertex vertex) {
+        vertex.value(new LongValue((long) vertex.id().asObject()));
+    }
+
+    @Override
+    public void compute(ComputationContext context, Vertex vertex,
+                        Iterator<LongValue> messages) {
+        LongValue value = vertex.value();
+        long min = value.longValue();
+        // Send the initial value if activated without messages
+        boolean changed = !messages.hasNext();
+        while (messages.hasNext()) {
+            long message = messages.next().longValue();
+            if (message < min) {
+                min = message;
+                changed = true;
+            }
+        }
+        if (changed) {
+            value.value(min);
+            context.sendMessageToAllEdges(vertex, new LongValue(min));
+        }
+        vertex.inactivate();
+    }
+}
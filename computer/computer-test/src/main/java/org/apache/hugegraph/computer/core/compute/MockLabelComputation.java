@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute;
+
+import java.util.Iterator;
+
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.value.IdList;
+import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
+import org.apache.hugegraph.computer.core.worker.Computation;
+import org.apache.hugegraph.computer.core.worker.ComputationContext;
+
+/**
+ * The same frontier as {@link MockFrontierComputation}, the value is the
+ * LONG id of the vertex at first, and it's replaced by an id of UTF8 type
+ * once the vertex receives messages, like a label adopted from a vertex
+ * whose id isn't of LONG type.
+ */
+public class MockLabelComputation implements Computation<IdList> {
+
+    private static final String NAME = "MockLabelComputation";
+    private static final String CATEGORY = "Mock";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String category() {
+        return CATEGORY;
+    }
+
+    @Override
+    public void compute0(ComputationContext context, Vertex vertex) {
+        long id = (long) vertex.id().asObject();
+        vertex.value(BytesId.of(id));
+        if (id % 3L != 0L) {
+            vertex.inactivate();
+        }
+    }
+
+    @Override
+    public void compute(ComputationContext context, Vertex vertex,
+                        Iterator<IdList> messages) {
+        if (messages.hasNext()) {
+            vertex.value(BytesId.of("label" + vertex.id()));
+        }
+        vertex.inactivate();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.compute.input.ReusablePointer;
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.io.BytesInput;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.store.entry.InlinePointer;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+public class VertexIndexTest {
+
+    @Test
+    public void testIndex() throws IOException {
+        VertexIndex.Builder builder = new VertexIndex.Builder(3);
+        for (long i = 0L; i < 100L; i += 2) {
+            Id id = BytesId.of(i);
+            builder.add(idBytes(id), id);
+        }
+        VertexIndex index = builder.build();
+
+        Assert.assertEquals(3, index.partition());
+        Assert.assertEquals(50, index.size());
+        for (int i = 0; i < index.size(); i++) {
+            Id id = BytesId.of(i * 2L);
+            Assert.assertEquals(id, index.id(i));
+            Assert.assertEquals(i, index.indexOf(id));
+            Assert.assertEquals(i, index.indexOf(new InlinePointer(
+                                                 idBytes(id))));
+        }
+        Assert.assertEquals(-1, index.indexOf(BytesId.of(1L)));
+        Assert.assertEquals(-1, index.indexOf(BytesId.of(-1L)));
+        Assert.assertEquals(-1, index.indexOf(BytesId.of(100L)));
+        Assert.assertEquals(-1, index.indexOf(BytesId.of("2")));
+
+        ReusablePointer pointer = new ReusablePointer();
+        BytesInput input = index.idInput();
+        for (int i = 0; i < index.size(); i++) {
+            pointer.read(input);
+            Assert.assertEquals(i, index.indexOf(pointer));
+        }
+        Assert.assertEquals(0L, input.available());
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        VertexIndex index = new VertexIndex.Builder(0).build();
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(-1, index.indexOf(BytesId.of(1L)));
+    }
+
+    private static byte[] idBytes(Id id) throws IOException {
+        BytesOutput output = IOFactory.createBytesOutput(
+                             Constants.SMALL_BUF_SIZE);
+        id.write(output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.compute.column;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.id.IdType;
+import org.apache.hugegraph.computer.core.graph.id.LongId;
+import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
+import org.apache.hugegraph.computer.core.graph.value.FloatValue;
+import org.apache.hugegraph.computer.core.graph.value.IdList;
+import org.apache.hugegraph.computer.core.graph.value.IntValue;
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.suite.unit.UnitTestBase;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+public class ValueColumnTest extends UnitTestBase {
+
+    @Test
+    public void testCreate() {
+        Assert.assertInstanceOf(DoubleValueColumn.class,
+                                ValueColumn.create(new DoubleValue(), 1));
+        Assert.assertInstanceOf(FloatValueColumn.class,
+                                ValueColumn.create(new FloatValue(), 1));
+        Assert.assertInstanceOf(LongValueColumn.class,
+                                ValueColumn.create(new LongValue(), 1));
+        Assert.assertInstanceOf(IntValueColumn.class,
+                                ValueColumn.create(new IntValue(), 1));
+        Assert.assertInstanceOf(BytesValueColumn.class,
+                                ValueColumn.create(new IdList(), 1));
+    }
+
+    @Test
+    public void testFixedWidthColumn() {
+        ValueColumn column = ValueColumn.create(new DoubleValue(), 3);
+        Assert.assertEquals(3, column.size());
+        column.write(0, new DoubleValue(1.5D));
+        column.write(2, new DoubleValue(-2.5D));
+
+        DoubleValue reused = new DoubleValue();
+        Assert.assertEquals(new DoubleValue(1.5D), column.read(0, reused));
+        Assert.assertEquals(new DoubleValue(0.0D), column.read(1, reused));
+        Assert.assertEquals(new DoubleValue(-2.5D), column.read(2, reused));
+
+        ValueColumn longColumn = ValueColumn.create(new LongValue(), 2);
+        longColumn.write(1, new LongValue(Long.MAX_VALUE));
+        Assert.assertEquals(new LongValue(Long.MAX_VALUE),
+                            longColumn.read(1, new LongValue()));
+    }
+
+    @Test
+    public void testBytesColumn() {
+        ValueColumn column = ValueColumn.create(new IdList(), 2);
+        Assert.assertEquals(2, column.size());
+
+        IdList value1 = new IdList();
+        value1.add(BytesId.of(1L));
+        value1.add(BytesId.of(2L));
+        IdList value2 = new IdList();
+        value2.add(BytesId.of(3L));
+        column.write(0, value1);
+        column.write(1, value2);
+
+        // The written value can be modified after written
+        value1.add(BytesId.of(4L));
+
+        IdList reused = new IdList();
+        IdList result = (IdList) column.read(0, reused);
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals(BytesId.of(1L), result.get(0));
+        Assert.assertEquals(BytesId.of(2L), result.get(1));
+
+        result = (IdList) column.read(1, reused);
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals(BytesId.of(3L), result.get(0));
+    }
+
+    @Test
+    public void testMappedValueColumn() throws IOException {
+        Assert.assertTrue(MappedValueColumn.supports(new DoubleValue()));
+        Assert.assertTrue(MappedValueColumn.supports(new FloatValue()));
+        Assert.assertTrue(MappedValueColumn.supports(new LongValue()));
+        Assert.assertTrue(MappedValueColumn.supports(new IntValue()));
+        Assert.assertFalse(MappedValueColumn.supports(new IdList()));
+
+        File file = File.createTempFile("value-column", ".bin");
+        try {
+            MappedValueColumn column = new MappedValueColumn(
+                                       file, new DoubleValue(), 3);
+            Assert.assertEquals(3, column.size());
+            Assert.assertEquals(24L, file.length());
+            column.write(0, new DoubleValue(1.5D));
+            column.write(2, new DoubleValue(-2.5D));
+            // Update in place
+            column.write(0, new DoubleValue(3.5D));
+
+            DoubleValue reused = new DoubleValue();
+            Assert.assertEquals(new DoubleValue(3.5D), column.read(0, reused));
+            Assert.assertEquals(new DoubleValue(0.0D), column.read(1, reused));
+            Assert.assertEquals(new DoubleValue(-2.5D),
+                                column.read(2, reused));
+            column.close();
+            column.close();
+
+            // The values are kept in the file after closed
+            column = new MappedValueColumn(file, new DoubleValue(), 3);
+            Assert.assertEquals(new DoubleValue(-2.5D),
+                                column.read(2, reused));
+            column.close();
+
+            MappedValueColumn intColumn = new MappedValueColumn(
+                                          file, new IntValue(), 2);
+            intColumn.write(1, new IntValue(Integer.MIN_VALUE));
+            Assert.assertEquals(new IntValue(Integer.MIN_VALUE),
+                                intColumn.read(1, new IntValue()));
+            intColumn.close();
+
+            MappedValueColumn longColumn = new MappedValueColumn(
+                                           file, new LongValue(), 2);
+            longColumn.write(1, new LongValue(Long.MAX_VALUE));
+            Assert.assertEquals(new LongValue(Long.MAX_VALUE),
+                                longColumn.read(1, new LongValue()));
+            longColumn.close();
+
+            MappedValueColumn floatColumn = new MappedValueColumn(
+                                            file, new FloatValue(), 2);
+            floatColumn.write(0, new FloatValue(0.25F));
+            Assert.assertEquals(new FloatValue(0.25F),
+                                floatColumn.read(0, new FloatValue()));
+            floatColumn.close();
+
+            Assert.assertThrows(IllegalArgumentException.class, () -> {
+                new MappedValueColumn(file, new IdList(), 2);
+            }, e -> {
+                Assert.assertContains("isn't fixed width", e.getMessage());
+            });
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testMappedIdColumn() throws IOException {
+        Assert.assertTrue(MappedValueColumn.supports(BytesId.of(1L)));
+        Assert.assertTrue(MappedValueColumn.supports(new LongId()));
+
+        File file = File.createTempFile("value-column", ".bin");
+        try {
+            MappedValueColumn column = new MappedValueColumn(
+                                       file, new BytesId(), 3);
+            Assert.assertEquals(24L, file.length());
+            column.write(0, BytesId.of(-5L));
+            column.write(1, new LongId(Long.MAX_VALUE));
+            column.write(2, BytesId.of(Long.MIN_VALUE));
+
+            BytesId reused = new BytesId();
+            Assert.assertEquals(BytesId.of(-5L), column.read(0, reused));
+            Assert.assertEquals(IdType.LONG, reused.idType());
+            Assert.assertEquals(BytesId.of(Long.MAX_VALUE),
+                                column.read(1, reused));
+            Assert.assertEquals(new LongId(Long.MIN_VALUE),
+                                column.read(2, new LongId()));
+
+            Assert.assertTrue(column.writable(new LongId(1L)));
+            Assert.assertFalse(column.writable(BytesId.of("1")));
+            Assert.assertThrows(ComputerException.class, () -> {
+                column.write(0, BytesId.of("1"));
+            }, e -> {
+                Assert.assertContains("Only the id of LONG type",
+                                      e.getMessage());
+            });
+            Assert.assertEquals(BytesId.of(-5L), column.read(0, reused));
+            column.close();
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -40,6 +40,7 @@ import org.apache.hugegraph.computer.core.graph.value.IdList;
 import org.apache.hugegraph.computer.core.graph.value.IdListList;
 import org.apache.hugegraph.computer.core.graph.value.LongValue;
 import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
+import org.apache.hugegraph.computer.core.io.BufferedFileInput;
 import org.apache.hugegraph.computer.core.io.BytesOutput;
 import org.apache.hugegraph.computer.core.io.GraphComputeOutput;
 import org.apache.hugegraph.computer.core.io.IOFactory;
@@ -91,6 +92,16 @@ public class EdgesInputTest extends UnitTestBase {
         this.testEdgeFreq(EdgeFrequency.MULTIPLE);
     }
 
+    @Test
+    public void testSingleWithoutProperties() throws IOException {
+        this.testEdgeFreq(EdgeFrequency.SINGLE, false);
+    }
+
+    @Test
+    public void testMultipleWithoutProperties() throws IOException {
+        this.testEdgeFreq(EdgeFrequency.MULTIPLE, false);
+    }
+
     @Test
     public void testEmptyEdges() {
         EdgesInput.EmptyEdges edges = EdgesInput.EmptyEdges.instance();
@@ -107,6 +118,11 @@ public class EdgesInputTest extends UnitTestBase {
 
     private void testEdgeFreq(EdgeFrequency freq)
                               throws IOException {
+        this.testEdgeFreq(freq, true);
+    }
+
+    private void testEdgeFreq(EdgeFrequency freq, boolean withProperties)
+                              throws IOException {
         this.config = UnitTestBase.updateWithRequiredOptions(
                 ComputerOptions.JOB_ID, "local_001",
                 ComputerOptions.JOB_WORKERS_COUNT, "1",
@@ -166,9 +182,16 @@ public class EdgesInputTest extends UnitTestBase {
                         receiveManager.vertexPartitions().get(0),
                         receiveManager.edgePartitions().get(0));
         File edgeFile = Whitebox.getInternalState(partition, "edgeFile");
-        EdgesInput edgesInput = new EdgesInput(context(), edgeFile);
+        EdgesInput edgesInput = new EdgesInput(context(), edgeFile,
+                                               withProperties);
+        edgesInput.init();
+        this.checkEdgesInput(edgesInput, freq, withProperties);
+        edgesInput.close();
+
+        File degreeFile = Whitebox.getInternalState(partition, "degreeFile");
+        edgesInput = new EdgesInput(context(), edgeFile, withProperties);
         edgesInput.init();
-        this.checkEdgesInput(edgesInput, freq);
+        this.checkLazyEdges(edgesInput, degreeFile);
         edgesInput.close();
     }
 
@@ -245,8 +268,8 @@ public class EdgesInputTest extends UnitTestBase {
         return bytesOutput.toByteArray();
     }
 
-    private void checkEdgesInput(EdgesInput edgesInput, EdgeFrequency freq)
-                                 throws IOException {
+    private void checkEdgesInput(EdgesInput edgesInput, EdgeFrequency freq,
+                                 boolean withProperties) throws IOException {
 
         for (long i = 0L; i < 200L; i += 2) {
             Id id = BytesId.of(i);
@@ -274,11 +297,44 @@ public class EdgesInputTest extends UnitTestBase {
                         throw new ComputerException(
                                   "Illegal edge frequency %s", freq);
                 }
+                if (withProperties) {
+                    Assert.assertEquals(new LongValue(i), edge.property("p1"));
+                } else {
+                    Assert.assertEquals(0, edge.properties().get().size());
+                }
             }
             Assert.assertFalse(edgesIt.hasNext());
         }
     }
 
+    private void checkLazyEdges(EdgesInput edgesInput, File degreeFile)
+                                throws IOException {
+        try (BufferedFileInput degreeInput = new BufferedFileInput(
+                                             degreeFile)) {
+            for (long i = 0L; i < 200L; i += 2) {
+                int degree = degreeInput.readFixedInt();
+                long position = degreeInput.readLong();
+                Assert.assertEquals(i, degree);
+
+                Id id = BytesId.of(i);
+                ReusablePointer idPointer = idToReusablePointer(id);
+                Edges edges = edgesInput.edges(idPointer, degree, position);
+                Assert.assertEquals(i, edges.size());
+                // Only iterate the edges of part of vertices
+                if (i % 3 != 0) {
+                    continue;
+                }
+                int count = 0;
+                for (Edge edge : edges) {
+                    Assert.assertEquals(BytesId.of(count), edge.targetId());
+                    count++;
+                }
+                Assert.assertEquals(i, count);
+            }
+            Assert.assertEquals(0L, degreeInput.available());
+        }
+    }
+
     public static ReusablePointer idToReusablePointer(Id id)
                                                       throws IOException {
         BytesOutput output = IOFactory.createBytesOutput(9);
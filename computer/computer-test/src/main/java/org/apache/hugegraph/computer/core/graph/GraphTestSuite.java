@@ -22,6 +22,7 @@ import org.apache.hugegraph.computer.core.common.ContainerInfoTest;
 import org.apache.hugegraph.computer.core.graph.id.BytesIdTest;
 import org.apache.hugegraph.computer.core.graph.id.IdFactoryTest;
 import org.apache.hugegraph.computer.core.graph.id.IdTypeTest;
+import org.apache.hugegraph.computer.core.graph.id.LongIdTest;
 import org.apache.hugegraph.computer.core.graph.partition.HashPartitionerTest;
 import org.apache.hugegraph.computer.core.graph.partition.PartitionStatTest;
 import org.apache.hugegraph.computer.core.graph.value.BooleanValueTest;
@@ -44,6 +45,7 @@ import org.junit.runners.Suite;
     BytesIdTest.class,
     IdTypeTest.class,
     IdFactoryTest.class,
+    LongIdTest.class,
     NullValueTest.class,
     BooleanValueTest.class,
     IdValueTest.class,
@@ -62,7 +64,8 @@ import org.junit.runners.Suite;
     HashPartitionerTest.class,
     SuperstepStatTest.class,
     DefaultEdgeTest.class,
-    DefaultPropertiesTest.class
+    DefaultPropertiesTest.class,
+    SchemaDictionaryTest.class
 })
 public class GraphTestSuite {
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.graph;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.io.BytesInput;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.google.common.collect.ImmutableList;
+
+public class SchemaDictionaryTest {
+
+    @Test
+    public void testNames() {
+        SchemaDictionary dictionary = new SchemaDictionary(
+                                      ImmutableList.of("person", "age",
+                                                       "knows", "age"));
+        Assert.assertEquals(3, dictionary.size());
+        Assert.assertEquals(ImmutableList.of("age", "knows", "person"),
+                            dictionary.names());
+
+        SchemaDictionary empty = new SchemaDictionary();
+        Assert.assertEquals(0, empty.size());
+        Assert.assertEquals(ImmutableList.of(), empty.names());
+    }
+
+    @Test
+    public void testWriteAndReadName() throws IOException {
+        SchemaDictionary dictionary = new SchemaDictionary(
+                                      ImmutableList.of("person", "age"));
+        byte[] bytes;
+        try (BytesOutput out = IOFactory.createBytesOutput(
+                               Constants.SMALL_BUF_SIZE)) {
+            dictionary.writeName(out, "person");
+            Assert.assertEquals(1L, out.position());
+            dictionary.writeName(out, "age");
+            Assert.assertEquals(2L, out.position());
+            dictionary.writeName(out, "city");
+            dictionary.writeName(out, "");
+            bytes = out.toByteArray();
+        }
+
+        try (BytesInput in = IOFactory.createBytesInput(bytes)) {
+            Assert.assertEquals("person", dictionary.readName(in));
+            Assert.assertEquals("age", dictionary.readName(in));
+            Assert.assertEquals("city", dictionary.readName(in));
+            Assert.assertEquals("", dictionary.readName(in));
+            Assert.assertEquals(0L, in.available());
+        }
+    }
+
+    @Test
+    public void testReadInvalidName() throws IOException {
+        SchemaDictionary dictionary = new SchemaDictionary(
+                                      ImmutableList.of("person"));
+        byte[] bytes;
+        try (BytesOutput out = IOFactory.createBytesOutput(
+                               Constants.SMALL_BUF_SIZE)) {
+            out.writeInt(2);
+            bytes = out.toByteArray();
+        }
+
+        try (BytesInput in = IOFactory.createBytesInput(bytes)) {
+            Assert.assertThrows(ComputerException.class, () -> {
+                dictionary.readName(in);
+            }, e -> {
+                Assert.assertContains("Invalid schema name id 2",
+                                      e.getMessage());
+            });
+        }
+    }
+
+    @Test
+    public void testReadWrite() throws IOException {
+        SchemaDictionary dictionary1 = new SchemaDictionary(
+                                       ImmutableList.of("person", "age",
+                                                        "knows"));
+        byte[] bytes;
+        try (BytesOutput out = IOFactory.createBytesOutput(
+                               Constants.SMALL_BUF_SIZE)) {
+            dictionary1.write(out);
+            dictionary1.writeName(out, "knows");
+            bytes = out.toByteArray();
+        }
+
+        SchemaDictionary dictionary2 = new SchemaDictionary();
+        try (BytesInput in = IOFactory.createBytesInput(bytes)) {
+            dictionary2.read(in);
+            Assert.assertEquals(dictionary1.names(), dictionary2.names());
+            Assert.assertEquals("knows", dictionary2.readName(in));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        SchemaDictionary dictionary = new SchemaDictionary(
+                                      ImmutableList.of("person", "age"));
+        byte[] bytes;
+        try (BytesOutput out = IOFactory.createBytesOutput(
+                               Constants.SMALL_BUF_SIZE)) {
+            dictionary.write(out);
+            SchemaDictionary.EMPTY.writeName(out, "person");
+            bytes = out.toByteArray();
+        }
+
+        // The loaded names are skipped, the names are still written inline
+        try (BytesInput in = IOFactory.createBytesInput(bytes)) {
+            SchemaDictionary.EMPTY.read(in);
+            Assert.assertEquals(0, SchemaDictionary.EMPTY.size());
+            Assert.assertEquals("person", SchemaDictionary.EMPTY.readName(in));
+            Assert.assertEquals(0L, in.available());
+        }
+
+        GraphFactory graphFactory = Mockito.mock(GraphFactory.class,
+                                                 Mockito.CALLS_REAL_METHODS);
+        Assert.assertSame(SchemaDictionary.EMPTY,
+                          graphFactory.schemaDictionary());
+    }
+
+    @Test
+    public void testToString() {
+        SchemaDictionary dictionary = new SchemaDictionary(
+                                      ImmutableList.of("person", "age"));
+        Assert.assertEquals("SchemaDictionary{names=[age, person]}",
+                            dictionary.toString());
+    }
+}
@@ -44,11 +44,11 @@ public class BytesIdTest extends UnitTestBase {
 
         Assert.assertEquals(IdType.LONG, longId1.idType());
         Assert.assertEquals(ValueType.ID, longId1.valueType());
-        Assert.assertEquals(1, longId1.length());
+        Assert.assertEquals(8, longId1.length());
 
         Assert.assertEquals(IdType.LONG, longId2.idType());
         Assert.assertEquals(ValueType.ID, longId2.valueType());
-        Assert.assertEquals(2, longId2.length());
+        Assert.assertEquals(8, longId2.length());
 
         Assert.assertEquals(new Long(123L), longId1.asObject());
         Assert.assertEquals(123L, longId1.asObject());
@@ -61,8 +61,8 @@ public class BytesIdTest extends UnitTestBase {
         Assert.assertEquals(0, longId1.compareTo(longId3));
         Assert.assertTrue(longId2.compareTo(longId4) < 0);
 
-        Assert.assertTrue(longId5.compareTo(longId6) > 0);
-        Assert.assertTrue(longId6.compareTo(longId5) < 0);
+        Assert.assertTrue(longId5.compareTo(longId6) < 0);
+        Assert.assertTrue(longId6.compareTo(longId5) > 0);
         Assert.assertEquals(0, longId5.compareTo(longId7));
 
         Assert.assertEquals(0, longId8.compareTo(longId6));
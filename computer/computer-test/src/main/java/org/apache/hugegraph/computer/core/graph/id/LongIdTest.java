@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.graph.id;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.value.ValueType;
+import org.apache.hugegraph.computer.core.io.BytesInput;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.suite.unit.UnitTestBase;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+public class LongIdTest extends UnitTestBase {
+
+    @Test
+    public void testLongId() {
+        Id longId1 = LongId.of(123L);
+        Id longId2 = LongId.of(321L);
+        Id longId3 = LongId.of(123L);
+        Id longId4 = LongId.of(-100L);
+        Id longId5 = LongId.of(0L);
+
+        Assert.assertEquals(IdType.LONG, longId1.idType());
+        Assert.assertEquals(ValueType.ID, longId1.valueType());
+        Assert.assertEquals(8, longId1.length());
+        Assert.assertEquals(123L, longId1.asObject());
+        Assert.assertEquals(-100L, longId4.asObject());
+
+        Assert.assertTrue(longId1.compareTo(longId2) < 0);
+        Assert.assertTrue(longId2.compareTo(longId1) > 0);
+        Assert.assertEquals(0, longId1.compareTo(longId3));
+        Assert.assertTrue(longId4.compareTo(longId5) < 0);
+        Assert.assertTrue(longId5.compareTo(longId1) < 0);
+
+        Assert.assertEquals(longId1, longId3);
+        Assert.assertNotEquals(longId1, longId2);
+        Assert.assertEquals(longId1.hashCode(), longId3.hashCode());
+        Assert.assertNotEquals(longId1.hashCode(), longId2.hashCode());
+    }
+
+    @Test
+    public void testCompatibleWithBytesId() {
+        long[] values = {0L, 1L, -1L, 123L, -100L, Long.MAX_VALUE,
+                         Long.MIN_VALUE};
+        for (long value : values) {
+            Id longId = LongId.of(value);
+            Id bytesId = BytesId.of(value);
+
+            Assert.assertEquals(longId, bytesId);
+            Assert.assertEquals(bytesId, longId);
+            Assert.assertEquals(longId.hashCode(), bytesId.hashCode());
+            Assert.assertEquals(0, longId.compareTo(bytesId));
+            Assert.assertEquals(0, bytesId.compareTo(longId));
+        }
+
+        Assert.assertTrue(LongId.of(-1L).compareTo(BytesId.of(1L)) < 0);
+        Assert.assertTrue(BytesId.of(1L).compareTo(LongId.of(-1L)) > 0);
+        Assert.assertTrue(LongId.of(1L).compareTo(BytesId.of("1")) < 0);
+        Assert.assertNotEquals(LongId.of(1L), BytesId.of("1"));
+    }
+
+    @Test
+    public void testBytesIdOrderedAsLong() throws IOException {
+        long[] values = {Long.MIN_VALUE, -1000L, -1L, 0L, 1L, 255L, 256L,
+                         Long.MAX_VALUE};
+        byte[] last = null;
+        for (long value : values) {
+            byte[] bytes;
+            try (BytesOutput output = IOFactory.createBytesOutput(16)) {
+                LongId.of(value).write(output);
+                bytes = output.toByteArray();
+            }
+            if (last != null) {
+                Assert.assertTrue(compareBytes(last, bytes) < 0);
+            }
+            last = bytes;
+        }
+    }
+
+    @Test
+    public void testAssign() {
+        LongId id = new LongId();
+        id.assign(LongId.of(5L));
+        Assert.assertEquals(5L, id.longValue());
+
+        id.assign(BytesId.of(-8L));
+        Assert.assertEquals(-8L, id.longValue());
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            id.assign(BytesId.of("abc"));
+        }, e -> {
+            Assert.assertContains("Can't assign", e.getMessage());
+        });
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            id.assign(new LongValue(1L));
+        }, e -> {
+            Assert.assertContains("Can't assign", e.getMessage());
+        });
+    }
+
+    @Test
+    public void testReadWrite() throws IOException {
+        assertIdEqualAfterWriteAndRead(LongId.of(100L));
+        assertIdEqualAfterWriteAndRead(LongId.of(-100L));
+        assertIdEqualAfterWriteAndRead(LongId.of(Long.MIN_VALUE));
+
+        byte[] bytes;
+        try (BytesOutput output = IOFactory.createBytesOutput(16)) {
+            LongId.of(-7L).write(output);
+            bytes = output.toByteArray();
+        }
+        BytesId bytesId = new BytesId();
+        try (BytesInput input = IOFactory.createBytesInput(bytes)) {
+            bytesId.read(input);
+        }
+        Assert.assertEquals(-7L, bytesId.asObject());
+
+        try (BytesOutput output = IOFactory.createBytesOutput(16)) {
+            BytesId.of(9L).write(output);
+            bytes = output.toByteArray();
+        }
+        LongId longId = new LongId();
+        try (BytesInput input = IOFactory.createBytesInput(bytes)) {
+            longId.read(input);
+        }
+        Assert.assertEquals(9L, longId.longValue());
+    }
+
+    private static int compareBytes(byte[] bytes1, byte[] bytes2) {
+        int length = Math.min(bytes1.length, bytes2.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = (bytes1[i] & 0xff) - (bytes2[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return bytes1.length - bytes2.length;
+    }
+}
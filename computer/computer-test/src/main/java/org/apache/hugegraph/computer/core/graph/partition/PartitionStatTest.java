@@ -38,6 +38,7 @@ public class PartitionStatTest {
         Assert.assertEquals(0L, stat1.messageSendBytes());
         Assert.assertEquals(0L, stat1.messageRecvCount());
         Assert.assertEquals(0L, stat1.messageRecvBytes());
+        Assert.assertEquals(0L, stat1.costTime());
 
         PartitionStat stat2 = new PartitionStat(1, 4L, 3L, 2L);
         stat2.mergeSendMessageStat(new MessageStat(5L, 6L));
@@ -62,6 +63,7 @@ public class PartitionStatTest {
         PartitionStat stat2 = new PartitionStat(1, 4L, 3L, 2L);
         stat2.mergeSendMessageStat(new MessageStat(5L, 6L));
         stat2.mergeRecvMessageStat(new MessageStat(7L, 8L));
+        stat2.costTime(9L);
 
         PartitionStat stat2ReadObj = new PartitionStat();
         UnitTestBase.assertEqualAfterWriteAndRead(stat2, stat2ReadObj);
@@ -142,7 +144,8 @@ public class PartitionStatTest {
         String str = "PartitionStat{\"partitionId\":1,\"vertexCount\":4,\"" +
                      "edgeCount\":3,\"finishedVertexCount\":2," +
                      "\"messageSendCount\":5,\"messageSendBytes\":6," +
-                     "\"messageRecvCount\":7,\"messageRecvBytes\":8}";
+                     "\"messageRecvCount\":7,\"messageRecvBytes\":8," +
+                     "\"costTime\":0}";
         Assert.assertEquals(str, stat.toString());
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.io;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+public class BufferedByteBufOutputTest {
+
+    private static final int BUFFER_SIZE = 128;
+
+    @Test
+    public void testConstructor() throws IOException {
+        ByteBuf buf = Unpooled.directBuffer(16);
+        try {
+            buf.writeInt(1);
+            try (BufferedByteBufOutput output = new BufferedByteBufOutput(
+                                                buf)) {
+                // Append to the readable bytes of the ByteBuf
+                Assert.assertEquals(4, output.position());
+            }
+            Assert.assertThrows(IllegalArgumentException.class, () -> {
+                new BufferedByteBufOutput(buf, 1);
+            }, e -> {
+                Assert.assertContains("The parameter bufferSize must be >= 8",
+                                      e.getMessage());
+            });
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void testWriteIntWithPosition() throws IOException {
+        ByteBuf buf = Unpooled.directBuffer(16);
+        try {
+            try (BufferedByteBufOutput output = createOutput(buf)) {
+                // 1024 bytes, the ByteBuf is extended
+                for (int i = 0; i < 256; i++) {
+                    output.writeInt(i);
+                }
+                // Write at the current buffer
+                output.writeFixedInt(1020, 1);
+                // Write at the previous buffer
+                output.writeFixedInt(0, 2);
+                output.writeFixedInt(512, 3);
+                Assert.assertEquals(1024, output.position());
+                output.writeInt(256);
+            }
+            Assert.assertEquals(1028, buf.readableBytes());
+
+            UnsafeBytesInput input = createInput(buf);
+            for (int i = 0; i < 257; i++) {
+                int expected = i;
+                if (i == 0) {
+                    expected = 2;
+                } else if (i == 128) {
+                    expected = 3;
+                } else if (i == 255) {
+                    expected = 1;
+                }
+                Assert.assertEquals(expected, input.readInt());
+            }
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void testWriteBytes() throws IOException {
+        ByteBuf buf = Unpooled.directBuffer(16);
+        byte[] small = new byte[BUFFER_SIZE / 2];
+        byte[] large = new byte[BUFFER_SIZE * 3];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) i;
+            if (i < small.length) {
+                small[i] = (byte) -i;
+            }
+        }
+        try {
+            try (BufferedByteBufOutput output = createOutput(buf)) {
+                output.write(small);
+                output.write(large);
+                output.write(small);
+                Assert.assertEquals(BUFFER_SIZE * 4, output.position());
+            }
+
+            UnsafeBytesInput input = createInput(buf);
+            Assert.assertArrayEquals(small, input.readBytes(small.length));
+            Assert.assertArrayEquals(large, input.readBytes(large.length));
+            Assert.assertArrayEquals(small, input.readBytes(small.length));
+            Assert.assertEquals(0L, input.available());
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void testSeekAndSkip() throws IOException {
+        ByteBuf buf = Unpooled.directBuffer(16);
+        try {
+            try (BufferedByteBufOutput output = createOutput(buf)) {
+                long position = output.skip(BUFFER_SIZE * 2);
+                Assert.assertEquals(0L, position);
+                output.writeLong(2L);
+                output.seek(0L);
+                output.writeLong(1L);
+                output.seek(BUFFER_SIZE * 2 + 8);
+                output.writeLong(3L);
+            }
+            Assert.assertEquals(BUFFER_SIZE * 2 + 16, buf.readableBytes());
+
+            UnsafeBytesInput input = createInput(buf);
+            Assert.assertEquals(1L, input.readLong());
+            input.seek(BUFFER_SIZE * 2);
+            Assert.assertEquals(2L, input.readLong());
+            Assert.assertEquals(3L, input.readLong());
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void testSameAsBytesOutput() throws IOException {
+        ByteBuf buf = Unpooled.directBuffer(16);
+        try {
+            BytesOutput expected = IOFactory.createBytesOutput(16);
+            try (RandomAccessOutput output = IOFactory.createByteBufOutput(
+                                             buf)) {
+                for (RandomAccessOutput out : new RandomAccessOutput[]{
+                                              expected, output}) {
+                    for (int i = 0; i < 100; i++) {
+                        long position = out.skip(4);
+                        out.writeInt(i);
+                        out.writeLong(i * 1000L);
+                        out.writeUTF("value-" + i);
+                        out.writeFixedInt(position,
+                                          (int) (out.position() - position));
+                    }
+                }
+            }
+            Assert.assertArrayEquals(expected.toByteArray(),
+                                     ByteBufUtil.getBytes(buf));
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static BufferedByteBufOutput createOutput(ByteBuf buf) {
+        return new BufferedByteBufOutput(buf, BUFFER_SIZE);
+    }
+
+    private static UnsafeBytesInput createInput(ByteBuf buf) {
+        return new UnsafeBytesInput(ByteBufUtil.getBytes(buf));
+    }
+}
@@ -30,7 +30,9 @@ import org.junit.runners.Suite;
     UnsafeBytesTest.class,
     OptimizedUnsafeBytesTest.class,
     BufferedFileTest.class,
-    BufferedStreamTest.class
+    MappedFileInputTest.class,
+    BufferedStreamTest.class,
+    BufferedByteBufOutputTest.class
 })
 public class IOTestSuite {
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+public class MappedFileInputTest {
+
+    // Small chunk size to make the values cross the chunks
+    private static final int CHUNK_SIZE = 16;
+
+    @Test
+    public void testConstructor() throws IOException {
+        File file = createTempFile();
+        try {
+            try (MappedFileInput input = new MappedFileInput(file)) {
+                Assert.assertEquals(0L, input.position());
+                Assert.assertEquals(0L, input.available());
+                Assert.assertEquals(0L, input.fileLength());
+            }
+            Assert.assertThrows(IllegalArgumentException.class, () -> {
+                new MappedFileInput(file, 12);
+            }, e -> {
+                Assert.assertContains("The chunk size must be power of 2",
+                                      e.getMessage());
+            });
+        } finally {
+            FileUtils.deleteQuietly(file);
+        }
+    }
+
+    @Test
+    public void testReadPrimitives() throws IOException {
+        File file = createTempFile();
+        try {
+            try (BufferedFileOutput output = new BufferedFileOutput(file)) {
+                for (int i = 0; i < 100; i++) {
+                    output.writeByte(i);
+                    output.writeBoolean(i % 2 == 0);
+                    output.writeShort(i - 50);
+                    output.writeChar('a' + i % 26);
+                    output.writeInt(i * 1000);
+                    output.writeFixedInt(-i);
+                    output.writeLong(i * 100000000000L);
+                    output.writeFloat(i / 3.0F);
+                    output.writeDouble(i / 7.0D);
+                    output.writeUTF("utf-" + i);
+                }
+            }
+            try (MappedFileInput input = new MappedFileInput(file,
+                                                             CHUNK_SIZE)) {
+                for (int i = 0; i < 100; i++) {
+                    Assert.assertEquals((byte) i, input.readByte());
+                    Assert.assertEquals(i % 2 == 0, input.readBoolean());
+                    Assert.assertEquals((short) (i - 50), input.readShort());
+                    Assert.assertEquals((char) ('a' + i % 26),
+                                        input.readChar());
+                    Assert.assertEquals(i * 1000, input.readInt());
+                    Assert.assertEquals(-i, input.readFixedInt());
+                    Assert.assertEquals(i * 100000000000L, input.readLong());
+                    Assert.assertEquals(i / 3.0F, input.readFloat(), 0.0F);
+                    Assert.assertEquals(i / 7.0D, input.readDouble(), 0.0D);
+                    Assert.assertEquals("utf-" + i, input.readUTF());
+                }
+                Assert.assertEquals(0L, input.available());
+                Assert.assertThrows(EOFException.class, input::readInt);
+            }
+        } finally {
+            FileUtils.deleteQuietly(file);
+        }
+    }
+
+    @Test
+    public void testSeekSkipAndDuplicate() throws IOException {
+        File file = createTempFile();
+        try {
+            byte[] bytes = new byte[100];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) i;
+            }
+            try (BufferedFileOutput output = new BufferedFileOutput(file)) {
+                output.write(bytes);
+            }
+            try (MappedFileInput input = new MappedFileInput(file,
+                                                             CHUNK_SIZE)) {
+                byte[] read = new byte[bytes.length];
+                input.readFully(read);
+                Assert.assertArrayEquals(bytes, read);
+
+                input.seek(30L);
+                Assert.assertEquals(30, input.readByte());
+                Assert.assertEquals(31L, input.skip(20L));
+                Assert.assertEquals(51, input.readByte());
+                Assert.assertEquals(48, input.skipBytes(60));
+                Assert.assertEquals(0L, input.available());
+                Assert.assertThrows(EOFException.class, () -> {
+                    input.seek(101L);
+                });
+
+                input.seek(10L);
+                MappedFileInput duplicate = input.duplicate();
+                Assert.assertEquals(10L, duplicate.position());
+                duplicate.seek(90L);
+                Assert.assertEquals(90, duplicate.readByte());
+                Assert.assertEquals(10, input.readByte());
+
+                Assert.assertEquals(0, input.compare(0L, 20L, duplicate,
+                                                     0L, 20L));
+                Assert.assertLt(0, input.compare(0L, 20L, duplicate,
+                                                 1L, 20L));
+                // The mapped buffers are still valid for the input
+                duplicate.close();
+                Assert.assertEquals(11, input.readByte());
+            }
+        } finally {
+            FileUtils.deleteQuietly(file);
+        }
+    }
+
+    @Test
+    public void testReadAfterClose() throws IOException {
+        File file = createTempFile();
+        try {
+            try (BufferedFileOutput output = new BufferedFileOutput(file)) {
+                output.writeInt(1);
+            }
+            MappedFileInput input = new MappedFileInput(file);
+            input.close();
+            Assert.assertThrows(IOException.class, input::readInt, e -> {
+                Assert.assertContains("has been closed", e.getMessage());
+            });
+        } finally {
+            FileUtils.deleteQuietly(file);
+        }
+    }
+
+    private static File createTempFile() throws IOException {
+        return File.createTempFile(UUID.randomUUID().toString(), null);
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.hugegraph.computer.core.network.netty.NettyClientFactoryTest;
 import org.apache.hugegraph.computer.core.network.netty.NettyEncodeDecodeHandlerTest;
 import org.apache.hugegraph.computer.core.network.netty.NettyTransportClientTest;
 import org.apache.hugegraph.computer.core.network.netty.NettyTransportServerTest;
+import org.apache.hugegraph.computer.core.network.netty.RecvHandoffTest;
 import org.apache.hugegraph.computer.core.network.session.TransportSessionTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -40,7 +41,8 @@ import org.junit.runners.Suite;
     NettyEncodeDecodeHandlerTest.class,
     HeartbeatHandlerTest.class,
     NetworkBufferTest.class,
-    DataServerManagerTest.class
+    DataServerManagerTest.class,
+    RecvHandoffTest.class
 })
 public class NetworkTestSuite {
 }
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.network.netty;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.network.message.MessageType;
+import org.apache.hugegraph.computer.core.util.StringEncodeUtil;
+import org.apache.hugegraph.testutil.Assert;
+import org.apache.hugegraph.testutil.Whitebox;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class RecvHandoffTest extends AbstractNetworkTest {
+
+    @Override
+    protected void initOption() {
+        super.updateOption(ComputerOptions.TRANSPORT_RECV_HANDLER_THREADS, 2);
+        super.updateOption(ComputerOptions.TRANSPORT_MAX_PENDING_REQUESTS, 8);
+        super.updateOption(ComputerOptions.TRANSPORT_MIN_PENDING_REQUESTS, 6);
+        super.updateOption(ComputerOptions.TRANSPORT_MIN_ACK_INTERVAL, 200L);
+    }
+
+    @Override
+    public void teardown() {
+        super.teardown();
+        // The options are shared by the subclasses of AbstractNetworkTest
+        super.updateOption(ComputerOptions.TRANSPORT_RECV_HANDLER_THREADS, 0);
+    }
+
+    @Test
+    public void testOfferInPartitionOrder() throws InterruptedException {
+        RecvHandoff handoff = new RecvHandoff(2, 100);
+        List<Integer> partition0 = new CopyOnWriteArrayList<>();
+        List<Integer> partition1 = new CopyOnWriteArrayList<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            Assert.assertTrue(handoff.offer(0, () -> {
+                threads.add(Thread.currentThread().getName());
+                partition0.add(value);
+            }));
+            Assert.assertTrue(handoff.offer(1, () -> {
+                threads.add(Thread.currentThread().getName());
+                partition1.add(value);
+            }));
+        }
+        handoff.close();
+
+        Assert.assertEquals(50, partition0.size());
+        Assert.assertEquals(50, partition1.size());
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(i, (int) partition0.get(i));
+            Assert.assertEquals(i, (int) partition1.get(i));
+        }
+        Assert.assertEquals(2, threads.size());
+        Assert.assertTrue(threads.contains("recv-handler-0"));
+        Assert.assertTrue(threads.contains("recv-handler-1"));
+    }
+
+    @Test
+    public void testOfferWithFullQueue() throws InterruptedException {
+        RecvHandoff handoff = new RecvHandoff(1, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        AtomicInteger count = new AtomicInteger();
+
+        Assert.assertTrue(handoff.offer(0, () -> {
+            started.countDown();
+            try {
+                blocked.await();
+            } catch (InterruptedException ignored) {
+                // Ignore
+            }
+            count.incrementAndGet();
+        }));
+        Assert.assertTrue(started.await(10L, TimeUnit.SECONDS));
+
+        Assert.assertTrue(handoff.offer(0, count::incrementAndGet));
+        Assert.assertTrue(handoff.offer(0, count::incrementAndGet));
+        Assert.assertFalse(handoff.offer(0, count::incrementAndGet));
+
+        blocked.countDown();
+        handoff.close();
+        Assert.assertEquals(3, count.get());
+
+        Assert.assertFalse(handoff.offer(0, count::incrementAndGet));
+    }
+
+    @Test
+    public void testOfferWithTaskException() throws InterruptedException {
+        RecvHandoff handoff = new RecvHandoff(1, 10);
+        AtomicInteger count = new AtomicInteger();
+        Assert.assertTrue(handoff.offer(0, () -> {
+            throw new RuntimeException("test exception");
+        }));
+        Assert.assertTrue(handoff.offer(0, count::incrementAndGet));
+        handoff.close();
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testInvalidArgs() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            new RecvHandoff(0, 10);
+        }, e -> {
+            Assert.assertContains("The threads of recv handoff must be > 0",
+                                  e.getMessage());
+        });
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            new RecvHandoff(1, 0);
+        }, e -> {
+            Assert.assertContains("The queue capacity of recv handoff " +
+                                  "must be > 0", e.getMessage());
+        });
+    }
+
+    @Test
+    public void testSendWithHandoff() throws IOException {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger handled = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            Thread.sleep(10L);
+            invocation.callRealMethod();
+            handled.incrementAndGet();
+            return null;
+        }).when(serverHandler).handle(Mockito.any(), Mockito.anyInt(),
+                                      Mockito.any());
+
+        NettyTransportClient client = (NettyTransportClient) this.oneClient();
+        Object handoff = Whitebox.getInternalState(
+                         connectionManager.getServer(), "recvHandoff");
+        Assert.assertNotNull(handoff);
+
+        client.startSession();
+        int sent = 0;
+        for (int i = 0; i < 30; i++) {
+            ByteBuffer buffer = ByteBuffer.wrap(
+                                StringEncodeUtil.encode("test data " + i));
+            while (!client.send(MessageType.MSG, i % 3, buffer)) {
+                // Wait the server to ack the handled buffers
+                Thread.yield();
+            }
+            sent++;
+        }
+        client.finishSession();
+
+        // The finish-ack is responded after all buffers are handled
+        Assert.assertEquals(sent, handled.get());
+        for (String thread : threads) {
+            Assert.assertTrue(thread.startsWith("recv-handler-"));
+        }
+    }
+
+    @Test
+    public void testSendWithHandoffException() throws IOException {
+        Mockito.doThrow(new RuntimeException("test exception"))
+               .when(serverHandler)
+               .handle(Mockito.any(), Mockito.anyInt(), Mockito.any());
+
+        NettyTransportClient client = (NettyTransportClient) this.oneClient();
+        client.startSession();
+        for (int i = 0; i < 3; i++) {
+            ByteBuffer buffer = ByteBuffer.wrap(
+                                StringEncodeUtil.encode("test data " + i));
+            Assert.assertTrue(client.send(MessageType.MSG, i, buffer));
+        }
+
+        // The failed buffers don't block the finish-ack until timeout
+        Whitebox.setInternalState(client, "timeoutFinishSession", 5000L);
+        client.finishSession();
+
+        Mockito.verify(serverHandler, Mockito.timeout(10_000L).times(3))
+               .exceptionCaught(Mockito.any(), Mockito.any());
+    }
+}
@@ -197,6 +197,30 @@ public class TransportSessionTest extends AbstractNetworkTest {
         Assert.assertEquals(TransportState.READY, serverSession.state());
     }
 
+    @Test
+    public void testServerSessionHandledOutOfOrder() {
+        ServerSession serverSession = new ServerSession(conf);
+        serverSession.onRecvStateStart();
+        serverSession.completeStateStart();
+
+        for (int i = 1; i <= 4; i++) {
+            serverSession.onRecvData(i);
+        }
+
+        serverSession.onHandledData(2);
+        Assert.assertEquals(0, Whitebox.getInternalState(serverSession,
+                                                         "maxHandledId"));
+        serverSession.onHandledData(3);
+        Assert.assertEquals(0, Whitebox.getInternalState(serverSession,
+                                                         "maxHandledId"));
+        serverSession.onHandledData(1);
+        Assert.assertEquals(3, Whitebox.getInternalState(serverSession,
+                                                         "maxHandledId"));
+        serverSession.onHandledData(4);
+        Assert.assertEquals(4, Whitebox.getInternalState(serverSession,
+                                                         "maxHandledId"));
+    }
+
     @Test
     public void testServerSessionWithException() {
         ServerSession serverSession = new ServerSession(conf);
@@ -40,6 +40,7 @@ import org.apache.hugegraph.computer.core.store.FileManager;
 import org.apache.hugegraph.computer.core.store.entry.KvEntry;
 import org.apache.hugegraph.computer.suite.unit.UnitTestBase;
 import org.apache.hugegraph.testutil.Assert;
+import org.apache.hugegraph.testutil.Whitebox;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -130,6 +131,64 @@ public class MessageRecvManagerTest extends UnitTestBase {
         ComputeMessageRecvPartitionTest.checkTenCombineMessages(messagePartitions.get(0));
     }
 
+    @Test
+    public void testComputeMessageInMemory() throws IOException {
+        this.teardown();
+        // The limit is larger than the max value of int
+        long memoryLimit = 1L << 32;
+        this.config = UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.JOB_ID, "local_001",
+                ComputerOptions.JOB_WORKERS_COUNT, "1",
+                ComputerOptions.BSP_MAX_SUPER_STEP, "2",
+                ComputerOptions.WORKER_COMBINER_CLASS,
+                DoubleValueSumCombiner.class.getName(),
+                ComputerOptions.WORKER_DATA_DIRS, "[data_dir1, data_dir2]",
+                ComputerOptions.WORKER_RECEIVED_BUFFERS_BYTES_LIMIT, "10000",
+                ComputerOptions.WORKER_RECEIVED_BUFFERS_MEMORY_LIMIT,
+                String.valueOf(memoryLimit),
+                ComputerOptions.WORKER_WAIT_FINISH_MESSAGES_TIMEOUT, "100",
+                ComputerOptions.ALGORITHM_MESSAGE_CLASS,
+                DoubleValue.class.getName(),
+                ComputerOptions.TRANSPORT_RECV_FILE_MODE, "false"
+        );
+        this.fileManager = new FileManager();
+        this.fileManager.init(this.config);
+        this.sortManager = new RecvSortManager(context());
+        this.sortManager.init(this.config);
+        this.receiveManager = new MessageRecvManager(context(), this.fileManager,
+                                                     this.sortManager);
+        this.receiveManager.init(this.config);
+
+        for (int superstep = 0; superstep < 2; superstep++) {
+            this.receiveManager.beforeSuperstep(this.config, superstep);
+            ComputeMessageRecvPartitionTest.addTwentyCombineMessageBuffer(
+                    (NetworkBuffer buffer) -> {
+                this.receiveManager.handle(MessageType.MSG, 0, buffer);
+            });
+            this.receiveManager.onFinished(this.connectionId);
+            this.receiveManager.waitReceivedAllMessages();
+            this.receiveManager.afterSuperstep(this.config, superstep);
+
+            MessageRecvPartitions<?> partitions = Whitebox.getInternalState(
+                                                  this.receiveManager,
+                                                  "messagePartitions");
+            Map<Integer, PeekableIterator<KvEntry>> messagePartitions =
+                    this.receiveManager.messagePartitions();
+            Assert.assertEquals(1, messagePartitions.size());
+            // The buffers are iterated in memory instead of being sorted
+            Assert.assertLt(memoryLimit, partitions.remainingMemory());
+
+            PeekableIterator<KvEntry> iterator = messagePartitions.get(0);
+            ComputeMessageRecvPartitionTest.checkTenCombineMessages(iterator);
+            try {
+                iterator.close();
+            } catch (Exception e) {
+                throw new ComputerException("Failed to close iterator", e);
+            }
+            Assert.assertEquals(memoryLimit, partitions.remainingMemory());
+        }
+    }
+
     @Test
     public void testOtherMessageType() {
         Assert.assertThrows(ComputerException.class, () -> {
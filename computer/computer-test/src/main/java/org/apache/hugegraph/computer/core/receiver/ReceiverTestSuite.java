@@ -18,6 +18,7 @@
 package org.apache.hugegraph.computer.core.receiver;
 
 import org.apache.hugegraph.computer.core.receiver.edge.EdgeMessageRecvPartitionTest;
+import org.apache.hugegraph.computer.core.receiver.message.CombinedMessageArrayTest;
 import org.apache.hugegraph.computer.core.receiver.message.ComputeMessageRecvPartitionTest;
 import org.apache.hugegraph.computer.core.receiver.vertex.VertexMessageRecvPartitionTest;
 import org.junit.runner.RunWith;
@@ -29,7 +30,8 @@ import org.junit.runners.Suite;
     MessageRecvBuffersTest.class,
     VertexMessageRecvPartitionTest.class,
     EdgeMessageRecvPartitionTest.class,
-    ComputeMessageRecvPartitionTest.class
+    ComputeMessageRecvPartitionTest.class,
+    CombinedMessageArrayTest.class
 })
 public class ReceiverTestSuite {
 }
@@ -146,6 +146,68 @@ public class EdgeMessageRecvPartitionTest extends UnitTestBase {
         checkTenEdgesWithCombinedProperties(this.partition.iterator());
     }
 
+    @Test
+    public void testIterateRunsWithoutMerge() throws IOException {
+        this.config = UnitTestBase.updateWithRequiredOptions(
+            ComputerOptions.JOB_ID, "local_001",
+            ComputerOptions.JOB_WORKERS_COUNT, "1",
+            ComputerOptions.JOB_PARTITIONS_COUNT, "1",
+            ComputerOptions.WORKER_DATA_DIRS, "[data_dir1, data_dir2]",
+            ComputerOptions.WORKER_RECEIVED_BUFFERS_BYTES_LIMIT, "100",
+            ComputerOptions.HGKV_MERGE_FILES_NUM, "100",
+            ComputerOptions.WORKER_EDGE_PROPERTIES_COMBINER_CLASS,
+            MergeNewPropertiesCombiner.class.getName(),
+            ComputerOptions.TRANSPORT_RECV_FILE_MODE, "false"
+        );
+        FileUtils.deleteQuietly(new File("data_dir1"));
+        FileUtils.deleteQuietly(new File("data_dir2"));
+        this.fileManager = new FileManager();
+        this.fileManager.init(this.config);
+        SuperstepFileGenerator fileGenerator = new SuperstepFileGenerator(
+                                               this.fileManager,
+                                               Constants.INPUT_SUPERSTEP);
+        this.partition = new EdgeMessageRecvPartition(context(), fileGenerator,
+                                                      this.sortManager);
+
+        addTenDuplicateEdgeBuffer(this.partition::addBuffer);
+
+        PeekableIterator<KvEntry> it = this.partition.iterator();
+        // The runs are combined on the fly
+        Assert.assertGt(1, this.partition.outputFiles().size());
+        checkTenEdgesWithCombinedProperties(it);
+    }
+
+    @Test
+    public void testIterateBuffersInMemory() throws IOException {
+        this.config = UnitTestBase.updateWithRequiredOptions(
+            ComputerOptions.JOB_ID, "local_001",
+            ComputerOptions.JOB_WORKERS_COUNT, "1",
+            ComputerOptions.JOB_PARTITIONS_COUNT, "1",
+            ComputerOptions.WORKER_DATA_DIRS, "[data_dir1, data_dir2]",
+            ComputerOptions.WORKER_RECEIVED_BUFFERS_BYTES_LIMIT, "10000",
+            ComputerOptions.HGKV_MERGE_FILES_NUM, "5",
+            ComputerOptions.WORKER_EDGE_PROPERTIES_COMBINER_CLASS,
+            MergeNewPropertiesCombiner.class.getName(),
+            ComputerOptions.TRANSPORT_RECV_FILE_MODE, "false"
+        );
+        FileUtils.deleteQuietly(new File("data_dir1"));
+        FileUtils.deleteQuietly(new File("data_dir2"));
+        this.fileManager = new FileManager();
+        this.fileManager.init(this.config);
+        SuperstepFileGenerator fileGenerator = new SuperstepFileGenerator(
+                                               this.fileManager,
+                                               Constants.INPUT_SUPERSTEP);
+        this.partition = new EdgeMessageRecvPartition(context(), fileGenerator,
+                                                      this.sortManager);
+
+        addTenDuplicateEdgeBuffer(this.partition::addBuffer);
+
+        PeekableIterator<KvEntry> it = this.partition.iterator(bytes -> true);
+        // The buffers are combined on the fly without sorting into file
+        Assert.assertEquals(0, this.partition.outputFiles().size());
+        checkTenEdgesWithCombinedProperties(it);
+    }
+
     public static void addTenEdgeBuffer(Consumer<NetworkBuffer> consumer)
                                         throws IOException {
         for (long i = 0L; i < 10L; i++) {
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.receiver.message;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.combiner.DoubleValueSumCombiner;
+import org.apache.hugegraph.computer.core.combiner.ValueMinCombiner;
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.compute.VertexIndex;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.config.Null;
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
+import org.apache.hugegraph.computer.core.graph.value.LongValue;
+import org.apache.hugegraph.computer.core.graph.value.Value;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.receiver.MessageStat;
+import org.apache.hugegraph.computer.core.receiver.ReceiverUtil;
+import org.apache.hugegraph.computer.suite.unit.UnitTestBase;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+public class CombinedMessageArrayTest extends UnitTestBase {
+
+    @Test
+    public void testSumCombine() throws IOException {
+        UnitTestBase.updateWithRequiredOptions(
+            ComputerOptions.WORKER_COMBINER_CLASS,
+            DoubleValueSumCombiner.class.getName(),
+            ComputerOptions.ALGORITHM_MESSAGE_CLASS,
+            DoubleValue.class.getName()
+        );
+        // The vertices with even id from 0 to 18
+        CombinedMessageArray array = new CombinedMessageArray(
+                                     context(), evenIdIndex(1, 10));
+        Assert.assertEquals(1, array.partition());
+
+        ComputeMessageRecvPartitionTest.addTwentyCombineMessageBuffer(
+                                        array::addBuffer);
+
+        DoubleValue message = new DoubleValue();
+        for (int i = 0; i < 10; i++) {
+            if (i * 2 < 10) {
+                Assert.assertTrue(array.hasMessage(i));
+                array.message(i, message);
+                Assert.assertEquals(i * 2 * 2.0D, message.value(), 0.0D);
+            } else {
+                Assert.assertFalse(array.hasMessage(i));
+            }
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            array.message(9, message);
+        }, e -> {
+            Assert.assertContains("No message for the vertex at index 9",
+                                  e.getMessage());
+        });
+
+        MessageStat stat = array.messageStat();
+        Assert.assertEquals(20L, stat.messageCount());
+        Assert.assertTrue(stat.messageBytes() > 0L);
+
+        array.clear();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertFalse(array.hasMessage(i));
+        }
+        Assert.assertEquals(0L, array.messageStat().messageCount());
+        Assert.assertEquals(0L, array.messageStat().messageBytes());
+
+        ReceiverUtil.consumeBuffer(ReceiverUtil.writeMessage(
+                                   BytesId.of(4L), new DoubleValue(0.5D)),
+                                   array::addBuffer);
+        Assert.assertTrue(array.hasMessage(2));
+        array.message(2, message);
+        Assert.assertEquals(0.5D, message.value(), 0.0D);
+        Assert.assertFalse(array.hasMessage(1));
+    }
+
+    @Test
+    public void testMinCombine() throws IOException {
+        UnitTestBase.updateWithRequiredOptions(
+            ComputerOptions.WORKER_COMBINER_CLASS,
+            ValueMinCombiner.class.getName(),
+            ComputerOptions.ALGORITHM_MESSAGE_CLASS,
+            LongValue.class.getName()
+        );
+        CombinedMessageArray array = new CombinedMessageArray(
+                                     context(), evenIdIndex(0, 3));
+
+        long[] values = {5L, -3L, 8L, 1L};
+        for (long value : values) {
+            for (long id = 0L; id < 6L; id += 2L) {
+                ReceiverUtil.consumeBuffer(ReceiverUtil.writeMessage(
+                                           BytesId.of(id),
+                                           new LongValue(value + id)),
+                                           array::addBuffer);
+            }
+        }
+
+        LongValue message = new LongValue();
+        for (int i = 0; i < 3; i++) {
+            Value value = array.message(i, message);
+            Assert.assertEquals(-3L + i * 2, ((LongValue) value).value());
+        }
+
+        // Combine the message to the slot directly
+        array.combine(1, new LongValue(-10L));
+        Assert.assertEquals(-10L, array.message(1, message).value());
+        array.combine(1, new LongValue(0L));
+        Assert.assertEquals(-10L, array.message(1, message).value());
+
+        array.remove(1);
+        Assert.assertFalse(array.hasMessage(1));
+        Assert.assertTrue(array.hasMessage(2));
+        array.combine(1, new LongValue(7L));
+        Assert.assertEquals(7L, array.message(1, message).value());
+    }
+
+    @Test
+    public void testWithoutCombiner() throws IOException {
+        UnitTestBase.updateWithRequiredOptions(
+            ComputerOptions.WORKER_COMBINER_CLASS, Null.class.getName()
+        );
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            new CombinedMessageArray(context(), evenIdIndex(0, 3));
+        }, e -> {
+            Assert.assertContains("The combiner can't be null",
+                                  e.getMessage());
+        });
+    }
+
+    private static VertexIndex evenIdIndex(int partition, int size)
+                                           throws IOException {
+        VertexIndex.Builder builder = new VertexIndex.Builder(partition);
+        for (long i = 0L; i < size; i++) {
+            Id id = BytesId.of(i * 2L);
+            BytesOutput output = IOFactory.createBytesOutput(
+                                 Constants.SMALL_BUF_SIZE);
+            id.write(output);
+            builder.add(output.toByteArray(), id);
+        }
+        return builder.build();
+    }
+}
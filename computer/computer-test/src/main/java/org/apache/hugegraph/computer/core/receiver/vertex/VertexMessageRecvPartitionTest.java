@@ -19,6 +19,7 @@ package org.apache.hugegraph.computer.core.receiver.vertex;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.apache.commons.io.FileUtils;
@@ -35,7 +36,6 @@ import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
 import org.apache.hugegraph.computer.core.io.BytesOutput;
 import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
-import org.apache.hugegraph.computer.core.io.StreamGraphInput;
 import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.receiver.ReceiverUtil;
 import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
@@ -162,6 +162,55 @@ public class VertexMessageRecvPartitionTest extends UnitTestBase {
         this.fileManager.close(this.config);
     }
 
+    @Test
+    public void testIterateBuffersInMemory() throws IOException {
+        this.config = UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.JOB_ID, "local_001",
+                ComputerOptions.JOB_WORKERS_COUNT, "1",
+                ComputerOptions.JOB_PARTITIONS_COUNT, "1",
+                ComputerOptions.WORKER_DATA_DIRS, "[data_dir1, data_dir2]",
+                ComputerOptions.WORKER_RECEIVED_BUFFERS_BYTES_LIMIT, "10000",
+                ComputerOptions.HGKV_MERGE_FILES_NUM, "5",
+                ComputerOptions.WORKER_VERTEX_PROPERTIES_COMBINER_CLASS,
+                MergeNewPropertiesCombiner.class.getName(),
+                ComputerOptions.TRANSPORT_RECV_FILE_MODE, "false"
+        );
+        FileUtils.deleteQuietly(new File("data_dir1"));
+        FileUtils.deleteQuietly(new File("data_dir2"));
+        this.fileManager = new FileManager();
+        this.fileManager.init(this.config);
+        SuperstepFileGenerator fileGenerator = new SuperstepFileGenerator(
+                                               this.fileManager,
+                                               Constants.INPUT_SUPERSTEP);
+        this.partition = new VertexMessageRecvPartition(context(),
+                                                        fileGenerator,
+                                                        this.sortManager);
+        addTwentyDuplicateVertexBuffer(this.partition::addBuffer);
+        long totalBytes = this.partition.totalBytes();
+
+        AtomicLong reserved = new AtomicLong();
+        PeekableIterator<KvEntry> it = this.partition.iterator(bytes -> {
+            reserved.set(bytes);
+            return true;
+        });
+        Assert.assertEquals(totalBytes, reserved.get());
+        Assert.assertEquals(0, this.partition.outputFiles().size());
+        checkTenVertexWithMergedProperties(it);
+        Assert.assertFalse(it.hasNext());
+
+        // Sort the buffers into file if the memory can't be reserved
+        this.partition = new VertexMessageRecvPartition(context(),
+                                                        fileGenerator,
+                                                        this.sortManager);
+        addTwentyDuplicateVertexBuffer(this.partition::addBuffer);
+        it = this.partition.iterator(bytes -> false);
+        Assert.assertEquals(1, this.partition.outputFiles().size());
+        checkTenVertexWithMergedProperties(it);
+        Assert.assertFalse(it.hasNext());
+
+        this.fileManager.close(this.config);
+    }
+
     @Test
     public void testMergeBuffersFailed() {
         addTwoEmptyBuffer(this.partition::addBuffer);
@@ -228,7 +277,7 @@ public class VertexMessageRecvPartitionTest extends UnitTestBase {
         entryOutput.writeEntry(out -> {
             vertex.id().write(out);
         }, out -> {
-            out.writeUTF(vertex.label());
+            graphFactory().schemaDictionary().writeName(out, vertex.label());
             vertex.properties().write(out);
         });
 
@@ -250,7 +299,7 @@ public class VertexMessageRecvPartitionTest extends UnitTestBase {
             RandomAccessInput input = value.input();
             long position = input.position();
             input.seek(value.offset());
-            String label = StreamGraphInput.readLabel(input);
+            String label = graphFactory().schemaDictionary().readName(input);
             Assert.assertEquals("", label);
             Properties properties = graphFactory().createProperties();
             properties.read(input);
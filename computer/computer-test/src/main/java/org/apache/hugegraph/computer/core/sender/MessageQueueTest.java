@@ -59,5 +59,8 @@ public class MessageQueueTest {
         // Trigger notifier called
         queue.put(message1);
         Assert.assertEquals(3, notifyCounter.get());
+
+        Assert.assertEquals(1, queue.size());
+        Assert.assertEquals(2, queue.maxSize());
     }
 }
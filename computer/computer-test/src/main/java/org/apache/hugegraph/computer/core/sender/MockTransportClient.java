@@ -25,6 +25,7 @@ import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.common.exception.TransportException;
 import org.apache.hugegraph.computer.core.network.ConnectionId;
 import org.apache.hugegraph.computer.core.network.TransportClient;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 
 public class MockTransportClient implements TransportClient {
@@ -54,6 +55,13 @@ public class MockTransportClient implements TransportClient {
         throw new ComputerException("Not implemented");
     }
 
+    @Override
+    public boolean send(MessageType messageType,
+                        int partition,
+                        NetworkBuffer buffer) throws TransportException {
+        throw new ComputerException("Not implemented");
+    }
+
     @Override
     public void finishSession() throws TransportException {
         throw new ComputerException("Not implemented");
@@ -17,8 +17,12 @@
 
 package org.apache.hugegraph.computer.core.sender;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.computer.core.worker.MockComputation2;
 import org.apache.hugegraph.computer.suite.unit.UnitTestBase;
 import org.apache.hugegraph.testutil.Assert;
@@ -54,7 +58,10 @@ public class QueuedMessageSenderTest extends UnitTestBase {
         sender.addWorkerClient(2, new MockTransportClient());
         sender.init();
 
-        Thread sendExecutor = Whitebox.getInternalState(sender, "sendExecutor");
+        Object[] senders = Whitebox.getInternalState(sender, "senders");
+        Assert.assertEquals(1, senders.length);
+        Thread sendExecutor = Whitebox.getInternalState(senders[0], "thread");
+        Assert.assertEquals("send-executor", sendExecutor.getName());
         Assert.assertTrue(ImmutableSet.of(Thread.State.NEW,
                                           Thread.State.RUNNABLE,
                                           Thread.State.WAITING)
@@ -64,4 +71,58 @@ public class QueuedMessageSenderTest extends UnitTestBase {
         Assert.assertTrue(ImmutableSet.of(Thread.State.TERMINATED)
                                       .contains(sendExecutor.getState()));
     }
+
+    @Test
+    public void testInitAndCloseWithMultiThreads() {
+        Config config = UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.JOB_WORKERS_COUNT, "3",
+                ComputerOptions.JOB_PARTITIONS_COUNT, "3",
+                ComputerOptions.WORKER_SEND_THREAD_NUMS, "4"
+        );
+        QueuedMessageSender sender = new QueuedMessageSender(config);
+        sender.addWorkerClient(1, new MockTransportClient());
+        sender.addWorkerClient(2, new MockTransportClient());
+        sender.addWorkerClient(3, new MockTransportClient());
+        sender.init();
+
+        // No more threads than target workers
+        Object[] senders = Whitebox.getInternalState(sender, "senders");
+        Assert.assertEquals(3, senders.length);
+        for (int i = 0; i < senders.length; i++) {
+            Thread sendExecutor = Whitebox.getInternalState(senders[i],
+                                                            "thread");
+            Assert.assertEquals("send-executor-" + i, sendExecutor.getName());
+            List<?> channels = Whitebox.getInternalState(senders[i],
+                                                         "channels");
+            Assert.assertEquals(1, channels.size());
+            Assert.assertEquals(i + 1, (int) Whitebox.getInternalState(
+                                                 channels.get(0), "workerId"));
+        }
+
+        sender.close();
+        for (Object executor : senders) {
+            Thread sendExecutor = Whitebox.getInternalState(executor,
+                                                            "thread");
+            Assert.assertEquals(Thread.State.TERMINATED,
+                                sendExecutor.getState());
+        }
+    }
+
+    @Test
+    public void testQueueDepth() throws InterruptedException {
+        QueuedMessageSender sender = new QueuedMessageSender(this.config);
+        sender.addWorkerClient(1, new MockTransportClient());
+        sender.addWorkerClient(2, new MockTransportClient());
+
+        QueuedMessage message = new QueuedMessage(1, MessageType.MSG,
+                                                  ByteBuffer.allocate(4));
+        sender.send(1, message);
+        sender.send(1, message);
+        sender.send(2, message);
+        Assert.assertEquals(2, sender.queueDepth(1));
+        Assert.assertEquals(1, sender.queueDepth(2));
+
+        // The send executors are not started
+        sender.close();
+    }
 }
@@ -19,10 +19,14 @@ package org.apache.hugegraph.computer.core.sender;
 
 import java.nio.ByteBuffer;
 
+import org.apache.hugegraph.computer.core.network.buffer.NettyBuffer;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
 import org.apache.hugegraph.computer.core.network.message.MessageType;
 import org.apache.hugegraph.testutil.Assert;
 import org.junit.Test;
 
+import io.netty.buffer.Unpooled;
+
 public class QueuedMessageTest {
 
     @Test
@@ -33,4 +37,18 @@ public class QueuedMessageTest {
         Assert.assertEquals(MessageType.VERTEX, message.type());
         Assert.assertEquals(ByteBuffer.allocate(4), message.buffer());
     }
+
+    @Test
+    public void testNetworkBuffer() {
+        NetworkBuffer buffer = new NettyBuffer(Unpooled.directBuffer(4)
+                                                       .writeInt(1));
+        QueuedMessage message = QueuedMessage.of(1, MessageType.MSG, buffer);
+        Assert.assertSame(buffer, message.networkBuffer());
+        Assert.assertEquals(1, message.buffer().getInt());
+        buffer.release();
+
+        message = new QueuedMessage(-1, MessageType.FINISH, null);
+        Assert.assertNull(message.networkBuffer());
+        Assert.assertNull(message.buffer());
+    }
 }
@@ -56,20 +56,20 @@ public class WriteBufferTest extends UnitTestBase {
 
     @Test
     public void testReachThreshold() throws IOException {
-        WriteBuffer buffer = new WriteBuffer(context, 20, 50);
+        WriteBuffer buffer = new WriteBuffer(context, 40, 100);
         Assert.assertFalse(buffer.reachThreshold());
 
         Vertex vertex = context.graphFactory().createVertex(
                 BytesId.of(1L), new DoubleValue(0.5d));
-        // After write, the position is 11
+        // After write, the position is 20
         buffer.writeVertex(vertex);
         Assert.assertFalse(buffer.reachThreshold());
 
-        // After write, the position is 22
+        // After write, the position is 40
         buffer.writeVertex(vertex);
         Assert.assertTrue(buffer.reachThreshold());
 
-        // After write, the position is 33
+        // After write, the position is 60
         buffer.writeVertex(vertex);
         Assert.assertTrue(buffer.reachThreshold());
     }
@@ -18,15 +18,22 @@
 package org.apache.hugegraph.computer.core.sender;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.hugegraph.computer.core.combiner.DoubleValueSumCombiner;
 import org.apache.hugegraph.computer.core.common.exception.ComputerException;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.graph.GraphFactory;
 import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.id.Id;
 import org.apache.hugegraph.computer.core.graph.properties.Properties;
 import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
 import org.apache.hugegraph.computer.core.graph.value.IntValue;
 import org.apache.hugegraph.computer.core.graph.value.ListValue;
+import org.apache.hugegraph.computer.core.graph.value.Value;
 import org.apache.hugegraph.computer.core.graph.value.ValueType;
 import org.apache.hugegraph.computer.core.graph.vertex.Vertex;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
@@ -39,6 +46,7 @@ import org.apache.hugegraph.testutil.Whitebox;
 import org.junit.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 
 public class WriteBuffersTest extends UnitTestBase {
 
@@ -68,20 +76,20 @@ public class WriteBuffersTest extends UnitTestBase {
 
     @Test
     public void testReachThreshold() throws IOException {
-        WriteBuffers buffers = new WriteBuffers(context(), 20, 50);
+        WriteBuffers buffers = new WriteBuffers(context(), 40, 100);
         Assert.assertFalse(buffers.reachThreshold());
 
         Vertex vertex = context().graphFactory().createVertex(
                 BytesId.of(1L), new DoubleValue(0.5d));
-        // After write, the position is 11
+        // After write, the position is 20
         buffers.writeVertex(vertex);
         Assert.assertFalse(buffers.reachThreshold());
 
-        // After write, the position is 22
+        // After write, the position is 40
         buffers.writeVertex(vertex);
         Assert.assertTrue(buffers.reachThreshold());
 
-        // After write, the position is 33
+        // After write, the position is 60
         buffers.writeVertex(vertex);
         Assert.assertTrue(buffers.reachThreshold());
     }
@@ -152,6 +160,61 @@ public class WriteBuffersTest extends UnitTestBase {
         Assert.assertGt(position1, position2);
     }
 
+    @Test
+    public void testWriteMessageWithCombineTable() throws IOException {
+        UnitTestBase.updateWithRequiredOptions(
+            ComputerOptions.WORKER_SEND_COMBINE_ENTRIES, "2",
+            ComputerOptions.WORKER_COMBINER_CLASS,
+            DoubleValueSumCombiner.class.getName(),
+            ComputerOptions.ALGORITHM_MESSAGE_CLASS, DoubleValue.class.getName()
+        );
+        try {
+            WriteBuffers buffers = new WriteBuffers(context(), 50, 100);
+            WriteBuffer buffer = Whitebox.getInternalState(buffers,
+                                                           "writingBuffer");
+
+            DoubleValue message = new DoubleValue(1.0D);
+            buffers.writeMessage(BytesId.of(1L), message);
+            // The message object is reused by the caller
+            message.value(2.0D);
+            buffers.writeMessage(BytesId.of(1L), message);
+            // Combined in memory, nothing written to the buffer
+            Assert.assertEquals(0L, buffer.output().position());
+            Assert.assertFalse(buffers.isEmpty());
+
+            // Reached the max entries, write combined messages to the buffer
+            buffers.writeMessage(BytesId.of(2L), new DoubleValue(5.0D));
+            Assert.assertEquals(2L, buffer.writeCount());
+            buffers.writeMessage(BytesId.of(3L), new DoubleValue(7.0D));
+            Assert.assertEquals(2L, buffer.writeCount());
+
+            // The messages being combined are written before sorting
+            buffers.prepareSorting();
+            Assert.assertTrue(buffers.isEmpty());
+            Assert.assertEquals(3L, buffers.messageWritten().messageCount());
+
+            Map<Id, Double> messages = new HashMap<>();
+            try (RandomAccessInput input = buffers.wrapForRead()) {
+                EntryInput entryInput = new EntryInputImpl(input);
+                StreamGraphInput graphInput = new StreamGraphInput(context(),
+                                                                   entryInput);
+                while (input.available() > 0) {
+                    Pair<Id, Value> pair = graphInput.readMessage();
+                    messages.put(pair.getKey(),
+                                 ((DoubleValue) pair.getValue()).value());
+                }
+            }
+            Assert.assertEquals(ImmutableMap.of(BytesId.of(1L), 3.0D,
+                                                BytesId.of(2L), 5.0D,
+                                                BytesId.of(3L), 7.0D),
+                                messages);
+        } finally {
+            UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.WORKER_SEND_COMBINE_ENTRIES, "0"
+            );
+        }
+    }
+
     @Test
     public void testPrepareSorting() throws IOException, InterruptedException {
         GraphFactory graphFactory = context().graphFactory();
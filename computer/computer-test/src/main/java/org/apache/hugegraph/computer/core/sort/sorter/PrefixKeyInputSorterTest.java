@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.sort.sorter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hugegraph.computer.core.common.Constants;
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.id.Id;
+import org.apache.hugegraph.computer.core.graph.id.LongId;
+import org.apache.hugegraph.computer.core.io.BytesOutput;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.store.buffer.KvEntriesInput;
+import org.apache.hugegraph.computer.core.store.entry.DefaultKvEntry;
+import org.apache.hugegraph.computer.core.store.entry.InlinePointer;
+import org.apache.hugegraph.computer.core.store.entry.KvEntry;
+import org.apache.hugegraph.computer.core.store.entry.KvEntryWithFirstSubKv;
+import org.apache.hugegraph.computer.core.store.entry.Pointer;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+public class PrefixKeyInputSorterTest {
+
+    private static final int[] KEY_LENGTHS = {0, 1, 3, 7, 8, 16, 254, 255,
+                                              300};
+
+    @Test
+    public void testSortEmptyAndSingle() throws IOException {
+        InputSorter sorter = new PrefixKeyInputSorter();
+        Iterator<KvEntry> sorted = sorter.sort(ImmutableList.<KvEntry>of()
+                                                            .iterator());
+        Assert.assertFalse(sorted.hasNext());
+
+        KvEntry entry = entry(new byte[]{1, 2}, 0);
+        sorted = sorter.sort(ImmutableList.of(entry).iterator());
+        Assert.assertSame(entry, sorted.next());
+        Assert.assertFalse(sorted.hasNext());
+    }
+
+    @Test
+    public void testSortSmallInput() throws IOException {
+        // Less than radix sort threshold
+        this.checkSort(randomEntries(new Random(1L), 50, 4));
+    }
+
+    @Test
+    public void testSortRandomKeys() throws IOException {
+        Random random = new Random(2L);
+        for (int length : KEY_LENGTHS) {
+            this.checkSort(randomFixedLengthEntries(random, 1000, length));
+        }
+        this.checkSort(randomEntries(random, 5000, 1000));
+    }
+
+    @Test
+    public void testSortDuplicateKeys() throws IOException {
+        // Few distinct keys, the order of the same keys should be kept
+        this.checkSort(randomEntries(new Random(3L), 3000, 5));
+    }
+
+    @Test
+    public void testSortLongKeysWithSamePrefix() throws IOException {
+        Random random = new Random(4L);
+        List<KvEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int length = KEY_LENGTHS[random.nextInt(KEY_LENGTHS.length)];
+            byte[] key = new byte[length];
+            // Only the last byte is different
+            if (length > 0) {
+                key[length - 1] = (byte) random.nextInt(4);
+            }
+            entries.add(entry(key, i));
+        }
+        this.checkSort(entries);
+    }
+
+    @Test
+    public void testSortWithFirstSubKv() throws IOException {
+        Random random = new Random(5L);
+        List<KvEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            byte[] key = {(byte) random.nextInt(3)};
+            KvEntry subKv = entry(new byte[]{(byte) random.nextInt(256)}, i);
+            entries.add(new KvEntryWithFirstSubKv(new InlinePointer(key),
+                                                  subKv.value(), subKv, 1));
+        }
+        this.checkSort(entries);
+    }
+
+    @Test
+    public void testSortKvEntriesInput() throws IOException {
+        Random random = new Random(6L);
+        BytesOutput output = IOFactory.createBytesOutput(
+                             Constants.SMALL_BUF_SIZE);
+        for (KvEntry entry : randomEntries(random, 3000, 100)) {
+            entry.key().write(output);
+            entry.value().write(output);
+        }
+        byte[] bytes = output.toByteArray();
+
+        Iterator<KvEntry> expected = new JavaInputSorter().sort(
+                new KvEntriesInput(IOFactory.createBytesInput(bytes)));
+        List<KvEntry> expectedEntries = new ArrayList<>();
+        expected.forEachRemaining(expectedEntries::add);
+
+        Iterator<KvEntry> actual = new PrefixKeyInputSorter().sort(
+                new KvEntriesInput(IOFactory.createBytesInput(bytes)));
+        assertEntriesEquals(expectedEntries.iterator(), actual);
+    }
+
+    @Test
+    public void testSortIdKeys() throws IOException {
+        Random random = new Random(7L);
+        List<KvEntry> longIds = new ArrayList<>();
+        List<KvEntry> stringIds = new ArrayList<>();
+        List<KvEntry> mixedIds = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            long value = random.nextInt(100000) - 1000L;
+            Id id = i % 2 == 0 ? BytesId.of(value) : new LongId(value);
+            longIds.add(entry(idBytes(id), i));
+            stringIds.add(entry(idBytes(BytesId.of("person:" + value)), i));
+            mixedIds.add(entry(idBytes(randomId(random)), i));
+        }
+        this.checkSort(longIds);
+        this.checkSort(stringIds);
+        this.checkSort(mixedIds);
+    }
+
+    @Test
+    public void testSortLongIdKeysByPrefix() throws IOException {
+        // The whole id value is in the prefix after the id header
+        AtomicInteger compared = new AtomicInteger();
+        List<KvEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            byte[] key = idBytes(BytesId.of((i * 7919L) % 1000L));
+            Pointer pointer = new InlinePointer(key) {
+                @Override
+                public int compareTo(Pointer other) {
+                    compared.incrementAndGet();
+                    return super.compareTo(other);
+                }
+            };
+            entries.add(new DefaultKvEntry(pointer,
+                                           entry(key, i).value()));
+        }
+        Iterator<KvEntry> sorted = new PrefixKeyInputSorter().sort(
+                                   entries.iterator());
+        Id id = new BytesId();
+        for (long i = 0L; i < 1000L; i++) {
+            id.read(IOFactory.createBytesInput(sorted.next().key().bytes()));
+            Assert.assertEquals(BytesId.of(i), id);
+        }
+        Assert.assertFalse(sorted.hasNext());
+        Assert.assertEquals(0, compared.get());
+    }
+
+    @Test
+    public void testSortResultNotShared() throws IOException {
+        Random random = new Random(8L);
+        List<KvEntry> entries1 = randomEntries(random, 100, 8);
+        List<KvEntry> entries2 = randomEntries(random, 200, 8);
+        InputSorter sorter = new PrefixKeyInputSorter();
+        Iterator<KvEntry> sorted1 = sorter.sort(entries1.iterator());
+        // Sort again in the same thread before consuming the first result
+        Iterator<KvEntry> sorted2 = sorter.sort(entries2.iterator());
+
+        List<KvEntry> expected1 = new ArrayList<>();
+        new JavaInputSorter().sort(entries1.iterator())
+                             .forEachRemaining(expected1::add);
+        List<KvEntry> expected2 = new ArrayList<>();
+        new JavaInputSorter().sort(entries2.iterator())
+                             .forEachRemaining(expected2::add);
+        assertEntriesEquals(expected1.iterator(), sorted1);
+        assertEntriesEquals(expected2.iterator(), sorted2);
+    }
+
+    private void checkSort(List<KvEntry> entries) throws IOException {
+        List<KvEntry> expected = new ArrayList<>();
+        new JavaInputSorter().sort(entries.iterator())
+                             .forEachRemaining(expected::add);
+        Iterator<KvEntry> actual = new PrefixKeyInputSorter().sort(
+                                   entries.iterator());
+        assertEntriesEquals(expected.iterator(), actual);
+    }
+
+    private static void assertEntriesEquals(Iterator<KvEntry> expected,
+                                            Iterator<KvEntry> actual)
+                                            throws IOException {
+        while (expected.hasNext()) {
+            Assert.assertTrue(actual.hasNext());
+            KvEntry expectedEntry = expected.next();
+            KvEntry actualEntry = actual.next();
+            assertPointerEquals(expectedEntry.key(), actualEntry.key());
+            // The value is the original index, to check the stability
+            assertPointerEquals(expectedEntry.value(), actualEntry.value());
+        }
+        Assert.assertFalse(actual.hasNext());
+    }
+
+    private static void assertPointerEquals(Pointer expected, Pointer actual)
+                                            throws IOException {
+        Assert.assertArrayEquals(expected.bytes(), actual.bytes());
+    }
+
+    private static List<KvEntry> randomEntries(Random random, int count,
+                                               int maxLength) {
+        List<KvEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] key = new byte[random.nextInt(maxLength + 1)];
+            random.nextBytes(key);
+            entries.add(entry(key, i));
+        }
+        return entries;
+    }
+
+    private static List<KvEntry> randomFixedLengthEntries(Random random,
+                                                          int count,
+                                                          int length) {
+        List<KvEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] key = new byte[length];
+            random.nextBytes(key);
+            // Make some keys the same
+            if (length > 0) {
+                key[0] = (byte) random.nextInt(8);
+            }
+            entries.add(entry(key, i));
+        }
+        return entries;
+    }
+
+    private static Id randomId(Random random) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return BytesId.of(random.nextLong());
+            case 1:
+                return BytesId.of(String.valueOf(random.nextInt(100000)));
+            default:
+                return BytesId.of(new UUID(0L, random.nextInt(100000)));
+        }
+    }
+
+    private static byte[] idBytes(Id id) throws IOException {
+        BytesOutput output = IOFactory.createBytesOutput(
+                             Constants.SMALL_BUF_SIZE);
+        id.write(output);
+        return output.toByteArray();
+    }
+
+    private static KvEntry entry(byte[] key, int index) {
+        byte[] value = {(byte) (index >>> 24), (byte) (index >>> 16),
+                        (byte) (index >>> 8), (byte) index};
+        return new DefaultKvEntry(new InlinePointer(key),
+                                  new InlinePointer(value));
+    }
+}
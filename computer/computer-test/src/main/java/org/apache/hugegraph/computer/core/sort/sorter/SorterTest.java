@@ -21,6 +21,8 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.hugegraph.computer.core.combiner.IntValueSumCombiner;
@@ -33,14 +35,17 @@ import org.apache.hugegraph.computer.core.io.BytesInput;
 import org.apache.hugegraph.computer.core.io.BytesOutput;
 import org.apache.hugegraph.computer.core.io.IOFactory;
 import org.apache.hugegraph.computer.core.io.RandomAccessInput;
+import org.apache.hugegraph.computer.core.sort.HgkvFileSorter;
 import org.apache.hugegraph.computer.core.sort.Sorter;
 import org.apache.hugegraph.computer.core.sort.SorterTestUtil;
 import org.apache.hugegraph.computer.core.sort.flusher.CombineKvInnerSortFlusher;
 import org.apache.hugegraph.computer.core.sort.flusher.CombineKvOuterSortFlusher;
+import org.apache.hugegraph.computer.core.sort.flusher.CombineKvPeekableIterator;
 import org.apache.hugegraph.computer.core.sort.flusher.CombineSubKvInnerSortFlusher;
 import org.apache.hugegraph.computer.core.sort.flusher.CombineSubKvOuterSortFlusher;
 import org.apache.hugegraph.computer.core.sort.flusher.InnerSortFlusher;
 import org.apache.hugegraph.computer.core.sort.flusher.OuterSortFlusher;
+import org.apache.hugegraph.computer.core.sort.flusher.PeekableIterator;
 import org.apache.hugegraph.computer.core.store.EntryIterator;
 import org.apache.hugegraph.computer.core.store.KvEntryFileReader;
 import org.apache.hugegraph.computer.core.store.StoreTestUtil;
@@ -265,6 +270,78 @@ public class SorterTest {
         FileUtil.deleteFilesQuietly(outputs);
     }
 
+    @Test
+    public void testMergeKvInputsConcurrently() throws Exception {
+        Config config = UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.HGKV_MAX_FILE_SIZE, "32",
+                ComputerOptions.HGKV_DATABLOCK_SIZE, "16",
+                ComputerOptions.HGKV_MERGE_FILES_NUM, "2",
+                ComputerOptions.TRANSPORT_RECV_FILE_MODE, "false"
+        );
+        List<Integer> map1 = ImmutableList.of(2, 3,
+                                              2, 1,
+                                              5, 2,
+                                              6, 9,
+                                              6, 2);
+        List<Integer> map2 = ImmutableList.of(1, 3,
+                                              1, 2,
+                                              3, 2);
+
+        List<String> inputs = Lists.newArrayList();
+        for (int i = 0; i < 20; i++) {
+            String input = StoreTestUtil.availablePathById(String.valueOf(i));
+            StoreTestUtil.hgkvDirFromKvMap(config, (i & 1) == 0 ? map1 : map2,
+                                           input);
+            inputs.add(input);
+        }
+        List<String> outputs = ImmutableList.of(
+                               StoreTestUtil.availablePathById("30"),
+                               StoreTestUtil.availablePathById("31"),
+                               StoreTestUtil.availablePathById("32"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // Each merge must use its own combiner and flusher
+            Sorter sorter = new HgkvFileSorter(config, executor);
+            sorter.mergeInputs(inputs, () -> {
+                return new CombineKvOuterSortFlusher(
+                       SorterTestUtil.createPointerCombiner(
+                                      IntValue::new,
+                                      new IntValueSumCombiner()));
+            }, outputs, false);
+
+            // The same key exists in every output
+            PointerCombiner combiner = SorterTestUtil.createPointerCombiner(
+                                       IntValue::new,
+                                       new IntValueSumCombiner());
+            PeekableIterator<KvEntry> iterator = new CombineKvPeekableIterator(
+                                                 sorter.iterator(outputs, false),
+                                                 combiner);
+            List<Integer> result = ImmutableList.of(1, 50,
+                                                    2, 40,
+                                                    3, 20,
+                                                    5, 20,
+                                                    6, 110);
+            for (int i = 0; i < result.size(); i += 2) {
+                Assert.assertTrue(iterator.hasNext());
+                KvEntry entry = iterator.peek();
+                Assert.assertSame(entry, iterator.next());
+                Assert.assertEquals(result.get(i),
+                                    StoreTestUtil.dataFromPointer(entry.key()));
+                Assert.assertEquals(result.get(i + 1),
+                                    StoreTestUtil.dataFromPointer(
+                                    entry.value()));
+            }
+            Assert.assertFalse(iterator.hasNext());
+            iterator.close();
+        } finally {
+            executor.shutdown();
+        }
+
+        FileUtil.deleteFilesQuietly(inputs);
+        FileUtil.deleteFilesQuietly(outputs);
+    }
+
     private BytesInput sortedSubKvBuffer(Config config) throws Exception {
         List<Integer> kv1 = ImmutableList.of(3,
                                              2, 1,
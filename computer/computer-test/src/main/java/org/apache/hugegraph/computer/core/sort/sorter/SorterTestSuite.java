@@ -25,6 +25,7 @@ import org.junit.runners.Suite;
     FlusherTest.class,
     SortLargeDataTest.class,
     SorterTest.class,
+    PrefixKeyInputSorterTest.class,
     EmptyFlusherTest.class
 })
 public class SorterTestSuite {
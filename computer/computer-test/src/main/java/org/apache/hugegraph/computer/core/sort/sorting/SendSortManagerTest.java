@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hugegraph.computer.core.sort.sorting;
+
+import java.io.IOException;
+
+import org.apache.hugegraph.computer.core.combiner.DoubleValueSumCombiner;
+import org.apache.hugegraph.computer.core.config.ComputerOptions;
+import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.graph.id.BytesId;
+import org.apache.hugegraph.computer.core.graph.value.DoubleValue;
+import org.apache.hugegraph.computer.core.network.buffer.NettyBuffer;
+import org.apache.hugegraph.computer.core.network.buffer.NetworkBuffer;
+import org.apache.hugegraph.computer.core.network.buffer.NioBuffer;
+import org.apache.hugegraph.computer.core.network.message.MessageType;
+import org.apache.hugegraph.computer.core.sender.WriteBuffers;
+import org.apache.hugegraph.computer.suite.unit.UnitTestBase;
+import org.apache.hugegraph.testutil.Assert;
+import org.junit.Test;
+
+public class SendSortManagerTest extends UnitTestBase {
+
+    @Test
+    public void testSortOffHeap() throws IOException {
+        WriteBuffers buffers = new WriteBuffers(context(), 10000, 20000);
+        for (long i = 1000L; i > 0L; i--) {
+            buffers.writeMessage(BytesId.of(i % 100L), new DoubleValue(i));
+        }
+        buffers.prepareSorting();
+
+        NetworkBuffer heapBuffer = this.sort(false, buffers);
+        Assert.assertInstanceOf(NioBuffer.class, heapBuffer);
+
+        NetworkBuffer offHeapBuffer = this.sort(true, buffers);
+        Assert.assertInstanceOf(NettyBuffer.class, offHeapBuffer);
+        Assert.assertTrue(offHeapBuffer.nettyByteBuf().isDirect());
+        Assert.assertArrayEquals(heapBuffer.copyToByteArray(),
+                                 offHeapBuffer.copyToByteArray());
+
+        offHeapBuffer.release();
+        Assert.assertEquals(0, offHeapBuffer.referenceCount());
+        buffers.finishSorting();
+    }
+
+    private NetworkBuffer sort(boolean offHeap, WriteBuffers buffers) {
+        Config config = UnitTestBase.updateWithRequiredOptions(
+            ComputerOptions.WORKER_COMBINER_CLASS,
+            DoubleValueSumCombiner.class.getName(),
+            ComputerOptions.WORKER_SORT_OUTPUT_OFF_HEAP,
+            String.valueOf(offHeap)
+        );
+        SortManager sortManager = new SendSortManager(context());
+        try {
+            return sortManager.sort(MessageType.MSG, buffers).join();
+        } finally {
+            sortManager.close(config);
+        }
+    }
+}
@@ -23,7 +23,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     InputsSortingTest.HeapInputsSortingTest.class,
-    InputsSortingTest.LoserTreeInputsSortingTest.class
+    InputsSortingTest.LoserTreeInputsSortingTest.class,
+    SendSortManagerTest.class
 })
 public class SortingTestSuite {
 }
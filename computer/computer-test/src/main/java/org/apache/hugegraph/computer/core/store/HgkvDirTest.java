@@ -119,6 +119,43 @@ public class HgkvDirTest {
         }
     }
 
+    @Test
+    public void testCompressedHgkvDirReader() throws Exception {
+        Config config = UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.HGKV_MAX_FILE_SIZE, "32",
+                ComputerOptions.HGKV_DATABLOCK_SIZE, "16",
+                ComputerOptions.HGKV_COMPRESSION, "DEFLATE"
+        );
+        List<Integer> data = ImmutableList.of(2, 3,
+                                              2, 1,
+                                              5, 2,
+                                              5, 5,
+                                              5, 9,
+                                              6, 2);
+        String path = StoreTestUtil.availablePathById("1");
+        StoreTestUtil.hgkvDirFromKvMap(config, data, path);
+
+        HgkvDir dir = HgkvDirImpl.open(path);
+        Assert.assertEquals(6, dir.numEntries());
+        Assert.assertEquals(6, StoreTestUtil.byteArrayToInt(dir.max()));
+        Assert.assertEquals(2, StoreTestUtil.byteArrayToInt(dir.min()));
+
+        KvEntryFileReader reader = new HgkvDirReaderImpl(path, false, false);
+        try (EntryIterator iterator = reader.iterator()) {
+            int i = 0;
+            while (iterator.hasNext()) {
+                KvEntry entry = iterator.next();
+                int key = StoreTestUtil.byteArrayToInt(entry.key().bytes());
+                Assert.assertEquals(data.get(i).intValue(), key);
+                int value = StoreTestUtil.byteArrayToInt(
+                            entry.value().bytes());
+                Assert.assertEquals(data.get(i + 1).intValue(), value);
+                i += 2;
+            }
+            Assert.assertEquals(data.size(), i);
+        }
+    }
+
     @Test
     public void testExceptionCaseForHgkvDir() throws IOException {
         // Path isn't directory
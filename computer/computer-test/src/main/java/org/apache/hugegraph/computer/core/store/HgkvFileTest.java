@@ -19,12 +19,17 @@ package org.apache.hugegraph.computer.core.store;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.hugegraph.computer.core.common.exception.ComputerException;
 import org.apache.hugegraph.computer.core.config.ComputerOptions;
 import org.apache.hugegraph.computer.core.config.Config;
+import org.apache.hugegraph.computer.core.config.HgkvCompression;
+import org.apache.hugegraph.computer.core.io.IOFactory;
+import org.apache.hugegraph.computer.core.io.RandomAccessOutput;
 import org.apache.hugegraph.computer.core.store.entry.KvEntry;
 import org.apache.hugegraph.computer.core.store.file.hgkvfile.HgkvFile;
 import org.apache.hugegraph.computer.core.store.file.hgkvfile.HgkvFileImpl;
@@ -124,6 +129,27 @@ public class HgkvFileTest {
         });
     }
 
+    @Test
+    public void testOpenOldVersionFile() throws IOException {
+        List<Integer> data = testData();
+        String filePath = StoreTestUtil.availablePathById("1");
+        File file = StoreTestUtil.mapToHgkvFile(CONFIG, data, filePath);
+
+        // Rewrite the version before the footer length to 1.1
+        try (RandomAccessOutput output = IOFactory.createFileOutput(file)) {
+            output.seek(file.length() - Short.BYTES * 2 - Integer.BYTES);
+            output.writeShort(1);
+            output.writeShort(1);
+        }
+
+        Assert.assertThrows(ComputerException.class, () -> {
+            HgkvFileImpl.open(file.getPath());
+        }, e -> {
+            Assert.assertContains("Unsupported HgkvFile version '1.1'",
+                                  e.getMessage());
+        });
+    }
+
     @Test
     public void testHgkvFileReader() throws Exception {
         // The keys in the data must be ordered
@@ -145,6 +171,86 @@ public class HgkvFileTest {
         }
     }
 
+    @Test
+    public void testCompressedHgkvFile() throws Exception {
+        Config config = UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.HGKV_MAX_FILE_SIZE, "32",
+                ComputerOptions.HGKV_DATABLOCK_SIZE, "16",
+                ComputerOptions.HGKV_COMPRESSION, "DEFLATE"
+        );
+        List<Integer> data = testData();
+        String filePath = StoreTestUtil.availablePathById("1");
+        File file = StoreTestUtil.mapToHgkvFile(config, data, filePath);
+
+        HgkvFile hgkvFile = HgkvFileImpl.open(file.getPath());
+        Assert.assertEquals(HgkvCompression.DEFLATE, hgkvFile.compression());
+        Assert.assertEquals(5, hgkvFile.numEntries());
+        Assert.assertEquals(6, StoreTestUtil.byteArrayToInt(hgkvFile.max()));
+        Assert.assertEquals(2, StoreTestUtil.byteArrayToInt(hgkvFile.min()));
+
+        for (boolean useInlinePointer : new boolean[]{true, false}) {
+            KvEntryFileReader reader = new HgkvFileReaderImpl(
+                                       file.getPath(), useInlinePointer,
+                                       false);
+            List<KvEntry> entries = new ArrayList<>();
+            try (EntryIterator iterator = reader.iterator()) {
+                while (iterator.hasNext()) {
+                    entries.add(iterator.next());
+                }
+                Assert.assertThrows(NoSuchElementException.class,
+                                    iterator::next);
+            }
+            // The entries of previous blocks are still readable
+            Assert.assertEquals(5, entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                KvEntry entry = entries.get(i);
+                Assert.assertEquals(data.get(2 * i).intValue(),
+                                    StoreTestUtil.byteArrayToInt(
+                                    entry.key().bytes()));
+                Assert.assertEquals(data.get(2 * i + 1).intValue(),
+                                    StoreTestUtil.byteArrayToInt(
+                                    entry.value().bytes()));
+            }
+        }
+    }
+
+    @Test
+    public void testCompressedHgkvFileSize() throws IOException {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            data.add(i);
+            data.add(1);
+        }
+        Config config = UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.HGKV_COMPRESSION, "NONE"
+        );
+        File file = buildHgkvFile(config, data,
+                                  StoreTestUtil.availablePathById("1"));
+        config = UnitTestBase.updateWithRequiredOptions(
+                ComputerOptions.HGKV_COMPRESSION, "DEFLATE"
+        );
+        File compressedFile = buildHgkvFile(
+                              config, data,
+                              StoreTestUtil.availablePathById("2"));
+        Assert.assertLt(file.length() / 2, compressedFile.length());
+
+        HgkvFile hgkvFile = HgkvFileImpl.open(compressedFile.getPath());
+        Assert.assertEquals(10000, hgkvFile.numEntries());
+        Assert.assertEquals(9999,
+                            StoreTestUtil.byteArrayToInt(hgkvFile.max()));
+        Assert.assertEquals(0, StoreTestUtil.byteArrayToInt(hgkvFile.min()));
+    }
+
+    private static File buildHgkvFile(Config config, List<Integer> data,
+                                      String path) throws IOException {
+        try (HgkvFileBuilder builder = new HgkvFileBuilderImpl(config, path)) {
+            for (KvEntry entry : StoreTestUtil.kvEntriesFromMap(data)) {
+                builder.add(entry);
+            }
+        }
+        return new File(path);
+    }
+
     private static List<Integer> testData() {
         return ImmutableList.of(2, 3,
                                 2, 1,
@@ -105,11 +105,13 @@ public class WorkerStatTest {
                      "\"vertexCount\":1,\"edgeCount\":2,\"" +
                      "finishedVertexCount\":0," +
                      "\"messageSendCount\":0,\"messageSendBytes\":0," +
-                     "\"messageRecvCount\":0,\"messageRecvBytes\":0}," +
+                     "\"messageRecvCount\":0,\"messageRecvBytes\":0," +
+                     "\"costTime\":0}," +
                      "{\"partitionId\":1,\"vertexCount\":4," +
                      "\"edgeCount\":3,\"finishedVertexCount\":2," +
                      "\"messageSendCount\":5,\"messageSendBytes\":6," +
-                     "\"messageRecvCount\":7,\"messageRecvBytes\":8}]}";
+                     "\"messageRecvCount\":7,\"messageRecvBytes\":8," +
+                     "\"costTime\":0}]}";
         Assert.assertEquals(str, workerStat.toString());
     }
 }